@@ -23,6 +23,13 @@ CREATE TABLE IF NOT EXISTS `JOBRUNR_CONTROL_BATCH_RECAP` (
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='Recap counters per child job in a batch';
 CREATE INDEX idx_batch_recap_agg ON `JOBRUNR_CONTROL_BATCH_RECAP`(`BATCH_JOB_ID`, `COUNTER_NAME`, `COUNTER_VALUE`);
 
+CREATE TABLE IF NOT EXISTS `JOBRUNR_CONTROL_BATCH_RECAP_TOTALS` (
+    `BATCH_JOB_ID` VARCHAR(36) NOT NULL,
+    `COUNTER_NAME` VARCHAR(255) NOT NULL,
+    `COUNTER_VALUE` BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (`BATCH_JOB_ID`, `COUNTER_NAME`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='Recap counters summed over all child jobs of a batch';
+
 CREATE TABLE IF NOT EXISTS `JOBRUNR_CONTROL_BATCH_MESSAGES` (
     `ID` BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
     `BATCH_JOB_ID` VARCHAR(36) NOT NULL,
@@ -30,8 +37,53 @@ CREATE TABLE IF NOT EXISTS `JOBRUNR_CONTROL_BATCH_MESSAGES` (
     `CREATED_AT` TIMESTAMP NOT NULL,
     `LEVEL` VARCHAR(20) NOT NULL,
     `MESSAGE` LONGTEXT,
-    `STACK_TRACE` LONGTEXT
+    `STACK_TRACE` LONGTEXT,
+    `STACK_TRACE_HASH` VARCHAR(64)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='Batch job log and exception messages';
 
 CREATE INDEX idx_batch_msg_created ON `JOBRUNR_CONTROL_BATCH_MESSAGES`(`BATCH_JOB_ID`, `CREATED_AT`);
 CREATE INDEX idx_batch_msg_filter ON `JOBRUNR_CONTROL_BATCH_MESSAGES`(`BATCH_JOB_ID`, `LEVEL`, `CREATED_AT`);
+CREATE INDEX idx_batch_msg_child ON `JOBRUNR_CONTROL_BATCH_MESSAGES`(`BATCH_JOB_ID`, `CHILD_JOB_ID`);
+CREATE INDEX idx_batch_msg_stack_trace ON `JOBRUNR_CONTROL_BATCH_MESSAGES`(`STACK_TRACE_HASH`);
+
+CREATE TABLE IF NOT EXISTS `JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS` (
+    `BATCH_JOB_ID` VARCHAR(36) NOT NULL,
+    `LEVEL` VARCHAR(20) NOT NULL,
+    `MESSAGE_COUNT` BIGINT NOT NULL DEFAULT 0,
+    `UPDATED_AT` TIMESTAMP NOT NULL,
+    PRIMARY KEY (`BATCH_JOB_ID`, `LEVEL`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='Number of batch job messages per level';
+CREATE INDEX idx_batch_msg_counters_updated ON `JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS`(`UPDATED_AT`);
+
+CREATE TABLE IF NOT EXISTS `JOBRUNR_CONTROL_STACK_TRACES` (
+    `TRACE_HASH` VARCHAR(64) NOT NULL PRIMARY KEY,
+    `PAYLOAD` MEDIUMBLOB NOT NULL,
+    `CREATED_AT` TIMESTAMP NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='Distinct exception stack traces referenced by batch job messages';
+
+-- Rebuild the recap totals from the per-child recap rows, e.g. to repair them after manual changes.
+-- Not needed after an upgrade: a batch without totals rows is read from the child rows, and its totals
+-- are seeded from them on the next child recap write. Run while no batch jobs are running.
+--
+-- DELETE FROM `JOBRUNR_CONTROL_BATCH_RECAP_TOTALS`;
+-- INSERT INTO `JOBRUNR_CONTROL_BATCH_RECAP_TOTALS` (`BATCH_JOB_ID`, `COUNTER_NAME`, `COUNTER_VALUE`)
+-- SELECT `BATCH_JOB_ID`, `COUNTER_NAME`, SUM(`COUNTER_VALUE`)
+-- FROM `JOBRUNR_CONTROL_BATCH_RECAP`
+-- GROUP BY `BATCH_JOB_ID`, `COUNTER_NAME`;
+
+-- Indexed message text search (quarkus.jobrunr-control.job-message-search.mode=INDEXED).
+-- Searches use MATCH ... AGAINST in boolean mode, words shorter than innodb_ft_min_token_size are ignored.
+--
+-- CREATE FULLTEXT INDEX idx_batch_msg_text ON `JOBRUNR_CONTROL_BATCH_MESSAGES`(`MESSAGE`, `STACK_TRACE`);
+
+-- Deduplicated stack traces (quarkus.jobrunr-control.stack-trace-storage.deduplicate=true).
+-- Run once after upgrading from a version without deduplicated stack traces, the table
+-- `JOBRUNR_CONTROL_STACK_TRACES` is created by this script.
+--
+-- ALTER TABLE `JOBRUNR_CONTROL_BATCH_MESSAGES` ADD `STACK_TRACE_HASH` VARCHAR(64);
+
+-- Retention (quarkus.jobrunr-control.retention.enabled=true).
+-- Run once after upgrading from a version without retention, the index serves the removal of
+-- stack traces that are no longer referenced by any message.
+--
+-- CREATE INDEX idx_batch_msg_stack_trace ON `JOBRUNR_CONTROL_BATCH_MESSAGES`(`STACK_TRACE_HASH`);
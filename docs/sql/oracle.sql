@@ -60,6 +60,28 @@ BEGIN
         DBMS_OUTPUT.PUT_LINE('Table "JOBRUNR_CONTROL_BATCH_RECAP" already exists, skipping.');
     END IF;
 
+    SELECT COUNT(*) INTO table_exists
+    FROM user_tables
+    WHERE table_name = 'JOBRUNR_CONTROL_BATCH_RECAP_TOTALS';
+
+    IF table_exists = 0 THEN
+        EXECUTE IMMEDIATE '
+            CREATE TABLE "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS" (
+                "BATCH_JOB_ID" VARCHAR2(36) NOT NULL,
+                "COUNTER_NAME" VARCHAR2(255) NOT NULL,
+                "COUNTER_VALUE" NUMBER(19) DEFAULT 0 NOT NULL,
+                CONSTRAINT pk_jobrunr_control_recap_totals PRIMARY KEY ("BATCH_JOB_ID", "COUNTER_NAME")
+            )
+        ';
+        EXECUTE IMMEDIATE 'COMMENT ON TABLE "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS" IS ''Recap counters summed over all child jobs of a batch''';
+        EXECUTE IMMEDIATE 'COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS"."BATCH_JOB_ID" IS ''Batch job identifier (UUID)''';
+        EXECUTE IMMEDIATE 'COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS"."COUNTER_NAME" IS ''Recap counter name''';
+        EXECUTE IMMEDIATE 'COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS"."COUNTER_VALUE" IS ''Sum of the counter over all child jobs''';
+        DBMS_OUTPUT.PUT_LINE('Table "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS" created successfully.');
+    ELSE
+        DBMS_OUTPUT.PUT_LINE('Table "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS" already exists, skipping.');
+    END IF;
+
     SELECT COUNT(*) INTO table_exists
     FROM user_tables
     WHERE table_name = 'JOBRUNR_CONTROL_BATCH_MESSAGES';
@@ -73,20 +95,123 @@ BEGIN
                 "CREATED_AT" TIMESTAMP NOT NULL,
                 "LEVEL" VARCHAR2(20) NOT NULL,
                 "MESSAGE" CLOB,
-                "STACK_TRACE" CLOB
+                "STACK_TRACE" CLOB,
+                "STACK_TRACE_HASH" VARCHAR2(64)
             )
         ';
         EXECUTE IMMEDIATE 'CREATE INDEX idx_batch_msg_created ON "JOBRUNR_CONTROL_BATCH_MESSAGES"("BATCH_JOB_ID", "CREATED_AT")';
         EXECUTE IMMEDIATE 'CREATE INDEX idx_batch_msg_filter ON "JOBRUNR_CONTROL_BATCH_MESSAGES"("BATCH_JOB_ID", "LEVEL", "CREATED_AT")';
+        EXECUTE IMMEDIATE 'CREATE INDEX idx_batch_msg_child ON "JOBRUNR_CONTROL_BATCH_MESSAGES"("BATCH_JOB_ID", "CHILD_JOB_ID")';
+        EXECUTE IMMEDIATE 'CREATE INDEX idx_batch_msg_stack_trace ON "JOBRUNR_CONTROL_BATCH_MESSAGES"("STACK_TRACE_HASH")';
         EXECUTE IMMEDIATE 'COMMENT ON TABLE "JOBRUNR_CONTROL_BATCH_MESSAGES" IS ''Batch job log and exception messages''';
         EXECUTE IMMEDIATE 'COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_MESSAGES"."BATCH_JOB_ID" IS ''Batch job identifier (UUID)''';
         EXECUTE IMMEDIATE 'COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_MESSAGES"."CHILD_JOB_ID" IS ''Child job identifier (UUID), if the message is related to a specific child job''';
         EXECUTE IMMEDIATE 'COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_MESSAGES"."CREATED_AT" IS ''Timestamp when the message was created''';
         EXECUTE IMMEDIATE 'COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_MESSAGES"."LEVEL" IS ''Message level (INFO, WARNING, ERROR, EXCEPTION)''';
+        EXECUTE IMMEDIATE 'COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_MESSAGES"."STACK_TRACE" IS ''Full stack trace, or its first line if the trace is deduplicated''';
+        EXECUTE IMMEDIATE 'COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_MESSAGES"."STACK_TRACE_HASH" IS ''Hash of the deduplicated stack trace in JOBRUNR_CONTROL_STACK_TRACES''';
         DBMS_OUTPUT.PUT_LINE('Table "JOBRUNR_CONTROL_BATCH_MESSAGES" created successfully.');
     ELSE
         DBMS_OUTPUT.PUT_LINE('Table "JOBRUNR_CONTROL_BATCH_MESSAGES" already exists, skipping.');
     END IF;
+
+    SELECT COUNT(*) INTO table_exists
+    FROM user_tables
+    WHERE table_name = 'JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS';
+
+    IF table_exists = 0 THEN
+        EXECUTE IMMEDIATE '
+            CREATE TABLE "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS" (
+                "BATCH_JOB_ID" VARCHAR2(36) NOT NULL,
+                "LEVEL" VARCHAR2(20) NOT NULL,
+                "MESSAGE_COUNT" NUMBER(19) DEFAULT 0 NOT NULL,
+                "UPDATED_AT" TIMESTAMP NOT NULL,
+                CONSTRAINT pk_jobrunr_control_msg_counters PRIMARY KEY ("BATCH_JOB_ID", "LEVEL")
+            )
+        ';
+        EXECUTE IMMEDIATE 'CREATE INDEX idx_batch_msg_counters_updated ON "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS"("UPDATED_AT")';
+        EXECUTE IMMEDIATE 'COMMENT ON TABLE "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS" IS ''Number of batch job messages per level''';
+        EXECUTE IMMEDIATE 'COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS"."BATCH_JOB_ID" IS ''Batch job identifier (UUID)''';
+        EXECUTE IMMEDIATE 'COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS"."LEVEL" IS ''Message level (INFO, WARNING, ERROR, EXCEPTION)''';
+        EXECUTE IMMEDIATE 'COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS"."MESSAGE_COUNT" IS ''Number of messages of the level''';
+        EXECUTE IMMEDIATE 'COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS"."UPDATED_AT" IS ''Timestamp of the last change, used to find batches to reconcile''';
+        DBMS_OUTPUT.PUT_LINE('Table "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS" created successfully.');
+    ELSE
+        DBMS_OUTPUT.PUT_LINE('Table "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS" already exists, skipping.');
+    END IF;
+
+    SELECT COUNT(*) INTO table_exists
+    FROM user_tables
+    WHERE table_name = 'JOBRUNR_CONTROL_STACK_TRACES';
+
+    IF table_exists = 0 THEN
+        EXECUTE IMMEDIATE '
+            CREATE TABLE "JOBRUNR_CONTROL_STACK_TRACES" (
+                "TRACE_HASH" VARCHAR2(64) PRIMARY KEY NOT NULL,
+                "PAYLOAD" BLOB NOT NULL,
+                "CREATED_AT" TIMESTAMP NOT NULL
+            )
+        ';
+        EXECUTE IMMEDIATE 'COMMENT ON TABLE "JOBRUNR_CONTROL_STACK_TRACES" IS ''Distinct exception stack traces referenced by batch job messages''';
+        EXECUTE IMMEDIATE 'COMMENT ON COLUMN "JOBRUNR_CONTROL_STACK_TRACES"."TRACE_HASH" IS ''SHA-256 hash of the normalized stack trace (hex)''';
+        EXECUTE IMMEDIATE 'COMMENT ON COLUMN "JOBRUNR_CONTROL_STACK_TRACES"."PAYLOAD" IS ''Normalized stack trace, gzip-compressed UTF-8''';
+        EXECUTE IMMEDIATE 'COMMENT ON COLUMN "JOBRUNR_CONTROL_STACK_TRACES"."CREATED_AT" IS ''Timestamp when the stack trace was first written''';
+        DBMS_OUTPUT.PUT_LINE('Table "JOBRUNR_CONTROL_STACK_TRACES" created successfully.');
+    ELSE
+        DBMS_OUTPUT.PUT_LINE('Table "JOBRUNR_CONTROL_STACK_TRACES" already exists, skipping.');
+    END IF;
 END;
 /
+
+-- Rebuild the recap totals from the per-child recap rows, e.g. to repair them after manual changes.
+-- Not needed after an upgrade: a batch without totals rows is read from the child rows, and its totals
+-- are seeded from them on the next child recap write. Run while no batch jobs are running.
+--
+-- DELETE FROM "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS";
+-- INSERT INTO "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS" ("BATCH_JOB_ID", "COUNTER_NAME", "COUNTER_VALUE")
+-- SELECT "BATCH_JOB_ID", "COUNTER_NAME", SUM("COUNTER_VALUE")
+-- FROM "JOBRUNR_CONTROL_BATCH_RECAP"
+-- GROUP BY "BATCH_JOB_ID", "COUNTER_NAME";
+-- COMMIT;
+
+-- Indexed message text search (quarkus.jobrunr-control.job-message-search.mode=INDEXED).
+-- Searches use CONTAINS on Oracle Text indexes, which are synchronized on commit.
+-- Requires the CTXAPP role.
+--
+-- CREATE INDEX idx_batch_msg_message_text ON "JOBRUNR_CONTROL_BATCH_MESSAGES"("MESSAGE")
+--     INDEXTYPE IS CTXSYS.CONTEXT PARAMETERS ('SYNC (ON COMMIT)');
+-- CREATE INDEX idx_batch_msg_stack_trace_text ON "JOBRUNR_CONTROL_BATCH_MESSAGES"("STACK_TRACE")
+--     INDEXTYPE IS CTXSYS.CONTEXT PARAMETERS ('SYNC (ON COMMIT)');
+
+-- Deduplicated stack traces (quarkus.jobrunr-control.stack-trace-storage.deduplicate=true).
+-- Run once after upgrading from a version without deduplicated stack traces, the table
+-- "JOBRUNR_CONTROL_STACK_TRACES" is created by this script.
+--
+-- ALTER TABLE "JOBRUNR_CONTROL_BATCH_MESSAGES" ADD "STACK_TRACE_HASH" VARCHAR2(64);
+
+-- Retention (quarkus.jobrunr-control.retention.enabled=true).
+-- Run once after upgrading from a version without retention, the index serves the removal of
+-- stack traces that are no longer referenced by any message.
+--
+-- CREATE INDEX idx_batch_msg_stack_trace ON "JOBRUNR_CONTROL_BATCH_MESSAGES"("STACK_TRACE_HASH");
+
+-- Partitioned messages table (quarkus.jobrunr-control.retention.drop-partitions=true).
+-- Use this definition instead of the "JOBRUNR_CONTROL_BATCH_MESSAGES" table above when setting up a new database
+-- (requires the Partitioning option). Messages are partitioned by month of "CREATED_AT" with interval partitioning,
+-- so the retention purge drops closed partitions whose batches are all expired instead of deleting their rows.
+-- The initial partition cannot be dropped. The recap tables have no creation time and are always purged in chunks.
+--
+-- CREATE TABLE "JOBRUNR_CONTROL_BATCH_MESSAGES" (
+--     "ID" NUMBER(19) GENERATED BY DEFAULT ON NULL AS IDENTITY PRIMARY KEY,
+--     "BATCH_JOB_ID" VARCHAR2(36) NOT NULL,
+--     "CHILD_JOB_ID" VARCHAR2(36),
+--     "CREATED_AT" TIMESTAMP NOT NULL,
+--     "LEVEL" VARCHAR2(20) NOT NULL,
+--     "MESSAGE" CLOB,
+--     "STACK_TRACE" CLOB,
+--     "STACK_TRACE_HASH" VARCHAR2(64)
+-- )
+-- PARTITION BY RANGE ("CREATED_AT") INTERVAL (NUMTOYMINTERVAL(1, 'MONTH'))
+-- (PARTITION "P_INITIAL" VALUES LESS THAN (TIMESTAMP '2026-01-01 00:00:00'));
+
 EXIT;
@@ -31,6 +31,13 @@ CREATE TABLE IF NOT EXISTS "JOBRUNR_CONTROL_BATCH_RECAP" (
 );
 CREATE INDEX IF NOT EXISTS idx_batch_recap_agg ON "JOBRUNR_CONTROL_BATCH_RECAP"("BATCH_JOB_ID", "COUNTER_NAME", "COUNTER_VALUE");
 
+CREATE TABLE IF NOT EXISTS "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS" (
+    "BATCH_JOB_ID" VARCHAR(36) NOT NULL,
+    "COUNTER_NAME" VARCHAR(255) NOT NULL,
+    "COUNTER_VALUE" BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY ("BATCH_JOB_ID", "COUNTER_NAME")
+);
+
 CREATE TABLE IF NOT EXISTS "JOBRUNR_CONTROL_BATCH_MESSAGES" (
     "ID" BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
     "BATCH_JOB_ID" VARCHAR(36) NOT NULL,
@@ -38,11 +45,29 @@ CREATE TABLE IF NOT EXISTS "JOBRUNR_CONTROL_BATCH_MESSAGES" (
     "CREATED_AT" TIMESTAMP NOT NULL,
     "LEVEL" VARCHAR(20) NOT NULL,
     "MESSAGE" TEXT,
-    "STACK_TRACE" TEXT
+    "STACK_TRACE" TEXT,
+    "STACK_TRACE_HASH" VARCHAR(64)
 );
 
 CREATE INDEX IF NOT EXISTS idx_batch_msg_created ON "JOBRUNR_CONTROL_BATCH_MESSAGES"("BATCH_JOB_ID", "CREATED_AT");
 CREATE INDEX IF NOT EXISTS idx_batch_msg_filter ON "JOBRUNR_CONTROL_BATCH_MESSAGES"("BATCH_JOB_ID", "LEVEL", "CREATED_AT");
+CREATE INDEX IF NOT EXISTS idx_batch_msg_child ON "JOBRUNR_CONTROL_BATCH_MESSAGES"("BATCH_JOB_ID", "CHILD_JOB_ID");
+CREATE INDEX IF NOT EXISTS idx_batch_msg_stack_trace ON "JOBRUNR_CONTROL_BATCH_MESSAGES"("STACK_TRACE_HASH");
+
+CREATE TABLE IF NOT EXISTS "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS" (
+    "BATCH_JOB_ID" VARCHAR(36) NOT NULL,
+    "LEVEL" VARCHAR(20) NOT NULL,
+    "MESSAGE_COUNT" BIGINT NOT NULL DEFAULT 0,
+    "UPDATED_AT" TIMESTAMP NOT NULL,
+    PRIMARY KEY ("BATCH_JOB_ID", "LEVEL")
+);
+CREATE INDEX IF NOT EXISTS idx_batch_msg_counters_updated ON "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS"("UPDATED_AT");
+
+CREATE TABLE IF NOT EXISTS "JOBRUNR_CONTROL_STACK_TRACES" (
+    "TRACE_HASH" VARCHAR(64) PRIMARY KEY NOT NULL,
+    "PAYLOAD" BYTEA NOT NULL,
+    "CREATED_AT" TIMESTAMP NOT NULL
+);
 
 COMMENT ON TABLE "JOBRUNR_CONTROL_BATCH_RECAP" IS 'Recap counters per child job in a batch';
 COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_RECAP"."BATCH_JOB_ID" IS 'Batch job identifier (UUID)';
@@ -50,8 +75,80 @@ COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_RECAP"."CHILD_JOB_ID" IS 'Child job ide
 COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_RECAP"."COUNTER_NAME" IS 'Recap counter name';
 COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_RECAP"."COUNTER_VALUE" IS 'Counter value for one child job';
 
+COMMENT ON TABLE "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS" IS 'Recap counters summed over all child jobs of a batch';
+COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS"."BATCH_JOB_ID" IS 'Batch job identifier (UUID)';
+COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS"."COUNTER_NAME" IS 'Recap counter name';
+COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS"."COUNTER_VALUE" IS 'Sum of the counter over all child jobs';
+
 COMMENT ON TABLE "JOBRUNR_CONTROL_BATCH_MESSAGES" IS 'Batch job log and exception messages';
 COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_MESSAGES"."BATCH_JOB_ID" IS 'Batch job identifier (UUID)';
 COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_MESSAGES"."CHILD_JOB_ID" IS 'Child job identifier (UUID), if the message is related to a specific child job';
 COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_MESSAGES"."CREATED_AT" IS 'Timestamp when the message was created';
 COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_MESSAGES"."LEVEL" IS 'Message level (INFO, WARNING, ERROR, EXCEPTION)';
+COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_MESSAGES"."STACK_TRACE" IS 'Full stack trace, or its first line if the trace is deduplicated';
+COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_MESSAGES"."STACK_TRACE_HASH" IS 'Hash of the deduplicated stack trace in JOBRUNR_CONTROL_STACK_TRACES';
+
+COMMENT ON TABLE "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS" IS 'Number of batch job messages per level';
+COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS"."BATCH_JOB_ID" IS 'Batch job identifier (UUID)';
+COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS"."LEVEL" IS 'Message level (INFO, WARNING, ERROR, EXCEPTION)';
+COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS"."MESSAGE_COUNT" IS 'Number of messages of the level';
+COMMENT ON COLUMN "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS"."UPDATED_AT" IS 'Timestamp of the last change, used to find batches to reconcile';
+
+COMMENT ON TABLE "JOBRUNR_CONTROL_STACK_TRACES" IS 'Distinct exception stack traces referenced by batch job messages';
+COMMENT ON COLUMN "JOBRUNR_CONTROL_STACK_TRACES"."TRACE_HASH" IS 'SHA-256 hash of the normalized stack trace (hex)';
+COMMENT ON COLUMN "JOBRUNR_CONTROL_STACK_TRACES"."PAYLOAD" IS 'Normalized stack trace, gzip-compressed UTF-8';
+COMMENT ON COLUMN "JOBRUNR_CONTROL_STACK_TRACES"."CREATED_AT" IS 'Timestamp when the stack trace was first written';
+
+-- Rebuild the recap totals from the per-child recap rows, e.g. to repair them after manual changes.
+-- Not needed after an upgrade: a batch without totals rows is read from the child rows, and its totals
+-- are seeded from them on the next child recap write. Run while no batch jobs are running.
+--
+-- DELETE FROM "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS";
+-- INSERT INTO "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS" ("BATCH_JOB_ID", "COUNTER_NAME", "COUNTER_VALUE")
+-- SELECT "BATCH_JOB_ID", "COUNTER_NAME", SUM("COUNTER_VALUE")
+-- FROM "JOBRUNR_CONTROL_BATCH_RECAP"
+-- GROUP BY "BATCH_JOB_ID", "COUNTER_NAME";
+
+-- Indexed message text search (quarkus.jobrunr-control.job-message-search.mode=INDEXED).
+-- The trigram indexes serve the LOWER(...) LIKE '%...%' search on messages and stack traces.
+-- Requires the pg_trgm extension.
+--
+-- CREATE EXTENSION IF NOT EXISTS pg_trgm;
+-- CREATE INDEX IF NOT EXISTS idx_batch_msg_message_trgm ON "JOBRUNR_CONTROL_BATCH_MESSAGES" USING GIN (LOWER("MESSAGE") gin_trgm_ops);
+-- CREATE INDEX IF NOT EXISTS idx_batch_msg_stack_trace_trgm ON "JOBRUNR_CONTROL_BATCH_MESSAGES" USING GIN (LOWER("STACK_TRACE") gin_trgm_ops);
+
+-- Deduplicated stack traces (quarkus.jobrunr-control.stack-trace-storage.deduplicate=true).
+-- Run once after upgrading from a version without deduplicated stack traces, the table
+-- "JOBRUNR_CONTROL_STACK_TRACES" is created by this script.
+--
+-- ALTER TABLE "JOBRUNR_CONTROL_BATCH_MESSAGES" ADD "STACK_TRACE_HASH" VARCHAR(64);
+
+-- Retention (quarkus.jobrunr-control.retention.enabled=true).
+-- Run once after upgrading from a version without retention, the index serves the removal of
+-- stack traces that are no longer referenced by any message.
+--
+-- CREATE INDEX IF NOT EXISTS idx_batch_msg_stack_trace ON "JOBRUNR_CONTROL_BATCH_MESSAGES"("STACK_TRACE_HASH");
+
+-- Partitioned messages table (quarkus.jobrunr-control.retention.drop-partitions=true).
+-- Use this definition instead of the "JOBRUNR_CONTROL_BATCH_MESSAGES" table above when setting up a new database.
+-- Messages are partitioned by month of "CREATED_AT", so the retention purge drops closed partitions whose
+-- batches are all expired instead of deleting their rows. Create the partitions ahead of time (e.g. with pg_partman);
+-- the default partition takes messages without a matching partition and is never dropped.
+-- The recap tables have no creation time and are always purged in chunks.
+--
+-- CREATE TABLE IF NOT EXISTS "JOBRUNR_CONTROL_BATCH_MESSAGES" (
+--     "ID" BIGINT GENERATED BY DEFAULT AS IDENTITY,
+--     "BATCH_JOB_ID" VARCHAR(36) NOT NULL,
+--     "CHILD_JOB_ID" VARCHAR(36),
+--     "CREATED_AT" TIMESTAMP NOT NULL,
+--     "LEVEL" VARCHAR(20) NOT NULL,
+--     "MESSAGE" TEXT,
+--     "STACK_TRACE" TEXT,
+--     "STACK_TRACE_HASH" VARCHAR(64),
+--     PRIMARY KEY ("ID", "CREATED_AT")
+-- ) PARTITION BY RANGE ("CREATED_AT");
+-- CREATE TABLE IF NOT EXISTS "JOBRUNR_CONTROL_BATCH_MESSAGES_2026_01" PARTITION OF "JOBRUNR_CONTROL_BATCH_MESSAGES"
+--     FOR VALUES FROM ('2026-01-01') TO ('2026-02-01');
+-- CREATE TABLE IF NOT EXISTS "JOBRUNR_CONTROL_BATCH_MESSAGES_2026_02" PARTITION OF "JOBRUNR_CONTROL_BATCH_MESSAGES"
+--     FOR VALUES FROM ('2026-02-01') TO ('2026-03-01');
+-- CREATE TABLE IF NOT EXISTS "JOBRUNR_CONTROL_BATCH_MESSAGES_DEFAULT" PARTITION OF "JOBRUNR_CONTROL_BATCH_MESSAGES" DEFAULT;
@@ -6,9 +6,10 @@ import jakarta.inject.Inject;
 import org.jobrunr.jobs.Job;
 import org.jobrunr.jobs.context.JobDashboardLogger;
 import org.jobrunr.jobs.states.FailedState;
+import org.jobrunr.storage.JobSearchRequest;
 import org.jobrunr.storage.JobSearchRequestBuilder;
 import org.jobrunr.storage.StorageProvider;
-import org.jobrunr.storage.navigation.AmountRequest;
+import org.jobrunr.storage.navigation.OffsetBasedPageRequest;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -16,10 +17,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 @ApplicationScoped
 public class ComplexDemoMessageProvider implements JobMessageProvider {
 
+    private static final int CHILD_PAGE_SIZE = 1000;
+
     private final StorageProvider storageProvider;
 
     @Inject
@@ -53,7 +57,7 @@ public class ComplexDemoMessageProvider implements JobMessageProvider {
         AtomicLong errorMessages = new AtomicLong(0);
         AtomicLong exceptionMessages = new AtomicLong(0);
 
-        getChildJobs(jobId).forEach(job -> job.getMetadata().entrySet().stream()
+        forEachChildJob(jobId, job -> job.getMetadata().entrySet().stream()
                 .filter(entry -> entry.getKey().startsWith("jobRunrDashboardLog-"))
                 .map(Map.Entry::getValue)
                 .filter(value -> value instanceof JobDashboardLogger.JobDashboardLogLines)
@@ -88,7 +92,7 @@ public class ComplexDemoMessageProvider implements JobMessageProvider {
 
     private List<JobMessage> getMessages(UUID jobId, JobMessageLevelSearch searchFilter, String textSearch) {
         List<JobMessage> messages = new ArrayList<>();
-        getChildJobs(jobId).forEach(job -> job.getMetadata().entrySet().stream()
+        forEachChildJob(jobId, job -> job.getMetadata().entrySet().stream()
                 .filter(entry -> entry.getKey().startsWith("jobRunrDashboardLog-"))
                 .map(Map.Entry::getValue)
                 .filter(value -> value instanceof JobDashboardLogger.JobDashboardLogLines)
@@ -130,10 +134,19 @@ public class ComplexDemoMessageProvider implements JobMessageProvider {
                 .orElse(null);
     }
 
-    private List<Job> getChildJobs(UUID jobId) {
-        return storageProvider.getJobList(JobSearchRequestBuilder.aJobSearchRequest()
+    private void forEachChildJob(UUID jobId, Consumer<Job> consumer) {
+        JobSearchRequest childrenRequest = JobSearchRequestBuilder.aJobSearchRequest()
                 .withParentId(jobId)
-                .build(), AmountRequest.fromString("limit=1000000"));
+                .build();
+        // Reads the children page by page so only one page of jobs is held in memory
+        long offset = 0;
+        List<Job> children;
+        do {
+            children = storageProvider.getJobList(childrenRequest,
+                    new OffsetBasedPageRequest("createdAt:ASC", offset, CHILD_PAGE_SIZE));
+            children.forEach(consumer);
+            offset += children.size();
+        } while (children.size() == CHILD_PAGE_SIZE);
     }
 
     private boolean matchesSearch(JobDashboardLogger.Level level, boolean hasStackTrace, JobMessageLevelSearch search) {
@@ -4,18 +4,22 @@ import ch.css.jobrunr.control.domain.details.JobRecapProvider;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.jobrunr.jobs.Job;
+import org.jobrunr.storage.JobSearchRequest;
 import org.jobrunr.storage.JobSearchRequestBuilder;
 import org.jobrunr.storage.StorageProvider;
-import org.jobrunr.storage.navigation.AmountRequest;
+import org.jobrunr.storage.navigation.OffsetBasedPageRequest;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @ApplicationScoped
 public class ComplexDemoRecapProvider implements JobRecapProvider {
 
+    private static final int CHILD_PAGE_SIZE = 1000;
+
     private final StorageProvider storageProvider;
 
     @Inject
@@ -40,14 +44,23 @@ public class ComplexDemoRecapProvider implements JobRecapProvider {
         counters.put("druckauftraegeVerarbeitet", 0L);
         counters.put("druckauftraegeGedruckt", 0L);
 
-        getChildJobs(jobId).forEach(job -> updateCounters(counters, job.getResult()));
+        forEachChildJob(jobId, job -> updateCounters(counters, job.getResult()));
         return new HashMap<>(counters);
     }
 
-    private List<Job> getChildJobs(UUID jobId) {
-        return storageProvider.getJobList(JobSearchRequestBuilder.aJobSearchRequest()
+    private void forEachChildJob(UUID jobId, Consumer<Job> consumer) {
+        JobSearchRequest childrenRequest = JobSearchRequestBuilder.aJobSearchRequest()
                 .withParentId(jobId)
-                .build(), AmountRequest.fromString("limit=1000000"));
+                .build();
+        // Reads the children page by page so only one page of jobs is held in memory
+        long offset = 0;
+        List<Job> children;
+        do {
+            children = storageProvider.getJobList(childrenRequest,
+                    new OffsetBasedPageRequest("createdAt:ASC", offset, CHILD_PAGE_SIZE));
+            children.forEach(consumer);
+            offset += children.size();
+        } while (children.size() == CHILD_PAGE_SIZE);
     }
 
     private void updateCounters(Map<String, Long> counters, Object result) {
@@ -23,6 +23,13 @@ CREATE TABLE IF NOT EXISTS "JOBRUNR_CONTROL_BATCH_RECAP" (
 );
 CREATE INDEX IF NOT EXISTS idx_batch_recap_agg ON "JOBRUNR_CONTROL_BATCH_RECAP"("BATCH_JOB_ID", "COUNTER_NAME", "COUNTER_VALUE");
 
+CREATE TABLE IF NOT EXISTS "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS" (
+    "BATCH_JOB_ID" VARCHAR(36) NOT NULL,
+    "COUNTER_NAME" VARCHAR(255) NOT NULL,
+    "COUNTER_VALUE" BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY ("BATCH_JOB_ID", "COUNTER_NAME")
+);
+
 CREATE TABLE IF NOT EXISTS "JOBRUNR_CONTROL_BATCH_MESSAGES" (
     "ID" BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
     "BATCH_JOB_ID" VARCHAR(36) NOT NULL,
@@ -30,8 +37,33 @@ CREATE TABLE IF NOT EXISTS "JOBRUNR_CONTROL_BATCH_MESSAGES" (
     "CREATED_AT" TIMESTAMP NOT NULL,
     "LEVEL" VARCHAR(20) NOT NULL,
     "MESSAGE" CLOB,
-    "STACK_TRACE" CLOB
+    "STACK_TRACE" CLOB,
+    "STACK_TRACE_HASH" VARCHAR(64)
 );
 
 CREATE INDEX IF NOT EXISTS idx_batch_msg_created ON "JOBRUNR_CONTROL_BATCH_MESSAGES"("BATCH_JOB_ID", "CREATED_AT");
 CREATE INDEX IF NOT EXISTS idx_batch_msg_filter ON "JOBRUNR_CONTROL_BATCH_MESSAGES"("BATCH_JOB_ID", "LEVEL", "CREATED_AT");
+CREATE INDEX IF NOT EXISTS idx_batch_msg_child ON "JOBRUNR_CONTROL_BATCH_MESSAGES"("BATCH_JOB_ID", "CHILD_JOB_ID");
+CREATE INDEX IF NOT EXISTS idx_batch_msg_stack_trace ON "JOBRUNR_CONTROL_BATCH_MESSAGES"("STACK_TRACE_HASH");
+
+CREATE TABLE IF NOT EXISTS "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS" (
+    "BATCH_JOB_ID" VARCHAR(36) NOT NULL,
+    "LEVEL" VARCHAR(20) NOT NULL,
+    "MESSAGE_COUNT" BIGINT NOT NULL DEFAULT 0,
+    "UPDATED_AT" TIMESTAMP NOT NULL,
+    PRIMARY KEY ("BATCH_JOB_ID", "LEVEL")
+);
+CREATE INDEX IF NOT EXISTS idx_batch_msg_counters_updated ON "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS"("UPDATED_AT");
+
+CREATE TABLE IF NOT EXISTS "JOBRUNR_CONTROL_BATCH_MESSAGE_TOKENS" (
+    "BATCH_JOB_ID" VARCHAR(36) NOT NULL,
+    "TOKEN" VARCHAR(100) NOT NULL,
+    "MESSAGE_ID" BIGINT NOT NULL,
+    PRIMARY KEY ("BATCH_JOB_ID", "TOKEN", "MESSAGE_ID")
+);
+
+CREATE TABLE IF NOT EXISTS "JOBRUNR_CONTROL_STACK_TRACES" (
+    "TRACE_HASH" VARCHAR(64) PRIMARY KEY NOT NULL,
+    "PAYLOAD" BLOB NOT NULL,
+    "CREATED_AT" TIMESTAMP NOT NULL
+);
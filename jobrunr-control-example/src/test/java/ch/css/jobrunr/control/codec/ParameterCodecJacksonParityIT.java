@@ -0,0 +1,159 @@
+package ch.css.jobrunr.control.codec;
+
+import ch.css.jobrunr.control.domain.ParameterCodecPort;
+import ch.css.jobrunr.control.infrastructure.codec.ParameterCodec;
+import ch.css.jobrunr.control.jobs.complex.ComplexParameterDemoJobParameter;
+import ch.css.jobrunr.control.jobs.complex.JobEnumSprache;
+import ch.css.jobrunr.control.jobs.complex.JobEnumSpvHauptfaelligkeit;
+import ch.css.jobrunr.control.jobs.complex.JobEnumWunschVersandArt;
+import ch.css.jobrunr.control.jobs.parameters.EnumParameter;
+import ch.css.jobrunr.control.jobs.parameters.ParameterDemoJobRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Verifies that the build-time generated parameter codecs of the example jobs convert parameters
+ * exactly like Jackson, which they replace. Records the generator does not support (optionals,
+ * nested records) must not get a codec and keep being converted by Jackson.
+ * Uses real Quarkus context, so the codecs are the ones generated during the build.
+ */
+@QuarkusTest
+@DisplayName("Generated parameter codecs: parity with Jackson")
+class ParameterCodecJacksonParityIT {
+
+    public record OptionalParameters(Optional<String> note, Optional<LocalDate> dueDate, EnumParameter option) {
+    }
+
+    public record Period(LocalDate from, LocalDateTime until) {
+    }
+
+    public record NestedParameters(String name, Period period, List<Period> history, EnumSet<EnumParameter> options) {
+    }
+
+    @Inject
+    Instance<ParameterCodec> codecs;
+
+    @Inject
+    ParameterCodecPort parameterCodec;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("should write and read ParameterDemoJobRequest like Jackson")
+    void parameterDemoJobRequest_RoundTrip_MatchesJackson() {
+        ParameterCodec codec = codecFor(ParameterDemoJobRequest.class);
+        ParameterDemoJobRequest request = new ParameterDemoJobRequest(
+                "Value", "Line 1\nLine 2", 42, 3.14159, true,
+                LocalDate.of(2024, 2, 29), LocalDateTime.of(2024, 1, 1, 12, 0, 5, 123_000_000),
+                EnumParameter.OPTION_B, EnumSet.of(EnumParameter.OPTION_A, EnumParameter.OPTION_C));
+
+        assertRoundTripMatchesJackson(codec, request, ParameterDemoJobRequest.class);
+    }
+
+    @Test
+    @DisplayName("should read the string values of the parameter form like Jackson")
+    void parameterDemoJobRequest_FormValues_MatchesJackson() {
+        ParameterCodec codec = codecFor(ParameterDemoJobRequest.class);
+        Map<String, Object> formValues = new HashMap<>();
+        formValues.put("stringParameter", "Value");
+        formValues.put("multilineParameter", "Line 1\nLine 2");
+        formValues.put("integerParameter", "42");
+        formValues.put("doubleParameter", "3.14159");
+        formValues.put("booleanParameter", "true");
+        formValues.put("dateParameter", "2024-01-01");
+        formValues.put("dateTimeParameter", "2024-01-01T12:00:00");
+        formValues.put("enumParameter", "OPTION_B");
+        formValues.put("multiEnumParameter", List.of("OPTION_A", "OPTION_C"));
+
+        assertEquals(objectMapper.convertValue(formValues, ParameterDemoJobRequest.class), codec.fromMap(formValues));
+    }
+
+    @Test
+    @DisplayName("should write and read a record with null components like Jackson")
+    void parameterDemoJobRequest_NullComponents_MatchesJackson() {
+        ParameterCodec codec = codecFor(ParameterDemoJobRequest.class);
+        ParameterDemoJobRequest request = new ParameterDemoJobRequest(
+                null, null, null, null, null, null, null, null, null);
+
+        assertRoundTripMatchesJackson(codec, request, ParameterDemoJobRequest.class);
+    }
+
+    @Test
+    @DisplayName("should write and read the external parameter set of the complex job like Jackson")
+    void complexParameterDemoJobParameter_RoundTrip_MatchesJackson() {
+        ParameterCodec codec = codecFor(ComplexParameterDemoJobParameter.class);
+        ComplexParameterDemoJobParameter parameters = new ComplexParameterDemoJobParameter(
+                JobEnumSpvHauptfaelligkeit.values()[0], JobEnumSprache.FRANZOESISCH, JobEnumWunschVersandArt.values()[0],
+                "1234567", null, "block-1, block-2", "", "BATCH.1",
+                LocalDate.of(2025, 12, 31), false, "B-1,B-2", JobEnumSprache.ITALIENISCH);
+
+        assertRoundTripMatchesJackson(codec, parameters, ComplexParameterDemoJobParameter.class);
+    }
+
+    @Test
+    @DisplayName("should convert records with optional components through Jackson")
+    void optionalParameters_NoCodec_ConvertedByJackson() {
+        assertNoCodec(OptionalParameters.class);
+        OptionalParameters parameters = new OptionalParameters(
+                Optional.of("note"), Optional.empty(), EnumParameter.OPTION_C);
+
+        assertPortMatchesJackson(parameters, OptionalParameters.class);
+    }
+
+    @Test
+    @DisplayName("should convert records with nested records through Jackson")
+    void nestedParameters_NoCodec_ConvertedByJackson() {
+        assertNoCodec(NestedParameters.class);
+        Period period = new Period(LocalDate.of(2024, 1, 1), LocalDateTime.of(2024, 6, 30, 23, 59));
+        NestedParameters parameters = new NestedParameters(
+                "nested", period, List.of(period, new Period(null, null)), EnumSet.of(EnumParameter.OPTION_A));
+
+        assertPortMatchesJackson(parameters, NestedParameters.class);
+    }
+
+    private <T> void assertRoundTripMatchesJackson(ParameterCodec codec, T value, Class<T> type) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> jacksonMap = objectMapper.convertValue(value, Map.class);
+        Map<String, Object> codecMap = codec.toMap(value);
+
+        assertEquals(jacksonMap, codecMap);
+        assertEquals(objectMapper.convertValue(jacksonMap, type), codec.fromMap(jacksonMap));
+        assertEquals(value, codec.fromMap(codecMap));
+    }
+
+    private <T> void assertPortMatchesJackson(T value, Class<T> type) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> jacksonMap = objectMapper.convertValue(value, Map.class);
+
+        assertEquals(jacksonMap, parameterCodec.toMap(value));
+        assertEquals(objectMapper.convertValue(jacksonMap, type), parameterCodec.fromMap(jacksonMap, type));
+    }
+
+    private ParameterCodec codecFor(Class<?> recordClass) {
+        return codecs.stream()
+                .filter(codec -> codec.recordClassName().equals(recordClass.getName()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No ParameterCodec generated for " + recordClass.getName()));
+    }
+
+    private void assertNoCodec(Class<?> recordClass) {
+        assertFalse(codecs.stream().anyMatch(codec -> codec.recordClassName().equals(recordClass.getName())),
+                "Unexpected ParameterCodec for " + recordClass.getName());
+    }
+}
@@ -0,0 +1,119 @@
+package ch.css.jobrunr.control.details;
+
+import ch.css.jobrunr.control.application.scheduling.CreateScheduledJobUseCase;
+import ch.css.jobrunr.control.application.scheduling.StartJobUseCase;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.jobrunr.jobs.Job;
+import org.jobrunr.storage.JobSearchRequest;
+import org.jobrunr.storage.JobSearchRequestBuilder;
+import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.storage.navigation.AmountRequest;
+import org.jobrunr.storage.navigation.OffsetBasedPageRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the heap retained while reading the child jobs of a batch on H2: the former single list of all children
+ * against the page-by-page iteration of the batch snapshot with
+ * {@code quarkus.jobrunr-control.batch-snapshot.child-page-size}. The retained heap is measured after a full GC
+ * while the children are still referenced.
+ * <p>
+ * Not part of the regular build. Run with {@code mvn verify -Dbenchmark=true -Dit.test=BatchSnapshotMemoryBenchmarkIT}.
+ */
+@QuarkusTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Batch snapshot memory benchmark (H2)")
+class BatchSnapshotMemoryBenchmarkIT {
+
+    private static final String JOB_TYPE = "ExampleBatchJob";
+    private static final int CHILDREN = 20_000;
+    private static final int PAGE_SIZE = 1_000;
+    private static final int CHILDREN_POLL_TIMEOUT_SECONDS = 300;
+
+    @Inject
+    CreateScheduledJobUseCase createScheduledJobUseCase;
+
+    @Inject
+    StartJobUseCase startJobUseCase;
+
+    @Inject
+    StorageProvider storageProvider;
+
+    @Test
+    @DisplayName("should report the heap retained by a full child list and by a single page")
+    void compareFullListWithPages() throws InterruptedException {
+        UUID batchJobId = startBatch();
+        JobSearchRequest childrenRequest = JobSearchRequestBuilder.aJobSearchRequest()
+                .withParentId(batchJobId)
+                .build();
+        awaitChildren(childrenRequest);
+
+        long baseline = retainedHeap();
+        List<Job> allChildren = storageProvider.getJobList(childrenRequest, AmountRequest.fromString("limit=1000000"));
+        long fullListBytes = retainedHeap() - baseline;
+        int fullListSize = allChildren.size();
+        allChildren = null;
+
+        baseline = retainedHeap();
+        long maxPageBytes = 0;
+        int pagedSize = 0;
+        long offset = 0;
+        List<Job> page;
+        do {
+            page = storageProvider.getJobList(childrenRequest, new OffsetBasedPageRequest("updatedAt:DESC", offset, PAGE_SIZE));
+            maxPageBytes = Math.max(maxPageBytes, retainedHeap() - baseline);
+            pagedSize += page.size();
+            offset += page.size();
+        } while (page.size() == PAGE_SIZE);
+
+        System.out.printf("Heap retained for %d child jobs on H2:%n", fullListSize);
+        System.out.printf("  full list:            %,10.1f MB%n", megabytes(fullListBytes));
+        System.out.printf("  pages of %,6d (max): %,10.1f MB%n", PAGE_SIZE, megabytes(maxPageBytes));
+
+        assertEquals(CHILDREN, fullListSize);
+        assertEquals(CHILDREN, pagedSize);
+        assertTrue(maxPageBytes < fullListBytes, "A page should retain less heap than the full list");
+    }
+
+    private UUID startBatch() {
+        Map<String, String> parameters = Map.of(
+                "numberOfChunks", String.valueOf(CHILDREN),
+                "chunkSize", "1",
+                "simulateErrors", "false"
+        );
+        UUID jobId = createScheduledJobUseCase.execute(JOB_TYPE, "Batch snapshot memory benchmark", parameters, null, true);
+        return startJobUseCase.execute(jobId, null, null);
+    }
+
+    private void awaitChildren(JobSearchRequest childrenRequest) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + CHILDREN_POLL_TIMEOUT_SECONDS * 1000L;
+        while (System.currentTimeMillis() < deadline) {
+            if (storageProvider.getJobList(childrenRequest, new OffsetBasedPageRequest("updatedAt:DESC", CHILDREN - 1L, 1)).size() == 1) {
+                return;
+            }
+            Thread.sleep(1000);
+        }
+        throw new IllegalStateException("Child jobs of the benchmark batch were not created within " + CHILDREN_POLL_TIMEOUT_SECONDS + "s");
+    }
+
+    private static long retainedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static double megabytes(long bytes) {
+        return bytes / (1024d * 1024d);
+    }
+}
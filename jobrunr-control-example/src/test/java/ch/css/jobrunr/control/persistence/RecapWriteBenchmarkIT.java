@@ -0,0 +1,128 @@
+package ch.css.jobrunr.control.persistence;
+
+import ch.css.jobrunr.control.domain.details.JobRecapStoragePort;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the throughput of recap writes on H2: the former delete-then-insert per child against the
+ * dialect-specific upsert of {@link JobRecapStoragePort#writeRecap}. Each child is written twice, as
+ * it happens when a child job is retried.
+ * <p>
+ * Not part of the regular build. Run with {@code mvn verify -Dbenchmark=true -Dit.test=RecapWriteBenchmarkIT}.
+ */
+@QuarkusTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("Recap write benchmark (H2)")
+class RecapWriteBenchmarkIT {
+
+    private static final int WARMUP_CHILDREN = 2_000;
+    private static final int MEASURED_CHILDREN = 20_000;
+    private static final Map<String, Long> RECAP = Map.of("processed", 100L, "succeeded", 97L, "failed", 3L);
+
+    private static final String DELETE_SQL = """
+            DELETE FROM "JOBRUNR_CONTROL_BATCH_RECAP"
+            WHERE "BATCH_JOB_ID" = ? AND "CHILD_JOB_ID" = ?
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO "JOBRUNR_CONTROL_BATCH_RECAP" ("BATCH_JOB_ID", "CHILD_JOB_ID", "COUNTER_NAME", "COUNTER_VALUE")
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String SUM_SQL = """
+            SELECT SUM("COUNTER_VALUE") FROM "JOBRUNR_CONTROL_BATCH_RECAP" WHERE "BATCH_JOB_ID" = ?
+            """;
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Inject
+    JobRecapStoragePort jobRecapStorage;
+
+    @Test
+    @DisplayName("should report recap writes per second before and after the upsert")
+    void compareDeleteInsertWithUpsert() throws SQLException {
+        runDeleteInsert(UUID.randomUUID(), WARMUP_CHILDREN);
+        runUpsert(UUID.randomUUID(), WARMUP_CHILDREN);
+
+        UUID deleteInsertBatchId = UUID.randomUUID();
+        long deleteInsertNanos = runDeleteInsert(deleteInsertBatchId, MEASURED_CHILDREN);
+        UUID upsertBatchId = UUID.randomUUID();
+        long upsertNanos = runUpsert(upsertBatchId, MEASURED_CHILDREN);
+
+        System.out.printf("Recap writes on H2 (%d children, 2 writes each):%n", MEASURED_CHILDREN);
+        System.out.printf("  delete-then-insert: %,10.0f writes/s%n", throughput(deleteInsertNanos));
+        System.out.printf("  upsert:             %,10.0f writes/s%n", throughput(upsertNanos));
+
+        long expectedSum = MEASURED_CHILDREN * 200L;
+        assertEquals(expectedSum, sum(deleteInsertBatchId));
+        assertEquals(expectedSum, sum(upsertBatchId));
+    }
+
+    private long runDeleteInsert(UUID batchJobId, int children) throws SQLException {
+        long start = System.nanoTime();
+        for (int i = 0; i < children; i++) {
+            UUID childJobId = UUID.randomUUID();
+            deleteInsert(batchJobId, childJobId);
+            deleteInsert(batchJobId, childJobId);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long runUpsert(UUID batchJobId, int children) {
+        long start = System.nanoTime();
+        for (int i = 0; i < children; i++) {
+            UUID childJobId = UUID.randomUUID();
+            jobRecapStorage.writeRecap(batchJobId, childJobId, RECAP);
+            jobRecapStorage.writeRecap(batchJobId, childJobId, RECAP);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void deleteInsert(UUID batchJobId, UUID childJobId) throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            try (PreparedStatement delete = conn.prepareStatement(DELETE_SQL)) {
+                delete.setString(1, batchJobId.toString());
+                delete.setString(2, childJobId.toString());
+                delete.executeUpdate();
+            }
+            try (PreparedStatement insert = conn.prepareStatement(INSERT_SQL)) {
+                for (Map.Entry<String, Long> counter : RECAP.entrySet()) {
+                    insert.setString(1, batchJobId.toString());
+                    insert.setString(2, childJobId.toString());
+                    insert.setString(3, counter.getKey());
+                    insert.setLong(4, counter.getValue());
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+    }
+
+    private long sum(UUID batchJobId) throws SQLException {
+        try (Connection conn = dataSource.getConnection(); PreparedStatement stmt = conn.prepareStatement(SUM_SQL)) {
+            stmt.setString(1, batchJobId.toString());
+            try (var resultSet = stmt.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    private static double throughput(long nanos) {
+        return MEASURED_CHILDREN * 2 / (nanos / 1_000_000_000d);
+    }
+}
@@ -1,6 +1,7 @@
 package ch.css.jobrunr.control.deployment;
 
 import ch.css.jobrunr.control.domain.JobDefinition;
+import ch.css.jobrunr.control.deployment.scanner.ParameterCodecGenerator;
 import ch.css.jobrunr.control.deployment.scanner.RecapValueExtractorGenerator;
 import ch.css.jobrunr.control.infrastructure.discovery.JobDefinitionRecorder;
 import io.quarkus.arc.deployment.GeneratedBeanBuildItem;
@@ -32,6 +33,7 @@ public class JobDiscoveryProcessor {
             JobDefinitionRecorder recorder) {
         Set<JobDefinition> jobDefinitions = JobDefinitionIndexScanner.findJobSpecifications(indexBuildItem.getIndex());
         new RecapValueExtractorGenerator(indexBuildItem.getIndex(), generatedBeanProducer).generate(jobDefinitions);
+        new ParameterCodecGenerator(indexBuildItem.getIndex(), generatedBeanProducer).generate(jobDefinitions);
         recorder.registerJobMetadata(jobDefinitions);
     }
 
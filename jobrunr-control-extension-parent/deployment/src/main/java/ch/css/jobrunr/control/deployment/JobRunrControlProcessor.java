@@ -3,7 +3,12 @@ package ch.css.jobrunr.control.deployment;
 import ch.css.jobrunr.control.adapter.rest.JobControlResource;
 import ch.css.jobrunr.control.adapter.ui.*;
 import ch.css.jobrunr.control.infrastructure.discovery.JobDefinitionRecorder;
+import ch.css.jobrunr.control.infrastructure.jobrunr.filters.JobExecutionIndexFilter;
 import ch.css.jobrunr.control.infrastructure.jobrunr.filters.ParameterCleanupJobFilter;
+import ch.css.jobrunr.control.infrastructure.jobrunr.filters.JobMessageFlushFilter;
+import ch.css.jobrunr.control.infrastructure.jobrunr.filters.ScheduledJobCacheFilter;
+import ch.css.jobrunr.control.infrastructure.persistence.JobMessageCounterReconcileJobRequestHandler;
+import ch.css.jobrunr.control.infrastructure.persistence.RetentionPurgeJobRequestHandler;
 import ch.css.jobrunr.control.infrastructure.quarkus.BuildTimeConfigurationAdapter;
 import ch.css.jobrunr.control.security.JobRunrControlRoleAugmentor;
 import ch.css.jobrunr.control.security.JobRunrDashboardUserContextFilter;
@@ -190,6 +195,11 @@ public class JobRunrControlProcessor {
                 .handler(recorder.historyBatchProgress())
                 .handlerType(HandlerType.BLOCKING)
                 .build());
+        routes.produce(nonApp.routeBuilder()
+                .route(UI_BASE + "/history/batch-progress/stream")
+                .handler(recorder.historyBatchProgressStream())
+                .handlerType(HandlerType.BLOCKING)
+                .build());
 
         // ---- Dashboard ----
         routes.produce(nonApp.routeBuilder()
@@ -263,6 +273,11 @@ public class JobRunrControlProcessor {
                         DashboardPaths.class,
                         BuildTimeConfigurationAdapter.class,
                         ParameterCleanupJobFilter.class,
+                        JobExecutionIndexFilter.class,
+                        ScheduledJobCacheFilter.class,
+                        JobMessageFlushFilter.class,
+                        RetentionPurgeJobRequestHandler.class,
+                        JobMessageCounterReconcileJobRequestHandler.class,
                         JobRunrControlRoleAugmentor.class
                 )
                 .setUnremovable()
@@ -0,0 +1,264 @@
+package ch.css.jobrunr.control.deployment.scanner;
+
+import ch.css.jobrunr.control.domain.JobDefinition;
+import ch.css.jobrunr.control.infrastructure.codec.ParameterCodec;
+import ch.css.jobrunr.control.infrastructure.codec.ParameterCodecSupport;
+import io.quarkus.arc.deployment.GeneratedBeanBuildItem;
+import io.quarkus.arc.deployment.GeneratedBeanGizmoAdaptor;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jboss.jandex.*;
+import org.jboss.logging.Logger;
+
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Generates runtime ParameterCodec implementations for JobRequest and @JobParameterSet records
+ * based on build-time Jandex metadata.
+ * <p>
+ * A codec is only generated when every record component has a type the parameter UI produces
+ * (String, int/long/double/boolean and their wrappers, LocalDate, LocalDateTime, enums and
+ * EnumSets of enums) and no Jackson annotation changes the mapping. All other types keep being
+ * converted by Jackson at runtime.
+ */
+public class ParameterCodecGenerator {
+
+    private static final Logger LOG = Logger.getLogger(ParameterCodecGenerator.class);
+    private static final String JACKSON_ANNOTATION_PACKAGE = "com.fasterxml.jackson.";
+    private static final MethodDescriptor MAP_GET = MethodDescriptor.ofMethod(Map.class, "get", Object.class, Object.class);
+    private static final MethodDescriptor MAP_PUT = MethodDescriptor.ofMethod(Map.class, "put", Object.class, Object.class, Object.class);
+
+    private final IndexView index;
+    private final BuildProducer<GeneratedBeanBuildItem> generatedBeanProducer;
+
+    public ParameterCodecGenerator(IndexView index,
+                                   BuildProducer<GeneratedBeanBuildItem> generatedBeanProducer) {
+        this.index = index;
+        this.generatedBeanProducer = generatedBeanProducer;
+    }
+
+    public void generate(Set<JobDefinition> jobDefinitions) {
+        Set<String> recordClassNames = new TreeSet<>();
+        for (JobDefinition jobDefinition : jobDefinitions) {
+            recordClassNames.add(jobDefinition.jobRequestTypeName());
+            if (jobDefinition.usesExternalParameters() && jobDefinition.externalParametersClassName() != null) {
+                recordClassNames.add(jobDefinition.externalParametersClassName());
+            }
+        }
+
+        for (String recordClassName : recordClassNames) {
+            generateCodec(recordClassName);
+        }
+    }
+
+    private void generateCodec(String recordClassName) {
+        ClassInfo recordClassInfo = index.getClassByName(DotName.createSimple(recordClassName));
+        if (recordClassInfo == null || !recordClassInfo.isRecord()) {
+            LOG.debugf("No ParameterCodec generated for %s: not a record in the Jandex index", recordClassName);
+            return;
+        }
+        if (!isAccessible(recordClassInfo)) {
+            LOG.debugf("No ParameterCodec generated for %s: record is not public", recordClassName);
+            return;
+        }
+        MethodInfo canonicalConstructor = recordClassInfo.canonicalRecordConstructor();
+        if (canonicalConstructor == null || !Modifier.isPublic(canonicalConstructor.flags())) {
+            LOG.debugf("No ParameterCodec generated for %s: canonical constructor is not public", recordClassName);
+            return;
+        }
+        if (hasJacksonAnnotation(recordClassInfo.annotations())) {
+            LOG.debugf("No ParameterCodec generated for %s: Jackson annotations customize the mapping", recordClassName);
+            return;
+        }
+        List<RecordComponentInfo> components = recordClassInfo.recordComponents();
+        for (RecordComponentInfo component : components) {
+            if (!isSupportedComponentType(component.type())) {
+                LOG.debugf("No ParameterCodec generated for %s: component '%s' has unsupported type %s",
+                        recordClassName, component.name(), component.type());
+                return;
+            }
+        }
+
+        String generatedClassName = generatedCodecClassName(recordClassName);
+        LOG.debugf("Generating ParameterCodec %s for record %s with %d components",
+                generatedClassName, recordClassName, components.size());
+
+        try (ClassCreator classCreator = ClassCreator.builder()
+                .classOutput(new GeneratedBeanGizmoAdaptor(generatedBeanProducer))
+                .className(generatedClassName)
+                .interfaces(ParameterCodec.class)
+                .build()) {
+            classCreator.addAnnotation(ApplicationScoped.class.getName(), RetentionPolicy.RUNTIME);
+            createNoArgConstructor(classCreator, generatedClassName);
+            createRecordClassNameMethod(classCreator, recordClassName);
+            createFromMapMethod(classCreator, canonicalConstructor, components);
+            createToMapMethod(classCreator, recordClassName, components);
+        }
+    }
+
+    private void createNoArgConstructor(ClassCreator classCreator, String className) {
+        MethodCreator constructor = classCreator.getMethodCreator(MethodDescriptor.ofConstructor(className));
+        constructor.setModifiers(Modifier.PUBLIC);
+        constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(Object.class), constructor.getThis());
+        constructor.returnValue(null);
+    }
+
+    private void createRecordClassNameMethod(ClassCreator classCreator, String recordClassName) {
+        MethodCreator method = classCreator.getMethodCreator("recordClassName", String.class);
+        method.setModifiers(Modifier.PUBLIC);
+        method.returnValue(method.load(recordClassName));
+    }
+
+    private void createFromMapMethod(ClassCreator classCreator, MethodInfo canonicalConstructor, List<RecordComponentInfo> components) {
+        MethodCreator method = classCreator.getMethodCreator("fromMap", Object.class, Map.class);
+        method.setModifiers(Modifier.PUBLIC);
+
+        ResultHandle parameters = method.getMethodParam(0);
+        ResultHandle[] arguments = new ResultHandle[components.size()];
+        for (int i = 0; i < components.size(); i++) {
+            RecordComponentInfo component = components.get(i);
+            ResultHandle rawValue = method.invokeInterfaceMethod(MAP_GET, parameters, method.load(component.name()));
+            arguments[i] = convertFromMapValue(method, rawValue, component.type());
+        }
+
+        method.returnValue(method.newInstance(MethodDescriptor.of(canonicalConstructor), arguments));
+    }
+
+    private void createToMapMethod(ClassCreator classCreator, String recordClassName, List<RecordComponentInfo> components) {
+        MethodCreator method = classCreator.getMethodCreator("toMap", Map.class, Object.class);
+        method.setModifiers(Modifier.PUBLIC);
+
+        ResultHandle typedRecord = method.checkCast(method.getMethodParam(0), recordClassName);
+        ResultHandle result = method.newInstance(MethodDescriptor.ofConstructor(HashMap.class));
+
+        for (RecordComponentInfo component : components) {
+            ResultHandle value = method.invokeVirtualMethod(MethodDescriptor.of(component.accessor()), typedRecord);
+            ResultHandle mapValue = method.invokeStaticMethod(
+                    MethodDescriptor.ofMethod(ParameterCodecSupport.class, "toMapValue", Object.class, mapValueParameterType(component.type())),
+                    value
+            );
+            method.invokeInterfaceMethod(MAP_PUT, result, method.load(component.name()), mapValue);
+        }
+
+        method.returnValue(result);
+    }
+
+    private ResultHandle convertFromMapValue(MethodCreator method, ResultHandle rawValue, Type type) {
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            return switch (type.asPrimitiveType().primitive()) {
+                case INT -> invokeSupport(method, "intValue", int.class, rawValue);
+                case LONG -> invokeSupport(method, "longValue", long.class, rawValue);
+                case DOUBLE -> invokeSupport(method, "doubleValue", double.class, rawValue);
+                case BOOLEAN -> invokeSupport(method, "booleanValue", boolean.class, rawValue);
+                default -> throw new IllegalStateException("Unsupported primitive type " + type);
+            };
+        }
+        if (type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            // EnumSet<E>, checked by isSupportedComponentType
+            String enumClassName = type.asParameterizedType().arguments().getFirst().name().toString();
+            return method.invokeStaticMethod(
+                    MethodDescriptor.ofMethod(ParameterCodecSupport.class, "toEnumSet", EnumSet.class, Class.class, Object.class),
+                    method.loadClass(enumClassName), rawValue);
+        }
+        return switch (type.name().toString()) {
+            case "java.lang.String" -> invokeSupport(method, "toStringValue", String.class, rawValue);
+            case "java.lang.Integer" -> invokeSupport(method, "toInteger", Integer.class, rawValue);
+            case "java.lang.Long" -> invokeSupport(method, "toLong", Long.class, rawValue);
+            case "java.lang.Double" -> invokeSupport(method, "toDouble", Double.class, rawValue);
+            case "java.lang.Boolean" -> invokeSupport(method, "toBoolean", Boolean.class, rawValue);
+            case "java.time.LocalDate" -> invokeSupport(method, "toLocalDate", LocalDate.class, rawValue);
+            case "java.time.LocalDateTime" -> invokeSupport(method, "toLocalDateTime", LocalDateTime.class, rawValue);
+            default -> {
+                String enumClassName = type.name().toString();
+                ResultHandle constant = method.invokeStaticMethod(
+                        MethodDescriptor.ofMethod(ParameterCodecSupport.class, "toEnum", Enum.class, Class.class, Object.class),
+                        method.loadClass(enumClassName), rawValue);
+                yield method.checkCast(constant, enumClassName);
+            }
+        };
+    }
+
+    private ResultHandle invokeSupport(MethodCreator method, String name, Class<?> returnType, ResultHandle rawValue) {
+        return method.invokeStaticMethod(MethodDescriptor.ofMethod(ParameterCodecSupport.class, name, returnType, Object.class), rawValue);
+    }
+
+    private Class<?> mapValueParameterType(Type type) {
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            return switch (type.asPrimitiveType().primitive()) {
+                case INT -> int.class;
+                case LONG -> long.class;
+                case DOUBLE -> double.class;
+                case BOOLEAN -> boolean.class;
+                default -> throw new IllegalStateException("Unsupported primitive type " + type);
+            };
+        }
+        return Object.class;
+    }
+
+    private boolean isSupportedComponentType(Type type) {
+        if (type == null || type.name() == null) {
+            return false;
+        }
+        return switch (type.kind()) {
+            case PRIMITIVE -> switch (type.asPrimitiveType().primitive()) {
+                case INT, LONG, DOUBLE, BOOLEAN -> true;
+                default -> false;
+            };
+            case CLASS -> switch (type.name().toString()) {
+                case "java.lang.String", "java.lang.Integer", "java.lang.Long", "java.lang.Double",
+                     "java.lang.Boolean", "java.time.LocalDate", "java.time.LocalDateTime" -> true;
+                default -> isAccessibleEnum(type.name());
+            };
+            case PARAMETERIZED_TYPE -> {
+                ParameterizedType parameterizedType = type.asParameterizedType();
+                yield "java.util.EnumSet".equals(parameterizedType.name().toString())
+                        && parameterizedType.arguments().size() == 1
+                        && parameterizedType.arguments().getFirst().kind() == Type.Kind.CLASS
+                        && isAccessibleEnum(parameterizedType.arguments().getFirst().name());
+            }
+            default -> false;
+        };
+    }
+
+    private boolean isAccessibleEnum(DotName name) {
+        ClassInfo classInfo = index.getClassByName(name);
+        return classInfo != null && classInfo.isEnum() && isAccessible(classInfo);
+    }
+
+    /**
+     * The generated codec lives in another package, so the class and all enclosing classes must be public.
+     */
+    private boolean isAccessible(ClassInfo classInfo) {
+        ClassInfo current = classInfo;
+        while (current != null) {
+            if (!Modifier.isPublic(current.flags())) {
+                return false;
+            }
+            DotName enclosingClass = current.enclosingClass();
+            current = enclosingClass != null ? index.getClassByName(enclosingClass) : null;
+        }
+        return true;
+    }
+
+    private boolean hasJacksonAnnotation(Collection<AnnotationInstance> annotations) {
+        return annotations.stream()
+                .anyMatch(annotation -> annotation.name().toString().startsWith(JACKSON_ANNOTATION_PACKAGE));
+    }
+
+    private String generatedCodecClassName(String recordClassName) {
+        long hash = Integer.toUnsignedLong(recordClassName.hashCode());
+        return "ch.css.jobrunr.control.generated.codec." + sanitizeClassName(recordClassName) + "_" + hash + "_ParameterCodec";
+    }
+
+    private String sanitizeClassName(String className) {
+        return className.replace('.', '_').replace('$', '_');
+    }
+}
@@ -1,18 +1,28 @@
 package ch.css.jobrunr.control.adapter.rest;
 
 import ch.css.jobrunr.control.adapter.rest.dto.BatchProgressDTO;
+import ch.css.jobrunr.control.adapter.rest.dto.JobStatusRequestDTO;
 import ch.css.jobrunr.control.adapter.rest.dto.JobStatusResponse;
 import ch.css.jobrunr.control.adapter.rest.dto.StartJobRequestDTO;
 import ch.css.jobrunr.control.adapter.rest.dto.StartJobResponse;
-import ch.css.jobrunr.control.application.monitoring.GetJobExecutionByIdUseCase;
+import ch.css.jobrunr.control.application.monitoring.GetJobStatusUseCase;
+import ch.css.jobrunr.control.application.monitoring.GetJobStatusesUseCase;
 import ch.css.jobrunr.control.application.scheduling.StartJobUseCase;
-import ch.css.jobrunr.control.domain.JobExecutionInfo;
+import ch.css.jobrunr.control.domain.JobExecutionStatusInfo;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.vertx.core.http.HttpServerResponse;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
@@ -22,8 +32,12 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import org.jboss.logging.Logger;
 
+import java.io.IOException;
 import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * REST API for controlling and monitoring jobs.
@@ -43,14 +57,20 @@ public class JobControlResource {
     private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ISO_INSTANT;
 
     private final StartJobUseCase startJobUseCase;
-    private final GetJobExecutionByIdUseCase getJobExecutionByIdUseCase;
+    private final GetJobStatusUseCase getJobStatusUseCase;
+    private final GetJobStatusesUseCase getJobStatusesUseCase;
+    private final ObjectMapper objectMapper;
 
     @Inject
     public JobControlResource(
             StartJobUseCase startJobUseCase,
-            GetJobExecutionByIdUseCase getJobExecutionByIdUseCase) {
+            GetJobStatusUseCase getJobStatusUseCase,
+            GetJobStatusesUseCase getJobStatusesUseCase,
+            ObjectMapper objectMapper) {
         this.startJobUseCase = startJobUseCase;
-        this.getJobExecutionByIdUseCase = getJobExecutionByIdUseCase;
+        this.getJobStatusUseCase = getJobStatusUseCase;
+        this.getJobStatusesUseCase = getJobStatusesUseCase;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -181,26 +201,115 @@ public class JobControlResource {
 
         LOG.debugf("Getting status for job: %s", jobId);
 
-        JobExecutionInfo executionInfo = getJobExecutionByIdUseCase.execute(jobId);
+        JobExecutionStatusInfo executionInfo = getJobStatusUseCase.execute(jobId);
 
-        BatchProgressDTO batchProgressDTO = getBatchProgressDTO(executionInfo);
+        return Response.ok(toJobStatusResponse(executionInfo)).build();
+    }
+
+    /**
+     * Gets the status of several job executions at once.
+     * The statuses are written as a JSON array while they are loaded, so the response is not buffered in full.
+     *
+     * @param request      Request body containing the job IDs to check
+     * @param httpResponse Response that is aborted if the job storage fails after the status line is sent
+     * @return Response streaming the status of every job that exists, in request order
+     */
+    @POST
+    @Path("/jobs/status")
+    @RolesAllowed({"api-reader", "api-executor", "admin"})
+    @Operation(
+            summary = "Get the status of several jobs",
+            description = "Returns the current status of up to " + GetJobStatusesUseCase.MAX_JOB_IDS + " job executions " +
+                    "as a streamed JSON array, in request order. Duplicate IDs are answered once, jobs that do not exist " +
+                    "are omitted. Batch jobs include progress information. If the job storage fails, the request fails: " +
+                    "with an error status while the first " + GetJobStatusesUseCase.CHUNK_SIZE + " jobs are read, " +
+                    "afterwards by aborting the connection before the array is closed."
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Job statuses retrieved successfully",
+                    content = @Content(schema = @Schema(type = SchemaType.ARRAY, implementation = JobStatusResponse.class))
+            ),
+            @APIResponse(
+                    responseCode = "400",
+                    description = "Missing job IDs or too many job IDs"
+            ),
+            @APIResponse(
+                    responseCode = "500",
+                    description = "Internal server error or job storage failure"
+            ),
+            @APIResponse(
+                    responseCode = "504",
+                    description = "Reading the jobs timed out"
+            )
+    })
+    public Response getJobStatuses(
+            @RequestBody(
+                    description = "IDs of the jobs to check",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = JobStatusRequestDTO.class))
+            )
+            JobStatusRequestDTO request,
+            @Context HttpServerResponse httpResponse) {
+
+        if (request == null) {
+            throw new BadRequestException("jobIds is required");
+        }
+        LOG.debugf("Getting status for %d jobs", request.jobIds() != null ? request.jobIds().size() : 0);
+
+        // Validates the IDs before the response is committed; the further chunks are loaded while streaming
+        Stream<List<JobExecutionStatusInfo>> chunks = getJobStatusesUseCase.execute(request.jobIds());
+        Iterator<List<JobExecutionStatusInfo>> remainingChunks = chunks.iterator();
+        // Loads the first chunk before the response is committed, so a storage failure there gets an error status
+        List<JobExecutionStatusInfo> firstChunk = remainingChunks.hasNext() ? remainingChunks.next() : List.of();
+        int jobCount = request.jobIds().size();
+        // Let the generator fill its buffer instead of flushing after every status
+        ObjectWriter itemWriter = objectMapper.writerFor(JobStatusResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingOutput body = output -> {
+            // The array must stay open if loading fails, so the client cannot take a partial array as complete
+            try (chunks; JsonGenerator generator = objectMapper.getFactory().createGenerator(output)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)) {
+                generator.writeStartArray();
+                writeStatuses(generator, itemWriter, firstChunk);
+                while (remainingChunks.hasNext()) {
+                    writeStatuses(generator, itemWriter, remainingChunks.next());
+                }
+                generator.writeEndArray();
+            } catch (RuntimeException e) {
+                // The status line is already sent, the client can only notice the failure by the aborted connection
+                LOG.errorf(e, "Streaming the status of %d jobs failed", jobCount);
+                httpResponse.reset();
+            }
+        };
+        return Response.ok(body, MediaType.APPLICATION_JSON_TYPE).build();
+    }
+
+    private static void writeStatuses(JsonGenerator generator,
+                                      ObjectWriter itemWriter,
+                                      List<JobExecutionStatusInfo> statuses) throws IOException {
+        for (JobExecutionStatusInfo status : statuses) {
+            itemWriter.writeValue(generator, toJobStatusResponse(status));
+        }
+    }
 
-        JobStatusResponse response = new JobStatusResponse(
-                executionInfo.getJobId().toString(),
-                executionInfo.getJobName(),
-                executionInfo.getJobType(),
-                executionInfo.getStatus(),
-                executionInfo.getStartedAt() != null ? ISO_FORMATTER.format(executionInfo.getStartedAt()) : null,
+    private static JobStatusResponse toJobStatusResponse(JobExecutionStatusInfo executionInfo) {
+        return new JobStatusResponse(
+                executionInfo.jobId().toString(),
+                executionInfo.jobName(),
+                executionInfo.jobType(),
+                executionInfo.status(),
+                executionInfo.startedAt() != null ? ISO_FORMATTER.format(executionInfo.startedAt()) : null,
                 executionInfo.getFinishedAt().map(ISO_FORMATTER::format).orElse(null),
-                batchProgressDTO,
+                getBatchProgressDTO(executionInfo),
                 executionInfo.result(),
                 executionInfo.resultCode()
         );
-
-        return Response.ok(response).build();
     }
 
-    private static BatchProgressDTO getBatchProgressDTO(JobExecutionInfo executionInfo) {
+    private static BatchProgressDTO getBatchProgressDTO(JobExecutionStatusInfo executionInfo) {
         return executionInfo.getBatchProgress()
                 .map(progress -> new BatchProgressDTO(
                         progress.total(),
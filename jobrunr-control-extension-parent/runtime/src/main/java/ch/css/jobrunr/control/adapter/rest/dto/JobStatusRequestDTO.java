@@ -0,0 +1,14 @@
+package ch.css.jobrunr.control.adapter.rest.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for checking the status of several jobs at once.
+ *
+ * @param jobIds IDs of the jobs to check
+ */
+public record JobStatusRequestDTO(
+        List<UUID> jobIds
+) {
+}
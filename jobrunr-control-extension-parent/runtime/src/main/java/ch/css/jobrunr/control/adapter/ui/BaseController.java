@@ -170,6 +170,59 @@ public abstract class BaseController {
             int size,
             Function<String, Comparator<ScheduledJobInfo>> comparatorSupplier) {
 
+        List<ScheduledJobInfo> sortedJobs = filterAndSort(jobs, jobType, search, sortBy, sortOrder, comparatorSupplier);
+
+        // Apply pagination
+        return PaginationHelper.paginate(sortedJobs, page, size);
+    }
+
+    /**
+     * Filters, searches and sorts a list of scheduled jobs and selects the page next to a cursor.
+     * The cursor is the job ID of the first (for "before") or last (for "after") row of the page
+     * the user navigated from; without a resolvable cursor the page number is used. The whole list is
+     * sorted on every request and the cursor row is found by a scan, so the cursor keeps rows from
+     * shifting between pages but does not make deep pages cheaper.
+     *
+     * @param jobs               the list of jobs to process
+     * @param jobType            optional job type filter
+     * @param search             optional search query
+     * @param sortBy             field to sort by
+     * @param sortOrder          sort order (asc/desc)
+     * @param page               page number, used without a resolvable cursor
+     * @param size               page size
+     * @param after              job ID of the row the page starts after, or null
+     * @param before             job ID of the row the page ends before, or null
+     * @param comparatorSupplier function to get comparator for sorting
+     * @return pagination result with the selected page and the cursors of its neighbours
+     */
+    @SuppressWarnings("java:S107")
+    protected PaginationHelper.PaginationResult<ScheduledJobInfo> filterSortAndPaginate(
+            List<ScheduledJobInfo> jobs,
+            String jobType,
+            String search,
+            String sortBy,
+            String sortOrder,
+            int page,
+            int size,
+            UUID after,
+            UUID before,
+            Function<String, Comparator<ScheduledJobInfo>> comparatorSupplier) {
+
+        List<ScheduledJobInfo> sortedJobs = filterAndSort(jobs, jobType, search, sortBy, sortOrder, comparatorSupplier);
+
+        // Select the page next to the cursor row, or by page number
+        UUID anchorId = after != null ? after : before;
+        return PaginationHelper.paginate(sortedJobs, page, size, ScheduledJobInfo::getJobId, anchorId, after == null && before != null);
+    }
+
+    private List<ScheduledJobInfo> filterAndSort(
+            List<ScheduledJobInfo> jobs,
+            String jobType,
+            String search,
+            String sortBy,
+            String sortOrder,
+            Function<String, Comparator<ScheduledJobInfo>> comparatorSupplier) {
+
         // Apply job type filter
         List<ScheduledJobInfo> filteredJobs = jobs;
         if (jobType != null && !jobType.isBlank() && !"all".equals(jobType)) {
@@ -181,17 +234,14 @@ public abstract class BaseController {
         // Apply search
         List<ScheduledJobInfo> searchedJobs = searchUtils.applySearchToScheduledJobs(search, filteredJobs);
 
-        // Apply sorting
+        // Apply sorting; the job ID breaks ties so the order is stable between requests
         Comparator<ScheduledJobInfo> comparator = comparatorSupplier.apply(sortBy);
         if ("desc".equalsIgnoreCase(sortOrder)) {
             comparator = comparator.reversed();
         }
-        List<ScheduledJobInfo> sortedJobs = searchedJobs.stream()
-                .sorted(comparator)
+        return searchedJobs.stream()
+                .sorted(comparator.thenComparing(ScheduledJobInfo::getJobId))
                 .toList();
-
-        // Apply pagination
-        return PaginationHelper.paginate(sortedJobs, page, size);
     }
 
     /**
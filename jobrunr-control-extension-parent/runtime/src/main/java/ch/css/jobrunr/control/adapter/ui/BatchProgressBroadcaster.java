@@ -0,0 +1,199 @@
+package ch.css.jobrunr.control.adapter.ui;
+
+import ch.css.jobrunr.control.application.monitoring.GetBatchProgressUseCase;
+import ch.css.jobrunr.control.domain.BatchProgress;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Pushes the progress of watched batch jobs to the execution history views.
+ * <p>
+ * Each batch with at least one subscriber is read by a single poller, independent of the number of viewers.
+ * The progress is rendered once and multicast to all subscribers of the batch, and only when it has changed
+ * since the previous poll. A new subscriber receives the last rendered progress right away. The poller stops
+ * when the last subscriber of the batch leaves.
+ * <p>
+ * A single timer thread triggers the polls, each poll reads the storage on a virtual thread of its own, so a slow
+ * batch does not delay the others. A batch whose previous poll is still running skips the tick.
+ */
+@ApplicationScoped
+public class BatchProgressBroadcaster {
+
+    private static final Logger LOG = Logger.getLogger(BatchProgressBroadcaster.class);
+
+    static final String NO_BATCH_HTML = "<small>Kein Batch-Job</small>";
+
+    private final GetBatchProgressUseCase getBatchProgressUseCase;
+    private final Function<BatchProgress, String> renderer;
+    private final ScheduledExecutorService scheduler;
+    private final Executor pollExecutor;
+    private final long pollMillis;
+    private final Map<UUID, Watch> watches = new ConcurrentHashMap<>();
+
+    @Inject
+    public BatchProgressBroadcaster(GetBatchProgressUseCase getBatchProgressUseCase, JobRunrControlUiConfig uiConfig) {
+        this(getBatchProgressUseCase,
+                progress -> JobExecutionsController.Components.batchProgress(progress).render(),
+                Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofVirtual().name("jobrunr-control-batch-progress").factory()),
+                Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name("jobrunr-control-batch-progress-poll-", 0).factory()),
+                uiConfig.batchProgressPushInterval());
+    }
+
+    BatchProgressBroadcaster(GetBatchProgressUseCase getBatchProgressUseCase,
+                             Function<BatchProgress, String> renderer,
+                             ScheduledExecutorService scheduler,
+                             Executor pollExecutor,
+                             Duration pollInterval) {
+        this.getBatchProgressUseCase = getBatchProgressUseCase;
+        this.renderer = renderer;
+        this.scheduler = scheduler;
+        this.pollExecutor = pollExecutor;
+        this.pollMillis = Math.max(100, pollInterval.toMillis());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        if (pollExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        watches.clear();
+    }
+
+    /**
+     * Subscribes to the progress of a batch job. The subscriber is called with the job ID and the rendered
+     * progress, from the poller thread. The last rendered progress is delivered right away, in order with the
+     * pushes of the poller, so a concurrent poll cannot be overtaken by an older progress.
+     *
+     * @param jobId      the batch job
+     * @param subscriber receives the rendered progress whenever it changes
+     * @return the action ending the subscription, may be run more than once
+     */
+    public Runnable subscribe(UUID jobId, BiConsumer<UUID, String> subscriber) {
+        Watch watch = watches.compute(jobId, (id, existing) -> {
+            Watch current = existing != null ? existing : startWatch(id);
+            current.subscribers.add(subscriber);
+            return current;
+        });
+        synchronized (watch) {
+            if (watch.lastHtml != null) {
+                deliver(subscriber, jobId, watch.lastHtml);
+            }
+        }
+        return () -> unsubscribe(jobId, subscriber);
+    }
+
+    /**
+     * Returns the number of batches currently polled.
+     */
+    int watchedBatches() {
+        return watches.size();
+    }
+
+    /**
+     * Reads the progress of a batch and multicasts it if it has changed.
+     */
+    void poll(UUID jobId) {
+        Watch watch = watches.get(jobId);
+        if (watch != null) {
+            poll(jobId, watch);
+        }
+    }
+
+    private void poll(UUID jobId, Watch watch) {
+        String html;
+        try {
+            html = getBatchProgressUseCase.execute(jobId).map(renderer).orElse(NO_BATCH_HTML);
+        } catch (RuntimeException e) {
+            // Don't throw - an exception would cancel the periodic poll of the batch
+            LOG.warnf(e, "Failed to read the progress of batch job %s", jobId);
+            return;
+        }
+        synchronized (watch) {
+            if (html.equals(watch.lastHtml)) {
+                return;
+            }
+            watch.lastHtml = html;
+            for (BiConsumer<UUID, String> subscriber : watch.subscribers) {
+                deliver(subscriber, jobId, html);
+            }
+        }
+    }
+
+    /**
+     * Starts a poll of the batch on the poll executor, unless the previous one is still running.
+     */
+    private void startPoll(UUID jobId, Watch watch) {
+        if (!watch.polling.compareAndSet(false, true)) {
+            LOG.debugf("Skipping a poll of batch job %s, the previous one is still running", jobId);
+            return;
+        }
+        try {
+            pollExecutor.execute(() -> {
+                try {
+                    poll(jobId, watch);
+                } finally {
+                    watch.polling.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Don't throw - the executor only rejects polls while shutting down
+            watch.polling.set(false);
+        }
+    }
+
+    private Watch startWatch(UUID jobId) {
+        Watch watch = new Watch();
+        // The first poll may run before the watch is registered, so it polls the watch instead of looking it up
+        watch.poller = scheduler.scheduleWithFixedDelay(() -> startPoll(jobId, watch), 0, pollMillis, TimeUnit.MILLISECONDS);
+        return watch;
+    }
+
+    private void unsubscribe(UUID jobId, BiConsumer<UUID, String> subscriber) {
+        watches.computeIfPresent(jobId, (id, watch) -> {
+            watch.subscribers.remove(subscriber);
+            if (!watch.subscribers.isEmpty()) {
+                return watch;
+            }
+            watch.poller.cancel(false);
+            return null;
+        });
+    }
+
+    private static void deliver(BiConsumer<UUID, String> subscriber, UUID jobId, String html) {
+        try {
+            subscriber.accept(jobId, html);
+        } catch (RuntimeException e) {
+            // Don't throw - one failing viewer must not stop the progress of the others
+            LOG.debugf(e, "Failed to push the progress of batch job %s", jobId);
+        }
+    }
+
+    private static final class Watch {
+        private final List<BiConsumer<UUID, String>> subscribers = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean polling = new AtomicBoolean();
+        private String lastHtml;
+        private ScheduledFuture<?> poller;
+    }
+}
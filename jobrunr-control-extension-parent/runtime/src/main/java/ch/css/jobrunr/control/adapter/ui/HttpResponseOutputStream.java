@@ -0,0 +1,143 @@
+package ch.css.jobrunr.control.adapter.ui;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Writes a download to a chunked Vert.x response from a blocking handler.
+ * <p>
+ * The bytes are sent in chunks of {@link #CHUNK_SIZE}. Before each chunk, the calling worker thread waits
+ * while the write queue of the response is full, so a slow client limits how much of the download is held
+ * in memory. {@link #close()} ends the response.
+ */
+public final class HttpResponseOutputStream extends OutputStream {
+
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+    private static final long DRAIN_POLL_MILLIS = 500;
+
+    private final HttpServerResponse response;
+    private final byte[] chunk = new byte[CHUNK_SIZE];
+    private int count;
+    private boolean closed;
+
+    public HttpResponseOutputStream(HttpServerResponse response) {
+        this.response = response;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        if (count == chunk.length) {
+            writeChunk();
+        }
+        chunk[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        ensureOpen();
+        int position = offset;
+        int remaining = length;
+        while (remaining > 0) {
+            if (count == chunk.length) {
+                writeChunk();
+            }
+            int copied = Math.min(remaining, chunk.length - count);
+            System.arraycopy(bytes, position, chunk, count, copied);
+            count += copied;
+            position += copied;
+            remaining -= copied;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        writeChunk();
+    }
+
+    /**
+     * Writes the remaining bytes and ends the response.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        writeChunk();
+        closed = true;
+        response.end();
+    }
+
+    /**
+     * Closes the connection without ending the response properly, so the client recognizes the download as incomplete.
+     */
+    public void abort() {
+        closed = true;
+        if (!response.ended() && !response.closed()) {
+            response.reset();
+        }
+    }
+
+    private void writeChunk() throws IOException {
+        if (count == 0) {
+            return;
+        }
+        awaitWritable();
+        response.write(Buffer.buffer(Arrays.copyOf(chunk, count)));
+        count = 0;
+    }
+
+    private void awaitWritable() throws IOException {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (true) {
+            if (response.closed()) {
+                throw new IOException("Client closed the connection");
+            }
+            if (!response.writeQueueFull()) {
+                return;
+            }
+            CompletableFuture<Void> drained = new CompletableFuture<>();
+            response.drainHandler(ignored -> drained.complete(null));
+            // The queue may have drained before the handler was registered
+            if (!response.writeQueueFull()) {
+                response.drainHandler(null);
+                return;
+            }
+            try {
+                drained.get(DRAIN_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the client");
+            } catch (ExecutionException e) {
+                throw new IOException("Failed to wait for the client", e.getCause());
+            } catch (TimeoutException e) {
+                if (System.nanoTime() > deadline) {
+                    throw new IOException("Client did not read the response within " + DRAIN_TIMEOUT);
+                }
+            } finally {
+                response.drainHandler(null);
+            }
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Response stream is closed");
+        }
+    }
+}
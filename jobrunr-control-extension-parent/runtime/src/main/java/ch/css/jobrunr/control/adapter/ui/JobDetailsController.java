@@ -5,19 +5,29 @@ import ch.css.jobrunr.control.application.details.GetJobDetailsMessageUseCase;
 import ch.css.jobrunr.control.application.details.GetJobDetailsParametersUseCase;
 import ch.css.jobrunr.control.application.details.GetJobDetailsRecapUseCase;
 import ch.css.jobrunr.control.domain.details.JobMessage;
+import ch.css.jobrunr.control.domain.details.JobMessageCursor;
 import ch.css.jobrunr.control.domain.details.JobMessageLevelSearch;
 import ch.css.jobrunr.control.domain.details.JobMessageSortOrder;
-import ch.css.jobrunr.control.domain.details.JobMessagesPaged;
+import ch.css.jobrunr.control.domain.details.JobMessagesSlice;
 import io.quarkus.qute.CheckedTemplate;
 import io.quarkus.qute.TemplateInstance;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.json.Json;
 import io.vertx.ext.web.RoutingContext;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Main Dashboard Controller.
@@ -26,6 +36,8 @@ import java.util.UUID;
 @ApplicationScoped
 public class JobDetailsController {
 
+    private static final Logger LOG = Logger.getLogger(JobDetailsController.class);
+
     private final GetJobDetailsParametersUseCase getJobDetailsParametersUseCase;
     private final GetJobDetailsRecapUseCase getJobDetailsRecapUseCase;
     private final GetJobDetailsMessageUseCase getJobDetailsMessageUseCase;
@@ -62,7 +74,7 @@ public class JobDetailsController {
 
         public static native TemplateInstance jobDetailsRecap(GetJobDetailsRecapUseCase.Result recap, boolean showBusinessStatus);
         public static native TemplateInstance jobDetailsParameter(GetJobDetailsParametersUseCase.Result parameter);
-        public static native TemplateInstance jobDetailsMessages(MessagesPaginationResult messages);
+        public static native TemplateInstance jobDetailsMessages(MessagesSliceResult messages);
     }
 
     public void handleIndex(RoutingContext ctx) {
@@ -120,15 +132,16 @@ public class JobDetailsController {
         if (!UiRoutingSupport.requireAnyRole(ctx, "viewer", "configurator", "admin")) {
             return;
         }
-        int page = UiRoutingSupport.intQueryParam(ctx, "page", 0);
         int size = UiRoutingSupport.intQueryParam(ctx, "size", 10);
+        int shown = UiRoutingSupport.intQueryParam(ctx, "shown", 0);
         UiRoutingSupport.renderHtml(ctx, buildMessagesTable(
                 UiRoutingSupport.queryParam(ctx, "jobId"),
                 UiRoutingSupport.queryParam(ctx, "jobType"),
                 UiRoutingSupport.queryParam(ctx, "search"),
                 UiRoutingSupport.queryParam(ctx, "textSearch"),
                 UiRoutingSupport.queryParam(ctx, "sortOrder"),
-                page,
+                PaginationHelper.decodeMessageCursor(UiRoutingSupport.queryParam(ctx, "after")),
+                shown,
                 size));
         plog.log();
     }
@@ -143,14 +156,35 @@ public class JobDetailsController {
         String textSearch = UiRoutingSupport.queryParam(ctx, "textSearch");
         JobMessageSortOrder sortOrder = parseSortOrder(UiRoutingSupport.queryParam(ctx, "sortOrder"));
 
-        String csvContent = getJobDetailsMessagesAsCsvUseCase.execute(
-                jobIdAsUUID(jobId), jobType, levelSearch, textSearch, sortOrder);
+        String gzipParam = UiRoutingSupport.queryParam(ctx, "gzip");
+        boolean gzip = gzipParam == null || gzipParam.isBlank()
+                ? uiConfig.compressMessageExport()
+                : Boolean.parseBoolean(gzipParam);
 
-        String fileName = "messages-" + jobId + ".csv";
-        ctx.response()
-                .putHeader("Content-Type", "text/csv; charset=utf-8")
-                .putHeader("Content-Disposition", "attachment; filename=\"" + fileName + "\"")
-                .end(csvContent);
+        String fileName = "messages-" + jobId + (gzip ? ".csv.gz" : ".csv");
+        HttpServerResponse response = ctx.response()
+                .setChunked(true)
+                .putHeader("Content-Type", gzip ? "application/gzip" : "text/csv; charset=utf-8")
+                .putHeader("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
+        HttpResponseOutputStream responseStream = new HttpResponseOutputStream(response);
+        try {
+            OutputStream out = gzip ? new GZIPOutputStream(responseStream, HttpResponseOutputStream.CHUNK_SIZE) : responseStream;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            getJobDetailsMessagesAsCsvUseCase.execute(
+                    jobIdAsUUID(jobId), jobType, levelSearch, textSearch, sortOrder, writer);
+            // Finishes the gzip stream and ends the response
+            writer.close();
+        } catch (IOException e) {
+            LOG.warnf("CSV export of job messages for jobId %s was aborted: %s", jobId, e.getMessage());
+            responseStream.abort();
+        } catch (RuntimeException e) {
+            if (!response.headWritten()) {
+                throw e;
+            }
+            // The status line is already sent, the client can only notice the failure by the aborted download
+            LOG.errorf(e, "CSV export of job messages for jobId %s failed", jobId);
+            responseStream.abort();
+        }
     }
 
     private TemplateInstance buildRecapTable(String jobId) {
@@ -174,18 +208,29 @@ public class JobDetailsController {
                                                 String search,
                                                 String textSearch,
                                                 String sortOrder,
-                                                int page,
+                                                JobMessageCursor after,
+                                                int shown,
                                                 int size) {
-        JobMessagesPaged result = getJobDetailsMessageUseCase.execute(
+        int sanitizedSize = size <= 0 ? 10 : size;
+        JobMessagesSlice result = getJobDetailsMessageUseCase.execute(
                 jobIdAsUUID(jobId),
                 jobType,
                 searchMessageLevel(search),
                 textSearch,
                 parseSortOrder(sortOrder),
-                page,
-                size
+                after,
+                sanitizedSize
         );
-        return JobDetailsController.Components.jobDetailsMessages(toMessagesPaginationResult(result));
+        // Without a cursor the whole component is rendered, otherwise only the next messages are appended
+        boolean append = after != null;
+        return JobDetailsController.Components.jobDetailsMessages(new MessagesSliceResult(
+                result.messages(),
+                PaginationHelper.encodeMessageCursor(result.nextCursor()),
+                (append ? Math.max(0, shown) : 0) + result.messages().size(),
+                result.totalMessages(),
+                sanitizedSize,
+                append
+        ));
     }
 
     private UUID jobIdAsUUID(String jobId) {
@@ -221,21 +266,25 @@ public class JobDetailsController {
         }
     }
 
-    private MessagesPaginationResult toMessagesPaginationResult(JobMessagesPaged jobMessagesPaged) {
-        PaginationHelper.PaginationMetadata paginationMetadata = PaginationHelper.createPaginationMetadata(
-                jobMessagesPaged.page(),
-                jobMessagesPaged.pageSize(),
-                jobMessagesPaged.totalMessages()
-        );
-        List<TemplateExtensions.PageItem> pageRange = TemplateExtensions.computePageRange(paginationMetadata);
-        return new MessagesPaginationResult(jobMessagesPaged.messages(), paginationMetadata, pageRange);
-    }
-
-    public record MessagesPaginationResult(
+    public record MessagesSliceResult(
             List<JobMessage> pageItems,
-            PaginationHelper.PaginationMetadata pagination,
-            List<TemplateExtensions.PageItem> pageRange
+            String nextCursor,
+            long shownMessages,
+            long totalMessages,
+            int size,
+            boolean append
     ) {
+
+        public boolean isEmpty() {
+            return !append && pageItems.isEmpty();
+        }
+
+        public boolean hasMore() {
+            return nextCursor != null;
+        }
+
+        public boolean isTotalKnown() {
+            return totalMessages != JobMessagesSlice.UNKNOWN_TOTAL;
+        }
     }
 }
-
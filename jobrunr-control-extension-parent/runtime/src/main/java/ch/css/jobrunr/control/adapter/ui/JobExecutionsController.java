@@ -3,11 +3,18 @@ package ch.css.jobrunr.control.adapter.ui;
 import ch.css.jobrunr.control.application.monitoring.GetBatchProgressUseCase;
 import ch.css.jobrunr.control.application.monitoring.GetJobExecutionHistoryUseCase;
 import ch.css.jobrunr.control.domain.BatchProgress;
+import ch.css.jobrunr.control.domain.JobExecutionCursor;
 import ch.css.jobrunr.control.domain.JobExecutionInfo;
+import ch.css.jobrunr.control.domain.JobExecutionPage;
+import ch.css.jobrunr.control.domain.JobExecutionQuery;
+import ch.css.jobrunr.control.domain.JobExecutionSortKey;
 import ch.css.jobrunr.control.domain.JobStatus;
 
 import io.quarkus.qute.CheckedTemplate;
 import io.quarkus.qute.TemplateInstance;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -15,8 +22,13 @@ import org.jboss.logging.Logger;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
 
 /**
  * UI Controller for job execution history.
@@ -26,6 +38,20 @@ import java.util.UUID;
 public class JobExecutionsController {
 
     private static final Logger LOG = Logger.getLogger(JobExecutionsController.class);
+    private static final int MAX_STREAMED_BATCHES = 100;
+    private static final long STREAM_HEARTBEAT_MILLIS = 15_000;
+    // UI sort fields of paged queries; which of them are available depends on the execution index
+    private static final Map<String, JobExecutionSortKey> SORT_KEYS = Map.of(
+            "createdAt", JobExecutionSortKey.CREATED_AT,
+            "startedAt", JobExecutionSortKey.STARTED_AT,
+            "finishedAt", JobExecutionSortKey.FINISHED_AT,
+            "jobType", JobExecutionSortKey.JOB_TYPE,
+            "status", JobExecutionSortKey.STATUS,
+            "jobName", JobExecutionSortKey.JOB_NAME,
+            "businessStatus", JobExecutionSortKey.BUSINESS_STATUS);
+    // UI sort fields of a free-text search, which is sorted in memory
+    private static final Set<String> SEARCH_SORT_FIELDS =
+            Set.of("startedAt", "finishedAt", "jobType", "status", "jobName", "businessStatus");
 
     @CheckedTemplate(basePath = "", defaultName = CheckedTemplate.HYPHENATED_ELEMENT_NAME)
     public static class Templates {
@@ -47,8 +73,10 @@ public class JobExecutionsController {
         public static native TemplateInstance executionHistoryTable(List<JobExecutionInfo> executions,
                                                                     PaginationHelper.PaginationMetadata pagination,
                                                                     List<TemplateExtensions.PageItem> pageRange,
+                                                                    PaginationHelper.PageCursors cursors,
                                                                     String search, String statusFilter,
                                                                     String sortBy, String sortOrder,
+                                                                    Set<String> sortableColumns,
                                                                     boolean showUuid, boolean showBusinessStatus, String host, String port);
 
         public static native TemplateInstance batchProgress(BatchProgress progress);
@@ -56,6 +84,7 @@ public class JobExecutionsController {
 
     private final GetJobExecutionHistoryUseCase getHistoryUseCase;
     private final GetBatchProgressUseCase getBatchProgressUseCase;
+    private final BatchProgressBroadcaster batchProgressBroadcaster;
     private final JobRunrControlUiConfig uiConfig;
     private final JobSearchUtils searchUtils;
 
@@ -63,9 +92,11 @@ public class JobExecutionsController {
     public JobExecutionsController(
             GetJobExecutionHistoryUseCase getHistoryUseCase,
             GetBatchProgressUseCase getBatchProgressUseCase,
+            BatchProgressBroadcaster batchProgressBroadcaster,
             JobRunrControlUiConfig uiConfig, JobSearchUtils searchUtils) {
         this.getHistoryUseCase = getHistoryUseCase;
         this.getBatchProgressUseCase = getBatchProgressUseCase;
+        this.batchProgressBroadcaster = batchProgressBroadcaster;
         this.uiConfig = uiConfig;
         this.searchUtils = searchUtils;
     }
@@ -86,35 +117,46 @@ public class JobExecutionsController {
         String statusFilter = UiRoutingSupport.queryParam(ctx, "status-filter", "all");
         int page = UiRoutingSupport.intQueryParam(ctx, "page", 0);
         int size = UiRoutingSupport.intQueryParam(ctx, "size", 10);
-        String sortBy = UiRoutingSupport.queryParam(ctx, "sortBy", "startedAt");
+        boolean searching = search != null && !search.isBlank();
+        Set<String> sortableColumns = searching ? SEARCH_SORT_FIELDS : pagedSortFields();
+        // Without the execution index the job storage can only sort by creation time
+        String sortBy = UiRoutingSupport.queryParam(ctx, "sortBy",
+                sortableColumns.contains("startedAt") ? "startedAt" : "createdAt");
         String sortOrder = UiRoutingSupport.queryParam(ctx, "sortOrder", "desc");
+        String after = UiRoutingSupport.queryParam(ctx, "after");
+        String before = UiRoutingSupport.queryParam(ctx, "before");
 
-        LOG.infof("handleTable page=%d, size=%d, sortBy=%s, sortOrder=%s, search=%s, statusFilter=%s",
-                page, size, sortBy, sortOrder, search, statusFilter);
+        LOG.infof("handleTable page=%d, size=%d, after=%s, before=%s, sortBy=%s, sortOrder=%s, search=%s, statusFilter=%s",
+                page, size, after, before, sortBy, sortOrder, search, statusFilter);
 
         String host = ctx.request().authority() != null ? ctx.request().authority().host() : "";
         String port = ctx.request().authority() != null ? String.valueOf(ctx.request().authority().port()) : "";
 
-        List<JobExecutionInfo> executions = getHistoryUseCase.execute();
-
-        if (statusFilter != null && !"all".equals(statusFilter)) {
-            final JobStatus filterStatus = JobStatus.valueOf(statusFilter);
-            executions = executions.stream()
-                    .filter(e -> e.getStatus() == filterStatus)
-                    .toList();
+        if (!sortableColumns.contains(sortBy)) {
+            LOG.debugf("Rejecting sort by %s, it is not available", sortBy);
+            ctx.fail(400);
+            return;
         }
 
-        executions = searchUtils.applySearchToExecutions(search, executions);
+        JobStatus filterStatus = statusFilter != null && !"all".equals(statusFilter) ? JobStatus.valueOf(statusFilter) : null;
 
-        Comparator<JobExecutionInfo> comparator = getExecutionComparator(sortBy);
-        if ("desc".equalsIgnoreCase(sortOrder)) {
-            comparator = comparator.reversed();
+        PaginationHelper.PaginationResult<JobExecutionInfo> paginationResult;
+        if (!searching) {
+            // Filtering, sorting and paging are evaluated by the execution index or the job storage
+            JobExecutionCursor cursor = after != null
+                    ? PaginationHelper.decodeCursor(after, false)
+                    : PaginationHelper.decodeCursor(before, true);
+            JobExecutionPage executionPage = getHistoryUseCase.execute(new JobExecutionQuery(
+                    filterStatus, null, SORT_KEYS.get(sortBy), "asc".equalsIgnoreCase(sortOrder), page, size, cursor));
+            paginationResult = PaginationHelper.ofKeysetPage(
+                    executionPage.executions(), page, size, executionPage.totalElements(),
+                    new PaginationHelper.PageCursors(
+                            PaginationHelper.encodeCursor(executionPage.previous()),
+                            PaginationHelper.encodeCursor(executionPage.next())));
+        } else {
+            // Free-text search matches parameters and metadata and needs the full history in memory
+            paginationResult = filterSortAndPaginate(getHistoryUseCase.execute(), filterStatus, search, sortBy, sortOrder, page, size);
         }
-        executions = executions.stream()
-                .sorted(comparator)
-                .toList();
-
-        PaginationHelper.PaginationResult<JobExecutionInfo> paginationResult = PaginationHelper.paginate(executions, page, size);
 
         LOG.infof("Returning %d executions to template (expected max: %d)", paginationResult.pageItems().size(), size);
 
@@ -122,10 +164,12 @@ public class JobExecutionsController {
                 paginationResult.pageItems(),
                 paginationResult.metadata(),
                 paginationResult.pageRange(),
+                paginationResult.cursors(),
                 search != null ? search : "",
                 statusFilter,
                 sortBy,
                 sortOrder,
+                sortableColumns,
                 uiConfig.showJobUuid(),
                 uiConfig.showBusinessStatus(),
                 host,
@@ -147,6 +191,105 @@ public class JobExecutionsController {
         }
     }
 
+    /**
+     * Streams the progress of the batch jobs given by the {@code id} query parameters as server-sent events.
+     * Each event carries the job ID and the rendered progress; it is sent whenever the progress of a batch changes.
+     * Only running batch jobs are polled; every other ID gets a single event without progress.
+     * The stream stays open until the client disconnects.
+     */
+    public void handleBatchProgressStream(RoutingContext ctx) {
+        if (!UiRoutingSupport.requireAnyRole(ctx, "viewer", "configurator", "admin")) {
+            return;
+        }
+        List<UUID> jobIds = ctx.queryParam("id").stream()
+                .map(JobExecutionsController::parseUuid)
+                .filter(Objects::nonNull)
+                .distinct()
+                .limit(MAX_STREAMED_BATCHES)
+                .toList();
+        Set<UUID> runningBatches = getBatchProgressUseCase.findRunningBatches(jobIds);
+
+        HttpServerResponse response = ctx.response();
+        response.setChunked(true);
+        response.putHeader(HttpHeaders.CONTENT_TYPE, "text/event-stream");
+        response.putHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.write(": connected\n\n");
+
+        List<Runnable> subscriptions = new CopyOnWriteArrayList<>();
+        // Comments keep proxies from closing an idle stream and reveal disconnected clients
+        long heartbeat = ctx.vertx().setPeriodic(STREAM_HEARTBEAT_MILLIS, timerId -> {
+            if (!response.closed()) {
+                response.write(":\n\n");
+            }
+        });
+        Runnable unsubscribe = () -> {
+            ctx.vertx().cancelTimer(heartbeat);
+            subscriptions.forEach(Runnable::run);
+        };
+        response.closeHandler(ignored -> unsubscribe.run());
+        for (UUID jobId : jobIds) {
+            if (runningBatches.contains(jobId)) {
+                subscriptions.add(batchProgressBroadcaster.subscribe(jobId, (id, html) -> sendProgressEvent(response, id, html)));
+            } else {
+                sendProgressEvent(response, jobId, BatchProgressBroadcaster.NO_BATCH_HTML);
+            }
+        }
+        // The client may have left before the close handler was registered
+        if (response.closed()) {
+            unsubscribe.run();
+        }
+    }
+
+    private static void sendProgressEvent(HttpServerResponse response, UUID jobId, String html) {
+        // A client that does not keep up skips updates, the next change carries the full progress again
+        if (response.closed() || response.writeQueueFull()) {
+            return;
+        }
+        String data = new JsonObject().put("jobId", jobId.toString()).put("html", html).encode();
+        response.write("data: " + data + "\n\n");
+    }
+
+    private static UUID parseUuid(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private PaginationHelper.PaginationResult<JobExecutionInfo> filterSortAndPaginate(
+            List<JobExecutionInfo> executions, JobStatus filterStatus, String search,
+            String sortBy, String sortOrder, int page, int size) {
+        if (filterStatus != null) {
+            executions = executions.stream()
+                    .filter(e -> e.getStatus() == filterStatus)
+                    .toList();
+        }
+
+        executions = searchUtils.applySearchToExecutions(search, executions);
+
+        Comparator<JobExecutionInfo> comparator = getExecutionComparator(sortBy);
+        if ("desc".equalsIgnoreCase(sortOrder)) {
+            comparator = comparator.reversed();
+        }
+        executions = executions.stream()
+                .sorted(comparator)
+                .toList();
+
+        return PaginationHelper.paginate(executions, page, size);
+    }
+
+    /**
+     * Returns the UI sort fields a paged query can currently be sorted by.
+     * Sorts that cannot be pushed down are not offered, rather than being served in another order.
+     */
+    private Set<String> pagedSortFields() {
+        return SORT_KEYS.entrySet().stream()
+                .filter(entry -> getHistoryUseCase.isSortable(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
     private Comparator<JobExecutionInfo> getExecutionComparator(String sortBy) {
         return switch (sortBy) {
             case "jobName" -> Comparator.comparing(JobExecutionInfo::getJobName, String.CASE_INSENSITIVE_ORDER);
@@ -143,6 +143,11 @@ public class JobRunrControlRouteRecorder {
                 () -> controller(JobExecutionsController.class).handleBatchProgress(ctx));
     }
 
+    public Handler<RoutingContext> historyBatchProgressStream() {
+        return ctx -> UiRoutingSupport.withRequestContext(ctx,
+                () -> controller(JobExecutionsController.class).handleBatchProgressStream(ctx));
+    }
+
     // ---------------- Dashboard ----------------
 
     public Handler<RoutingContext> jobDetailsIndex() {
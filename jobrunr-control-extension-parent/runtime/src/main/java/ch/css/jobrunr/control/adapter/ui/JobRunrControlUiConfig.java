@@ -5,6 +5,8 @@ import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 
+import java.time.Duration;
+
 /**
  * Runtime configuration for the JobRunr Control UI.
  */
@@ -25,4 +27,19 @@ public interface JobRunrControlUiConfig {
      */
     @WithDefault("false")
     boolean showBusinessStatus();
+
+    /**
+     * Whether the CSV export of job messages is gzip-compressed unless the request sets the {@code gzip} parameter.
+     * Default: false
+     */
+    @WithDefault("false")
+    boolean compressMessageExport();
+
+    /**
+     * Interval in which the progress of a batch watched in the execution history is read and pushed to all viewers.
+     * The progress of a batch is read once per interval, independent of the number of viewers.
+     * Default: PT2S
+     */
+    @WithDefault("PT2S")
+    Duration batchProgressPushInterval();
 }
@@ -1,6 +1,16 @@
 package ch.css.jobrunr.control.adapter.ui;
 
+import ch.css.jobrunr.control.domain.JobExecutionCursor;
+import ch.css.jobrunr.control.domain.JobExecutionSortKey;
+import ch.css.jobrunr.control.domain.details.JobMessageCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * Helper class for pagination logic shared across UI controllers.
@@ -74,7 +84,23 @@ public final class PaginationHelper {
      * @param <T> Type of items being paginated
      */
     public record PaginationResult<T>(List<T> pageItems, PaginationMetadata metadata,
-                                      List<TemplateExtensions.PageItem> pageRange) {
+                                      List<TemplateExtensions.PageItem> pageRange, PageCursors cursors) {
+
+        public PaginationResult(List<T> pageItems, PaginationMetadata metadata, List<TemplateExtensions.PageItem> pageRange) {
+            this(pageItems, metadata, pageRange, PageCursors.NONE);
+        }
+    }
+
+    /**
+     * Opaque keyset cursors for the previous and next page links.
+     * A null cursor means the link pages by page number only.
+     *
+     * @param previous Cursor for the "before" query parameter
+     * @param next     Cursor for the "after" query parameter
+     */
+    public record PageCursors(String previous, String next) {
+
+        public static final PageCursors NONE = new PageCursors(null, null);
     }
 
     /**
@@ -97,4 +123,194 @@ public final class PaginationHelper {
 
         return new PaginationResult<>(pageItems, metadata, pageRange);
     }
+
+    /**
+     * Wraps an already paginated list of items (e.g. loaded page-wise from storage).
+     *
+     * @param pageItems     Items of the current page
+     * @param page          Current page number (0-based)
+     * @param size          Page size
+     * @param totalElements Total number of elements across all pages
+     * @param <T>           Type of items
+     * @return PaginationResult containing page items and metadata
+     */
+    public static <T> PaginationResult<T> ofPage(List<T> pageItems, int page, int size, long totalElements) {
+        PaginationMetadata metadata = createPaginationMetadata(page, size, totalElements);
+        List<TemplateExtensions.PageItem> pageRange = TemplateExtensions.computePageRange(metadata);
+        return new PaginationResult<>(pageItems, metadata, pageRange);
+    }
+
+    /**
+     * Wraps a page that was selected by keyset cursor.
+     * The page number is only used for display and for the numbered page links; it is clamped to
+     * the last page because rows may have disappeared since the cursor was issued.
+     *
+     * @param pageItems     Items of the current page
+     * @param page          Page number (0-based) as carried along with the cursor
+     * @param size          Page size
+     * @param totalElements Total number of elements across all pages
+     * @param cursors       Cursors for the previous and next page
+     * @param <T>           Type of items
+     * @return PaginationResult containing page items, metadata and cursors
+     */
+    public static <T> PaginationResult<T> ofKeysetPage(List<T> pageItems, int page, int size, long totalElements,
+                                                       PageCursors cursors) {
+        int lastPage = Math.max(0, (int) Math.ceil((double) totalElements / size) - 1);
+        PaginationMetadata metadata = createPaginationMetadata(Math.min(page, lastPage), size, totalElements);
+        List<TemplateExtensions.PageItem> pageRange = TemplateExtensions.computePageRange(metadata);
+        return new PaginationResult<>(pageItems, metadata, pageRange, cursors);
+    }
+
+    /**
+     * Applies cursor-style navigation to a fully sorted, in-memory list of items.
+     * The page starts right after (or ends right before) the item with the given anchor ID, so rows
+     * inserted or removed elsewhere do not shift the page. The anchor is found by a linear scan, so like
+     * paging by number every page costs a pass over the whole list. If no anchor is given or the anchor
+     * item no longer exists, the page number is used instead.
+     *
+     * @param items      Sorted list of all items
+     * @param page       Page number (0-based), used without a resolvable anchor
+     * @param size       Page size
+     * @param idFunction Extracts the unique ID of an item
+     * @param anchorId   ID of the boundary item of the previous request, or null
+     * @param backward   Whether the page before the anchor is requested
+     * @param <T>        Type of items
+     * @return PaginationResult containing page items, metadata and cursors
+     */
+    public static <T> PaginationResult<T> paginate(List<T> items, int page, int size,
+                                                   Function<T, UUID> idFunction, UUID anchorId, boolean backward) {
+        int anchorIndex = anchorId == null ? -1 : indexOf(items, idFunction, anchorId);
+        int lastPage = Math.max(0, (int) Math.ceil((double) items.size() / size) - 1);
+
+        int start;
+        int end;
+        if (anchorIndex < 0) {
+            start = Math.min(page, lastPage) * size;
+            end = Math.min(start + size, items.size());
+        } else if (backward) {
+            // Never includes the anchor itself, even if fewer than a full page precede it
+            start = Math.max(0, anchorIndex - size);
+            end = anchorIndex;
+        } else {
+            start = Math.min(anchorIndex + 1, items.size());
+            end = Math.min(start + size, items.size());
+        }
+        List<T> pageItems = items.subList(start, end);
+
+        PaginationMetadata metadata = keysetMetadata(start, end, size, items.size());
+        List<TemplateExtensions.PageItem> pageRange = TemplateExtensions.computePageRange(metadata);
+        PageCursors cursors = pageItems.isEmpty() ? PageCursors.NONE : new PageCursors(
+                idFunction.apply(pageItems.getFirst()).toString(),
+                idFunction.apply(pageItems.getLast()).toString());
+
+        return new PaginationResult<>(pageItems, metadata, pageRange, cursors);
+    }
+
+    /**
+     * Encodes an execution history cursor into a URL-safe token.
+     *
+     * @param cursor the cursor, may be null
+     * @return the token, or null if no cursor is given
+     */
+    public static String encodeCursor(JobExecutionCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.sortKey().name() + "|" + cursor.jobId()
+                + (cursor.sortValue() != null ? "|" + cursor.sortValue() : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token created by {@link #encodeCursor(JobExecutionCursor)}.
+     *
+     * @param token    the token from the "after" or "before" query parameter, may be null
+     * @param backward whether the token was passed as "before"
+     * @return the cursor, or null if the token is missing or malformed
+     */
+    public static JobExecutionCursor decodeCursor(String token, boolean backward) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length < 2) {
+                return null;
+            }
+            return new JobExecutionCursor(JobExecutionSortKey.valueOf(parts[0]), parts.length == 3 ? parts[2] : null,
+                    UUID.fromString(parts[1]), backward);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Encodes a job message cursor into a URL-safe token.
+     *
+     * @param cursor the cursor, may be null
+     * @return the token, or null if no cursor is given
+     */
+    public static String encodeMessageCursor(JobMessageCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.createdAt() + "|" + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token created by {@link #encodeMessageCursor(JobMessageCursor)}.
+     *
+     * @param token the token from the "after" query parameter, may be null
+     * @return the cursor, or null if the token is missing or malformed
+     */
+    public static JobMessageCursor decodeMessageCursor(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length < 2) {
+                return null;
+            }
+            return new JobMessageCursor(Instant.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static <T> int indexOf(List<T> items, Function<T, UUID> idFunction, UUID id) {
+        for (int i = 0; i < items.size(); i++) {
+            if (id.equals(idFunction.apply(items.get(i)))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static PaginationMetadata keysetMetadata(int start, int end, int size, int totalElements) {
+        int totalPages = Math.max(1, (int) Math.ceil((double) totalElements / size));
+        int lastPage = totalPages - 1;
+        int page = Math.min((start + size - 1) / size, lastPage);
+        boolean isEmpty = totalElements == 0;
+        boolean hasNext = end < totalElements;
+        boolean hasPrevious = start > 0;
+
+        return new PaginationMetadata(
+                page,
+                size,
+                totalElements,
+                totalPages,
+                hasNext,
+                hasPrevious,
+                hasNext ? Math.min(page + 1, lastPage) : page,
+                hasPrevious ? Math.max(page - 1, 0) : 0,
+                lastPage,
+                isEmpty,
+                isEmpty ? 0 : start + 1,
+                end
+        );
+    }
 }
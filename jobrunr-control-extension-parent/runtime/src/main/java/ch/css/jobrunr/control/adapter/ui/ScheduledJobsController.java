@@ -52,6 +52,7 @@ public class ScheduledJobsController extends BaseController {
         public static native TemplateInstance scheduledJobsTable(List<ScheduledJobInfoView> jobs,
                                                                  PaginationHelper.PaginationMetadata pagination,
                                                                  List<TemplateExtensions.PageItem> pageRange,
+                                                                 PaginationHelper.PageCursors cursors,
                                                                  String search, String filter, String jobType,
                                                                  String sortBy, String sortOrder,
                                                                  boolean showUuid);
@@ -131,6 +132,8 @@ public class ScheduledJobsController extends BaseController {
                 UiRoutingSupport.queryParam(ctx, "jobType"),
                 UiRoutingSupport.intQueryParam(ctx, "page", 0),
                 UiRoutingSupport.intQueryParam(ctx, "size", 10),
+                UiRoutingSupport.uuidQueryParam(ctx, "after"),
+                UiRoutingSupport.uuidQueryParam(ctx, "before"),
                 UiRoutingSupport.queryParam(ctx, "sortBy", "scheduledAt"),
                 UiRoutingSupport.queryParam(ctx, "sortOrder", "asc")));
     }
@@ -282,9 +285,10 @@ public class ScheduledJobsController extends BaseController {
 
     @SuppressWarnings("java:S107")
     private TemplateInstance buildScheduledJobsTable(String search, String filter, String jobType,
-                                                     int page, int size, String sortBy, String sortOrder) {
-        LOG.infof("buildScheduledJobsTable page=%d, size=%d, sortBy=%s, sortOrder=%s, search=%s, filter=%s, jobType=%s",
-                page, size, sortBy, sortOrder, search, filter, jobType);
+                                                     int page, int size, UUID after, UUID before,
+                                                     String sortBy, String sortOrder) {
+        LOG.infof("buildScheduledJobsTable page=%d, size=%d, after=%s, before=%s, sortBy=%s, sortOrder=%s, search=%s, filter=%s, jobType=%s",
+                page, size, after, before, sortBy, sortOrder, search, filter, jobType);
 
         List<ScheduledJobInfo> jobs = getScheduledJobsUseCase.execute();
 
@@ -303,7 +307,7 @@ public class ScheduledJobsController extends BaseController {
         }
 
         PaginationHelper.PaginationResult<ScheduledJobInfo> paginationResult =
-                filterSortAndPaginate(jobs, jobType, search, sortBy, sortOrder, page, size, this::getComparator);
+                filterSortAndPaginate(jobs, jobType, search, sortBy, sortOrder, page, size, after, before, this::getComparator);
 
         List<ScheduledJobInfoView> jobViews = paginationResult.pageItems().stream()
                 .map(job -> toView(job, resolveParametersUseCase))
@@ -315,6 +319,7 @@ public class ScheduledJobsController extends BaseController {
                 jobViews,
                 paginationResult.metadata(),
                 paginationResult.pageRange(),
+                paginationResult.cursors(),
                 search != null ? search : "",
                 filter,
                 jobType != null ? jobType : "all",
@@ -329,6 +334,6 @@ public class ScheduledJobsController extends BaseController {
     }
 
     private TemplateInstance getDefaultScheduledJobsTable() {
-        return buildScheduledJobsTable(null, "all", null, 0, 10, "scheduledAt", "asc");
+        return buildScheduledJobsTable(null, "all", null, 0, 10, null, null, "scheduledAt", "asc");
     }
 }
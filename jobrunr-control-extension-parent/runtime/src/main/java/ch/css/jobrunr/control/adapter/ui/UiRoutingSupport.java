@@ -150,6 +150,18 @@ public final class UiRoutingSupport {
         }
     }
 
+    public static UUID uuidQueryParam(RoutingContext ctx, String name) {
+        String raw = ctx.request().getParam(name);
+        if (raw == null || raw.isBlank()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(raw);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     public static UUID pathUuid(RoutingContext ctx, String name) {
         String raw = ctx.pathParam(name);
         return raw != null ? UUID.fromString(raw) : null;
@@ -33,11 +33,27 @@ public class GetJobDetailsMessageUseCase {
                                             JobMessageSortOrder sortOrder,
                                             int page,
                                             int size) {
+        return resolveProvider(jobId, jobType).searchJobMessages(jobId, search, textSearch, sortOrder, page, size);
+    }
+
+    /**
+     * Reads the messages following a cursor, e.g. for "load more" in the messages view.
+     */
+    public JobMessagesSlice execute(UUID jobId,
+                                    String jobType,
+                                    JobMessageLevelSearch search,
+                                    String textSearch,
+                                    JobMessageSortOrder sortOrder,
+                                    JobMessageCursor after,
+                                    int limit) {
+        return resolveProvider(jobId, jobType).searchJobMessagesAfter(jobId, search, textSearch, sortOrder, after, limit);
+    }
+
+    private JobMessageProvider resolveProvider(UUID jobId, String jobType) {
         Job jobById = storageProvider.getJobById(jobId);
         if (jobById.isBatchJob()) {
             JobDefinition jobDefinition = jobDefinitionDiscoveryService.requireJobByType(jobType);
-            JobMessageProvider provider = jobDetailsProviderRegistry.getMessageProvider(jobDefinition.jobDetailPage() != null ? jobDefinition.jobDetailPage().messageProviderKey() : null);
-            return provider.searchJobMessages(jobId, search, textSearch, sortOrder, page, size);
+            return jobDetailsProviderRegistry.getMessageProvider(jobDefinition.jobDetailPage() != null ? jobDefinition.jobDetailPage().messageProviderKey() : null);
         } else {
             throw new IllegalStateException("Job with ID " + jobId + " is not a batch job");
         }
@@ -7,21 +7,24 @@ import ch.css.jobrunr.control.domain.details.JobMessage;
 import ch.css.jobrunr.control.domain.details.JobMessageLevelSearch;
 import ch.css.jobrunr.control.domain.details.JobMessageProvider;
 import ch.css.jobrunr.control.domain.details.JobMessageSortOrder;
-import ch.css.jobrunr.control.domain.details.JobMessagesPaged;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.jboss.logging.Logger;
 import org.jobrunr.jobs.Job;
 import org.jobrunr.storage.StorageProvider;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Use case for downloading all job messages matching a filter as a CSV document.
  * <p>
- * Returns the CSV content as a {@link String}. The caller is responsible for
- * setting the appropriate HTTP response headers (Content-Type, Content-Disposition).
+ * Writes the CSV rows to a {@link Writer} while the messages are read, so the export
+ * is not limited in size and does not build the document in memory. The caller is
+ * responsible for setting the appropriate HTTP response headers (Content-Type, Content-Disposition).
  * <p>
  * CSV column order: Zeitstempel, Level, jobId, Message, StackTrace
  */
@@ -30,9 +33,6 @@ public class GetJobDetailsMessagesAsCsvUseCase {
 
     private static final Logger LOG = Logger.getLogger(GetJobDetailsMessagesAsCsvUseCase.class);
 
-    /** Maximum number of rows exported to avoid excessive memory consumption. */
-    static final int MAX_EXPORT_SIZE = 100_000;
-
     private static final String CSV_HEADER = "Zeitstempel,Level,jobId,Message,StackTrace\r\n";
 
     private final StorageProvider storageProvider;
@@ -49,21 +49,24 @@ public class GetJobDetailsMessagesAsCsvUseCase {
     }
 
     /**
-     * Fetches all messages for the given job that match the supplied filter and
-     * returns them as an RFC 4180-compliant CSV string.
+     * Writes all messages for the given job that match the supplied filter
+     * as RFC 4180-compliant CSV rows to the writer.
      *
      * @param jobId      the UUID of the batch job
      * @param jobType    the job type identifier used for provider lookup
      * @param levelSearch  level filter to apply
      * @param textSearch   free-text search term (may be {@code null} or blank)
      * @param sortOrder  sort order applied to the export
-     * @return CSV content including header row
+     * @param writer     receives the CSV content including header row; it is not closed
+     * @return the number of exported messages
+     * @throws IOException if writing fails, e.g. because the client aborted the download
      */
-    public String execute(UUID jobId,
-                          String jobType,
-                          JobMessageLevelSearch levelSearch,
-                          String textSearch,
-                          JobMessageSortOrder sortOrder) {
+    public long execute(UUID jobId,
+                        String jobType,
+                        JobMessageLevelSearch levelSearch,
+                        String textSearch,
+                        JobMessageSortOrder sortOrder,
+                        Writer writer) throws IOException {
         LOG.infof("Generating CSV export for jobId %s, level=%s, textSearch=%s", jobId, levelSearch, textSearch);
 
         Job jobById = storageProvider.getJobById(jobId);
@@ -75,23 +78,36 @@ public class GetJobDetailsMessagesAsCsvUseCase {
         JobMessageProvider provider = jobDetailsProviderRegistry.getMessageProvider(
                 jobDefinition.jobDetailPage() != null ? jobDefinition.jobDetailPage().messageProviderKey() : null);
 
-        JobMessagesPaged result = provider.searchJobMessages(jobId, levelSearch, textSearch, sortOrder, 0, MAX_EXPORT_SIZE);
-        LOG.infof("Exporting %d of %d messages for jobId %s", result.messages().size(), result.totalMessages(), jobId);
-
-        return buildCsv(result.messages());
+        writer.write(CSV_HEADER);
+        AtomicLong exported = new AtomicLong();
+        try {
+            provider.forEachJobMessage(jobId, levelSearch, textSearch, sortOrder, message -> {
+                try {
+                    writeRow(writer, message);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                exported.incrementAndGet();
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        LOG.infof("Exported %d messages for jobId %s", exported.get(), jobId);
+        return exported.get();
     }
 
-    private String buildCsv(List<JobMessage> messages) {
-        StringBuilder sb = new StringBuilder(CSV_HEADER);
-        for (JobMessage msg : messages) {
-            sb.append(escapeCsv(msg.createdAtFormatted())).append(',');
-            sb.append(escapeCsv(msg.messageLevel().name())).append(',');
-            sb.append(escapeCsv(msg.jobId() != null ? msg.jobId().toString() : "")).append(',');
-            sb.append(escapeCsv(msg.message())).append(',');
-            sb.append(escapeCsv(msg.stackTrace() != null ? msg.stackTrace() : ""));
-            sb.append("\r\n");
-        }
-        return sb.toString();
+    private void writeRow(Writer writer, JobMessage msg) throws IOException {
+        writer.write(escapeCsv(msg.createdAtFormatted()));
+        writer.write(',');
+        writer.write(escapeCsv(msg.messageLevel().name()));
+        writer.write(',');
+        writer.write(escapeCsv(msg.jobId() != null ? msg.jobId().toString() : ""));
+        writer.write(',');
+        writer.write(escapeCsv(msg.message()));
+        writer.write(',');
+        writer.write(escapeCsv(msg.stackTrace() != null ? msg.stackTrace() : ""));
+        writer.write("\r\n");
     }
 
     /**
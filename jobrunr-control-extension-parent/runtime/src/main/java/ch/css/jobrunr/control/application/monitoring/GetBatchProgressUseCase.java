@@ -1,8 +1,11 @@
 package ch.css.jobrunr.control.application.monitoring;
 
 import ch.css.jobrunr.control.domain.BatchProgress;
+import ch.css.jobrunr.control.domain.JobDefinition;
+import ch.css.jobrunr.control.domain.JobDefinitionDiscoveryService;
 import ch.css.jobrunr.control.domain.JobExecutionInfo;
 import ch.css.jobrunr.control.domain.JobExecutionPort;
+import ch.css.jobrunr.control.domain.JobStatus;
 import ch.css.jobrunr.control.domain.exceptions.JobNotFoundException;
 import ch.css.jobrunr.control.domain.exceptions.TimeoutException;
 import io.smallrye.mutiny.Uni;
@@ -11,8 +14,11 @@ import jakarta.inject.Inject;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Use Case: Loads the batch progress for a job.
@@ -22,31 +28,52 @@ import java.util.UUID;
 public class GetBatchProgressUseCase {
 
     private final JobExecutionPort jobExecutionPort;
+    private final JobDefinitionDiscoveryService jobDefinitionDiscoveryService;
     private final Duration timeout;
 
     @Inject
     public GetBatchProgressUseCase(
             JobExecutionPort jobExecutionPort,
+            JobDefinitionDiscoveryService jobDefinitionDiscoveryService,
             @ConfigProperty(name = "jobrunr.batch-progress.timeout", defaultValue = "PT5S") Duration timeout) {
         this.jobExecutionPort = jobExecutionPort;
+        this.jobDefinitionDiscoveryService = jobDefinitionDiscoveryService;
         this.timeout = timeout;
     }
 
+    /**
+     * Returns the jobs among the given ones that are batch jobs currently processing.
+     * Unknown jobs, jobs of other types and jobs in any other state are left out.
+     *
+     * @param jobIds Job IDs
+     * @return IDs of the running batch jobs
+     */
+    public Set<UUID> findRunningBatches(List<UUID> jobIds) {
+        if (jobIds.isEmpty()) {
+            return Set.of();
+        }
+        return jobExecutionPort.getJobExecutionsByIds(jobIds).stream()
+                .filter(execution -> execution.status() == JobStatus.PROCESSING)
+                .filter(execution -> jobDefinitionDiscoveryService.findJobByType(execution.jobType())
+                        .map(JobDefinition::isBatchJob)
+                        .orElse(false))
+                .map(JobExecutionInfo::jobId)
+                .collect(Collectors.toSet());
+    }
+
     /**
      * Returns the batch progress for a job.
      *
      * @param jobId Job ID
      * @return Optional with batch progress, if available
+     * @throws JobNotFoundException if job is not found
      */
     public Optional<BatchProgress> execute(UUID jobId) {
         if (jobId == null) {
             throw new IllegalArgumentException("jobId must not be null");
         }
 
-        JobExecutionInfo executionInfo = jobExecutionPort.getJobExecutionById(jobId)
-                .orElseThrow(() -> new JobNotFoundException("Job with ID '" + jobId + "' not found"));
-
-        return executionInfo.getBatchProgress();
+        return jobExecutionPort.getBatchProgress(jobId);
     }
 
     /**
@@ -1,11 +1,20 @@
 package ch.css.jobrunr.control.application.monitoring;
 
+import ch.css.jobrunr.control.domain.JobExecutionCursor;
+import ch.css.jobrunr.control.domain.JobExecutionIndexPort;
 import ch.css.jobrunr.control.domain.JobExecutionInfo;
+import ch.css.jobrunr.control.domain.JobExecutionPage;
 import ch.css.jobrunr.control.domain.JobExecutionPort;
+import ch.css.jobrunr.control.domain.JobExecutionQuery;
+import ch.css.jobrunr.control.domain.JobExecutionSortKey;
+import ch.css.jobrunr.control.domain.JobExecutionSummary;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Use Case: Returns the job execution history.
@@ -15,10 +24,12 @@ import java.util.List;
 public class GetJobExecutionHistoryUseCase {
 
     private final JobExecutionPort jobExecutionPort;
+    private final JobExecutionIndexPort jobExecutionIndexPort;
 
     @Inject
-    public GetJobExecutionHistoryUseCase(JobExecutionPort jobExecutionPort) {
+    public GetJobExecutionHistoryUseCase(JobExecutionPort jobExecutionPort, JobExecutionIndexPort jobExecutionIndexPort) {
         this.jobExecutionPort = jobExecutionPort;
+        this.jobExecutionIndexPort = jobExecutionIndexPort;
     }
 
     /**
@@ -29,5 +40,70 @@ public class GetJobExecutionHistoryUseCase {
     public List<JobExecutionInfo> execute() {
         return jobExecutionPort.getJobExecutions();
     }
-}
 
+    /**
+     * Checks whether pages can be sorted by the given key.
+     * The execution index sorts by every key; without it, only the keys the job storage can sort by are available.
+     *
+     * @param sortKey Sort key
+     * @return true if {@link #execute(JobExecutionQuery)} accepts queries sorted by the key
+     */
+    public boolean isSortable(JobExecutionSortKey sortKey) {
+        return jobExecutionIndexPort.isReady() || jobExecutionPort.supportsSort(sortKey);
+    }
+
+    /**
+     * Returns a single page of job executions.
+     * The page is resolved by the execution index when it is ready, so only the rows on the page
+     * are read from the job storage; otherwise filtering, sorting and paging are done by the job storage,
+     * which rejects sort keys it cannot sort by (see {@link #isSortable(JobExecutionSortKey)}).
+     * Pages resolved by the index, and pages of the job storage sorted by creation time, carry cursors to their
+     * neighbouring pages.
+     * Indexed executions that no longer exist in the job storage are removed from the index and the page is
+     * resolved once more, so a deleted job neither shortens the page nor stays in the total.
+     *
+     * @param query Status, job type, sort and paging criteria
+     * @return Page of job executions
+     * @throws IllegalArgumentException if the page cannot be sorted by the sort key of the query
+     */
+    public JobExecutionPage execute(JobExecutionQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("query must not be null");
+        }
+        if (!jobExecutionIndexPort.isReady()) {
+            if (!jobExecutionPort.supportsSort(query.sortKey())) {
+                throw new IllegalArgumentException("Sorting by " + query.sortKey() + " requires the execution index");
+            }
+            return jobExecutionPort.getJobExecutions(query);
+        }
+
+        List<JobExecutionSummary> summaries = jobExecutionIndexPort.find(query);
+        List<JobExecutionInfo> executions = loadExecutions(summaries);
+        if (executions.size() < summaries.size()) {
+            evictMissing(summaries, executions);
+            summaries = jobExecutionIndexPort.find(query);
+            executions = loadExecutions(summaries);
+        }
+        long totalElements = jobExecutionIndexPort.count(query.status(), query.jobType());
+        JobExecutionCursor previous = summaries.isEmpty() ? null : JobExecutionCursor.before(query.sortKey(), summaries.getFirst());
+        JobExecutionCursor next = summaries.isEmpty() ? null : JobExecutionCursor.after(query.sortKey(), summaries.getLast());
+        return new JobExecutionPage(executions, totalElements, query.page(), query.size(), previous, next);
+    }
+
+    private List<JobExecutionInfo> loadExecutions(List<JobExecutionSummary> summaries) {
+        List<UUID> jobIds = summaries.stream()
+                .map(JobExecutionSummary::jobId)
+                .toList();
+        return jobExecutionPort.getJobExecutionsByIds(jobIds);
+    }
+
+    private void evictMissing(List<JobExecutionSummary> summaries, List<JobExecutionInfo> executions) {
+        Set<UUID> loaded = executions.stream()
+                .map(JobExecutionInfo::jobId)
+                .collect(Collectors.toSet());
+        summaries.stream()
+                .map(JobExecutionSummary::jobId)
+                .filter(jobId -> !loaded.contains(jobId))
+                .forEach(jobExecutionIndexPort::remove);
+    }
+}
@@ -0,0 +1,42 @@
+package ch.css.jobrunr.control.application.monitoring;
+
+import ch.css.jobrunr.control.domain.JobExecutionPort;
+import ch.css.jobrunr.control.domain.JobExecutionStatusInfo;
+import ch.css.jobrunr.control.domain.exceptions.JobNotFoundException;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.UUID;
+
+/**
+ * Use Case: Returns the status of a job execution for status polling.
+ * <p>
+ * The status is evaluated over the entire job chain like {@link GetJobExecutionByIdUseCase},
+ * but only the status projection is loaded: no parameters and no metadata.
+ */
+@ApplicationScoped
+public class GetJobStatusUseCase {
+
+    private final JobExecutionPort jobExecutionPort;
+
+    @Inject
+    public GetJobStatusUseCase(JobExecutionPort jobExecutionPort) {
+        this.jobExecutionPort = jobExecutionPort;
+    }
+
+    /**
+     * Returns the status of a job execution with job chain status evaluation.
+     *
+     * @param jobId Job ID
+     * @return Status projection of the job execution
+     * @throws JobNotFoundException if job is not found
+     */
+    public JobExecutionStatusInfo execute(UUID jobId) {
+        if (jobId == null) {
+            throw new IllegalArgumentException("jobId must not be null");
+        }
+
+        return jobExecutionPort.getJobChainStatusById(jobId)
+                .orElseThrow(() -> new JobNotFoundException("Job with ID '" + jobId + "' not found"));
+    }
+}
@@ -0,0 +1,69 @@
+package ch.css.jobrunr.control.application.monitoring;
+
+import ch.css.jobrunr.control.domain.JobExecutionPort;
+import ch.css.jobrunr.control.domain.JobExecutionStatusInfo;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Use Case: Returns the status of many job executions at once, for external orchestrators.
+ * <p>
+ * The status of each job is evaluated over its entire job chain like {@link GetJobStatusUseCase}. The jobs
+ * and their continuation jobs are loaded in chunks of {@value #CHUNK_SIZE} IDs, so the first statuses are
+ * available before all jobs have been read.
+ */
+@ApplicationScoped
+public class GetJobStatusesUseCase {
+
+    /**
+     * Maximum number of job IDs per request.
+     */
+    public static final int MAX_JOB_IDS = 5000;
+
+    /**
+     * Number of job IDs whose jobs and continuation jobs are loaded together.
+     */
+    public static final int CHUNK_SIZE = 500;
+
+    private final JobExecutionPort jobExecutionPort;
+
+    @Inject
+    public GetJobStatusesUseCase(JobExecutionPort jobExecutionPort) {
+        this.jobExecutionPort = jobExecutionPort;
+    }
+
+    /**
+     * Returns the status of several job executions with job chain status evaluation.
+     * The IDs are validated right away; the statuses are loaded lazily, one chunk of {@value #CHUNK_SIZE} IDs per
+     * element, while the stream is consumed. Duplicate IDs are answered once, and jobs that do not exist are skipped.
+     * A storage error or timeout is thrown from the stream, so it is never mistaken for missing jobs.
+     *
+     * @param jobIds Job IDs
+     * @return Status projections of each chunk, in the order of the given IDs
+     * @throws IllegalArgumentException if the IDs are missing, contain null or exceed {@link #MAX_JOB_IDS}
+     */
+    public Stream<List<JobExecutionStatusInfo>> execute(List<UUID> jobIds) {
+        if (jobIds == null) {
+            throw new IllegalArgumentException("jobIds must not be null");
+        }
+        if (jobIds.size() > MAX_JOB_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_JOB_IDS + " jobIds are allowed per request");
+        }
+        if (jobIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("jobIds must not contain null");
+        }
+
+        List<UUID> distinctIds = List.copyOf(new LinkedHashSet<>(jobIds));
+        int chunks = (distinctIds.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return IntStream.range(0, chunks)
+                .mapToObj(chunk -> distinctIds.subList(chunk * CHUNK_SIZE, Math.min(distinctIds.size(), (chunk + 1) * CHUNK_SIZE)))
+                .map(jobExecutionPort::getJobChainStatusesByIds);
+    }
+}
@@ -3,6 +3,7 @@ package ch.css.jobrunr.control.application.scheduling;
 import ch.css.jobrunr.control.application.template.TemplateCloneHelper;
 import ch.css.jobrunr.control.domain.JobSchedulerPort;
 import ch.css.jobrunr.control.domain.ScheduledJobInfo;
+import ch.css.jobrunr.control.domain.TemplateCatalogEntry;
 import ch.css.jobrunr.control.application.audit.AuditLoggerHelper;
 import ch.css.jobrunr.control.application.audit.TriggerSource;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -63,10 +64,8 @@ public class StartJobUseCase {
      * @throws NotFoundException if no template with the given name is found
      */
     public UUID execute(String templateName, String postfix, Map<String, Object> parameterOverrides, boolean isRestCall) {
-        UUID templateId = jobSchedulerPort.getScheduledJobs().stream()
-                .filter(j -> j.isTemplate() && templateName.equals(j.getJobName()))
-                .map(ScheduledJobInfo::getJobId)
-                .findFirst()
+        UUID templateId = jobSchedulerPort.findTemplateByName(templateName)
+                .map(TemplateCatalogEntry::templateId)
                 .orElseThrow(() -> new NotFoundException("Template with name '" + templateName + "' not found"));
 
         return execute(templateId, postfix, parameterOverrides, isRestCall);
@@ -178,15 +178,11 @@ public class TemplateCloneHelper {
         if (postfix != null && !postfix.isBlank()) {
             return baseJobName + "-" + postfix;
         }
-        java.util.Set<String> existingNames = jobSchedulerPort.getScheduledJobs().stream()
-                .filter(j -> j.isTemplate())
-                .map(j -> j.getJobName())
-                .collect(java.util.stream.Collectors.toSet());
         int counter = 1;
         String candidate;
         do {
             candidate = baseJobName + "-" + counter++;
-        } while (existingNames.contains(candidate));
+        } while (jobSchedulerPort.findTemplateByName(candidate).isPresent());
         return candidate;
     }
 }
@@ -1,10 +1,11 @@
 package ch.css.jobrunr.control.application.validation;
 
 import ch.css.jobrunr.control.domain.JobDefinition;
+import ch.css.jobrunr.control.domain.JobDefinitionDiscoveryService;
 import ch.css.jobrunr.control.domain.JobParameter;
 import ch.css.jobrunr.control.domain.JobParameterType;
+import ch.css.jobrunr.control.domain.ParameterCodecPort;
 import ch.css.jobrunr.control.domain.exceptions.ValidationException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.validation.ConstraintViolation;
@@ -22,13 +23,15 @@ import java.util.*;
 @ApplicationScoped
 public class JobParameterValidator {
 
-    private final ObjectMapper objectMapper;
+    private final ParameterCodecPort parameterCodec;
     private final Validator validator;
+    private final JobDefinitionDiscoveryService jobDefinitionDiscoveryService;
 
     @Inject
-    public JobParameterValidator(ObjectMapper objectMapper, Validator validator) {
-        this.objectMapper = objectMapper;
+    public JobParameterValidator(ParameterCodecPort parameterCodec, Validator validator, JobDefinitionDiscoveryService jobDefinitionDiscoveryService) {
+        this.parameterCodec = parameterCodec;
         this.validator = validator;
+        this.jobDefinitionDiscoveryService = jobDefinitionDiscoveryService;
     }
 
     /**
@@ -65,20 +68,12 @@ public class JobParameterValidator {
         }
 
         // Additional validation for JobRequest parameters
-        try {
-            Class<?> parametersClass;
-            if(jobDefinition.usesExternalParameters()) {
-                parametersClass = Thread.currentThread().getContextClassLoader().loadClass(jobDefinition.externalParametersClassName());
-            } else {
-                parametersClass = Thread.currentThread().getContextClassLoader().loadClass(jobDefinition.jobRequestTypeName());
-            }
-            Object parameterSet = objectMapper.convertValue(convertedParams, parametersClass);
-            final Set<ConstraintViolation<Object>> violations = validator.validate(parameterSet);
-            if (!violations.isEmpty()) {
-                errors.addAll(violations.stream().map(ConstraintViolation::getMessage).toList());
-            }
-        } catch (ClassNotFoundException e) {
-            throw new ValidationException("Validation failed: JobRequest class '" + jobDefinition.jobRequestTypeName() + "' not found");
+        Class<?> parametersClass = jobDefinitionDiscoveryService.findParametersClass(jobDefinition)
+                .orElseThrow(() -> new ValidationException("Validation failed: JobRequest class '" + jobDefinition.jobRequestTypeName() + "' not found"));
+        Object parameterSet = parameterCodec.fromMap(convertedParams, parametersClass);
+        final Set<ConstraintViolation<Object>> violations = validator.validate(parameterSet);
+        if (!violations.isEmpty()) {
+            errors.addAll(violations.stream().map(ConstraintViolation::getMessage).toList());
         }
 
         if (!errors.isEmpty()) {
@@ -37,6 +37,25 @@ public interface JobDefinitionDiscoveryService {
      */
     Optional<JobDefinition> findJobByHandlerClassName(String handlerClassName);
 
+    /**
+     * Returns the class the parameters of a job are bound to: the external parameter class for jobs
+     * using {@code @JobParameterSet}, the JobRequest class otherwise. The class is resolved once when
+     * the job definitions are registered, not on every call.
+     *
+     * @param jobDefinition The job definition
+     * @return Optional with the parameters class, empty if it could not be loaded
+     */
+    Optional<Class<?>> findParametersClass(JobDefinition jobDefinition);
+
+    /**
+     * Returns the JobRequest class a job is scheduled with. The class is resolved once when
+     * the job definitions are registered, not on every call.
+     *
+     * @param jobDefinition The job definition
+     * @return Optional with the JobRequest class, empty if it could not be loaded
+     */
+    Optional<Class<?>> findJobRequestClass(JobDefinition jobDefinition);
+
     /**
      * Returns the job definition for the given type, or throws if not found.
      *
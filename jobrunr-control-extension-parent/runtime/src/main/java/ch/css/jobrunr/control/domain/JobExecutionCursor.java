@@ -0,0 +1,82 @@
+package ch.css.jobrunr.control.domain;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Position in the sorted execution history, used for keyset pagination.
+ * <p>
+ * A cursor identifies the boundary row of a page by its sort value and job ID. The execution index
+ * seeks to that row in its sorted view instead of skipping an offset, so the previous and next page
+ * do not get slower deeper into the history and rows do not shift between pages while executions
+ * change their state. Rows not matching the status or job type filter are still walked past.
+ * The job storage seeks to a {@link JobExecutionSortKey#CREATED_AT} cursor by querying the jobs created
+ * before or after the boundary row.
+ *
+ * @param sortKey   Sort key the sort value belongs to
+ * @param sortValue Sort value of the boundary row, null if the row has none (e.g. not finished yet)
+ * @param jobId     Job ID of the boundary row
+ * @param backward  Whether the rows before (true) or after (false) the boundary row are requested
+ */
+public record JobExecutionCursor(JobExecutionSortKey sortKey, String sortValue, UUID jobId, boolean backward) {
+
+    public JobExecutionCursor {
+        Objects.requireNonNull(sortKey, "Sort key must not be null");
+        Objects.requireNonNull(jobId, "Job ID must not be null");
+    }
+
+    /**
+     * Creates a cursor for the rows after the given execution.
+     *
+     * @param sortKey Sort key of the page
+     * @param summary Last execution of the page
+     * @return cursor for the next page
+     */
+    public static JobExecutionCursor after(JobExecutionSortKey sortKey, JobExecutionSummary summary) {
+        return new JobExecutionCursor(sortKey, sortKey.sortValue(summary), summary.jobId(), false);
+    }
+
+    /**
+     * Creates a cursor for the rows before the given execution.
+     *
+     * @param sortKey Sort key of the page
+     * @param summary First execution of the page
+     * @return cursor for the previous page
+     */
+    public static JobExecutionCursor before(JobExecutionSortKey sortKey, JobExecutionSummary summary) {
+        return new JobExecutionCursor(sortKey, sortKey.sortValue(summary), summary.jobId(), true);
+    }
+
+    /**
+     * Returns a summary that sorts exactly at the boundary row under {@link JobExecutionSortKey#comparator(boolean)}.
+     * Only the sort value and the job ID are meaningful; all other fields are placeholders.
+     *
+     * @return summary to compare indexed executions against
+     * @throws IllegalArgumentException if the sort value cannot be parsed for the sort key
+     */
+    public JobExecutionSummary toAnchor() {
+        try {
+            return switch (sortKey) {
+                case CREATED_AT -> anchor(null, "", JobStatus.ENQUEUED, parseInstant(), null, null, null);
+                case STARTED_AT -> anchor(null, "", JobStatus.ENQUEUED, null, parseInstant(), null, null);
+                case FINISHED_AT -> anchor(null, "", JobStatus.ENQUEUED, null, null, parseInstant(), null);
+                case JOB_TYPE -> anchor(null, Objects.requireNonNullElse(sortValue, ""), JobStatus.ENQUEUED, null, null, null, null);
+                case STATUS -> anchor(null, "", JobStatus.valueOf(sortValue), null, null, null, null);
+                case JOB_NAME -> anchor(sortValue, "", JobStatus.ENQUEUED, null, null, null, null);
+                case BUSINESS_STATUS -> anchor(null, "", JobStatus.ENQUEUED, null, null, null, BusinessStatus.valueOf(sortValue));
+            };
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid sort value '" + sortValue + "' for sort key " + sortKey, e);
+        }
+    }
+
+    private JobExecutionSummary anchor(String jobName, String jobType, JobStatus status, Instant createdAt,
+                                       Instant startedAt, Instant finishedAt, BusinessStatus businessStatus) {
+        return new JobExecutionSummary(jobId, jobName, jobType, status, createdAt, startedAt, finishedAt, businessStatus, false);
+    }
+
+    private Instant parseInstant() {
+        return sortValue != null ? Instant.parse(sortValue) : null;
+    }
+}
@@ -0,0 +1,52 @@
+package ch.css.jobrunr.control.domain;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Port for the node-local index of job executions.
+ * The index is kept up to date on state transitions and answers list, count and sort
+ * queries from memory. Callers fall back to the job storage while it is not ready.
+ */
+public interface JobExecutionIndexPort {
+
+    /**
+     * Checks whether the index has been loaded and can answer queries.
+     *
+     * @return true once the index has been bootstrapped from the job storage
+     */
+    boolean isReady();
+
+    /**
+     * Returns the executions of the requested page, filtered and sorted as specified by the query.
+     *
+     * @param query Status, job type, sort and paging criteria
+     * @return Executions on the requested page
+     */
+    List<JobExecutionSummary> find(JobExecutionQuery query);
+
+    /**
+     * Counts the executions matching the given filters.
+     *
+     * @param status  Optional status filter (null for all statuses)
+     * @param jobType Optional job type filter (null for all job types)
+     * @return Number of matching executions
+     */
+    long count(JobStatus status, String jobType);
+
+    /**
+     * Finds an indexed execution by ID.
+     *
+     * @param jobId Job ID
+     * @return Optional with the execution summary, if indexed
+     */
+    Optional<JobExecutionSummary> findById(UUID jobId);
+
+    /**
+     * Removes an execution that no longer exists in the job storage, e.g. because another node deleted it.
+     *
+     * @param jobId Job ID
+     */
+    void remove(UUID jobId);
+}
@@ -0,0 +1,25 @@
+package ch.css.jobrunr.control.domain;
+
+import java.util.List;
+
+/**
+ * A single page of job executions together with the total number of matching executions.
+ *
+ * @param executions    Job executions on the requested page
+ * @param totalElements Total number of executions matching the query
+ * @param page          Page number (0-based)
+ * @param size          Page size
+ * @param previous      Cursor for the page before, null if keyset pagination is not available
+ * @param next          Cursor for the page after, null if keyset pagination is not available
+ */
+public record JobExecutionPage(List<JobExecutionInfo> executions, long totalElements, int page, int size,
+                               JobExecutionCursor previous, JobExecutionCursor next) {
+
+    public JobExecutionPage {
+        executions = executions != null ? List.copyOf(executions) : List.of();
+    }
+
+    public JobExecutionPage(List<JobExecutionInfo> executions, long totalElements, int page, int size) {
+        this(executions, totalElements, page, size, null, null);
+    }
+}
@@ -17,6 +17,36 @@ public interface JobExecutionPort {
      */
     List<JobExecutionInfo> getJobExecutions();
 
+    /**
+     * Returns a single page of job executions.
+     * Filtering, sorting and paging are pushed down to the job storage; only the executions
+     * on the requested page are loaded and mapped.
+     *
+     * @param query Status, job type, sort and paging criteria
+     * @return Page of job executions with the total number of matching executions
+     * @throws IllegalArgumentException if the job storage cannot sort by the sort key of the query
+     */
+    JobExecutionPage getJobExecutions(JobExecutionQuery query);
+
+    /**
+     * Checks whether the job storage can sort a page by the given key without loading the whole history.
+     *
+     * @param sortKey Sort key
+     * @return true if {@link #getJobExecutions(JobExecutionQuery)} accepts queries sorted by the key
+     */
+    boolean supportsSort(JobExecutionSortKey sortKey);
+
+    /**
+     * Loads the full execution information of several job executions by ID.
+     * Jobs that no longer exist are skipped.
+     *
+     * @param jobIds Job IDs
+     * @return Job execution information in the order of the given IDs
+     * @throws ch.css.jobrunr.control.domain.exceptions.JobExecutionException if jobs cannot be read
+     * @throws ch.css.jobrunr.control.domain.exceptions.TimeoutException      if reading jobs times out
+     */
+    List<JobExecutionInfo> getJobExecutionsByIds(List<UUID> jobIds);
+
     /**
      * Finds a job execution by ID.
      *
@@ -33,5 +63,44 @@ public interface JobExecutionPort {
      */
     Optional<JobExecutionInfo> getJobChainExecutionById(UUID jobId);
 
+    /**
+     * Returns the status projection of a job execution, evaluated over the entire job chain.
+     * Does not load parameters or metadata.
+     *
+     * @param jobId Job ID
+     * @return Optional with the status projection, if found
+     */
+    Optional<JobExecutionStatusInfo> getJobChainStatusById(UUID jobId);
+
+    /**
+     * Returns the status projections of several job executions, each evaluated over its entire job chain.
+     * The jobs and their continuation jobs are loaded for all IDs together instead of one chain at a time.
+     * Jobs that no longer exist are skipped; any other storage error fails the call.
+     *
+     * @param jobIds Job IDs
+     * @return Status projections in the order of the given IDs
+     * @throws ch.css.jobrunr.control.domain.exceptions.JobExecutionException if jobs cannot be read
+     * @throws ch.css.jobrunr.control.domain.exceptions.TimeoutException      if reading jobs times out
+     */
+    List<JobExecutionStatusInfo> getJobChainStatusesByIds(List<UUID> jobIds);
+
+    /**
+     * Returns the batch progress of a job execution without building the full execution information.
+     *
+     * @param jobId Job ID
+     * @return Optional with batch progress, empty for non-batch jobs or batches not started yet
+     * @throws ch.css.jobrunr.control.domain.exceptions.JobNotFoundException if the job is not found
+     */
+    Optional<BatchProgress> getBatchProgress(UUID jobId);
+
+    /**
+     * Returns the summary projection of a job execution: identity, type, status and timestamps.
+     * Does not load parameters, metadata or batch statistics.
+     *
+     * @param jobId Job ID
+     * @return Optional with the execution summary, if found
+     */
+    Optional<JobExecutionSummary> getJobExecutionSummaryById(UUID jobId);
+
 }
 
@@ -0,0 +1,51 @@
+package ch.css.jobrunr.control.domain;
+
+/**
+ * Query for a single page of job executions.
+ * Filtering, sorting and paging are evaluated by the execution index or the job storage, so only the rows
+ * of the page are loaded. Without a cursor both skip the rows before the page by offset. With a cursor the
+ * execution index seeks to it for every sort key; the job storage seeks to it when sorting by creation time
+ * and pages by offset within the segments of the other keys.
+ *
+ * @param status    Optional status filter (null for all statuses)
+ * @param jobType   Optional job type filter (null for all job types)
+ * @param sortKey   Sort key
+ * @param ascending Whether to sort ascending
+ * @param page      Page number (0-based)
+ * @param size      Page size
+ * @param cursor    Optional keyset position (null to page by offset); ignored if it belongs to another sort key
+ */
+public record JobExecutionQuery(
+        JobStatus status,
+        String jobType,
+        JobExecutionSortKey sortKey,
+        boolean ascending,
+        int page,
+        int size,
+        JobExecutionCursor cursor
+) {
+
+    public JobExecutionQuery {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+        sortKey = sortKey == null ? JobExecutionSortKey.STARTED_AT : sortKey;
+        jobType = jobType == null || jobType.isBlank() || "all".equals(jobType) ? null : jobType;
+        cursor = cursor != null && cursor.sortKey() == sortKey ? cursor : null;
+    }
+
+    public JobExecutionQuery(JobStatus status, String jobType, JobExecutionSortKey sortKey, boolean ascending, int page, int size) {
+        this(status, jobType, sortKey, ascending, page, size, null);
+    }
+
+    /**
+     * Returns the number of executions to skip before the requested page.
+     * Only used when the query has no cursor or the cursor cannot be resolved.
+     */
+    public long offset() {
+        return (long) page * size;
+    }
+}
@@ -0,0 +1,63 @@
+package ch.css.jobrunr.control.domain;
+
+import java.util.Comparator;
+
+/**
+ * Sort keys supported by paged execution history queries.
+ * <p>
+ * Every key sorts by {@link #comparator(boolean)}, whether the page is read from the execution index
+ * or from the job storage. The job storage can only sort by {@link #CREATED_AT}, {@link #JOB_TYPE} and
+ * {@link #STATUS}; the other keys need the execution index and are rejected without it.
+ */
+public enum JobExecutionSortKey {
+    CREATED_AT,
+    STARTED_AT,
+    FINISHED_AT,
+    JOB_TYPE,
+    STATUS,
+    JOB_NAME,
+    BUSINESS_STATUS;
+
+    /**
+     * Returns the in-memory order of execution summaries for this key.
+     * Missing timestamps sort last in ascending order; ties are broken by job ID for a stable paging order.
+     * The descending order is the exact reverse of the ascending one, ties included.
+     *
+     * @param ascending whether to sort ascending
+     * @return comparator over execution summaries
+     */
+    public Comparator<JobExecutionSummary> comparator(boolean ascending) {
+        Comparator<JobExecutionSummary> comparator = switch (this) {
+            case CREATED_AT -> Comparator.comparing(JobExecutionSummary::createdAt,
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            case STARTED_AT -> Comparator.comparing(JobExecutionSummary::startedAt,
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            case FINISHED_AT -> Comparator.comparing(JobExecutionSummary::finishedAt,
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            case JOB_TYPE -> Comparator.comparing(JobExecutionSummary::jobType, String.CASE_INSENSITIVE_ORDER);
+            case STATUS -> Comparator.comparing(summary -> summary.status().name());
+            case JOB_NAME -> Comparator.comparing(JobExecutionSummary::jobName, String.CASE_INSENSITIVE_ORDER);
+            case BUSINESS_STATUS -> Comparator.comparing(summary -> summary.businessStatus().name());
+        };
+        comparator = comparator.thenComparing(JobExecutionSummary::jobId);
+        return ascending ? comparator : comparator.reversed();
+    }
+
+    /**
+     * Returns the value this key sorts the given execution by, as stored in a {@link JobExecutionCursor}.
+     *
+     * @param summary the execution summary
+     * @return sort value, or null for a missing timestamp
+     */
+    public String sortValue(JobExecutionSummary summary) {
+        return switch (this) {
+            case CREATED_AT -> summary.createdAt() != null ? summary.createdAt().toString() : null;
+            case STARTED_AT -> summary.startedAt() != null ? summary.startedAt().toString() : null;
+            case FINISHED_AT -> summary.finishedAt() != null ? summary.finishedAt().toString() : null;
+            case JOB_TYPE -> summary.jobType();
+            case STATUS -> summary.status().name();
+            case JOB_NAME -> summary.jobName();
+            case BUSINESS_STATUS -> summary.businessStatus().name();
+        };
+    }
+}
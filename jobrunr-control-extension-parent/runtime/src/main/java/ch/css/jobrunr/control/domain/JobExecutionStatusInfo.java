@@ -0,0 +1,47 @@
+package ch.css.jobrunr.control.domain;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Status projection of a job execution for status polling.
+ * Contains the status of the entire job chain, timestamps, batch progress and result,
+ * but no parameters or metadata.
+ *
+ * @param jobId         Job ID
+ * @param jobName       User-defined name of the job instance
+ * @param jobType       Job type, null if the job carries no job type label
+ * @param status        Status of the job chain
+ * @param startedAt     Start of processing, null if not started yet
+ * @param finishedAt    End of processing, null if not finished yet
+ * @param batchProgress Batch progress, null for non-batch jobs
+ * @param result        Result set by the job or one of its continuation jobs
+ * @param resultCode    Result code set by the job or one of its continuation jobs
+ */
+public record JobExecutionStatusInfo(
+        UUID jobId,
+        String jobName,
+        String jobType,
+        JobStatus status,
+        Instant startedAt,
+        Instant finishedAt,
+        BatchProgress batchProgress,
+        String result,
+        Integer resultCode
+) {
+
+    public JobExecutionStatusInfo {
+        Objects.requireNonNull(jobId, "Job ID must not be null");
+        Objects.requireNonNull(status, "Status must not be null");
+    }
+
+    public Optional<Instant> getFinishedAt() {
+        return Optional.ofNullable(finishedAt);
+    }
+
+    public Optional<BatchProgress> getBatchProgress() {
+        return Optional.ofNullable(batchProgress);
+    }
+}
@@ -0,0 +1,40 @@
+package ch.css.jobrunr.control.domain;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Compact view of a job execution without parameters, metadata or results.
+ * Small enough to be kept in memory for every execution of the history.
+ *
+ * @param jobId          Job ID
+ * @param jobName        User-defined name of the job instance
+ * @param jobType        Job type
+ * @param status         Current status
+ * @param createdAt      Creation of the job
+ * @param startedAt      Start of processing, null if not started yet
+ * @param finishedAt     End of processing, null if not finished yet
+ * @param businessStatus Business status set by the application
+ * @param batchJob       Whether the execution is a batch job
+ */
+public record JobExecutionSummary(
+        UUID jobId,
+        String jobName,
+        String jobType,
+        JobStatus status,
+        Instant createdAt,
+        Instant startedAt,
+        Instant finishedAt,
+        BusinessStatus businessStatus,
+        boolean batchJob
+) {
+
+    public JobExecutionSummary {
+        Objects.requireNonNull(jobId, "Job ID must not be null");
+        Objects.requireNonNull(jobType, "Job Type must not be null");
+        Objects.requireNonNull(status, "Status must not be null");
+        jobName = jobName != null ? jobName : "";
+        businessStatus = businessStatus == null ? BusinessStatus.NONE : businessStatus;
+    }
+}
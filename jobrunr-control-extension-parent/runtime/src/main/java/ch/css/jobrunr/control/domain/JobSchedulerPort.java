@@ -5,6 +5,7 @@ import ch.css.jobrunr.control.domain.exceptions.DuplicateTemplateNameException;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -105,6 +106,19 @@ public interface JobSchedulerPort {
      */
     void updateJobParameters(UUID jobId, Map<String, Object> parameters);
 
+    /**
+     * Finds a template by its name.
+     *
+     * @param templateName the template name
+     * @return catalog entry of the template, or empty if no template has this name
+     */
+    default Optional<TemplateCatalogEntry> findTemplateByName(String templateName) {
+        return getScheduledJobs().stream()
+                .filter(j -> j.isTemplate() && templateName.equals(j.getJobName()))
+                .map(TemplateCatalogEntry::of)
+                .findFirst();
+    }
+
     /**
      * Throws {@link DuplicateTemplateNameException} if another template already uses the given name.
      *
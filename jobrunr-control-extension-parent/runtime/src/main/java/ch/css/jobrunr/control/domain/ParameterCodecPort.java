@@ -0,0 +1,30 @@
+package ch.css.jobrunr.control.domain;
+
+import java.util.Map;
+
+/**
+ * Port for converting job parameters between parameter maps and the records they are bound to
+ * (JobRequest records and {@code @JobParameterSet} records).
+ */
+public interface ParameterCodecPort {
+
+    /**
+     * Creates an instance of the given type from a parameter map.
+     * Map keys are the record component names; missing keys become null (or the primitive default).
+     *
+     * @param parameters the parameter map
+     * @param type       the target type
+     * @return the created instance
+     * @throws IllegalArgumentException if a value cannot be converted to the component type
+     */
+    <T> T fromMap(Map<String, ?> parameters, Class<T> type);
+
+    /**
+     * Converts an instance into a parameter map keyed by record component name.
+     * Enums are returned by name and dates in ISO-8601 format.
+     *
+     * @param value the instance to convert
+     * @return a new, modifiable parameter map
+     */
+    Map<String, Object> toMap(Object value);
+}
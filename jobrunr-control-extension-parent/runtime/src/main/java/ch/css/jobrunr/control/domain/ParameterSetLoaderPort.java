@@ -1,5 +1,6 @@
 package ch.css.jobrunr.control.domain;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.UUID;
 
@@ -26,4 +27,13 @@ public interface ParameterSetLoaderPort {
      * @return the parameters
      */
     Map<String, Object> loadParametersBySetId(UUID parameterSetId);
+
+    /**
+     * Loads several parameter sets in bulk.
+     * Parameter set IDs without a stored parameter set are absent from the result.
+     *
+     * @param parameterSetIds the parameter set IDs
+     * @return the parameters keyed by parameter set ID
+     */
+    Map<UUID, Map<String, Object>> loadParametersBySetIds(Collection<UUID> parameterSetIds);
 }
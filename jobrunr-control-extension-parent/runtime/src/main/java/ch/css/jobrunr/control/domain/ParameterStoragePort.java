@@ -1,5 +1,7 @@
 package ch.css.jobrunr.control.domain;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -25,6 +27,16 @@ public interface ParameterStoragePort {
      */
     Optional<ParameterSet> findById(UUID id);
 
+    /**
+     * Retrieves several parameter sets in bulk.
+     * IDs without a stored parameter set are absent from the result.
+     *
+     * @param ids the parameter set IDs
+     * @return the found parameter sets keyed by ID
+     * @throws IllegalStateException if the parameter sets cannot be read
+     */
+    Map<UUID, ParameterSet> findByIds(Collection<UUID> ids);
+
     /**
      * Updates an existing parameter set.
      * If the parameter set does not exist, it will be created.
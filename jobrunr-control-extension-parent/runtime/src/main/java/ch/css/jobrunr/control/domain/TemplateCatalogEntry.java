@@ -0,0 +1,31 @@
+package ch.css.jobrunr.control.domain;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Catalog entry of a job template, used to resolve templates by name without loading them.
+ *
+ * @param templateId         ID of the template job
+ * @param name               Unique template name
+ * @param jobType            Job type of the template
+ * @param externalParameters Whether the template stores its parameters in the external parameter storage
+ */
+public record TemplateCatalogEntry(UUID templateId, String name, String jobType, boolean externalParameters) {
+
+    public TemplateCatalogEntry {
+        Objects.requireNonNull(templateId, "Template ID must not be null");
+        Objects.requireNonNull(name, "Template name must not be null");
+    }
+
+    /**
+     * Creates the catalog entry of a scheduled template job.
+     *
+     * @param template the template job
+     * @return catalog entry
+     */
+    public static TemplateCatalogEntry of(ScheduledJobInfo template) {
+        return new TemplateCatalogEntry(template.getJobId(), template.getJobName(), template.getJobType(),
+                template.hasExternalParameters());
+    }
+}
@@ -0,0 +1,21 @@
+package ch.css.jobrunr.control.domain.details;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Position after the last message of a {@link JobMessagesSlice}, used for keyset pagination of job messages.
+ * <p>
+ * The next slice starts with the message following ({@code createdAt}, {@code id}) in the requested sort
+ * order, so reading a slice costs the same no matter how many messages precede it.
+ *
+ * @param createdAt Creation time of the last returned message
+ * @param id        Storage ID of the last returned message, or the number of returned messages for
+ *                  providers without stable message IDs
+ */
+public record JobMessageCursor(Instant createdAt, long id) {
+
+    public JobMessageCursor {
+        Objects.requireNonNull(createdAt, "Creation time must not be null");
+    }
+}
@@ -0,0 +1,12 @@
+package ch.css.jobrunr.control.domain.details;
+
+import java.util.UUID;
+
+/**
+ * A job message together with the batch job it is stored under.
+ *
+ * @param batchJobId ID of the batch job (or the job itself if it is not part of a batch)
+ * @param message    the message
+ */
+public record JobMessageEntry(UUID batchJobId, JobMessage message) {
+}
@@ -1,9 +1,16 @@
 package ch.css.jobrunr.control.domain.details;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface JobMessageProvider {
 
+    /**
+     * Number of messages read per slice by the default {@link #forEachJobMessage} implementation.
+     */
+    int EXPORT_SLICE_SIZE = 1_000;
+
     String providerKey();
 
     JobMessagesPaged searchJobMessages(UUID jobId,
@@ -13,5 +20,48 @@ public interface JobMessageProvider {
                                        int pageNumber,
                                        int pageSize);
 
+    /**
+     * Reads the messages following a cursor. The default implementation pages with
+     * {@link #searchJobMessages}, using the cursor ID as the number of messages already returned;
+     * callers must therefore keep the limit constant while following the cursors.
+     *
+     * @param after the cursor of the previous slice, or null for the first slice
+     * @param limit the maximum number of messages to return
+     */
+    default JobMessagesSlice searchJobMessagesAfter(UUID jobId,
+                                                    JobMessageLevelSearch levelSearch,
+                                                    String textSearch,
+                                                    JobMessageSortOrder sortOrder,
+                                                    JobMessageCursor after,
+                                                    int limit) {
+        int pageSize = limit <= 0 ? 10 : limit;
+        int pageNumber = after == null ? 0 : (int) (after.id() / pageSize);
+        JobMessagesPaged page = searchJobMessages(jobId, levelSearch, textSearch, sortOrder, pageNumber, pageSize);
+        List<JobMessage> messages = page.messages();
+        long returned = (long) pageNumber * pageSize + messages.size();
+        JobMessageCursor nextCursor = !messages.isEmpty() && returned < page.totalMessages()
+                ? new JobMessageCursor(messages.getLast().createdAt(), returned)
+                : null;
+        return new JobMessagesSlice(messages, nextCursor, page.totalMessages());
+    }
+
+    /**
+     * Passes all messages matching the filter to the consumer in the requested sort order, e.g. for an export.
+     * The default implementation follows {@link #searchJobMessagesAfter} slice by slice, so only one slice is
+     * held in memory at a time.
+     */
+    default void forEachJobMessage(UUID jobId,
+                                   JobMessageLevelSearch levelSearch,
+                                   String textSearch,
+                                   JobMessageSortOrder sortOrder,
+                                   Consumer<JobMessage> consumer) {
+        JobMessageCursor cursor = null;
+        do {
+            JobMessagesSlice slice = searchJobMessagesAfter(jobId, levelSearch, textSearch, sortOrder, cursor, EXPORT_SLICE_SIZE);
+            slice.messages().forEach(consumer);
+            cursor = slice.nextCursor();
+        } while (cursor != null);
+    }
+
     JobMessageLevelCounters determineJobMessageCounter(UUID jobId);
 }
@@ -1,13 +1,41 @@
 package ch.css.jobrunr.control.domain.details;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface JobMessageStoragePort {
 
     void writeMessage(UUID jobId, JobMessage message);
 
+    /**
+     * Writes several messages at once. Implementations should write them in a single batch.
+     *
+     * @param entries the messages with the batch job they belong to
+     */
+    default void writeMessages(List<JobMessageEntry> entries) {
+        for (JobMessageEntry entry : entries) {
+            writeMessage(entry.batchJobId(), entry.message());
+        }
+    }
+
     JobMessagesPaged searchMessages(UUID jobId, JobMessageLevelSearch levelSearch, String textSearch, JobMessageSortOrder sortOrder, int pageNr, int pageSize);
 
+    /**
+     * Reads the messages following a cursor in the requested sort order, without paging through the preceding messages.
+     *
+     * @param after the cursor of the previous slice, or null for the first slice
+     * @param limit the maximum number of messages to return
+     * @return the messages; the total is only known if it can be determined without counting the messages
+     */
+    JobMessagesSlice searchMessagesAfter(UUID jobId, JobMessageLevelSearch levelSearch, String textSearch, JobMessageSortOrder sortOrder, JobMessageCursor after, int limit);
+
+    /**
+     * Passes all messages matching the filter to the consumer in the requested sort order. Implementations
+     * read the messages with a cursor instead of loading them at once.
+     */
+    void forEachMessage(UUID jobId, JobMessageLevelSearch levelSearch, String textSearch, JobMessageSortOrder sortOrder, Consumer<JobMessage> consumer);
+
     JobMessageLevelCounters determineMessageLevelCounters(UUID jobId);
 
 }
@@ -0,0 +1,23 @@
+package ch.css.jobrunr.control.domain.details;
+
+import java.util.List;
+
+/**
+ * A slice of job messages read with a {@link JobMessageCursor}.
+ *
+ * @param messages      the messages of this slice
+ * @param nextCursor    cursor to read the following slice, or null if there are no further messages
+ * @param totalMessages number of messages matching the search, or {@link #UNKNOWN_TOTAL} if it was not counted
+ */
+public record JobMessagesSlice(List<JobMessage> messages, JobMessageCursor nextCursor, long totalMessages) {
+
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+
+    public boolean isTotalKnown() {
+        return totalMessages != UNKNOWN_TOTAL;
+    }
+}
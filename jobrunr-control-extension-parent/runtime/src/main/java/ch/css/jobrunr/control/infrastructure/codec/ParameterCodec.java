@@ -0,0 +1,30 @@
+package ch.css.jobrunr.control.infrastructure.codec;
+
+import java.util.Map;
+
+/**
+ * Build-time generated converter between parameter maps and one parameter record.
+ */
+public interface ParameterCodec {
+
+    /**
+     * @return fully qualified class name of the record this codec supports
+     */
+    String recordClassName();
+
+    /**
+     * Creates the record from a parameter map by calling its canonical constructor.
+     *
+     * @param parameters map of record component names to values
+     * @return record instance
+     */
+    Object fromMap(Map<String, ?> parameters);
+
+    /**
+     * Reads the record components through their accessors.
+     *
+     * @param record record instance
+     * @return modifiable map of record component names to values
+     */
+    Map<String, Object> toMap(Object record);
+}
@@ -0,0 +1,74 @@
+package ch.css.jobrunr.control.infrastructure.codec;
+
+import ch.css.jobrunr.control.domain.ParameterCodecPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts parameters with the build-time generated {@link ParameterCodec} of the target record.
+ * Types without a generated codec (e.g. classes, or records with Jackson annotations or
+ * unsupported component types) and values a codec cannot convert are handled by Jackson.
+ */
+@ApplicationScoped
+public class ParameterCodecAdapter implements ParameterCodecPort {
+
+    private static final Logger LOG = Logger.getLogger(ParameterCodecAdapter.class);
+
+    private final Map<String, ParameterCodec> codecsByRecordClassName;
+    private final ObjectMapper objectMapper;
+    // Record types whose codec fell back to Jackson at least once, so the fallback is only logged once per type
+    private final Set<String> fallbackTypes = ConcurrentHashMap.newKeySet();
+
+    @Inject
+    public ParameterCodecAdapter(Instance<ParameterCodec> codecs, ObjectMapper objectMapper) {
+        Map<String, ParameterCodec> byRecordClassName = new HashMap<>();
+        for (ParameterCodec codec : codecs) {
+            ParameterCodec previous = byRecordClassName.put(codec.recordClassName(), codec);
+            if (previous != null) {
+                LOG.warnf("Duplicate ParameterCodec for record class '%s' found. Replacing '%s' with '%s'.",
+                        codec.recordClassName(), previous.getClass().getName(), codec.getClass().getName());
+            }
+        }
+        LOG.infof("Registered %d ParameterCodec bean(s).", byRecordClassName.size());
+        this.codecsByRecordClassName = Map.copyOf(byRecordClassName);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public <T> T fromMap(Map<String, ?> parameters, Class<T> type) {
+        ParameterCodec codec = codecsByRecordClassName.get(type.getName());
+        if (codec != null) {
+            try {
+                return type.cast(codec.fromMap(parameters != null ? parameters : Map.of()));
+            } catch (RuntimeException e) {
+                if (fallbackTypes.add(type.getName())) {
+                    LOG.warnf("ParameterCodec for %s could not convert the parameters, falling back to Jackson: %s",
+                            type.getName(), e.getMessage());
+                } else {
+                    LOG.debugf("ParameterCodec for %s could not convert the parameters, falling back to Jackson: %s",
+                            type.getName(), e.getMessage());
+                }
+            }
+        }
+        return objectMapper.convertValue(parameters, type);
+    }
+
+    @Override
+    public Map<String, Object> toMap(Object value) {
+        ParameterCodec codec = value != null ? codecsByRecordClassName.get(value.getClass().getName()) : null;
+        if (codec != null) {
+            return codec.toMap(value);
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> result = objectMapper.convertValue(value, Map.class);
+        return result;
+    }
+}
@@ -0,0 +1,184 @@
+package ch.css.jobrunr.control.infrastructure.codec;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Helper methods used by build-time generated parameter codecs.
+ * <p>
+ * Values are converted the same way Jackson does for parameter maps: numbers and booleans may be
+ * given as strings, dates as ISO-8601 strings or date arrays and enums by name. Blank strings are
+ * treated as missing values.
+ */
+public final class ParameterCodecSupport {
+
+    private ParameterCodecSupport() {
+    }
+
+    public static String toStringValue(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    public static Integer toInteger(Object value) {
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        String text = text(value);
+        return text != null ? Integer.valueOf(text) : null;
+    }
+
+    public static int intValue(Object value) {
+        Integer converted = toInteger(value);
+        return converted != null ? converted : 0;
+    }
+
+    public static Long toLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        String text = text(value);
+        return text != null ? Long.valueOf(text) : null;
+    }
+
+    public static long longValue(Object value) {
+        Long converted = toLong(value);
+        return converted != null ? converted : 0L;
+    }
+
+    public static Double toDouble(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        String text = text(value);
+        return text != null ? Double.valueOf(text) : null;
+    }
+
+    public static double doubleValue(Object value) {
+        Double converted = toDouble(value);
+        return converted != null ? converted : 0d;
+    }
+
+    public static Boolean toBoolean(Object value) {
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        if (value instanceof Number number) {
+            return number.intValue() != 0;
+        }
+        String text = text(value);
+        if (text == null) {
+            return null;
+        }
+        if ("true".equalsIgnoreCase(text) || "false".equalsIgnoreCase(text)) {
+            return Boolean.parseBoolean(text);
+        }
+        throw new IllegalArgumentException("Cannot convert '" + text + "' to a boolean");
+    }
+
+    public static boolean booleanValue(Object value) {
+        Boolean converted = toBoolean(value);
+        return converted != null && converted;
+    }
+
+    public static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate date) {
+            return date;
+        }
+        if (value instanceof List<?> parts && parts.size() == 3) {
+            return LocalDate.of(intValue(parts.get(0)), intValue(parts.get(1)), intValue(parts.get(2)));
+        }
+        String text = text(value);
+        return text != null ? LocalDate.parse(text) : null;
+    }
+
+    public static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime;
+        }
+        if (value instanceof List<?> parts && parts.size() >= 5) {
+            return LocalDateTime.of(intValue(parts.get(0)), intValue(parts.get(1)), intValue(parts.get(2)),
+                    intValue(parts.get(3)), intValue(parts.get(4)),
+                    parts.size() > 5 ? intValue(parts.get(5)) : 0,
+                    parts.size() > 6 ? intValue(parts.get(6)) : 0);
+        }
+        String text = text(value);
+        return text != null ? LocalDateTime.parse(text) : null;
+    }
+
+    public static <E extends Enum<E>> E toEnum(Class<E> enumClass, Object value) {
+        if (enumClass.isInstance(value)) {
+            return enumClass.cast(value);
+        }
+        String text = text(value);
+        return text != null ? Enum.valueOf(enumClass, text) : null;
+    }
+
+    public static <E extends Enum<E>> EnumSet<E> toEnumSet(Class<E> enumClass, Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof Collection<?> values)) {
+            throw new IllegalArgumentException("Cannot convert " + value.getClass().getName() + " to an EnumSet of " + enumClass.getName());
+        }
+        EnumSet<E> result = EnumSet.noneOf(enumClass);
+        for (Object element : values) {
+            E constant = toEnum(enumClass, element);
+            if (constant != null) {
+                result.add(constant);
+            }
+        }
+        return result;
+    }
+
+    public static Object toMapValue(int value) {
+        return value;
+    }
+
+    public static Object toMapValue(long value) {
+        return value;
+    }
+
+    public static Object toMapValue(double value) {
+        return value;
+    }
+
+    public static Object toMapValue(boolean value) {
+        return value;
+    }
+
+    /**
+     * Converts a record component value to the form Jackson writes into a parameter map.
+     */
+    public static Object toMapValue(Object value) {
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        if (value instanceof LocalDate date) {
+            return DateTimeFormatter.ISO_LOCAL_DATE.format(date);
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+        }
+        if (value instanceof Collection<?> values) {
+            List<Object> converted = new ArrayList<>(values.size());
+            for (Object element : values) {
+                converted.add(toMapValue(element));
+            }
+            return converted;
+        }
+        return value;
+    }
+
+    private static String text(Object value) {
+        if (value == null) {
+            return null;
+        }
+        String text = value.toString().trim();
+        return text.isEmpty() ? null : text;
+    }
+}
@@ -0,0 +1,41 @@
+package ch.css.jobrunr.control.infrastructure.config;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+
+/**
+ * Runtime configuration for the batch snapshots the default job details provider builds from the child jobs of a batch.
+ */
+@ConfigMapping(prefix = "quarkus.jobrunr-control.batch-snapshot")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface BatchSnapshotConfiguration {
+
+    /**
+     * Number of child jobs read from the storage provider per page when a snapshot is built or refreshed.
+     * At most one page of deserialized child jobs is held in memory, independent of the batch size.
+     * Default: 1000
+     */
+    @WithDefault("1000")
+    int childPageSize();
+
+    /**
+     * Upper bound of the estimated memory held by the cached batch snapshots. The weight of a snapshot grows with
+     * the number and size of its messages. When the bound is exceeded, the least recently used snapshots are evicted;
+     * a snapshot heavier than the bound on its own is kept as the only one.
+     * Default: 256M
+     */
+    @WithDefault("256M")
+    MemorySize cacheMaxWeight();
+
+    /**
+     * Time after which a cached batch snapshot that was not read is evicted.
+     * Default: PT30M
+     */
+    @WithDefault("PT30M")
+    Duration cacheIdleExpiry();
+}
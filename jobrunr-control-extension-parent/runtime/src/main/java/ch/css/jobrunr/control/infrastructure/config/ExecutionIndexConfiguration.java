@@ -0,0 +1,34 @@
+package ch.css.jobrunr.control.infrastructure.config;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+
+/**
+ * Runtime configuration for the node-local execution index.
+ */
+@ConfigMapping(prefix = "quarkus.jobrunr-control.execution-index")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface ExecutionIndexConfiguration {
+
+    /**
+     * Whether the execution history is served from an in-memory index.
+     * When disabled, every history request queries the JobRunr storage.
+     * The index sees the jobs created and processed on its own node right away; changes made by other
+     * nodes only appear with the next reconciliation.
+     * Default: false
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Interval between full reconciliations of the index with the JobRunr storage.
+     * Reconciliation picks up state changes applied by other nodes.
+     * Default: PT5M
+     */
+    @WithDefault("PT5M")
+    Duration reconcileInterval();
+}
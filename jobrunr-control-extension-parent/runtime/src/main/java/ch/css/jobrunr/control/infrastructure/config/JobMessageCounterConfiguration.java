@@ -0,0 +1,39 @@
+package ch.css.jobrunr.control.infrastructure.config;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+
+/**
+ * Runtime configuration for the materialized job message counters per batch and level.
+ */
+@ConfigMapping(prefix = "quarkus.jobrunr-control.job-message-counters")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface JobMessageCounterConfiguration {
+
+    /**
+     * Whether message counts are read from the counters table instead of being counted on the messages table.
+     * If the counters table does not exist, the counters stay disabled.
+     * Default: true
+     */
+    @WithDefault("true")
+    boolean enabled();
+
+    /**
+     * Interval in which counted messages are added to the counters table.
+     * Default: PT1S
+     */
+    @WithDefault("PT1S")
+    Duration flushInterval();
+
+    /**
+     * Interval of the recurring job that compares the counters of recently active batches with the messages table
+     * and repairs them. The job runs on one node of the cluster at a time.
+     * Default: PT15M
+     */
+    @WithDefault("PT15M")
+    Duration reconcileInterval();
+}
@@ -0,0 +1,22 @@
+package ch.css.jobrunr.control.infrastructure.config;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Runtime configuration for the CSV export of job messages.
+ */
+@ConfigMapping(prefix = "quarkus.jobrunr-control.job-message-export")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface JobMessageExportConfiguration {
+
+    /**
+     * Number of messages the JDBC driver fetches per round trip while exporting.
+     * MySQL ignores the value and streams the messages row by row.
+     * Default: 500
+     */
+    @WithDefault("500")
+    int fetchSize();
+}
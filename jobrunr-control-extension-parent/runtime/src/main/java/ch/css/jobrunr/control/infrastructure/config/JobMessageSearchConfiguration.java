@@ -0,0 +1,38 @@
+package ch.css.jobrunr.control.infrastructure.config;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Runtime configuration for the text search on job messages.
+ */
+@ConfigMapping(prefix = "quarkus.jobrunr-control.job-message-search")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface JobMessageSearchConfiguration {
+
+    /**
+     * How the search text is matched against messages and stack traces.
+     */
+    enum Mode {
+        /**
+         * Case-insensitive substring match with {@code LIKE}. Works without additional indexes,
+         * but reads every message of the batch.
+         */
+        LIKE,
+        /**
+         * Word match on the full-text index of the database (Oracle Text, MySQL FULLTEXT, H2 token table).
+         * PostgreSQL keeps the substring match, which is served by pg_trgm indexes.
+         * The indexes must be created as described in the SQL scripts.
+         */
+        INDEXED
+    }
+
+    /**
+     * Text search mode.
+     * Default: LIKE
+     */
+    @WithDefault("LIKE")
+    Mode mode();
+}
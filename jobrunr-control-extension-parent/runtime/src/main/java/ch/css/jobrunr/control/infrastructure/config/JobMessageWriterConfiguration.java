@@ -0,0 +1,78 @@
+package ch.css.jobrunr.control.infrastructure.config;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+
+/**
+ * Runtime configuration for writing job messages ({@code JobMessageService}) to the database.
+ */
+@ConfigMapping(prefix = "quarkus.jobrunr-control.job-messages")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface JobMessageWriterConfiguration {
+
+    /**
+     * How job messages are written.
+     */
+    enum WriteMode {
+        /**
+         * Every message is inserted before the logging call returns.
+         */
+        SYNCHRONOUS,
+        /**
+         * Messages are queued and inserted in batches; a job does not finish before its messages are written.
+         */
+        FLUSH_ON_JOB_END,
+        /**
+         * Messages are queued and inserted in batches; messages still queued when the application
+         * stops are written on shutdown, messages dropped because the queue was full are lost.
+         */
+        FIRE_AND_FORGET
+    }
+
+    /**
+     * Write mode of job messages.
+     * Default: SYNCHRONOUS
+     */
+    @WithDefault("SYNCHRONOUS")
+    WriteMode writeMode();
+
+    /**
+     * Maximum number of queued messages in the asynchronous write modes. When the queue is full,
+     * logging calls wait up to the enqueue timeout for space before the message is dropped.
+     * Default: 10000
+     */
+    @WithDefault("10000")
+    int queueCapacity();
+
+    /**
+     * Maximum number of messages inserted with one JDBC batch.
+     * Default: 500
+     */
+    @WithDefault("500")
+    int batchSize();
+
+    /**
+     * Maximum time a message waits in the queue before it is written, unless a batch fills up earlier.
+     * Default: PT1S
+     */
+    @WithDefault("PT1S")
+    Duration flushInterval();
+
+    /**
+     * How long a logging call waits for space in a full queue before the message is dropped.
+     * Default: PT1S
+     */
+    @WithDefault("PT1S")
+    Duration enqueueTimeout();
+
+    /**
+     * How long the end of a job (FLUSH_ON_JOB_END) or the application shutdown waits for queued messages to be written.
+     * Default: PT30S
+     */
+    @WithDefault("PT30S")
+    Duration flushTimeout();
+}
@@ -0,0 +1,40 @@
+package ch.css.jobrunr.control.infrastructure.config;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+
+/**
+ * Runtime configuration for the (state, job type) storage queries behind the job search.
+ */
+@ConfigMapping(prefix = "quarkus.jobrunr-control.job-search")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface JobSearchConfiguration {
+
+    /**
+     * Whether the storage queries of one search run concurrently on virtual threads.
+     * When disabled, the queries run one after another on the calling thread.
+     * Default: true
+     */
+    @WithDefault("true")
+    boolean parallel();
+
+    /**
+     * Maximum number of storage queries in flight at the same time, across all searches.
+     * Keep this below the size of the JobRunr storage connection pool.
+     * Default: 4
+     */
+    @WithDefault("4")
+    int maxConcurrency();
+
+    /**
+     * Maximum time to wait for the result of a single storage query.
+     * A query that does not answer in time contributes no jobs to the result.
+     * Default: PT10S
+     */
+    @WithDefault("PT10S")
+    Duration queryTimeout();
+}
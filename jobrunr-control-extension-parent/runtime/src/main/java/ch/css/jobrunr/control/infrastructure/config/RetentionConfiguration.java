@@ -0,0 +1,55 @@
+package ch.css.jobrunr.control.infrastructure.config;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Runtime configuration for purging the messages and recap counters of expired batch jobs.
+ */
+@ConfigMapping(prefix = "quarkus.jobrunr-control.retention")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface RetentionConfiguration {
+
+    /**
+     * Whether messages and recap counters of expired batches are purged periodically.
+     * A batch is expired when its job no longer exists in JobRunr, or when it has finished longer than {@link #maxAge()} ago.
+     * Default: false
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Interval of the recurring JobRunr job that runs the purge on one node of the cluster.
+     * Default: PT1H
+     */
+    @WithDefault("PT1H")
+    Duration purgeInterval();
+
+    /**
+     * Time after which the data of a finished batch (succeeded, failed or deleted) is purged, even if its job still exists.
+     * If not set, only batches whose job no longer exists are purged.
+     * Default: not set
+     */
+    Optional<Duration> maxAge();
+
+    /**
+     * Maximum number of rows deleted per statement. Each chunk is committed on its own,
+     * so purging a large batch never holds long locks or a large transaction.
+     * Default: 5000
+     */
+    @WithDefault("5000")
+    int chunkSize();
+
+    /**
+     * Whether partitions of a partitioned messages table (PostgreSQL, Oracle) are dropped as a whole
+     * once every batch with messages in the partition is expired. See the partitioning section in the DDL scripts.
+     * Default: false
+     */
+    @WithDefault("false")
+    boolean dropPartitions();
+}
@@ -0,0 +1,32 @@
+package ch.css.jobrunr.control.infrastructure.config;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+
+/**
+ * Runtime configuration for the node-local cache of scheduled jobs.
+ */
+@ConfigMapping(prefix = "quarkus.jobrunr-control.scheduled-job-cache")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface ScheduledJobCacheConfiguration {
+
+    /**
+     * Whether the list of scheduled jobs and templates is cached between requests.
+     * When disabled, every request loads all scheduled jobs from the JobRunr storage.
+     * Default: true
+     */
+    @WithDefault("true")
+    boolean enabled();
+
+    /**
+     * Maximum age of the cached list. Changes made through this node invalidate the cache
+     * immediately; the time to live bounds how long changes made by other nodes stay invisible.
+     * Default: PT15S
+     */
+    @WithDefault("PT15S")
+    Duration ttl();
+}
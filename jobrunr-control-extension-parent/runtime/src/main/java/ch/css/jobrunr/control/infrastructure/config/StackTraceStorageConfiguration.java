@@ -0,0 +1,29 @@
+package ch.css.jobrunr.control.infrastructure.config;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Runtime configuration for the storage of exception stack traces.
+ */
+@ConfigMapping(prefix = "quarkus.jobrunr-control.stack-trace-storage")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface StackTraceStorageConfiguration {
+
+    /**
+     * Whether stack traces are stored once per distinct trace in {@code JOBRUNR_CONTROL_STACK_TRACES}, compressed
+     * and referenced by hash. If disabled, every message keeps its full stack trace.
+     * Default: true
+     */
+    @WithDefault("true")
+    boolean deduplicate();
+
+    /**
+     * Number of decompressed stack traces kept in memory for reading messages.
+     * Default: 1000
+     */
+    @WithDefault("1000")
+    int cacheSize();
+}
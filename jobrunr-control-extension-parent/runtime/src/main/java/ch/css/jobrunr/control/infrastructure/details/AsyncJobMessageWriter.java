@@ -0,0 +1,252 @@
+package ch.css.jobrunr.control.infrastructure.details;
+
+import ch.css.jobrunr.control.domain.details.JobMessage;
+import ch.css.jobrunr.control.domain.details.JobMessageEntry;
+import ch.css.jobrunr.control.domain.details.JobMessageStoragePort;
+import ch.css.jobrunr.control.infrastructure.config.JobMessageWriterConfiguration;
+import ch.css.jobrunr.control.infrastructure.config.JobMessageWriterConfiguration.WriteMode;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes job messages asynchronously in JDBC batches when an asynchronous write mode is configured.
+ * <p>
+ * Messages are appended to a bounded lock-free queue. A background flusher drains the queue
+ * whenever a batch is full or the flush interval has elapsed. When the queue is full, the logging
+ * thread waits up to the enqueue timeout for the flusher to make room and drops the message
+ * afterwards. Queued messages are written on shutdown. While the flusher is not running, messages
+ * are written synchronously.
+ */
+@ApplicationScoped
+public class AsyncJobMessageWriter {
+
+    private static final Logger LOG = Logger.getLogger(AsyncJobMessageWriter.class);
+    private static final long BACKPRESSURE_PAUSE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Message counts since startup.
+     *
+     * @param enqueued Messages accepted into the queue
+     * @param written  Messages written to the database
+     * @param dropped  Messages dropped because the queue was full
+     * @param failed   Messages lost because their batch could not be written
+     * @param queued   Messages currently waiting in the queue
+     */
+    public record Statistics(long enqueued, long written, long dropped, long failed, int queued) {
+    }
+
+    private final JobMessageStoragePort jobMessageStorage;
+    private final JobMessageWriterConfiguration configuration;
+    private final ConcurrentLinkedQueue<JobMessageEntry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Map<UUID, Integer> pendingByJobId = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Condition flushed = flushLock.newCondition();
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final AtomicLong dropped = new AtomicLong();
+    private final LongAdder failed = new LongAdder();
+    private volatile Thread flusher;
+    private volatile boolean running;
+
+    @Inject
+    public AsyncJobMessageWriter(JobMessageStoragePort jobMessageStorage, JobMessageWriterConfiguration configuration) {
+        this.jobMessageStorage = jobMessageStorage;
+        this.configuration = configuration;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        running = true;
+        flusher = Thread.ofVirtual().name("jobrunr-control-job-messages").start(this::flushLoop);
+        LOG.debugf("Job messages are written asynchronously (mode=%s, batch size=%d, flush interval=%s)",
+                configuration.writeMode(), configuration.batchSize(), configuration.flushInterval());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        Thread currentFlusher = flusher;
+        if (currentFlusher == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(currentFlusher);
+        try {
+            if (!currentFlusher.join(configuration.flushTimeout())) {
+                LOG.warnf("Timed out writing queued job messages on shutdown, %d message(s) not written", queued.get());
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        // Messages enqueued while the flusher was stopping
+        drain();
+    }
+
+    /**
+     * Returns whether job messages are written asynchronously.
+     */
+    public boolean isEnabled() {
+        return configuration.writeMode() != WriteMode.SYNCHRONOUS;
+    }
+
+    /**
+     * Queues a message for writing. Blocks up to the enqueue timeout if the queue is full and drops the message afterwards.
+     *
+     * @param batchJobId ID of the batch job the message is stored under
+     * @param message    the message
+     */
+    public void enqueue(UUID batchJobId, JobMessage message) {
+        if (!running) {
+            jobMessageStorage.writeMessage(batchJobId, message);
+            return;
+        }
+        if (!reserveSlot()) {
+            long total = dropped.incrementAndGet();
+            if (total == 1 || total % 1000 == 0) {
+                LOG.warnf("Job message queue is full, %d message(s) dropped since startup", total);
+            }
+            return;
+        }
+        if (message.jobId() != null) {
+            pendingByJobId.merge(message.jobId(), 1, Integer::sum);
+        }
+        queue.offer(new JobMessageEntry(batchJobId, message));
+        enqueued.increment();
+        if (queued.get() >= configuration.batchSize()) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    /**
+     * Waits until all queued messages of the given job are written, if the write mode is
+     * {@link WriteMode#FLUSH_ON_JOB_END}. Gives up after the flush timeout.
+     *
+     * @param jobId the ID of the finished job
+     */
+    public void flushJob(UUID jobId) {
+        if (configuration.writeMode() != WriteMode.FLUSH_ON_JOB_END || !running || !pendingByJobId.containsKey(jobId)) {
+            return;
+        }
+        LockSupport.unpark(flusher);
+        long remainingNanos = configuration.flushTimeout().toNanos();
+        flushLock.lock();
+        try {
+            while (pendingByJobId.containsKey(jobId)) {
+                if (remainingNanos <= 0) {
+                    LOG.warnf("Timed out waiting for the job messages of job %s to be written", jobId);
+                    return;
+                }
+                remainingNanos = flushed.awaitNanos(remainingNanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the message counts since startup.
+     */
+    public Statistics statistics() {
+        return new Statistics(enqueued.sum(), written.sum(), dropped.get(), failed.sum(), queued.get());
+    }
+
+    private boolean reserveSlot() {
+        int capacity = configuration.queueCapacity();
+        long deadline = System.nanoTime() + configuration.enqueueTimeout().toNanos();
+        while (true) {
+            int current = queued.get();
+            if (current < capacity) {
+                if (queued.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+                continue;
+            }
+            LockSupport.unpark(flusher);
+            if (!running || System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(this, BACKPRESSURE_PAUSE_NANOS);
+        }
+    }
+
+    private void flushLoop() {
+        long flushIntervalNanos = configuration.flushInterval().toNanos();
+        while (running) {
+            if (queued.get() < configuration.batchSize()) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            drain();
+        }
+        drain();
+    }
+
+    private void drain() {
+        while (writeBatch() > 0) {
+            // Write until the queue is empty
+        }
+    }
+
+    private int writeBatch() {
+        int batchSize = configuration.batchSize();
+        List<JobMessageEntry> batch = new ArrayList<>(Math.min(batchSize, Math.max(queued.get(), 1)));
+        JobMessageEntry entry;
+        while (batch.size() < batchSize && (entry = queue.poll()) != null) {
+            batch.add(entry);
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        queued.addAndGet(-batch.size());
+        try {
+            jobMessageStorage.writeMessages(batch);
+            written.add(batch.size());
+            LOG.debugf("Wrote %d job message(s), %d queued", batch.size(), queued.get());
+        } catch (Exception e) {
+            failed.add(batch.size());
+            LOG.warnf(e, "Failed to write %d job message(s)", batch.size());
+            // Don't throw - the flusher keeps writing later messages
+        } finally {
+            release(batch);
+        }
+        return batch.size();
+    }
+
+    private void release(List<JobMessageEntry> batch) {
+        for (JobMessageEntry entry : batch) {
+            UUID jobId = entry.message().jobId();
+            if (jobId != null) {
+                pendingByJobId.computeIfPresent(jobId, (id, pending) -> pending > 1 ? pending - 1 : null);
+            }
+        }
+        flushLock.lock();
+        try {
+            flushed.signalAll();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package ch.css.jobrunr.control.infrastructure.details;
+
+import ch.css.jobrunr.control.domain.details.JobMessage;
+import ch.css.jobrunr.control.domain.details.JobMessageLevel;
+import ch.css.jobrunr.control.domain.details.JobMessageLevelSearch;
+import ch.css.jobrunr.control.domain.details.JobMessageSortOrder;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable, column-oriented store of the messages of a batch snapshot. Each message is a row across primitive
+ * columns; child job IDs are interned, so a child with many messages keeps a single ID instance.
+ * <p>
+ * The rows are sorted by creation time once when the store is built, and the ascending row order of every
+ * {@link JobMessageLevelSearch} is precomputed. A page without text search is a slice of that order, read from
+ * either end depending on the sort order; only the messages of the page are materialized as {@link JobMessage}.
+ * The lower-cased text used by the text search is built on the first text search only.
+ */
+final class BatchMessageColumns {
+
+    private static final JobMessageLevel[] LEVELS = JobMessageLevel.values();
+    // Column values, references and the row in about four precomputed search orders
+    private static final long ROW_BYTES = 56;
+    // Header, length and hash of a string, plus its array header
+    private static final long STRING_BYTES = 40;
+    private static final long UUID_BYTES = 32;
+
+    private final long[] createdAtMillis;
+    // Nanoseconds within the millisecond, so materialized messages keep their exact creation time
+    private final int[] createdAtNanos;
+    private final boolean[] createdAtMissing;
+    private final byte[] levels;
+    private final UUID[] jobIds;
+    private final String[] messages;
+    private final String[] stackTraces;
+    private final Map<JobMessageLevelSearch, int[]> rowsBySearch = new EnumMap<>(JobMessageLevelSearch.class);
+    private final long estimatedBytes;
+    private volatile SearchableText searchableText;
+
+    private BatchMessageColumns(List<JobMessage> source) {
+        int size = source.size();
+        createdAtMillis = new long[size];
+        createdAtNanos = new int[size];
+        createdAtMissing = new boolean[size];
+        levels = new byte[size];
+        jobIds = new UUID[size];
+        messages = new String[size];
+        stackTraces = new String[size];
+        Map<UUID, UUID> internedJobIds = new HashMap<>();
+        long textBytes = 0;
+        for (int row = 0; row < size; row++) {
+            JobMessage message = source.get(row);
+            Instant createdAt = message.createdAt();
+            if (createdAt == null) {
+                createdAtMissing[row] = true;
+                createdAtMillis[row] = Long.MIN_VALUE;
+            } else {
+                createdAtMillis[row] = createdAt.toEpochMilli();
+                createdAtNanos[row] = createdAt.getNano() % 1_000_000;
+            }
+            levels[row] = (byte) message.messageLevel().ordinal();
+            jobIds[row] = message.jobId() == null ? null : internedJobIds.computeIfAbsent(message.jobId(), id -> id);
+            messages[row] = message.message();
+            stackTraces[row] = message.stackTrace();
+            textBytes += estimatedBytes(message.message()) + estimatedBytes(message.stackTrace());
+        }
+        // The text counts twice, once more for the lower-cased copy built by the first text search
+        estimatedBytes = size * ROW_BYTES + internedJobIds.size() * UUID_BYTES + 2 * textBytes;
+
+        // Stable sort, rows with the same creation time keep the order in which they were collected
+        int[] ascending = IntStream.range(0, size).boxed()
+                .sorted(Comparator.<Integer>comparingLong(row -> createdAtMillis[row])
+                        .thenComparingInt(row -> createdAtNanos[row]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        for (JobMessageLevelSearch search : JobMessageLevelSearch.values()) {
+            rowsBySearch.put(search, search == JobMessageLevelSearch.ALL
+                    ? ascending
+                    : Arrays.stream(ascending).filter(row -> matchesSearch(LEVELS[levels[row]], search)).toArray());
+        }
+    }
+
+    static BatchMessageColumns of(List<JobMessage> messages) {
+        return new BatchMessageColumns(messages);
+    }
+
+    /**
+     * Returns the estimated memory held by the messages, used to weigh the snapshot in the cache.
+     */
+    long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Counts the matching messages and materializes the messages of one page.
+     *
+     * @param from  index of the first message of the page within all matching messages
+     * @param limit maximum number of messages on the page
+     */
+    PageResult countAndPage(JobMessageLevelSearch search, String textSearch, JobMessageSortOrder sortOrder, int from, int limit) {
+        int[] rows = select(search, textSearch);
+        return new PageResult(rows.length, page(rows, sortOrder, from, limit));
+    }
+
+    /**
+     * Passes all matching messages to the consumer, creating only the message of the current step.
+     */
+    void forEach(JobMessageLevelSearch search, String textSearch, JobMessageSortOrder sortOrder, Consumer<JobMessage> consumer) {
+        int[] rows = select(search, textSearch);
+        boolean newestFirst = sortOrder == JobMessageSortOrder.NEWEST_FIRST;
+        for (int i = 0; i < rows.length; i++) {
+            consumer.accept(materialize(rows[newestFirst ? rows.length - 1 - i : i]));
+        }
+    }
+
+    private List<JobMessage> page(int[] rows, JobMessageSortOrder sortOrder, int from, int limit) {
+        if (from >= rows.length || limit <= 0) {
+            return List.of();
+        }
+        boolean newestFirst = sortOrder == JobMessageSortOrder.NEWEST_FIRST;
+        int toExclusive = (int) Math.min(rows.length, (long) from + limit);
+        List<JobMessage> page = new ArrayList<>(toExclusive - from);
+        for (int i = from; i < toExclusive; i++) {
+            page.add(materialize(rows[newestFirst ? rows.length - 1 - i : i]));
+        }
+        return List.copyOf(page);
+    }
+
+    private int[] select(JobMessageLevelSearch search, String textSearch) {
+        int[] rows = search == null ? new int[0] : rowsBySearch.get(search);
+        if (textSearch == null || textSearch.isBlank()) {
+            return rows;
+        }
+        String normalizedSearch = textSearch.toLowerCase(Locale.ROOT);
+        SearchableText text = searchableText();
+        return Arrays.stream(rows)
+                .filter(row -> contains(text.messages()[row], normalizedSearch)
+                        || contains(text.stackTraces()[row], normalizedSearch))
+                .toArray();
+    }
+
+    private SearchableText searchableText() {
+        SearchableText text = searchableText;
+        if (text == null) {
+            // Racing readers build equal arrays, the last one wins
+            text = new SearchableText(toLowerCase(messages), toLowerCase(stackTraces));
+            searchableText = text;
+        }
+        return text;
+    }
+
+    private JobMessage materialize(int row) {
+        Instant createdAt = createdAtMissing[row]
+                ? null
+                : Instant.ofEpochMilli(createdAtMillis[row]).plusNanos(createdAtNanos[row]);
+        return new JobMessage(createdAt, jobIds[row], LEVELS[levels[row]], messages[row], stackTraces[row]);
+    }
+
+    private static long estimatedBytes(String text) {
+        return text == null ? 0 : STRING_BYTES + text.length();
+    }
+
+    private static boolean contains(String text, String normalizedSearch) {
+        return text != null && text.contains(normalizedSearch);
+    }
+
+    private static String[] toLowerCase(String[] values) {
+        String[] lowerCased = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            lowerCased[i] = values[i] == null ? null : values[i].toLowerCase(Locale.ROOT);
+        }
+        return lowerCased;
+    }
+
+    private static boolean matchesSearch(JobMessageLevel level, JobMessageLevelSearch search) {
+        return switch (level) {
+            case INFO -> search == JobMessageLevelSearch.ALL
+                    || search == JobMessageLevelSearch.INFO_ONLY;
+            case WARNING -> search == JobMessageLevelSearch.ALL
+                    || search == JobMessageLevelSearch.WARNING_ONLY
+                    || search == JobMessageLevelSearch.WARNINGS_AND_ERRORS_AND_EXCEPTIONS;
+            case ERROR -> search == JobMessageLevelSearch.ALL
+                    || search == JobMessageLevelSearch.ERROR_ONLY
+                    || search == JobMessageLevelSearch.ERRORS_AND_EXCEPTIONS
+                    || search == JobMessageLevelSearch.WARNINGS_AND_ERRORS_AND_EXCEPTIONS;
+            case EXCEPTION -> search == JobMessageLevelSearch.ALL
+                    || search == JobMessageLevelSearch.EXCEPTION_ONLY
+                    || search == JobMessageLevelSearch.ERRORS_AND_EXCEPTIONS
+                    || search == JobMessageLevelSearch.WARNINGS_AND_ERRORS_AND_EXCEPTIONS;
+        };
+    }
+
+    /**
+     * The number of matching messages and the materialized messages of the requested page.
+     */
+    record PageResult(long totalMessages, List<JobMessage> messages) {
+    }
+
+    private record SearchableText(String[] messages, String[] stackTraces) {
+    }
+}
@@ -1,11 +1,14 @@
 package ch.css.jobrunr.control.infrastructure.details;
 
+import ch.css.jobrunr.control.domain.details.JobMessage;
+import ch.css.jobrunr.control.domain.details.JobMessageCursor;
 import ch.css.jobrunr.control.domain.details.JobMessageLevelCounters;
 import ch.css.jobrunr.control.domain.details.JobMessageLevelSearch;
 import ch.css.jobrunr.control.domain.details.JobMessageProvider;
 import ch.css.jobrunr.control.domain.details.JobMessageSortOrder;
 import ch.css.jobrunr.control.domain.details.JobMessageStoragePort;
 import ch.css.jobrunr.control.domain.details.JobMessagesPaged;
+import ch.css.jobrunr.control.domain.details.JobMessagesSlice;
 import ch.css.jobrunr.control.domain.details.JobRecapProvider;
 import ch.css.jobrunr.control.domain.details.JobRecapStoragePort;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -13,6 +16,7 @@ import jakarta.inject.Inject;
 
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @ApplicationScoped
 public class DbBasedJobDetailsProvider implements JobMessageProvider, JobRecapProvider {
@@ -43,6 +47,25 @@ public class DbBasedJobDetailsProvider implements JobMessageProvider, JobRecapPr
         return jobMessageStoragePort.searchMessages(jobId, levelSearch, textSearch, sortOrder, pageNumber, pageSize);
     }
 
+    @Override
+    public JobMessagesSlice searchJobMessagesAfter(UUID jobId,
+                                                   JobMessageLevelSearch levelSearch,
+                                                   String textSearch,
+                                                   JobMessageSortOrder sortOrder,
+                                                   JobMessageCursor after,
+                                                   int limit) {
+        return jobMessageStoragePort.searchMessagesAfter(jobId, levelSearch, textSearch, sortOrder, after, limit);
+    }
+
+    @Override
+    public void forEachJobMessage(UUID jobId,
+                                  JobMessageLevelSearch levelSearch,
+                                  String textSearch,
+                                  JobMessageSortOrder sortOrder,
+                                  Consumer<JobMessage> consumer) {
+        jobMessageStoragePort.forEachMessage(jobId, levelSearch, textSearch, sortOrder, consumer);
+    }
+
     @Override
     public JobMessageLevelCounters determineJobMessageCounter(UUID jobId) {
         return jobMessageStoragePort.determineMessageLevelCounters(jobId);
@@ -3,15 +3,17 @@ package ch.css.jobrunr.control.infrastructure.details;
 import ch.css.jobrunr.control.domain.*;
 import ch.css.jobrunr.control.domain.details.*;
 import ch.css.jobrunr.control.domain.exceptions.JobNotFoundException;
+import ch.css.jobrunr.control.infrastructure.config.BatchSnapshotConfiguration;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import org.jobrunr.jobs.BatchJob;
 import org.jobrunr.jobs.Job;
 import org.jobrunr.jobs.context.JobDashboardLogger;
 import org.jobrunr.jobs.states.FailedState;
+import org.jobrunr.jobs.states.StateName;
+import org.jobrunr.storage.JobSearchRequest;
 import org.jobrunr.storage.JobSearchRequestBuilder;
 import org.jobrunr.storage.StorageProvider;
-import org.jobrunr.storage.navigation.AmountRequest;
+import org.jobrunr.storage.navigation.OffsetBasedPageRequest;
 
 import java.time.Clock;
 import java.time.Duration;
@@ -19,30 +21,49 @@ import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 @ApplicationScoped
 public class DefaultJobDetailsProvider implements JobMessageProvider, JobRecapProvider {
     private static final Duration SNAPSHOT_TTL = Duration.ofSeconds(2);
+    // Re-reads children updated shortly before the high-water mark, e.g. by a server with a slightly late clock
+    private static final Duration HIGH_WATER_MARGIN = Duration.ofSeconds(5);
+    private static final Set<StateName> FINISHED_STATES = EnumSet.of(StateName.SUCCEEDED, StateName.FAILED, StateName.DELETED);
 
     private final JobExecutionPort jobExecutionPort;
     private final StorageProvider storageProvider;
     private final JobDefinitionDiscoveryService jobDefinitionDiscoveryService;
     private final RecapValueExtractorRegistry recapValueExtractorRegistry;
+    private final BatchSnapshotConfiguration batchSnapshotConfiguration;
     private final Clock clock = Clock.systemUTC();
     private final Duration snapshotTtl = SNAPSHOT_TTL;
-    private final Map<UUID, SnapshotCacheEntry> snapshotCache = new ConcurrentHashMap<>();
+    private final WeightedSnapshotCache<UUID, BatchSnapshotState> snapshotCache;
     private final Map<UUID, CompletableFuture<BatchDetailsSnapshot>> inFlightSnapshots = new ConcurrentHashMap<>();
 
     @Inject
     public DefaultJobDetailsProvider(JobExecutionPort jobExecutionPort,
                                      StorageProvider storageProvider,
                                      JobDefinitionDiscoveryService jobDefinitionDiscoveryService,
-                                     RecapValueExtractorRegistry recapValueExtractorRegistry) {
+                                     RecapValueExtractorRegistry recapValueExtractorRegistry,
+                                     BatchSnapshotConfiguration batchSnapshotConfiguration) {
         this.jobExecutionPort = jobExecutionPort;
         this.storageProvider = storageProvider;
         this.jobDefinitionDiscoveryService = jobDefinitionDiscoveryService;
         this.recapValueExtractorRegistry = recapValueExtractorRegistry;
+        this.batchSnapshotConfiguration = batchSnapshotConfiguration;
+        this.snapshotCache = new WeightedSnapshotCache<>(
+                batchSnapshotConfiguration.cacheMaxWeight().asLongValue(),
+                batchSnapshotConfiguration.cacheIdleExpiry(),
+                BatchSnapshotState::estimatedWeight,
+                clock);
+    }
+
+    /**
+     * Returns the size, weight and eviction counters of the batch snapshot cache.
+     */
+    public WeightedSnapshotCache.Statistics snapshotCacheStatistics() {
+        return snapshotCache.statistics();
     }
 
     @Override
@@ -56,7 +77,7 @@ public class DefaultJobDetailsProvider implements JobMessageProvider, JobRecapPr
         if (!job.isBatchJob()) {
             return Map.of();
         }
-        BatchDetailsSnapshot snapshot = getOrBuildSnapshot(jobId);
+        BatchDetailsSnapshot snapshot = getOrBuildSnapshot(job);
         return snapshot.recapCounters().entrySet().stream()
                 .collect(HashMap::new, (map, entry) -> map.put(entry.getKey(), entry.getValue()), HashMap::putAll);
     }
@@ -67,7 +88,7 @@ public class DefaultJobDetailsProvider implements JobMessageProvider, JobRecapPr
         if (!job.isBatchJob()) {
             return new JobMessageLevelCounters(0, 0, 0, 0);
         }
-        BatchDetailsSnapshot snapshot = getOrBuildSnapshot(jobId);
+        BatchDetailsSnapshot snapshot = getOrBuildSnapshot(job);
         return snapshot.messageCounter();
     }
 
@@ -83,11 +104,11 @@ public class DefaultJobDetailsProvider implements JobMessageProvider, JobRecapPr
         if (!job.isBatchJob()) {
             return new JobMessagesPaged(List.of(), 0, 0, 0);
         }
-        BatchDetailsSnapshot snapshot = getOrBuildSnapshot(jobId);
+        BatchDetailsSnapshot snapshot = getOrBuildSnapshot(job);
         return paginateMessages(snapshot.messages(), levelSearch, textSearch, sortOrder, pageNumber, pageSize);
     }
 
-    private JobMessagesPaged paginateMessages(List<CollectedMessage> source,
+    private JobMessagesPaged paginateMessages(BatchMessageColumns source,
                                               JobMessageLevelSearch search,
                                               String textSearch,
                                               JobMessageSortOrder sortOrder,
@@ -95,45 +116,32 @@ public class DefaultJobDetailsProvider implements JobMessageProvider, JobRecapPr
                                               int pageSize) {
         int sanitizedPage = Math.max(0, pageNumber);
         int sanitizedPageSize = pageSize <= 0 ? 10 : pageSize;
-        int from = Math.max(0, sanitizedPage * sanitizedPageSize);
-
-        Comparator<CollectedMessage> sortByDate = Comparator.comparing(CollectedMessage::createdAt);
-        JobMessageSortOrder effectiveSortOrder = sortOrder == null ? JobMessageSortOrder.OLDEST_FIRST : sortOrder;
-
-        List<CollectedMessage> filteredMessages = source.stream()
-                .filter(message -> matchesSearch(message.level(), search))
-                .filter(message -> matchesTextSearch(message, textSearch))
-                .sorted(effectiveSortOrder == JobMessageSortOrder.NEWEST_FIRST ? sortByDate.reversed() : sortByDate)
-                .toList();
+        int from = (int) Math.min(Integer.MAX_VALUE, (long) sanitizedPage * sanitizedPageSize);
 
-        long totalItems = filteredMessages.size();
-        if (from >= filteredMessages.size()) {
-            return new JobMessagesPaged(List.of(), totalItems, sanitizedPage, sanitizedPageSize);
-        }
-
-        int toExclusive = Math.min(filteredMessages.size(), from + sanitizedPageSize);
-        List<JobMessage> pageItems = filteredMessages.subList(from, toExclusive).stream()
-                .map(CollectedMessage::toJobMessage)
-                .toList();
-
-        return new JobMessagesPaged(pageItems, totalItems, sanitizedPage, sanitizedPageSize);
+        BatchMessageColumns.PageResult page = source.countAndPage(search, textSearch, sortOrder, from, sanitizedPageSize);
+        return new JobMessagesPaged(page.messages(), page.totalMessages(), sanitizedPage, sanitizedPageSize);
     }
 
-    private boolean matchesTextSearch(CollectedMessage message, String textSearch) {
-        if (textSearch == null || textSearch.isBlank()) {
-            return true;
+    @Override
+    public void forEachJobMessage(UUID jobId,
+                                  JobMessageLevelSearch levelSearch,
+                                  String textSearch,
+                                  JobMessageSortOrder sortOrder,
+                                  Consumer<JobMessage> consumer) {
+        Job job = storageProvider.getJobById(jobId);
+        if (!job.isBatchJob()) {
+            return;
         }
-        String normalizedSearch = textSearch.toLowerCase(Locale.ROOT);
-        boolean inMessage = message.message() != null && message.message().toLowerCase(Locale.ROOT).contains(normalizedSearch);
-        boolean inStackTrace = message.stackTrace() != null && message.stackTrace().toLowerCase(Locale.ROOT).contains(normalizedSearch);
-        return inMessage || inStackTrace;
+        BatchDetailsSnapshot snapshot = getOrBuildSnapshot(job);
+        // Iterates the cached snapshot, only the message passed to the consumer is created per step
+        snapshot.messages().forEach(levelSearch, textSearch, sortOrder, consumer);
     }
 
-    private BatchDetailsSnapshot getOrBuildSnapshot(UUID jobId) {
-        long now = clock.millis();
-        SnapshotCacheEntry cachedSnapshot = snapshotCache.get(jobId);
-        if (cachedSnapshot != null && now - cachedSnapshot.createdAtMillis() < snapshotTtl.toMillis()) {
-            return cachedSnapshot.snapshot();
+    private BatchDetailsSnapshot getOrBuildSnapshot(Job batch) {
+        UUID jobId = batch.getId();
+        BatchSnapshotState cachedState = snapshotCache.get(jobId);
+        if (cachedState != null && isCurrent(cachedState, batch)) {
+            return cachedState.snapshot;
         }
 
         CompletableFuture<BatchDetailsSnapshot> pendingFuture = new CompletableFuture<>();
@@ -143,12 +151,20 @@ public class DefaultJobDetailsProvider implements JobMessageProvider, JobRecapPr
         }
 
         try {
-            BatchDetailsSnapshot snapshot = buildSnapshot(jobId);
-            // TTL starts after the expensive snapshot build has completed.
-            snapshotCache.put(jobId, new SnapshotCacheEntry(snapshot, clock.millis()));
-            pendingFuture.complete(snapshot);
-            return snapshot;
+            BatchSnapshotState state = cachedState;
+            if (state == null || state.frozen) {
+                // A frozen batch whose job changed (e.g. a requeued child job) is rebuilt from scratch
+                state = createState(batch);
+            }
+            refresh(state, batch);
+            // TTL starts after the expensive snapshot refresh has completed.
+            state.refreshedAtMillis = clock.millis();
+            snapshotCache.put(jobId, state);
+            pendingFuture.complete(state.snapshot);
+            return state.snapshot;
         } catch (RuntimeException e) {
+            // The next read rebuilds the snapshot instead of continuing from a refresh that read only part of the children
+            snapshotCache.remove(jobId);
             pendingFuture.completeExceptionally(e);
             throw e;
         } finally {
@@ -156,66 +172,110 @@ public class DefaultJobDetailsProvider implements JobMessageProvider, JobRecapPr
         }
     }
 
-    private BatchDetailsSnapshot buildSnapshot(UUID jobId) {
-        Job batch = storageProvider.getJobById(jobId);
-        if (!batch.isBatchJob()) {
-            return BatchDetailsSnapshot.empty();
+    private boolean isCurrent(BatchSnapshotState state, Job batch) {
+        if (state.frozen) {
+            return Objects.equals(state.batchUpdatedAt, batch.getUpdatedAt());
         }
-        BatchJob batchJob = (BatchJob) batch;
+        return clock.millis() - state.refreshedAtMillis < snapshotTtl.toMillis();
+    }
 
-        JobExecutionInfo jobExecutionInfo = jobExecutionPort.getJobExecutionById(jobId)
+    private BatchSnapshotState createState(Job batch) {
+        UUID jobId = batch.getId();
+        JobExecutionSummary jobExecutionSummary = jobExecutionPort.getJobExecutionSummaryById(jobId)
                 .orElseThrow(() -> new JobNotFoundException("Job execution with ID " + jobId + " not found"));
-        JobDefinition jobDefinition = jobDefinitionDiscoveryService.requireJobByType(jobExecutionInfo.getJobType());
-        Map<String, AtomicLong> recapCounters = initializeRecapCounters(jobDefinition);
-        RecapValueExtractor recapValueExtractor = resolveRecapValueExtractor(jobDefinition);
-
-        AtomicLong infoMessages = new AtomicLong(0);
-        AtomicLong warningMessages = new AtomicLong(0);
-        AtomicLong errorMessages = new AtomicLong(0);
-        AtomicLong exceptionMessages = new AtomicLong(0);
-        List<CollectedMessage> messages = new ArrayList<>();
-
-        for (Job childJob : getChildJobs(batchJob)) {
-            updateCounters(recapCounters, recapValueExtractor, childJob.getResult());
-            Optional<FailedState> lastJobState = childJob.getLastJobStateOfType(FailedState.class);
-            lastJobState.ifPresent(failedState -> {
-                messages.add(new CollectedMessage(
-                        failedState.getCreatedAt(),
-                        childJob.getId(),
-                        JobMessageLevel.EXCEPTION,
-                        "[" + childJob.getJobName() + "] " + failedState.getExceptionMessage(),
-                        failedState.getStackTrace()
-                ));
-                exceptionMessages.incrementAndGet();
-            });
-
-            childJob.getMetadata().entrySet().stream()
-                    .filter(entry -> entry.getKey().startsWith("jobRunrDashboardLog-"))
-                    .map(Map.Entry::getValue)
-                    .filter(JobDashboardLogger.JobDashboardLogLines.class::isInstance)
-                    .map(JobDashboardLogger.JobDashboardLogLines.class::cast)
-                    .flatMap(lines -> lines.getLogLines().stream())
-                    .forEach(logLine -> {
-                        switch (logLine.getLevel()) {
-                            case INFO -> infoMessages.incrementAndGet();
-                            case WARN -> warningMessages.incrementAndGet();
-                            case ERROR -> errorMessages.incrementAndGet();
-                        }
-                        messages.add(new CollectedMessage(
-                                logLine.getLogInstant(),
-                                childJob.getId(),
-                                toJobMessageLevel(logLine.getLevel()),
-                                logLine.getLogMessage(),
-                                null
-                        ));
-                    });
+        JobDefinition jobDefinition = jobDefinitionDiscoveryService.requireJobByType(jobExecutionSummary.jobType());
+        List<String> recapNames = jobDefinition.recapParameters().stream().map(JobRecapParameter::name).toList();
+        return new BatchSnapshotState(recapNames, resolveRecapValueExtractor(jobDefinition));
+    }
+
+    /**
+     * Merges the child jobs changed since the previous refresh into the state. The children are read by descending
+     * {@code updatedAt} until the high-water mark of the previous refresh is passed, so a refresh of a running batch
+     * reads only the recently changed children. The contribution of a changed child replaces its previous one.
+     * Once the batch has finished, the snapshot is frozen until the batch job itself changes.
+     * <p>
+     * The changed children are collected first and merged only after all pages have been read, so a failing read
+     * leaves the state and its high-water mark as they were.
+     */
+    private void refresh(BatchSnapshotState state, Job batch) {
+        // Captured before the children are read, so a batch that finishes meanwhile is refreshed once more
+        boolean finished = FINISHED_STATES.contains(batch.getState());
+        Instant since = state.highWater == null ? null : state.highWater.minus(HIGH_WATER_MARGIN);
+        RefreshChanges changes = new RefreshChanges(state.highWater);
+        forEachChildJob(batch.getId(), childJob -> {
+            Instant updatedAt = childJob.getUpdatedAt();
+            if (since != null && updatedAt != null && updatedAt.isBefore(since)) {
+                return false;
+            }
+            changes.add(childJob.getId(), updatedAt, collectContribution(state, childJob));
+            return true;
+        });
+        changes.contributions.forEach(state::apply);
+        state.highWater = changes.highWater;
+        if (state.changed || state.snapshot == null) {
+            state.snapshot = state.toSnapshot();
+        }
+        if (finished) {
+            state.freeze(batch.getUpdatedAt());
+        }
+    }
+
+    /**
+     * Passes the child jobs of a batch by descending {@code updatedAt} to the visitor, reading them page by page.
+     * Only the current page is referenced, so the memory held for child jobs depends on the configured page size
+     * instead of the batch size.
+     *
+     * @param batchJobId the batch job
+     * @param visitor    receives each child job, returns false to stop the iteration
+     */
+    private void forEachChildJob(UUID batchJobId, Predicate<Job> visitor) {
+        int pageSize = Math.max(1, batchSnapshotConfiguration.childPageSize());
+        JobSearchRequest childrenRequest = JobSearchRequestBuilder.aJobSearchRequest()
+                .withParentId(batchJobId)
+                .build();
+        long offset = 0;
+        while (true) {
+            List<Job> children = storageProvider.getJobList(childrenRequest,
+                    new OffsetBasedPageRequest("updatedAt:DESC", offset, pageSize));
+            for (Job childJob : children) {
+                if (!visitor.test(childJob)) {
+                    return;
+                }
+            }
+            if (children.size() < pageSize) {
+                return;
+            }
+            offset += children.size();
         }
+    }
+
+    private ChildContribution collectContribution(BatchSnapshotState state, Job childJob) {
+        long[] recap = extractRecap(state, childJob.getResult());
+        List<JobMessage> messages = new ArrayList<>();
+        Optional<FailedState> lastJobState = childJob.getLastJobStateOfType(FailedState.class);
+        lastJobState.ifPresent(failedState -> messages.add(new JobMessage(
+                failedState.getCreatedAt(),
+                childJob.getId(),
+                JobMessageLevel.EXCEPTION,
+                "[" + childJob.getJobName() + "] " + failedState.getExceptionMessage(),
+                failedState.getStackTrace()
+        )));
+
+        childJob.getMetadata().entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith("jobRunrDashboardLog-"))
+                .map(Map.Entry::getValue)
+                .filter(JobDashboardLogger.JobDashboardLogLines.class::isInstance)
+                .map(JobDashboardLogger.JobDashboardLogLines.class::cast)
+                .flatMap(lines -> lines.getLogLines().stream())
+                .forEach(logLine -> messages.add(new JobMessage(
+                        logLine.getLogInstant(),
+                        childJob.getId(),
+                        toJobMessageLevel(logLine.getLevel()),
+                        logLine.getLogMessage(),
+                        null
+                )));
 
-        return new BatchDetailsSnapshot(
-                toLongMap(recapCounters),
-                new JobMessageLevelCounters(infoMessages.get(), warningMessages.get(), errorMessages.get(), exceptionMessages.get()),
-                List.copyOf(messages)
-        );
+        return new ChildContribution(recap, List.copyOf(messages));
     }
 
     private RecapValueExtractor resolveRecapValueExtractor(JobDefinition jobDefinition) {
@@ -227,49 +287,17 @@ public class DefaultJobDetailsProvider implements JobMessageProvider, JobRecapPr
                 .orElse(null);
     }
 
-    private void updateCounters(Map<String, AtomicLong> counters, RecapValueExtractor recapValueExtractor, Object recap) {
-        if (recap == null || recapValueExtractor == null) {
-            return;
+    private long[] extractRecap(BatchSnapshotState state, Object recap) {
+        if (recap == null || state.recapValueExtractor == null || state.recapNames.isEmpty()) {
+            return null;
         }
-        Map<String, Long> extractedValues = recapValueExtractor.extract(recap);
-        for (Map.Entry<String, Long> extractedEntry : extractedValues.entrySet()) {
-            AtomicLong counter = counters.get(extractedEntry.getKey());
-            if (counter != null && extractedEntry.getValue() != null) {
-                counter.addAndGet(extractedEntry.getValue());
-            }
+        Map<String, Long> extractedValues = state.recapValueExtractor.extract(recap);
+        long[] values = new long[state.recapNames.size()];
+        for (int i = 0; i < values.length; i++) {
+            Long value = extractedValues.get(state.recapNames.get(i));
+            values[i] = value == null ? 0L : value;
         }
-    }
-
-    private Map<String, AtomicLong> initializeRecapCounters(JobDefinition jobDefinition) {
-        Map<String, AtomicLong> counters = new HashMap<>();
-        for (JobRecapParameter recapParameter : jobDefinition.recapParameters()) {
-            counters.put(recapParameter.name(), new AtomicLong(0));
-        }
-        return counters;
-    }
-
-    private Map<String, Long> toLongMap(Map<String, AtomicLong> counters) {
-        Map<String, Long> result = new HashMap<>();
-        counters.forEach((key, value) -> result.put(key, value.get()));
-        return result;
-    }
-
-    private boolean matchesSearch(JobMessageLevel level, JobMessageLevelSearch search) {
-        return switch (level) {
-            case INFO -> search == JobMessageLevelSearch.ALL
-                    || search == JobMessageLevelSearch.INFO_ONLY;
-            case WARNING -> search == JobMessageLevelSearch.ALL
-                    || search == JobMessageLevelSearch.WARNING_ONLY
-                    || search == JobMessageLevelSearch.WARNINGS_AND_ERRORS_AND_EXCEPTIONS;
-            case ERROR -> search == JobMessageLevelSearch.ALL
-                    || search == JobMessageLevelSearch.ERROR_ONLY
-                    || search == JobMessageLevelSearch.ERRORS_AND_EXCEPTIONS
-                    || search == JobMessageLevelSearch.WARNINGS_AND_ERRORS_AND_EXCEPTIONS;
-            case EXCEPTION -> search == JobMessageLevelSearch.ALL
-                    || search == JobMessageLevelSearch.EXCEPTION_ONLY
-                    || search == JobMessageLevelSearch.ERRORS_AND_EXCEPTIONS
-                    || search == JobMessageLevelSearch.WARNINGS_AND_ERRORS_AND_EXCEPTIONS;
-        };
+        return values;
     }
 
     private static JobMessageLevel toJobMessageLevel(JobDashboardLogger.Level level) {
@@ -280,32 +308,136 @@ public class DefaultJobDetailsProvider implements JobMessageProvider, JobRecapPr
         };
     }
 
-    private List<Job> getChildJobs(BatchJob batchJob) {
-        return storageProvider.getJobList(JobSearchRequestBuilder.aJobSearchRequest()
-                .withParentId(batchJob.getId())
-                .build(), AmountRequest.fromString("limit=1000000"));
+    /**
+     * The recap values and messages a child job adds to the snapshot of its batch.
+     *
+     * @param recap    the recap values in the order of the recap parameters, or null without a recap
+     * @param messages the failure and dashboard log messages of the child job
+     */
+    private record ChildContribution(long[] recap, List<JobMessage> messages) {
+
+        boolean isEmpty() {
+            return recap == null && messages.isEmpty();
+        }
     }
 
-    private record SnapshotCacheEntry(BatchDetailsSnapshot snapshot, long createdAtMillis) {
+    /**
+     * The child contributions read by a refresh, merged into the state once all pages have been read.
+     */
+    private static final class RefreshChanges {
+        private final Map<UUID, ChildContribution> contributions = new LinkedHashMap<>();
+        private Instant highWater;
+
+        RefreshChanges(Instant highWater) {
+            this.highWater = highWater;
+        }
+
+        void add(UUID childJobId, Instant updatedAt, ChildContribution contribution) {
+            if (updatedAt != null && (highWater == null || updatedAt.isAfter(highWater))) {
+                highWater = updatedAt;
+            }
+            contributions.put(childJobId, contribution);
+        }
     }
 
-    private record CollectedMessage(Instant createdAt,
-                                    UUID jobId,
-                                    JobMessageLevel level,
-                                    String message,
-                                    String stackTrace) {
+    /**
+     * The incrementally maintained snapshot of a batch. Only the thread refreshing the snapshot modifies the state,
+     * readers use the immutable {@link #snapshot}.
+     */
+    private static final class BatchSnapshotState {
+        private static final long STATE_BYTES = 1024;
+        private static final long CONTRIBUTION_BYTES = 128;
+        private static final long MESSAGE_BYTES = 48;
+        private final List<String> recapNames;
+        private final RecapValueExtractor recapValueExtractor;
+        private final Map<UUID, ChildContribution> contributions = new HashMap<>();
+        private final long[] recapTotals;
+        private final long[] levelCounts = new long[JobMessageLevel.values().length];
+        private Instant highWater;
+        private boolean changed;
+        private volatile BatchDetailsSnapshot snapshot;
+        private volatile long refreshedAtMillis;
+        private volatile boolean frozen;
+        private volatile Instant batchUpdatedAt;
+        private long retainedMessages;
+
+        BatchSnapshotState(List<String> recapNames, RecapValueExtractor recapValueExtractor) {
+            this.recapNames = recapNames;
+            this.recapValueExtractor = recapValueExtractor;
+            this.recapTotals = new long[recapNames.size()];
+        }
 
-        JobMessage toJobMessage() {
-            return new JobMessage(createdAt, jobId, level, message, stackTrace);
+        /**
+         * Replaces the contribution of a child job and adjusts the totals by the difference.
+         */
+        void apply(UUID childJobId, ChildContribution contribution) {
+            ChildContribution previous = contribution.isEmpty()
+                    ? contributions.remove(childJobId)
+                    : contributions.put(childJobId, contribution);
+            if (previous == null && contribution.isEmpty()) {
+                return;
+            }
+            if (previous != null) {
+                add(previous, -1);
+            }
+            add(contribution, 1);
+            changed = true;
+        }
+
+        private void add(ChildContribution contribution, int sign) {
+            if (contribution.recap() != null) {
+                for (int i = 0; i < recapTotals.length; i++) {
+                    recapTotals[i] += sign * contribution.recap()[i];
+                }
+            }
+            for (JobMessage message : contribution.messages()) {
+                levelCounts[message.messageLevel().ordinal()] += sign;
+            }
+            retainedMessages += sign * contribution.messages().size();
+        }
+
+        /**
+         * Keeps the snapshot until the batch job changes and releases the per child contributions.
+         */
+        void freeze(Instant batchUpdatedAt) {
+            this.batchUpdatedAt = batchUpdatedAt;
+            this.frozen = true;
+            contributions.clear();
+            retainedMessages = 0;
+        }
+
+        /**
+         * Estimates the memory held by the state: the snapshot and, while the batch runs, the per child contributions.
+         * The contributions share the strings of the snapshot but keep their own message objects.
+         */
+        long estimatedWeight() {
+            long snapshotBytes = snapshot == null ? 0 : snapshot.messages().estimatedBytes();
+            return STATE_BYTES + snapshotBytes + contributions.size() * CONTRIBUTION_BYTES + retainedMessages * MESSAGE_BYTES;
+        }
+
+        BatchDetailsSnapshot toSnapshot() {
+            changed = false;
+            Map<String, Long> recapCounters = new HashMap<>();
+            for (int i = 0; i < recapTotals.length; i++) {
+                recapCounters.put(recapNames.get(i), recapTotals[i]);
+            }
+            List<JobMessage> messages = contributions.values().stream()
+                    .flatMap(contribution -> contribution.messages().stream())
+                    .toList();
+            return new BatchDetailsSnapshot(
+                    recapCounters,
+                    new JobMessageLevelCounters(
+                            levelCounts[JobMessageLevel.INFO.ordinal()],
+                            levelCounts[JobMessageLevel.WARNING.ordinal()],
+                            levelCounts[JobMessageLevel.ERROR.ordinal()],
+                            levelCounts[JobMessageLevel.EXCEPTION.ordinal()]),
+                    BatchMessageColumns.of(messages)
+            );
         }
     }
 
     private record BatchDetailsSnapshot(Map<String, Long> recapCounters,
                                         JobMessageLevelCounters messageCounter,
-                                        List<CollectedMessage> messages) {
-
-        static BatchDetailsSnapshot empty() {
-            return new BatchDetailsSnapshot(Map.of(), new JobMessageLevelCounters(0, 0, 0, 0), List.of());
-        }
+                                        BatchMessageColumns messages) {
     }
 }
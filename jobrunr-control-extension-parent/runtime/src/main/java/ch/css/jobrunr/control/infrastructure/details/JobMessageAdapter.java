@@ -6,7 +6,6 @@ import ch.css.jobrunr.control.domain.details.JobMessageService;
 import ch.css.jobrunr.control.domain.details.JobMessageStoragePort;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import jakarta.transaction.Transactional;
 import org.jobrunr.server.runner.ThreadLocalJobContext;
 
 import java.io.PrintWriter;
@@ -14,78 +13,81 @@ import java.io.StringWriter;
 import java.time.Instant;
 import java.util.UUID;
 
+/**
+ * Writes the messages of the running job.
+ * The {@code *TxNew} and {@code exception} methods must survive a rollback of the job's transaction. In the
+ * synchronous write mode they are written in a new transaction; in the asynchronous modes they are only queued,
+ * and the flusher writes them outside the job's transaction, so no transaction is opened on the job's thread.
+ */
 @ApplicationScoped
 public class JobMessageAdapter implements JobMessageService {
 
     private final JobMessageStoragePort jobMessageStorage;
+    private final AsyncJobMessageWriter asyncJobMessageWriter;
+    private final JobMessageTxNewWriter txNewWriter;
 
     @Inject
-    public JobMessageAdapter(JobMessageStoragePort jobMessageStorage) {
+    public JobMessageAdapter(JobMessageStoragePort jobMessageStorage, AsyncJobMessageWriter asyncJobMessageWriter,
+                             JobMessageTxNewWriter txNewWriter) {
         this.jobMessageStorage = jobMessageStorage;
+        this.asyncJobMessageWriter = asyncJobMessageWriter;
+        this.txNewWriter = txNewWriter;
     }
 
 
     @Override
     public void info(String message, Object... args) {
-        writeMessage(JobMessageLevel.INFO, String.format(message, args), null);
+        writeMessage(JobMessageLevel.INFO, String.format(message, args), null, false);
     }
 
     @Override
-    @Transactional(Transactional.TxType.REQUIRES_NEW)
     public void infoTxNew(String message, Object... args) {
-        writeMessage(JobMessageLevel.INFO, String.format(message, args), null);
+        writeMessage(JobMessageLevel.INFO, String.format(message, args), null, true);
     }
 
     @Override
     public void warning(String message, Object... args) {
-        writeMessage(JobMessageLevel.WARNING, String.format(message, args), null);
+        writeMessage(JobMessageLevel.WARNING, String.format(message, args), null, false);
     }
 
     @Override
-    @Transactional(Transactional.TxType.REQUIRES_NEW)
     public void warningTxNew(String message, Object... args) {
-        writeMessage(JobMessageLevel.WARNING, String.format(message, args), null);
+        writeMessage(JobMessageLevel.WARNING, String.format(message, args), null, true);
     }
 
     @Override
     public void error(String message, Object... args) {
-        writeMessage(JobMessageLevel.ERROR, String.format(message, args), null);
+        writeMessage(JobMessageLevel.ERROR, String.format(message, args), null, false);
     }
 
     @Override
-    @Transactional(Transactional.TxType.REQUIRES_NEW)
     public void errorTxNew(String message, Object... args) {
-        writeMessage(JobMessageLevel.ERROR, String.format(message, args), null);
+        writeMessage(JobMessageLevel.ERROR, String.format(message, args), null, true);
     }
 
     @Override
-    @Transactional(Transactional.TxType.REQUIRES_NEW)
     public void exception(String message, Throwable throwable) {
-        writeMessage(JobMessageLevel.EXCEPTION, message, stackTraceAsString(throwable));
+        writeMessage(JobMessageLevel.EXCEPTION, message, stackTraceAsString(throwable), true);
     }
 
     @Override
-    @Transactional(Transactional.TxType.REQUIRES_NEW)
     public void exception(String message, Object args1, Throwable throwable) {
-        writeMessage(JobMessageLevel.EXCEPTION, String.format(message, args1), stackTraceAsString(throwable));
+        writeMessage(JobMessageLevel.EXCEPTION, String.format(message, args1), stackTraceAsString(throwable), true);
     }
 
     @Override
-    @Transactional(Transactional.TxType.REQUIRES_NEW)
     public void exception(String message, Object args1, Object args2, Throwable throwable) {
-        writeMessage(JobMessageLevel.EXCEPTION, String.format(message, args1, args2), stackTraceAsString(throwable));
+        writeMessage(JobMessageLevel.EXCEPTION, String.format(message, args1, args2), stackTraceAsString(throwable), true);
     }
 
     @Override
-    @Transactional(Transactional.TxType.REQUIRES_NEW)
     public void exception(String message, Object args1, Object args2, Object args3, Throwable throwable) {
-        writeMessage(JobMessageLevel.EXCEPTION, String.format(message, args1, args2, args3), stackTraceAsString(throwable));
+        writeMessage(JobMessageLevel.EXCEPTION, String.format(message, args1, args2, args3), stackTraceAsString(throwable), true);
     }
 
     @Override
-    @Transactional(Transactional.TxType.REQUIRES_NEW)
     public void exception(String message, Object args1, Object args2, Object args3, Object args4, Throwable throwable) {
-        writeMessage(JobMessageLevel.EXCEPTION, String.format(message, args1, args2, args3, args4), stackTraceAsString(throwable));
+        writeMessage(JobMessageLevel.EXCEPTION, String.format(message, args1, args2, args3, args4), stackTraceAsString(throwable), true);
     }
 
     private static String stackTraceAsString(Throwable t) {
@@ -95,13 +97,19 @@ public class JobMessageAdapter implements JobMessageService {
         return sw.toString();
     }
 
-    private void writeMessage(JobMessageLevel level, String message, String stackTrace) {
+    private void writeMessage(JobMessageLevel level, String message, String stackTrace, boolean newTransaction) {
         UUID batchJobId = ThreadLocalJobContext.getJobContext().getAwaitedJobId();
         UUID jobId = ThreadLocalJobContext.getJobContext().getJobId();
         if(batchJobId == null) {
             batchJobId = jobId;
         }
         JobMessage jobMessage = new JobMessage(Instant.now(), jobId, level, message, stackTrace);
-        jobMessageStorage.writeMessage(batchJobId, jobMessage);
+        if (asyncJobMessageWriter.isEnabled()) {
+            asyncJobMessageWriter.enqueue(batchJobId, jobMessage);
+        } else if (newTransaction) {
+            txNewWriter.writeMessage(batchJobId, jobMessage);
+        } else {
+            jobMessageStorage.writeMessage(batchJobId, jobMessage);
+        }
     }
 }
@@ -0,0 +1,35 @@
+package ch.css.jobrunr.control.infrastructure.details;
+
+import ch.css.jobrunr.control.domain.details.JobMessage;
+import ch.css.jobrunr.control.domain.details.JobMessageStoragePort;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Writes a single job message in its own transaction, so it survives a rollback of the job's transaction.
+ * Only used in the synchronous write mode; the asynchronous modes write outside the job's transaction anyway.
+ */
+@ApplicationScoped
+public class JobMessageTxNewWriter {
+
+    private final JobMessageStoragePort jobMessageStorage;
+
+    @Inject
+    public JobMessageTxNewWriter(JobMessageStoragePort jobMessageStorage) {
+        this.jobMessageStorage = jobMessageStorage;
+    }
+
+    /**
+     * Writes the message in a new transaction, suspending the caller's transaction meanwhile.
+     *
+     * @param batchJobId ID of the batch job the message is stored under
+     * @param message    the message
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void writeMessage(UUID batchJobId, JobMessage message) {
+        jobMessageStorage.writeMessage(batchJobId, message);
+    }
+}
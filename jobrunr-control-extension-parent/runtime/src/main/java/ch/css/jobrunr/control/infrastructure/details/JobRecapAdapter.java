@@ -4,6 +4,7 @@ import ch.css.jobrunr.control.domain.details.JobRecapService;
 import ch.css.jobrunr.control.domain.details.JobRecapStoragePort;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
 import org.jobrunr.server.runner.ThreadLocalJobContext;
 
 import java.util.Map;
@@ -20,7 +21,12 @@ public class JobRecapAdapter implements JobRecapService {
         this.jobRecapStorage = jobRecapStorage;
     }
 
+    /**
+     * Joins the transaction of the child job, if any, so that the child counters and the batch totals are
+     * committed together.
+     */
     @Override
+    @Transactional
     public void writeRecap(Map<String, Long> recap) {
         UUID batchJobId = ThreadLocalJobContext.getJobContext().getAwaitedJobId();
         UUID jobId = ThreadLocalJobContext.getJobContext().getJobId();
@@ -0,0 +1,138 @@
+package ch.css.jobrunr.control.infrastructure.details;
+
+import org.jboss.logging.Logger;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Least recently used cache bounded by the estimated memory weight of its values instead of their number.
+ * The weight of a value is determined when it is put; values that change are put again to update it.
+ * Values not read within the idle expiry are removed on the next access of the cache.
+ * A value heavier than the bound on its own is kept as the only value, so it is reused until it expires
+ * or the next value is put, instead of being rebuilt on every read.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class WeightedSnapshotCache<K, V> {
+
+    private static final Logger LOG = Logger.getLogger(WeightedSnapshotCache.class);
+
+    /**
+     * Size, weight and eviction counters of the cache since startup.
+     *
+     * @param size        number of cached values
+     * @param weight      estimated weight of the cached values in bytes
+     * @param maxWeight   configured upper bound of the weight in bytes
+     * @param hits        reads that found a value
+     * @param misses      reads that found no value, including expired ones
+     * @param evictions   values removed because the weight exceeded the bound
+     * @param expirations values removed because they were not read within the idle expiry
+     * @param oversized   values put that were heavier than the bound on their own
+     */
+    public record Statistics(int size, long weight, long maxWeight, long hits, long misses, long evictions,
+                             long expirations, long oversized) {
+    }
+
+    private record Entry<V>(V value, long weight, long accessedAtMillis) {
+
+        Entry<V> accessed(long nowMillis) {
+            return new Entry<>(value, weight, nowMillis);
+        }
+    }
+
+    private final long maxWeight;
+    private final long idleExpiryMillis;
+    private final ToLongFunction<V> weigher;
+    private final Clock clock;
+    // Access order, the eldest entry is the least recently used one
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+    private long oversized;
+
+    WeightedSnapshotCache(long maxWeight, Duration idleExpiry, ToLongFunction<V> weigher, Clock clock) {
+        this.maxWeight = Math.max(0, maxWeight);
+        this.idleExpiryMillis = idleExpiry.toMillis();
+        this.weigher = weigher;
+        this.clock = clock;
+    }
+
+    synchronized V get(K key) {
+        long nowMillis = clock.millis();
+        expireIdle(nowMillis);
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        entries.put(key, entry.accessed(nowMillis));
+        return entry.value();
+    }
+
+    /**
+     * Caches the value with its current weight and evicts the least recently used values while the bound is exceeded.
+     * The value just put is never evicted by its own put; a value heavier than the bound on its own is kept alone.
+     */
+    synchronized void put(K key, V value) {
+        long nowMillis = clock.millis();
+        Entry<V> entry = new Entry<>(value, Math.max(0, weigher.applyAsLong(value)), nowMillis);
+        Entry<V> previous = entries.put(key, entry);
+        weight += entry.weight() - (previous == null ? 0 : previous.weight());
+        expireIdle(nowMillis);
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (weight > maxWeight && eldest.hasNext()) {
+            Map.Entry<K, Entry<V>> candidate = eldest.next();
+            if (candidate.getKey().equals(key)) {
+                // The value just put is the most recently used one, all others are evicted
+                break;
+            }
+            weight -= candidate.getValue().weight();
+            eldest.remove();
+            evictions++;
+        }
+        if (entry.weight() > maxWeight) {
+            oversized++;
+            if (oversized == 1) {
+                LOG.warnf("Cached a value of %d bytes, more than the bound of %d bytes on its own; "
+                        + "it is kept as the only value. Consider raising the bound.", entry.weight(), maxWeight);
+            } else {
+                LOG.debugf("Cached a value of %d bytes, more than the bound of %d bytes on its own", entry.weight(), maxWeight);
+            }
+        }
+    }
+
+    synchronized void remove(K key) {
+        Entry<V> previous = entries.remove(key);
+        if (previous != null) {
+            weight -= previous.weight();
+        }
+    }
+
+    synchronized Statistics statistics() {
+        return new Statistics(entries.size(), weight, maxWeight, hits, misses, evictions, expirations, oversized);
+    }
+
+    private void expireIdle(long nowMillis) {
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (eldest.hasNext()) {
+            Entry<V> entry = eldest.next().getValue();
+            if (nowMillis - entry.accessedAtMillis() < idleExpiryMillis) {
+                // Entries are in access order, all following ones were read more recently
+                return;
+            }
+            weight -= entry.weight();
+            eldest.remove();
+            expirations++;
+        }
+    }
+}
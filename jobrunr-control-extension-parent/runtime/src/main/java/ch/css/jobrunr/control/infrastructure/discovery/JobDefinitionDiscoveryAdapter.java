@@ -6,7 +6,6 @@ import jakarta.enterprise.context.ApplicationScoped;
 import org.jboss.logging.Logger;
 
 import java.util.Collection;
-import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -35,9 +34,7 @@ public class JobDefinitionDiscoveryAdapter implements JobDefinitionDiscoveryServ
      */
     @Override
     public Optional<JobDefinition> findJobByType(String jobType) {
-        return getAllJobDefinitions().stream()
-                .filter(jd -> Objects.equals(jd.jobType(), jobType))
-                .findFirst();
+        return Optional.ofNullable(JobDefinitionRecorder.JobDefinitionRegistry.INSTANCE.getDefinitionByJobType(jobType));
     }
 
     @Override
@@ -45,6 +42,16 @@ public class JobDefinitionDiscoveryAdapter implements JobDefinitionDiscoveryServ
         return Optional.ofNullable(
                 JobDefinitionRecorder.JobDefinitionRegistry.INSTANCE.getDefinition(handlerClassName));
     }
+
+    @Override
+    public Optional<Class<?>> findParametersClass(JobDefinition jobDefinition) {
+        return Optional.ofNullable(JobDefinitionRecorder.JobDefinitionRegistry.INSTANCE.getParametersClass(jobDefinition));
+    }
+
+    @Override
+    public Optional<Class<?>> findJobRequestClass(JobDefinition jobDefinition) {
+        return Optional.ofNullable(JobDefinitionRecorder.JobDefinitionRegistry.INSTANCE.getJobRequestClass(jobDefinition));
+    }
 }
 
 
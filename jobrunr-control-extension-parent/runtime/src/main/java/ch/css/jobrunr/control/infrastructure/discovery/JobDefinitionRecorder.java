@@ -2,9 +2,12 @@ package ch.css.jobrunr.control.infrastructure.discovery;
 
 import ch.css.jobrunr.control.domain.JobDefinition;
 import io.quarkus.runtime.annotations.Recorder;
+import org.jboss.logging.Logger;
+import org.jobrunr.jobs.lambdas.JobRequest;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -17,6 +20,8 @@ import java.util.Set;
 @Recorder
 public class JobDefinitionRecorder {
 
+    private static final Logger LOG = Logger.getLogger(JobDefinitionRecorder.class);
+
     public void registerJobMetadata(Set<JobDefinition> jobDefinitions) {
         JobDefinitionRegistry.INSTANCE.setDefinitions(jobDefinitions);
     }
@@ -28,11 +33,16 @@ public class JobDefinitionRecorder {
 
     /**
      * Singleton registry to hold job definitions and build-time configuration at runtime.
+     * <p>
+     * The job definitions are held in an immutable index that is built once from the build-time
+     * scan at STATIC_INIT. It resolves definitions by job type, handler class, JobRequest class and
+     * external parameter class in constant time and holds the loaded JobRequest and parameter
+     * classes, so no class is loaded while jobs are scheduled or validated.
      */
     public static final class JobDefinitionRegistry {
         public static final JobDefinitionRegistry INSTANCE = new JobDefinitionRegistry();
 
-        private final Map<String, JobDefinition> definitionsByHandlerClass = new HashMap<>();
+        private volatile Index index = Index.EMPTY;
         private boolean openApiAvailable = false;
         private String openApiUrl = "/q/swagger-ui";
 
@@ -40,10 +50,7 @@ public class JobDefinitionRecorder {
         }
 
         void setDefinitions(Set<JobDefinition> jobDefinitions) {
-            definitionsByHandlerClass.clear();
-            for (JobDefinition jobDefinition : jobDefinitions) {
-                definitionsByHandlerClass.put(jobDefinition.handlerClassName(), jobDefinition);
-            }
+            this.index = Index.of(jobDefinitions);
         }
 
         void setOpenApiAvailable(boolean available) {
@@ -63,11 +70,106 @@ public class JobDefinitionRecorder {
         }
 
         public JobDefinition getDefinition(String handlerClassName) {
-            return definitionsByHandlerClass.get(handlerClassName);
+            return handlerClassName != null ? index.byHandlerClass().get(handlerClassName) : null;
+        }
+
+        public JobDefinition getDefinitionByJobType(String jobType) {
+            return jobType != null ? index.byJobType().get(jobType) : null;
+        }
+
+        public JobDefinition getDefinitionByJobRequestClass(String jobRequestClassName) {
+            return jobRequestClassName != null ? index.byJobRequestClass().get(jobRequestClassName) : null;
+        }
+
+        public JobDefinition getDefinitionByExternalParametersClass(String externalParametersClassName) {
+            return externalParametersClassName != null ? index.byExternalParametersClass().get(externalParametersClassName) : null;
         }
 
         public Collection<JobDefinition> getAllDefinitions() {
-            return definitionsByHandlerClass.values();
+            return index.definitions();
+        }
+
+        /**
+         * Returns the loaded JobRequest class of the given job definition.
+         *
+         * @param jobDefinition the job definition
+         * @return the JobRequest class, or null if the class could not be loaded
+         */
+        public Class<? extends JobRequest> getJobRequestClass(JobDefinition jobDefinition) {
+            Class<?> jobRequestClass = index.classesByName().get(jobDefinition.jobRequestTypeName());
+            return jobRequestClass != null && JobRequest.class.isAssignableFrom(jobRequestClass)
+                    ? jobRequestClass.asSubclass(JobRequest.class)
+                    : null;
+        }
+
+        /**
+         * Returns the loaded class the parameters of the given job definition are bound to:
+         * the external parameter class for jobs with external parameters, the JobRequest class otherwise.
+         *
+         * @param jobDefinition the job definition
+         * @return the parameters class, or null if the class could not be loaded
+         */
+        public Class<?> getParametersClass(JobDefinition jobDefinition) {
+            String className = jobDefinition.usesExternalParameters()
+                    ? jobDefinition.externalParametersClassName()
+                    : jobDefinition.jobRequestTypeName();
+            return className != null ? index.classesByName().get(className) : null;
+        }
+    }
+
+    private record Index(List<JobDefinition> definitions,
+                         Map<String, JobDefinition> byJobType,
+                         Map<String, JobDefinition> byHandlerClass,
+                         Map<String, JobDefinition> byJobRequestClass,
+                         Map<String, JobDefinition> byExternalParametersClass,
+                         Map<String, Class<?>> classesByName) {
+
+        static final Index EMPTY = new Index(List.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+
+        static Index of(Collection<JobDefinition> jobDefinitions) {
+            Map<String, JobDefinition> byJobType = new HashMap<>();
+            Map<String, JobDefinition> byHandlerClass = new HashMap<>();
+            Map<String, JobDefinition> byJobRequestClass = new HashMap<>();
+            Map<String, JobDefinition> byExternalParametersClass = new HashMap<>();
+            Map<String, Class<?>> classesByName = new HashMap<>();
+
+            for (JobDefinition jobDefinition : jobDefinitions) {
+                putIfNotNull(byHandlerClass, jobDefinition.handlerClassName(), jobDefinition);
+                // Job types are unique, the build fails otherwise
+                putIfNotNull(byJobType, jobDefinition.jobType(), jobDefinition);
+                putIfNotNull(byJobRequestClass, jobDefinition.jobRequestTypeName(), jobDefinition);
+                resolveClass(classesByName, jobDefinition.jobRequestTypeName());
+                if (jobDefinition.usesExternalParameters()) {
+                    putIfNotNull(byExternalParametersClass, jobDefinition.externalParametersClassName(), jobDefinition);
+                    resolveClass(classesByName, jobDefinition.externalParametersClassName());
+                }
+            }
+
+            return new Index(
+                    List.copyOf(jobDefinitions),
+                    Map.copyOf(byJobType),
+                    Map.copyOf(byHandlerClass),
+                    Map.copyOf(byJobRequestClass),
+                    Map.copyOf(byExternalParametersClass),
+                    Map.copyOf(classesByName));
+        }
+
+        private static void putIfNotNull(Map<String, JobDefinition> index, String key, JobDefinition jobDefinition) {
+            if (key != null) {
+                index.putIfAbsent(key, jobDefinition);
+            }
+        }
+
+        private static void resolveClass(Map<String, Class<?>> classesByName, String className) {
+            if (className == null || classesByName.containsKey(className)) {
+                return;
+            }
+            try {
+                classesByName.put(className, Thread.currentThread().getContextClassLoader().loadClass(className));
+            } catch (ClassNotFoundException | LinkageError e) {
+                LOG.warnf("Failed to load class %s of a job definition: %s", className, e.getMessage());
+                // Don't throw - scheduling or validating this job fails with a clear error instead
+            }
         }
     }
 }
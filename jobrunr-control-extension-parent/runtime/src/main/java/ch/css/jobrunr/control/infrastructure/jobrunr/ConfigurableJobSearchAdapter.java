@@ -3,6 +3,9 @@ package ch.css.jobrunr.control.infrastructure.jobrunr;
 import ch.css.jobrunr.control.domain.JobDefinition;
 import ch.css.jobrunr.control.domain.JobDefinitionDiscoveryService;
 import ch.css.jobrunr.control.domain.exceptions.JobExecutionException;
+import ch.css.jobrunr.control.domain.exceptions.TimeoutException;
+import ch.css.jobrunr.control.infrastructure.config.JobSearchConfiguration;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.jboss.logging.Logger;
@@ -12,13 +15,31 @@ import org.jobrunr.storage.JobSearchRequest;
 import org.jobrunr.storage.JobSearchRequestBuilder;
 import org.jobrunr.storage.StorageProvider;
 import org.jobrunr.storage.navigation.AmountRequest;
+import org.jobrunr.storage.navigation.OffsetBasedPageRequest;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 /**
  * Factory for creating JobRunr JobSearchRequest instances.
  * Provides common search request configurations for different job types.
+ * <p>
+ * A search issues one storage query per (state, job type) segment. When parallel search is enabled,
+ * these queries run on virtual threads, bounded by a shared concurrency cap and a per-query timeout.
+ * Results are always merged in segment order, so the outcome does not depend on query completion order.
  */
 @ApplicationScoped
 public class ConfigurableJobSearchAdapter {
@@ -26,18 +47,43 @@ public class ConfigurableJobSearchAdapter {
     public record ConfigurableJobSearchResult(JobDefinition jobDefinition, Job job) {
     }
 
+    /**
+     * A single (state, job type) combination that maps to exactly one storage query.
+     */
+    public record SearchSegment(StateName state, JobDefinition jobDefinition) {
+    }
+
+    /**
+     * Range of creation times passed to the storage; a null bound leaves that side open.
+     */
+    public record CreatedAtRange(Instant from, Instant to) {
+    }
+
     private static final Logger LOG = Logger.getLogger(ConfigurableJobSearchAdapter.class);
 
     private final StorageProvider storageProvider;
     private final JobDefinitionDiscoveryService jobDefinitionDiscoveryService;
+    private final JobSearchConfiguration configuration;
+    private final Semaphore queryPermits;
+    private final ExecutorService searchExecutor;
 
     @Inject
     public ConfigurableJobSearchAdapter(
             StorageProvider storageProvider,
-            JobDefinitionDiscoveryService jobDefinitionDiscoveryService
+            JobDefinitionDiscoveryService jobDefinitionDiscoveryService,
+            JobSearchConfiguration configuration
     ) {
         this.storageProvider = storageProvider;
         this.jobDefinitionDiscoveryService = jobDefinitionDiscoveryService;
+        this.configuration = configuration;
+        this.queryPermits = new Semaphore(Math.max(1, configuration.maxConcurrency()), true);
+        this.searchExecutor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("jobrunr-control-search-", 0).factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        searchExecutor.shutdownNow();
     }
 
     public List<ConfigurableJobSearchResult> getConfigurableJob(List<StateName> statesToQuery) {
@@ -45,9 +91,9 @@ public class ConfigurableJobSearchAdapter {
         try {
             AmountRequest amountRequest = createAmountRequest();
 
-            for (StateName state : statesToQuery) {
-                collectJobsForState(state, amountRequest, configurableJob);
-            }
+            List<SearchSegment> segments = createSegments(statesToQuery, null);
+            querySegments(segments, segment -> loadJobs(segment, amountRequest), List.of())
+                    .forEach(configurableJob::addAll);
             return configurableJob;
         } catch (Exception e) {
             LOG.errorf(e, "Error retrieving job executions");
@@ -55,23 +101,237 @@ public class ConfigurableJobSearchAdapter {
         }
     }
 
-    private AmountRequest createAmountRequest() {
-        return new AmountRequest("updatedAt:DESC", 10000);
+    /**
+     * Creates one search segment per (state, job definition) combination.
+     *
+     * @param statesToQuery the job states to search in
+     * @param jobType       optional job type filter (null for all job types)
+     * @return the search segments in state order, then job definition order
+     */
+    public List<SearchSegment> createSegments(List<StateName> statesToQuery, String jobType) {
+        List<SearchSegment> segments = new ArrayList<>();
+        for (StateName state : statesToQuery) {
+            for (JobDefinition jobDefinition : jobDefinitionDiscoveryService.getAllJobDefinitions()) {
+                if (jobType == null || Objects.equals(jobType, jobDefinition.jobType())) {
+                    segments.add(new SearchSegment(state, jobDefinition));
+                }
+            }
+        }
+        return segments;
     }
 
-    private void collectJobsForState(StateName state, AmountRequest amountRequest, List<ConfigurableJobSearchResult> results) {
-        for (JobDefinition jobDefinition : jobDefinitionDiscoveryService.getAllJobDefinitions()) {
-            collectJobsForDefinition(state, jobDefinition, amountRequest, results);
+    /**
+     * Counts the jobs of a search segment without loading them.
+     * Failures are logged and counted as zero, in line with the list queries.
+     *
+     * @param segment the search segment
+     * @return the number of jobs in the segment
+     */
+    public long countJobs(SearchSegment segment) {
+        return countJobs(segment, null);
+    }
+
+    private long countJobs(SearchSegment segment, CreatedAtRange createdAt) {
+        try {
+            return storageProvider.countJobs(createSearchRequest(segment.state(), segment.jobDefinition(), createdAt));
+        } catch (Exception e) {
+            LOG.warnf(e, "Error counting jobs in state %s with type %s", segment.state(), segment.jobDefinition().jobType());
+            return 0;
         }
     }
 
-    private void collectJobsForDefinition(StateName state, JobDefinition jobDefinition, AmountRequest amountRequest, List<ConfigurableJobSearchResult> results) {
+    /**
+     * Counts the jobs of several search segments, running the count queries concurrently when enabled.
+     *
+     * @param segments the search segments
+     * @return the job count per segment, in segment order
+     */
+    public Map<SearchSegment, Long> countJobs(List<SearchSegment> segments) {
+        return countJobs(segments, null);
+    }
+
+    /**
+     * Counts the jobs of several search segments created within a range, running the count queries
+     * concurrently when enabled.
+     *
+     * @param segments  the search segments
+     * @param createdAt the range of creation times, null for all jobs
+     * @return the job count per segment, in segment order
+     */
+    public Map<SearchSegment, Long> countJobs(List<SearchSegment> segments, CreatedAtRange createdAt) {
+        List<Long> counts = querySegments(segments, segment -> countJobs(segment, createdAt), 0L);
+        Map<SearchSegment, Long> countsBySegment = new LinkedHashMap<>();
+        for (int i = 0; i < segments.size(); i++) {
+            countsBySegment.put(segments.get(i), counts.get(i));
+        }
+        return countsBySegment;
+    }
+
+    /**
+     * Loads the first jobs of several search segments, running the queries concurrently when enabled.
+     *
+     * @param segments the search segments
+     * @param order    the storage order, e.g. {@code updatedAt:DESC}
+     * @param limit    maximum number of jobs to load per segment
+     * @return the jobs of all segments, concatenated in segment order
+     */
+    public List<ConfigurableJobSearchResult> getJobs(List<SearchSegment> segments, String order, ToIntFunction<SearchSegment> limit) {
+        return getJobs(segments, null, order, limit);
+    }
+
+    /**
+     * Loads the first jobs of several search segments created within a range, running the queries
+     * concurrently when enabled. Used to seek to a position in a history ordered by creation time.
+     *
+     * @param segments  the search segments
+     * @param createdAt the range of creation times, null for all jobs
+     * @param order     the storage order, e.g. {@code createdAt:DESC}
+     * @param limit     maximum number of jobs to load per segment
+     * @return the jobs of all segments, concatenated in segment order
+     */
+    public List<ConfigurableJobSearchResult> getJobs(List<SearchSegment> segments, CreatedAtRange createdAt, String order,
+                                                     ToIntFunction<SearchSegment> limit) {
+        List<ConfigurableJobSearchResult> results = new ArrayList<>();
+        querySegments(segments, segment -> getJobs(segment, createdAt, order, 0, limit.applyAsInt(segment)), List.of())
+                .forEach(results::addAll);
+        return results;
+    }
+
+    /**
+     * Loads a slice of the jobs of a search segment using storage side offset and limit.
+     *
+     * @param segment the search segment
+     * @param order   the storage order, e.g. {@code updatedAt:DESC}
+     * @param offset  number of jobs to skip
+     * @param limit   maximum number of jobs to return
+     * @return the jobs of the requested slice
+     */
+    public List<ConfigurableJobSearchResult> getJobs(SearchSegment segment, String order, long offset, int limit) {
+        return getJobs(segment, null, order, offset, limit);
+    }
+
+    private List<ConfigurableJobSearchResult> getJobs(SearchSegment segment, CreatedAtRange createdAt, String order,
+                                                      long offset, int limit) {
+        List<ConfigurableJobSearchResult> results = new ArrayList<>();
+        if (limit <= 0) {
+            return results;
+        }
         try {
-            JobSearchRequest searchRequest = createSearchRequest(state, jobDefinition);
+            JobSearchRequest searchRequest = createSearchRequest(segment.state(), segment.jobDefinition(), createdAt);
+            List<Job> jobList = storageProvider.getJobList(searchRequest, new OffsetBasedPageRequest(order, offset, limit));
+            addNonChildJobs(jobList, segment.jobDefinition(), results);
+        } catch (Exception e) {
+            LOG.warnf(e, "Error retrieving jobs in state %s with type %s", segment.state(), segment.jobDefinition().jobType());
+        }
+        return results;
+    }
+
+    private AmountRequest createAmountRequest() {
+        return new AmountRequest("updatedAt:DESC", 10000);
+    }
+
+    private List<ConfigurableJobSearchResult> loadJobs(SearchSegment segment, AmountRequest amountRequest) {
+        List<ConfigurableJobSearchResult> results = new ArrayList<>();
+        try {
+            JobSearchRequest searchRequest = createSearchRequest(segment.state(), segment.jobDefinition());
             List<Job> jobList = storageProvider.getJobList(searchRequest, amountRequest);
-            addNonChildJobs(jobList, jobDefinition, results);
+            addNonChildJobs(jobList, segment.jobDefinition(), results);
         } catch (Exception e) {
-            LOG.warnf(e, "Error retrieving jobs in state %s with type %s", state, jobDefinition.jobType());
+            LOG.warnf(e, "Error retrieving jobs in state %s with type %s", segment.state(), segment.jobDefinition().jobType());
+        }
+        return results;
+    }
+
+    /**
+     * Runs one query per segment and returns the results in segment order.
+     */
+    private <T> List<T> querySegments(List<SearchSegment> segments, Function<SearchSegment, T> query, T fallback) {
+        return queryEach(segments, query, fallback,
+                segment -> "jobs in state " + segment.state() + " with type " + segment.jobDefinition().jobType());
+    }
+
+    /**
+     * Runs one storage query per key and returns the results in key order.
+     * In parallel mode each query runs on its own virtual thread once a permit is available, sharing the
+     * concurrency cap of the job search; a query that fails or exceeds the timeout is logged and replaced
+     * by the fallback value. The query itself is expected to handle its own storage errors.
+     *
+     * @param keys     the keys to query, one storage query each
+     * @param query    the storage query for a single key
+     * @param fallback the result used for a query that failed or timed out
+     * @param describe describes the result of a key for log messages
+     * @return the query results, in key order
+     */
+    public <K, T> List<T> queryEach(List<K> keys, Function<K, T> query, T fallback, Function<K, String> describe) {
+        return runEach(keys, query, describe, false, fallback);
+    }
+
+    /**
+     * Runs one storage query per key like {@link #queryEach}, but fails as soon as a query fails or exceeds the
+     * timeout instead of replacing its result, for callers that must not mistake an outage for a missing result.
+     *
+     * @param keys     the keys to query, one storage query each
+     * @param query    the storage query for a single key
+     * @param describe describes the result of a key for error messages
+     * @return the query results, in key order
+     * @throws TimeoutException      if a query exceeds the timeout
+     * @throws JobExecutionException if a query fails
+     */
+    public <K, T> List<T> queryAll(List<K> keys, Function<K, T> query, Function<K, String> describe) {
+        return runEach(keys, query, describe, true, null);
+    }
+
+    private <K, T> List<T> runEach(List<K> keys, Function<K, T> query, Function<K, String> describe,
+                                   boolean failFast, T fallback) {
+        if (!configuration.parallel() || keys.size() <= 1) {
+            return keys.stream().map(query).toList();
+        }
+
+        List<Future<T>> futures = new ArrayList<>(keys.size());
+        try {
+            for (K key : keys) {
+                futures.add(searchExecutor.submit(withPermit(() -> query.apply(key))));
+            }
+            List<T> results = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                results.add(awaitResult(describe.apply(keys.get(i)), futures.get(i), failFast, fallback));
+            }
+            return results;
+        } finally {
+            // Abandon queries still running after a timeout or interruption; completed futures are unaffected
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private <T> Callable<T> withPermit(Callable<T> query) {
+        return () -> {
+            queryPermits.acquire();
+            try {
+                return query.call();
+            } finally {
+                queryPermits.release();
+            }
+        };
+    }
+
+    private <T> T awaitResult(String description, Future<T> future, boolean failFast, T fallback) {
+        try {
+            return future.get(configuration.queryTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (java.util.concurrent.TimeoutException e) {
+            if (failFast) {
+                throw new TimeoutException("Timed out after " + configuration.queryTimeout() + " retrieving " + description, e);
+            }
+            LOG.warnf("Timed out after %s retrieving %s", configuration.queryTimeout(), description);
+            return fallback;
+        } catch (ExecutionException e) {
+            if (failFast) {
+                throw new JobExecutionException("Error retrieving " + description, e.getCause());
+            }
+            LOG.warnf(e.getCause(), "Error retrieving %s", description);
+            return fallback;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JobExecutionException("Interrupted while retrieving job executions", e);
         }
     }
 
@@ -83,6 +343,26 @@ public class ConfigurableJobSearchAdapter {
         }
     }
 
+    private JobSearchRequest createSearchRequest(StateName state, JobDefinition jobDefinition, CreatedAtRange createdAt) {
+        if (createdAt == null) {
+            return createSearchRequest(state, jobDefinition);
+        }
+        JobSearchRequestBuilder builder = JobSearchRequestBuilder
+                .aJobSearchRequest()
+                .withStateName(state)
+                .withLabel(JobTypeLabel.stamp(jobDefinition.jobType()));
+        if (jobDefinition.isBatchJob()) {
+            builder.withOnlyBatchJobs(true);
+        }
+        if (createdAt.from() != null) {
+            builder.withCreatedAtFrom(createdAt.from());
+        }
+        if (createdAt.to() != null) {
+            builder.withCreatedAtTo(createdAt.to());
+        }
+        return builder.build();
+    }
+
     private void addNonChildJobs(List<Job> jobList, JobDefinition jobDefinition, List<ConfigurableJobSearchResult> results) {
         for (Job job : jobList) {
             if (!isChildJobOfBatch(job, jobDefinition)) {
@@ -1,7 +1,6 @@
 package ch.css.jobrunr.control.infrastructure.jobrunr;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.enterprise.inject.spi.CDI;
+import ch.css.jobrunr.control.domain.ParameterCodecPort;
 import org.jboss.logging.Logger;
 import org.jobrunr.jobs.lambdas.JobRequest;
 
@@ -11,7 +10,7 @@ import java.util.Map;
 /**
  * Utility class for extracting job parameters from JobRunr jobs.
  * Handles both regular parameters and JobRequest objects.
- * Uses Jackson ObjectMapper to serialize JobRequest objects to Map.
+ * Converts JobRequest objects to Map using the parameter codecs.
  */
 public final class JobParameterExtractor {
 
@@ -26,10 +25,11 @@ public final class JobParameterExtractor {
      * If there is only one parameter and it is a JobRequest, its fields are returned directly as parameters.
      * Otherwise, the parameters are returned as a map.
      *
-     * @param job the JobRunr job
+     * @param job            the JobRunr job
+     * @param parameterCodec converts JobRequest objects to maps
      * @return a map of parameter names to values
      */
-    public static Map<String, Object> extractParameters(org.jobrunr.jobs.Job job) {
+    public static Map<String, Object> extractParameters(org.jobrunr.jobs.Job job, ParameterCodecPort parameterCodec) {
         Map<String, Object> parameters = new HashMap<>();
         try {
             var jobDetails = job.getJobDetails();
@@ -37,7 +37,7 @@ public final class JobParameterExtractor {
             if (jobParameters.size() == 1) {
                 Object param = jobParameters.getFirst().getObject();
                 if (param instanceof JobRequest jobRequest) {
-                    return unwrapJobRequest(jobRequest);
+                    return unwrapJobRequest(jobRequest, parameterCodec);
                 } else {
                     parameters.put("param0", param);
                     return parameters;
@@ -57,12 +57,10 @@ public final class JobParameterExtractor {
 
     /**
      * Unwraps a JobRequest object into a map of field names to values.
-     * Uses Jackson ObjectMapper to convert the JobRequest to a Map.
+     * Uses the generated codec of the JobRequest record, or Jackson for other JobRequest types.
      */
-    private static Map<String, Object> unwrapJobRequest(JobRequest jobRequest) {
-        ObjectMapper objectMapper = CDI.current().select(ObjectMapper.class).get();
-        @SuppressWarnings("unchecked")
-        Map<String, Object> result = objectMapper.convertValue(jobRequest, Map.class);
+    private static Map<String, Object> unwrapJobRequest(JobRequest jobRequest, ParameterCodecPort parameterCodec) {
+        Map<String, Object> result = parameterCodec.toMap(jobRequest);
         result.remove("jobRequestHandler");
         result.values().removeIf(java.util.Objects::isNull);
         return result;
@@ -2,6 +2,7 @@ package ch.css.jobrunr.control.infrastructure.jobrunr;
 
 import ch.css.jobrunr.control.domain.JobDefinition;
 import ch.css.jobrunr.control.domain.JobDefinitionDiscoveryService;
+import ch.css.jobrunr.control.domain.ParameterCodecPort;
 import ch.css.jobrunr.control.domain.ParameterSet;
 import ch.css.jobrunr.control.domain.ParameterSetLoaderPort;
 import ch.css.jobrunr.control.domain.ParameterStoragePort;
@@ -11,6 +12,8 @@ import jakarta.inject.Inject;
 import org.jboss.logging.Logger;
 import org.jobrunr.storage.StorageProvider;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -26,34 +29,30 @@ public class JobRunrParameterSetLoaderAdapter implements ParameterSetLoaderPort
     private final StorageProvider storageProvider;
     private final ParameterStoragePort parameterStoragePort;
     private final JobDefinitionDiscoveryService jobDefinitionDiscoveryService;
+    private final ParameterCodecPort parameterCodec;
 
     @Inject
     public JobRunrParameterSetLoaderAdapter(
             StorageProvider storageProvider,
             ParameterStoragePort parameterStoragePort,
-            JobDefinitionDiscoveryService jobDefinitionDiscoveryService) {
+            JobDefinitionDiscoveryService jobDefinitionDiscoveryService,
+            ParameterCodecPort parameterCodec) {
         this.storageProvider = storageProvider;
         this.parameterStoragePort = parameterStoragePort;
         this.jobDefinitionDiscoveryService = jobDefinitionDiscoveryService;
+        this.parameterCodec = parameterCodec;
     }
 
     @Override
     public Map<String, Object> loadParameters(UUID jobId) {
         var job = storageProvider.getJobById(jobId);
 
-        String handlerClassName = job.getJobDetails().getClassName();
-
-        boolean usesExternalParameters = jobDefinitionDiscoveryService
-                .findJobByHandlerClassName(handlerClassName)
-                .map(JobDefinition::usesExternalParameters)
-                .orElse(false);
-
-        if (usesExternalParameters) {
+        if (usesExternalParameters(job.getJobDetails().getClassName())) {
             LOG.debugf("Loading external parameters for job %s using job ID as parameter set ID", jobId);
             return loadParametersBySetId(jobId);
         }
 
-        return JobParameterExtractor.extractParameters(job);
+        return JobParameterExtractor.extractParameters(job, parameterCodec);
     }
 
     @Override
@@ -62,4 +61,23 @@ public class JobRunrParameterSetLoaderAdapter implements ParameterSetLoaderPort
                 .map(ParameterSet::parameters)
                 .orElseThrow(() -> new ParameterSetNotFoundException(parameterSetId));
     }
+
+    @Override
+    public Map<UUID, Map<String, Object>> loadParametersBySetIds(Collection<UUID> parameterSetIds) {
+        if (parameterSetIds.isEmpty()) {
+            return Map.of();
+        }
+        LOG.debugf("Loading %d external parameter sets in bulk", parameterSetIds.size());
+        Map<UUID, Map<String, Object>> parametersBySetId = new HashMap<>();
+        parameterStoragePort.findByIds(parameterSetIds)
+                .forEach((id, parameterSet) -> parametersBySetId.put(id, parameterSet.parameters()));
+        return parametersBySetId;
+    }
+
+    private boolean usesExternalParameters(String handlerClassName) {
+        return jobDefinitionDiscoveryService
+                .findJobByHandlerClassName(handlerClassName)
+                .map(JobDefinition::usesExternalParameters)
+                .orElse(false);
+    }
 }
@@ -0,0 +1,247 @@
+package ch.css.jobrunr.control.infrastructure.jobrunr.execution;
+
+import ch.css.jobrunr.control.domain.JobExecutionCursor;
+import ch.css.jobrunr.control.domain.JobExecutionIndexPort;
+import ch.css.jobrunr.control.domain.JobExecutionQuery;
+import ch.css.jobrunr.control.domain.JobExecutionSortKey;
+import ch.css.jobrunr.control.domain.JobExecutionSummary;
+import ch.css.jobrunr.control.domain.JobStatus;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jboss.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+
+/**
+ * Node-local, in-memory index of the executions shown in the execution history.
+ * <p>
+ * Entries are written by {@code JobExecutionIndexFilter} on state transitions and job creation and replaced by
+ * {@link JobExecutionIndexReconciler} with a storage snapshot. Every write carries a version;
+ * a snapshot only overwrites entries that were not changed after the snapshot started loading,
+ * so state transitions applied during a reconciliation are not lost.
+ * <p>
+ * Each sort key that has been queried keeps a sorted view of the executions, and the executions are counted
+ * per status and job type, so a page is read by walking the view instead of sorting the whole index.
+ * With a cursor the walk starts at the cursor row, found in logarithmic time; without one it starts at the
+ * beginning of the view and skips the rows before the page, so a numbered page costs its offset.
+ * Rows not matching the filters are walked past in both cases. Writes update the views under a lock;
+ * reads do not lock.
+ */
+@ApplicationScoped
+public class InMemoryJobExecutionIndexAdapter implements JobExecutionIndexPort {
+
+    private static final Logger LOG = Logger.getLogger(InMemoryJobExecutionIndexAdapter.class);
+
+    /**
+     * Indexed execution; a null summary marks a removed execution until the next reconciliation.
+     */
+    private record IndexEntry(JobExecutionSummary summary, long version) {
+    }
+
+    private record CountKey(JobStatus status, String jobType) {
+    }
+
+    private final Map<UUID, IndexEntry> entries = new ConcurrentHashMap<>();
+    // Sorted ascending by the comparator of the sort key, descending pages walk the view backwards
+    private final Map<JobExecutionSortKey, NavigableSet<JobExecutionSummary>> sortedViews = new ConcurrentHashMap<>();
+    private final Map<CountKey, Long> counts = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private long version;
+    private volatile boolean ready;
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * With a cursor, the page starts right next to the cursor's boundary row; without one, the rows before the
+     * page are skipped. Only rows matching the filters are counted, so a rare filter walks further through the view.
+     * An invalid cursor falls back to the page offset.
+     */
+    @Override
+    public List<JobExecutionSummary> find(JobExecutionQuery query) {
+        NavigableSet<JobExecutionSummary> view = sortedView(query.sortKey());
+        NavigableSet<JobExecutionSummary> ordered = query.ascending() ? view : view.descendingSet();
+        JobExecutionSummary anchor = resolveAnchor(query.cursor());
+        if (anchor == null) {
+            return collect(ordered, query, query.offset());
+        }
+        if (query.cursor().backward()) {
+            return collect(ordered.headSet(anchor, false).descendingSet(), query, 0).reversed();
+        }
+        return collect(ordered.tailSet(anchor, false), query, 0);
+    }
+
+    @Override
+    public long count(JobStatus status, String jobType) {
+        long total = 0;
+        for (Map.Entry<CountKey, Long> count : counts.entrySet()) {
+            if ((status == null || count.getKey().status() == status)
+                    && (jobType == null || jobType.equals(count.getKey().jobType()))) {
+                total += count.getValue();
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public Optional<JobExecutionSummary> findById(UUID jobId) {
+        return Optional.ofNullable(entries.get(jobId)).map(IndexEntry::summary);
+    }
+
+    /**
+     * Adds or updates an execution after a state transition.
+     *
+     * @param summary the current summary of the execution
+     */
+    public void put(JobExecutionSummary summary) {
+        synchronized (writeLock) {
+            write(summary.jobId(), new IndexEntry(summary, ++version));
+        }
+    }
+
+    /**
+     * Removes an execution that left the execution history, e.g. because it was deleted.
+     *
+     * @param jobId the job ID
+     */
+    @Override
+    public void remove(UUID jobId) {
+        synchronized (writeLock) {
+            write(jobId, new IndexEntry(null, ++version));
+        }
+    }
+
+    /**
+     * Returns the current version, to be passed to {@link #replaceAll(long, Collection)}
+     * by a reconciliation that starts loading its snapshot now.
+     */
+    public long currentVersion() {
+        synchronized (writeLock) {
+            return version;
+        }
+    }
+
+    /**
+     * Replaces the index content with a storage snapshot and marks the index as ready.
+     * Entries written after {@code snapshotVersion} are newer than the snapshot and are kept.
+     *
+     * @param snapshotVersion the version read before the snapshot was loaded
+     * @param snapshot        all executions of the execution history
+     */
+    public void replaceAll(long snapshotVersion, Collection<JobExecutionSummary> snapshot) {
+        Set<UUID> snapshotIds = snapshot.stream().map(JobExecutionSummary::jobId).collect(Collectors.toSet());
+        synchronized (writeLock) {
+            for (JobExecutionSummary summary : snapshot) {
+                IndexEntry existing = entries.get(summary.jobId());
+                if (existing == null || existing.version() <= snapshotVersion) {
+                    write(summary.jobId(), new IndexEntry(summary, snapshotVersion));
+                }
+            }
+            Iterator<Map.Entry<UUID, IndexEntry>> it = entries.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<UUID, IndexEntry> entry = it.next();
+                IndexEntry indexEntry = entry.getValue();
+                if (indexEntry.version() <= snapshotVersion
+                        && (indexEntry.summary() == null || !snapshotIds.contains(entry.getKey()))) {
+                    it.remove();
+                    unindex(indexEntry.summary());
+                }
+            }
+        }
+        ready = true;
+    }
+
+    private void write(UUID jobId, IndexEntry entry) {
+        IndexEntry previous = entries.put(jobId, entry);
+        unindex(previous == null ? null : previous.summary());
+        if (entry.summary() != null) {
+            sortedViews.values().forEach(view -> view.add(entry.summary()));
+            counts.merge(countKey(entry.summary()), 1L, Long::sum);
+        }
+    }
+
+    private void unindex(JobExecutionSummary summary) {
+        if (summary == null) {
+            return;
+        }
+        sortedViews.values().forEach(view -> view.remove(summary));
+        counts.computeIfPresent(countKey(summary), (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Returns the sorted view of a sort key, building it from the entries on its first use.
+     */
+    private NavigableSet<JobExecutionSummary> sortedView(JobExecutionSortKey sortKey) {
+        NavigableSet<JobExecutionSummary> view = sortedViews.get(sortKey);
+        if (view != null) {
+            return view;
+        }
+        synchronized (writeLock) {
+            return sortedViews.computeIfAbsent(sortKey, key -> {
+                NavigableSet<JobExecutionSummary> created = new ConcurrentSkipListSet<>(key.comparator(true));
+                entries.values().stream()
+                        .map(IndexEntry::summary)
+                        .filter(Objects::nonNull)
+                        .forEach(created::add);
+                return created;
+            });
+        }
+    }
+
+    private JobExecutionSummary resolveAnchor(JobExecutionCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return cursor.toAnchor();
+        } catch (IllegalArgumentException e) {
+            LOG.debugf("Ignoring cursor %s: %s", cursor, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Returns the rows of the page in view order, skipping the given number of matching rows first.
+     */
+    private static List<JobExecutionSummary> collect(Iterable<JobExecutionSummary> view, JobExecutionQuery query, long skip) {
+        List<JobExecutionSummary> page = new ArrayList<>(query.size());
+        long skipped = 0;
+        for (JobExecutionSummary summary : view) {
+            if (!matches(summary, query.status(), query.jobType())) {
+                continue;
+            }
+            if (skipped < skip) {
+                skipped++;
+                continue;
+            }
+            page.add(summary);
+            if (page.size() == query.size()) {
+                break;
+            }
+        }
+        return page;
+    }
+
+    private static boolean matches(JobExecutionSummary summary, JobStatus status, String jobType) {
+        return (status == null || summary.status() == status) && (jobType == null || jobType.equals(summary.jobType()));
+    }
+
+    private static CountKey countKey(JobExecutionSummary summary) {
+        return new CountKey(summary.status(), summary.jobType());
+    }
+}
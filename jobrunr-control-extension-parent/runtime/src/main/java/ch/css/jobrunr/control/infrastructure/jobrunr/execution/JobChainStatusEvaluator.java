@@ -13,6 +13,7 @@ import org.jobrunr.storage.StorageProvider;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * Evaluates the overall status of a job chain by analyzing continuation jobs.
@@ -52,9 +53,23 @@ public class JobChainStatusEvaluator {
      * @return JobChainStatus containing completion state and overall status
      */
     public JobChainStatus evaluateChainStatus(UUID parentJobId, JobStatus parentJobStatus) {
+        return evaluateChainStatus(parentJobId, parentJobStatus, this::findContinuationJobs);
+    }
+
+    /**
+     * Evaluates the complete status of a job chain, reading continuation jobs through the given lookup.
+     * Used to evaluate many chains from continuation jobs that were loaded up front.
+     *
+     * @param parentJobId        the UUID of the parent job
+     * @param parentJobStatus    the current status of the parent job
+     * @param continuationLookup returns the direct continuation jobs of a job
+     * @return JobChainStatus containing completion state and overall status
+     */
+    public JobChainStatus evaluateChainStatus(UUID parentJobId, JobStatus parentJobStatus,
+                                              Function<UUID, List<Job>> continuationLookup) {
         try {
             // Find direct continuation jobs
-            List<Job> continuationJobs = findContinuationJobs(parentJobId);
+            List<Job> continuationJobs = continuationLookup.apply(parentJobId);
 
             // If no continuation jobs exist, the chain status is just the parent status
             if (continuationJobs.isEmpty()) {
@@ -62,7 +77,7 @@ public class JobChainStatusEvaluator {
             }
 
             // Find all leaf jobs recursively
-            List<Job> leafJobs = findLeafJobs(continuationJobs);
+            List<Job> leafJobs = findLeafJobs(continuationJobs, continuationLookup);
 
             // Evaluate based on leaf jobs
             return evaluateLeafJobs(parentJobStatus, leafJobs);
@@ -75,8 +90,11 @@ public class JobChainStatusEvaluator {
 
     /**
      * Finds all direct continuation jobs for a parent job.
+     *
+     * @param parentJobId the UUID of the parent job
+     * @return the continuation jobs awaiting the parent job, most recently updated first
      */
-    private List<Job> findContinuationJobs(UUID parentJobId) {
+    public List<Job> findContinuationJobs(UUID parentJobId) {
         var searchRequest = JobSearchRequestBuilder
                 .aJobSearchRequest()
                 .withAwaitingOn(parentJobId)
@@ -88,16 +106,16 @@ public class JobChainStatusEvaluator {
     /**
      * Recursively finds all leaf jobs (jobs with no children) in the job tree.
      */
-    private List<Job> findLeafJobs(List<Job> jobs) {
+    private List<Job> findLeafJobs(List<Job> jobs, Function<UUID, List<Job>> continuationLookup) {
         return jobs.stream()
                 .flatMap(job -> {
-                    List<Job> children = findContinuationJobs(job.getId());
+                    List<Job> children = continuationLookup.apply(job.getId());
                     if (children.isEmpty()) {
                         // This is a leaf node
                         return java.util.stream.Stream.of(job);
                     } else {
                         // Recursively find leaf nodes
-                        return findLeafJobs(children).stream();
+                        return findLeafJobs(children, continuationLookup).stream();
                     }
                 })
                 .toList();
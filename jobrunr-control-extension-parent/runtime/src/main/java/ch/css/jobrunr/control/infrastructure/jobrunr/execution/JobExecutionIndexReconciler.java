@@ -0,0 +1,83 @@
+package ch.css.jobrunr.control.infrastructure.jobrunr.execution;
+
+import ch.css.jobrunr.control.domain.JobExecutionSummary;
+import ch.css.jobrunr.control.infrastructure.config.ExecutionIndexConfiguration;
+import ch.css.jobrunr.control.infrastructure.jobrunr.ConfigurableJobSearchAdapter;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bootstraps the execution index from the JobRunr storage at startup and reconciles it periodically.
+ * <p>
+ * State transitions are applied to the index by {@code JobExecutionIndexFilter}, but only for jobs
+ * processed by the background job server of this node. The reconciliation picks up everything else,
+ * e.g. jobs processed or deleted by other nodes.
+ */
+@ApplicationScoped
+public class JobExecutionIndexReconciler {
+
+    private static final Logger LOG = Logger.getLogger(JobExecutionIndexReconciler.class);
+
+    private final ConfigurableJobSearchAdapter configurableJobSearchAdapter;
+    private final JobExecutionSummaryMapper summaryMapper;
+    private final InMemoryJobExecutionIndexAdapter index;
+    private final ExecutionIndexConfiguration configuration;
+    private ScheduledExecutorService scheduler;
+
+    @Inject
+    public JobExecutionIndexReconciler(
+            ConfigurableJobSearchAdapter configurableJobSearchAdapter,
+            JobExecutionSummaryMapper summaryMapper,
+            InMemoryJobExecutionIndexAdapter index,
+            ExecutionIndexConfiguration configuration) {
+        this.configurableJobSearchAdapter = configurableJobSearchAdapter;
+        this.summaryMapper = summaryMapper;
+        this.index = index;
+        this.configuration = configuration;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!configuration.enabled()) {
+            LOG.debug("Execution index disabled, execution history is read from storage");
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofVirtual().name("jobrunr-control-execution-index").factory());
+        scheduler.scheduleWithFixedDelay(this::reconcile,
+                0, configuration.reconcileInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Replaces the index content with the current executions from storage.
+     * Failures are logged; the index keeps its previous content until the next run.
+     */
+    public void reconcile() {
+        try {
+            long snapshotVersion = index.currentVersion();
+            List<JobExecutionSummary> snapshot = configurableJobSearchAdapter
+                    .getConfigurableJob(JobExecutionSummaryMapper.HISTORY_STATES).stream()
+                    .map(result -> summaryMapper.map(result.jobDefinition().jobType(), result.job()))
+                    .toList();
+            index.replaceAll(snapshotVersion, snapshot);
+            LOG.debugf("Reconciled execution index with %d executions", snapshot.size());
+        } catch (Exception e) {
+            LOG.warnf(e, "Failed to reconcile execution index");
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package ch.css.jobrunr.control.infrastructure.jobrunr.execution;
+
+import ch.css.jobrunr.control.domain.BusinessStatus;
+import ch.css.jobrunr.control.domain.JobDefinition;
+import ch.css.jobrunr.control.domain.JobDefinitionDiscoveryService;
+import ch.css.jobrunr.control.domain.JobExecutionSummary;
+import ch.css.jobrunr.control.infrastructure.jobrunr.JobResultAdapter;
+import ch.css.jobrunr.control.infrastructure.jobrunr.JobTypeLabel;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.states.FailedState;
+import org.jobrunr.jobs.states.JobState;
+import org.jobrunr.jobs.states.ProcessingState;
+import org.jobrunr.jobs.states.StateName;
+import org.jobrunr.jobs.states.SucceededState;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Maps JobRunr jobs to the fields shared by all execution views.
+ * Only reads the job itself; no storage or parameter lookups.
+ */
+@ApplicationScoped
+public class JobExecutionSummaryMapper {
+
+    /**
+     * Job states that are part of the execution history.
+     */
+    public static final List<StateName> HISTORY_STATES = List.of(
+            StateName.ENQUEUED,
+            StateName.AWAITING,
+            StateName.PROCESSING,
+            StateName.PROCESSED,
+            StateName.SUCCEEDED,
+            StateName.FAILED
+    );
+
+    private final JobDefinitionDiscoveryService jobDefinitionDiscoveryService;
+    private final JobStateMapper jobStateMapper;
+
+    @Inject
+    public JobExecutionSummaryMapper(JobDefinitionDiscoveryService jobDefinitionDiscoveryService, JobStateMapper jobStateMapper) {
+        this.jobDefinitionDiscoveryService = jobDefinitionDiscoveryService;
+        this.jobStateMapper = jobStateMapper;
+    }
+
+    /**
+     * Maps a job to its summary if it is a control-managed execution, i.e. it carries the label of a
+     * known job type and is not a child job of a batch.
+     *
+     * @param job the JobRunr job
+     * @return the summary, or empty if the job is not shown in the execution history
+     */
+    public Optional<JobExecutionSummary> mapIfManaged(Job job) {
+        String jobType = extractJobType(job);
+        if (jobType == null) {
+            return Optional.empty();
+        }
+        Optional<JobDefinition> jobDefinition = jobDefinitionDiscoveryService.findJobByType(jobType);
+        if (jobDefinition.isEmpty() || (jobDefinition.get().isBatchJob() && !job.isBatchJob())) {
+            return Optional.empty();
+        }
+        return Optional.of(map(jobType, job));
+    }
+
+    /**
+     * Maps a job of a known job type to its summary.
+     *
+     * @param jobType the job type
+     * @param job     the JobRunr job
+     * @return the summary
+     */
+    public JobExecutionSummary map(String jobType, Job job) {
+        return new JobExecutionSummary(
+                job.getId(),
+                job.getJobName(),
+                jobType,
+                jobStateMapper.mapJobState(job.getJobState()),
+                job.getCreatedAt(),
+                extractStartedAt(job),
+                extractFinishedAt(job),
+                extractBusinessStatus(job),
+                job.isBatchJob()
+        );
+    }
+
+    public String extractJobType(Job job) {
+        return job.getLabels().stream()
+                .map(JobTypeLabel::extract)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
+    public Instant extractStartedAt(Job job) {
+        // Suche nach PROCESSING State in der Job-History
+        return job.getJobStates().stream()
+                .filter(ProcessingState.class::isInstance)
+                .map(JobState::getCreatedAt)
+                .findFirst()
+                .orElse(null);
+    }
+
+    public Instant extractFinishedAt(Job job) {
+        JobState state = job.getJobState();
+        if (state instanceof SucceededState || state instanceof FailedState) {
+            return state.getCreatedAt();
+        }
+        return null;
+    }
+
+    public BusinessStatus extractBusinessStatus(Job job) {
+        Object value = job.getMetadata().get(JobResultAdapter.RESULT_BUSINESS_STATUS_METADATA_KEY);
+        return value != null && !value.toString().isBlank() ? BusinessStatus.valueOf(value.toString()) : BusinessStatus.NONE;
+    }
+}
@@ -1,9 +1,13 @@
 package ch.css.jobrunr.control.infrastructure.jobrunr.execution;
 
 import ch.css.jobrunr.control.domain.*;
+import ch.css.jobrunr.control.domain.exceptions.JobNotFoundException;
 import ch.css.jobrunr.control.infrastructure.jobrunr.ConfigurableJobSearchAdapter;
+import ch.css.jobrunr.control.infrastructure.jobrunr.ConfigurableJobSearchAdapter.ConfigurableJobSearchResult;
+import ch.css.jobrunr.control.infrastructure.jobrunr.ConfigurableJobSearchAdapter.CreatedAtRange;
+import ch.css.jobrunr.control.infrastructure.jobrunr.ConfigurableJobSearchAdapter.SearchSegment;
 import ch.css.jobrunr.control.infrastructure.jobrunr.JobResultAdapter;
-import ch.css.jobrunr.control.infrastructure.jobrunr.JobTypeLabel;
+import ch.css.jobrunr.control.infrastructure.jobrunr.JobParameterExtractor;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.jboss.logging.Logger;
@@ -15,9 +19,19 @@ import org.jobrunr.storage.StorageProvider;
 import org.jobrunr.storage.navigation.AmountRequest;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * JobRunr-based implementation of JobExecutionPort.
@@ -28,11 +42,26 @@ public class JobRunrExecutionAdapter implements JobExecutionPort {
 
     private static final Logger LOG = Logger.getLogger(JobRunrExecutionAdapter.class);
 
+    private static final List<StateName> RELEVANT_STATES = JobExecutionSummaryMapper.HISTORY_STATES;
+    private static final String GROUPED_PAGE_ORDER = "updatedAt:DESC";
+    // Start time, finish time, job name and business status are not stored in a sortable form
+    private static final Set<JobExecutionSortKey> STORAGE_SORT_KEYS =
+            EnumSet.of(JobExecutionSortKey.CREATED_AT, JobExecutionSortKey.JOB_TYPE, JobExecutionSortKey.STATUS);
+
+    /**
+     * Result and result code of a job, taken from a continuation job if the job itself has none.
+     */
+    private record ChainResult(String result, Integer resultCode) {
+    }
+
     private final StorageProvider storageProvider;
+    private final JobDefinitionDiscoveryService jobDefinitionDiscoveryService;
     private final ConfigurableJobSearchAdapter configurableJobSearchAdapter;
     private final JobChainStatusEvaluator jobChainStatusEvaluator;
     private final JobStateMapper jobStateMapper;
-    private final ParameterSetLoaderPort parameterSetLoaderPort;
+    private final JobExecutionSummaryMapper summaryMapper;
+    private final ParameterSetLoaderPort parameterSetLoader;
+    private final ParameterCodecPort parameterCodec;
 
     @Inject
     public JobRunrExecutionAdapter(
@@ -41,35 +70,252 @@ public class JobRunrExecutionAdapter implements JobExecutionPort {
             ConfigurableJobSearchAdapter configurableJobSearchAdapter,
             JobChainStatusEvaluator jobChainStatusEvaluator,
             JobStateMapper jobStateMapper,
-            ParameterSetLoaderPort parameterSetLoaderPort
+            JobExecutionSummaryMapper summaryMapper,
+            ParameterSetLoaderPort parameterSetLoader,
+            ParameterCodecPort parameterCodec
     ) {
         this.storageProvider = storageProvider;
+        this.jobDefinitionDiscoveryService = jobDefinitionDiscoveryService;
         this.configurableJobSearchAdapter = configurableJobSearchAdapter;
         this.jobChainStatusEvaluator = jobChainStatusEvaluator;
         this.jobStateMapper = jobStateMapper;
-        this.parameterSetLoaderPort = parameterSetLoaderPort;
+        this.summaryMapper = summaryMapper;
+        this.parameterSetLoader = parameterSetLoader;
+        this.parameterCodec = parameterCodec;
     }
 
     @Override
     public List<JobExecutionInfo> getJobExecutions() {
-        List<StateName> relevantStates = List.of(
-                StateName.ENQUEUED,
-                StateName.AWAITING,
-                StateName.PROCESSING,
-                StateName.PROCESSED,
-                StateName.SUCCEEDED,
-                StateName.FAILED
-        );
-        return configurableJobSearchAdapter.getConfigurableJob(relevantStates)
-                .stream().map(j -> mapToJobExecutionInfo(j.jobDefinition().jobType(), j.job()))
+        return mapToJobExecutionInfos(configurableJobSearchAdapter.getConfigurableJob(RELEVANT_STATES));
+    }
+
+    @Override
+    public boolean supportsSort(JobExecutionSortKey sortKey) {
+        return STORAGE_SORT_KEYS.contains(sortKey);
+    }
+
+    @Override
+    public JobExecutionPage getJobExecutions(JobExecutionQuery query) {
+        if (!supportsSort(query.sortKey())) {
+            throw new IllegalArgumentException("The job storage cannot sort executions by " + query.sortKey());
+        }
+        List<StateName> states = RELEVANT_STATES.stream()
+                .filter(state -> query.status() == null || jobStateMapper.mapStateName(state) == query.status())
+                .toList();
+
+        // Count first so that empty segments are skipped and the total is known without loading jobs
+        Map<SearchSegment, Long> segmentCounts = new LinkedHashMap<>();
+        long totalElements = 0;
+        List<SearchSegment> segments = configurableJobSearchAdapter.createSegments(states, query.jobType());
+        for (Map.Entry<SearchSegment, Long> entry : configurableJobSearchAdapter.countJobs(segments).entrySet()) {
+            if (entry.getValue() > 0) {
+                segmentCounts.put(entry.getKey(), entry.getValue());
+                totalElements += entry.getValue();
+            }
+        }
+
+        if (query.sortKey() != JobExecutionSortKey.CREATED_AT) {
+            List<ConfigurableJobSearchResult> pageResults = loadGroupedPage(segmentCounts, query);
+            return new JobExecutionPage(mapToJobExecutionInfos(pageResults), totalElements, query.page(), query.size());
+        }
+
+        List<ConfigurableJobSearchResult> pageResults = query.cursor() != null
+                ? loadPageAtCursor(segmentCounts, totalElements, query)
+                : loadMergedPage(segmentCounts, totalElements, query);
+        JobExecutionCursor previous = pageResults.isEmpty() ? null : createdAtCursor(pageResults.getFirst(), true);
+        JobExecutionCursor next = pageResults.isEmpty() ? null : createdAtCursor(pageResults.getLast(), false);
+        return new JobExecutionPage(mapToJobExecutionInfos(pageResults), totalElements, query.page(), query.size(),
+                previous, next);
+    }
+
+    /**
+     * Maps search results in bulk: inline parameters are extracted from the jobs in hand,
+     * so no job is read again, and external parameter sets are fetched in a few queries.
+     */
+    private List<JobExecutionInfo> mapToJobExecutionInfos(List<ConfigurableJobSearchResult> results) {
+        List<UUID> externalJobIds = results.stream()
+                .filter(r -> r.jobDefinition().usesExternalParameters())
+                .map(r -> r.job().getId())
+                .toList();
+        Map<UUID, Map<String, Object>> externalParameters = parameterSetLoader.loadParametersBySetIds(externalJobIds);
+        return results.stream()
+                .map(r -> mapToJobExecutionInfo(r.jobDefinition().jobType(), r.job(),
+                        resolveParameters(r.job(), r.jobDefinition().usesExternalParameters(), externalParameters)))
+                .toList();
+    }
+
+    /**
+     * Returns the parameters of a job; external parameter sets are stored under the job ID.
+     * A missing external parameter set is mapped to an empty parameter map.
+     */
+    private Map<String, Object> resolveParameters(Job job, boolean external, Map<UUID, Map<String, Object>> externalParameters) {
+        if (!external) {
+            return JobParameterExtractor.extractParameters(job, parameterCodec);
+        }
+        Map<String, Object> parameters = externalParameters.get(job.getId());
+        if (parameters == null) {
+            LOG.warnf("External parameter set not found for job %s", job.getId());
+            return Map.of();
+        }
+        return parameters;
+    }
+
+    /**
+     * Loads a page sorted by a key that is constant per segment (job type or status).
+     * Segments are ordered by that key and the page window is resolved against the segment counts,
+     * so only the segments overlapping the window are queried, each with its exact offset and limit.
+     */
+    private List<ConfigurableJobSearchResult> loadGroupedPage(Map<SearchSegment, Long> segmentCounts, JobExecutionQuery query) {
+        Comparator<SearchSegment> segmentOrder = query.sortKey() == JobExecutionSortKey.JOB_TYPE
+                ? Comparator.comparing((SearchSegment s) -> s.jobDefinition().jobType(), String.CASE_INSENSITIVE_ORDER)
+                : Comparator.comparing((SearchSegment s) -> jobStateMapper.mapStateName(s.state()).name());
+        if (!query.ascending()) {
+            segmentOrder = segmentOrder.reversed();
+        }
+
+        List<ConfigurableJobSearchResult> results = new ArrayList<>();
+        long skip = query.offset();
+        int remaining = query.size();
+        for (SearchSegment segment : segmentCounts.keySet().stream().sorted(segmentOrder).toList()) {
+            if (remaining <= 0) {
+                break;
+            }
+            long count = segmentCounts.get(segment);
+            if (skip >= count) {
+                skip -= count;
+                continue;
+            }
+            int limit = (int) Math.min(remaining, count - skip);
+            List<ConfigurableJobSearchResult> slice = configurableJobSearchAdapter.getJobs(segment, GROUPED_PAGE_ORDER, skip, limit);
+            results.addAll(slice);
+            remaining -= slice.size();
+            skip = 0;
+        }
+        return results;
+    }
+
+    /**
+     * Loads a page sorted by creation time.
+     * Every row of the requested page is within the first {@code offset + size} rows of its own segment,
+     * so each segment is queried with that limit in storage order and the candidates are merged.
+     * Pages in the second half of the history are read from its end in the reverse order instead,
+     * so a page costs at most half the history per segment.
+     */
+    private List<ConfigurableJobSearchResult> loadMergedPage(Map<SearchSegment, Long> segmentCounts, long totalElements,
+                                                             JobExecutionQuery query) {
+        long start = query.offset();
+        long end = Math.min(start + query.size(), totalElements);
+        if (start >= end) {
+            return List.of();
+        }
+        boolean fromEnd = totalElements - start < end;
+        boolean ascending = query.ascending() != fromEnd;
+        long skip = fromEnd ? totalElements - end : start;
+        long window = fromEnd ? totalElements - start : end;
+
+        List<ConfigurableJobSearchResult> candidates = configurableJobSearchAdapter.getJobs(List.copyOf(segmentCounts.keySet()),
+                createdAtOrder(ascending), segment -> (int) Math.min(segmentCounts.get(segment), window));
+
+        List<ConfigurableJobSearchResult> page = candidates.stream()
+                .sorted(byCreatedAt(ascending))
+                .skip(skip)
+                .limit(end - start)
                 .toList();
+        return fromEnd ? page.reversed() : page;
+    }
+
+    /**
+     * Loads the page next to a cursor in a history sorted by creation time.
+     * Each segment is read from the creation time of the cursor's boundary row on, away from it, so a page
+     * costs the same at any depth and rows do not shift when jobs elsewhere in the history change.
+     * The jobs created at the same time as the boundary row are counted first and loaded on top of the page,
+     * then every job not strictly beyond the boundary row (by creation time, then ID) is dropped.
+     * The storage bounds are widened by a nanosecond, so this holds whether the storage treats them as
+     * inclusive or exclusive. An invalid cursor falls back to the page offset.
+     */
+    private List<ConfigurableJobSearchResult> loadPageAtCursor(Map<SearchSegment, Long> segmentCounts, long totalElements,
+                                                               JobExecutionQuery query) {
+        JobExecutionCursor cursor = query.cursor();
+        Instant boundary = resolveBoundary(cursor);
+        if (boundary == null) {
+            return loadMergedPage(segmentCounts, totalElements, query);
+        }
+
+        boolean ascending = query.ascending() != cursor.backward();
+        CreatedAtRange ties = new CreatedAtRange(boundary.minusNanos(1), boundary.plusNanos(1));
+        CreatedAtRange beyond = ascending ? new CreatedAtRange(ties.from(), null) : new CreatedAtRange(null, ties.to());
+        List<SearchSegment> segments = List.copyOf(segmentCounts.keySet());
+        Map<SearchSegment, Long> tieCounts = configurableJobSearchAdapter.countJobs(segments, ties);
+
+        List<ConfigurableJobSearchResult> candidates = configurableJobSearchAdapter.getJobs(segments, beyond,
+                createdAtOrder(ascending), segment -> (int) Math.min(segmentCounts.get(segment),
+                        query.size() + tieCounts.getOrDefault(segment, 0L)));
+
+        List<ConfigurableJobSearchResult> page = candidates.stream()
+                .filter(r -> isBeyond(r.job(), boundary, cursor.jobId(), ascending))
+                .sorted(byCreatedAt(ascending))
+                .limit(query.size())
+                .toList();
+        return cursor.backward() ? page.reversed() : page;
+    }
+
+    private static Instant resolveBoundary(JobExecutionCursor cursor) {
+        try {
+            return cursor.toAnchor().createdAt();
+        } catch (IllegalArgumentException e) {
+            LOG.debugf("Ignoring invalid cursor: %s", e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean isBeyond(Job job, Instant boundary, UUID boundaryJobId, boolean ascending) {
+        int comparison = job.getCreatedAt().compareTo(boundary);
+        if (comparison == 0) {
+            comparison = job.getId().compareTo(boundaryJobId);
+        }
+        return ascending ? comparison > 0 : comparison < 0;
+    }
+
+    private static String createdAtOrder(boolean ascending) {
+        return ascending ? "createdAt:ASC" : "createdAt:DESC";
+    }
+
+    /**
+     * Orders search results like {@link JobExecutionSortKey#CREATED_AT}: by creation time, then by ID.
+     */
+    private static Comparator<ConfigurableJobSearchResult> byCreatedAt(boolean ascending) {
+        Comparator<ConfigurableJobSearchResult> comparator = Comparator
+                .comparing((ConfigurableJobSearchResult r) -> r.job().getCreatedAt())
+                .thenComparing(r -> r.job().getId());
+        return ascending ? comparator : comparator.reversed();
+    }
+
+    private static JobExecutionCursor createdAtCursor(ConfigurableJobSearchResult result, boolean backward) {
+        return new JobExecutionCursor(JobExecutionSortKey.CREATED_AT, result.job().getCreatedAt().toString(),
+                result.job().getId(), backward);
+    }
+
+    @Override
+    public List<JobExecutionInfo> getJobExecutionsByIds(List<UUID> jobIds) {
+        // Loaded concurrently; fails if the storage fails, so an outage is not shown as a short page
+        List<Job> jobs = configurableJobSearchAdapter.queryAll(jobIds, this::findJob, jobId -> "job " + jobId);
+        List<ConfigurableJobSearchResult> results = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            if (job == null) {
+                continue;
+            }
+            Optional.ofNullable(summaryMapper.extractJobType(job))
+                    .flatMap(jobDefinitionDiscoveryService::findJobByType)
+                    .ifPresent(jobDefinition -> results.add(new ConfigurableJobSearchResult(jobDefinition, job)));
+        }
+        return mapToJobExecutionInfos(results);
     }
 
     @Override
     public Optional<JobExecutionInfo> getJobExecutionById(UUID jobId) {
         return executeOrDefault(Optional.empty(), "Error retrieving job " + jobId, () -> {
             org.jobrunr.jobs.Job job = storageProvider.getJobById(jobId);
-            String jobType = extractJobType(job);
+            String jobType = summaryMapper.extractJobType(job);
             return Optional.of(mapToJobExecutionInfo(jobType, job));
         });
     }
@@ -78,41 +324,173 @@ public class JobRunrExecutionAdapter implements JobExecutionPort {
     public Optional<JobExecutionInfo> getJobChainExecutionById(UUID jobId) {
         return executeOrDefault(Optional.empty(), "Error retrieving job chain " + jobId, () -> {
             org.jobrunr.jobs.Job job = storageProvider.getJobById(jobId);
-            String jobType = extractJobType(job);
+            String jobType = summaryMapper.extractJobType(job);
 
             JobExecutionInfo jobInfo = mapToJobExecutionInfo(jobType, job);
             JobChainStatusEvaluator.JobChainStatus chainStatus =
                     jobChainStatusEvaluator.evaluateChainStatus(jobId, jobInfo.status());
+            ChainResult chainResult = resolveChainResult(jobId, jobInfo.result(), jobInfo.resultCode());
 
-            String result = jobInfo.result();
-            Integer resultCode = jobInfo.resultCode();
-            if (result == null && resultCode == null) {
-                org.jobrunr.jobs.Job resultJob = findResultJobInContinuationJobs(jobId);
-                if (resultJob != null) {
-                    result = extractResult(resultJob);
-                    resultCode = extractResultCode(resultJob);
-                }
-            }
+            return Optional.of(jobInfo.withStatus(chainStatus.overallStatus()).withResult(chainResult.result(), chainResult.resultCode()));
+        });
+    }
+
+    @Override
+    public Optional<JobExecutionStatusInfo> getJobChainStatusById(UUID jobId) {
+        return executeOrDefault(Optional.empty(), "Error retrieving status of job chain " + jobId, () -> {
+            Job job = storageProvider.getJobById(jobId);
+            JobStatus status = jobStateMapper.mapJobState(job.getJobState());
+            JobChainStatusEvaluator.JobChainStatus chainStatus = jobChainStatusEvaluator.evaluateChainStatus(jobId, status);
+            ChainResult chainResult = resolveChainResult(jobId, extractResult(job), extractResultCode(job));
 
-            return Optional.of(jobInfo.withStatus(chainStatus.overallStatus()).withResult(result, resultCode));
+            return Optional.of(mapToStatusInfo(job, chainStatus, chainResult));
         });
     }
 
-    private String extractJobType(org.jobrunr.jobs.Job job) {
-        return job.getLabels().stream()
-                .map(JobTypeLabel::extract)
-                .filter(java.util.Objects::nonNull)
-                .findFirst()
-                .orElse(null);
+    @Override
+    public List<JobExecutionStatusInfo> getJobChainStatusesByIds(List<UUID> jobIds) {
+        List<UUID> distinctIds = List.copyOf(new LinkedHashSet<>(jobIds));
+        // Fails the request if the storage fails, so an outage is not reported as missing jobs
+        List<Job> jobs = configurableJobSearchAdapter.queryAll(distinctIds, this::findJob, jobId -> "job " + jobId)
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+        Map<UUID, List<Job>> continuations = loadContinuationJobs(jobs.stream().map(Job::getId).toList());
+        Function<UUID, List<Job>> continuationLookup = jobId -> continuations.getOrDefault(jobId, List.of());
+
+        List<JobExecutionStatusInfo> statuses = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            JobStatus status = jobStateMapper.mapJobState(job.getJobState());
+            JobChainStatusEvaluator.JobChainStatus chainStatus =
+                    jobChainStatusEvaluator.evaluateChainStatus(job.getId(), status, continuationLookup);
+            ChainResult chainResult = resolveChainResult(
+                    extractResult(job), extractResultCode(job), continuationLookup.apply(job.getId()));
+            statuses.add(mapToStatusInfo(job, chainStatus, chainResult));
+        }
+        return statuses;
+    }
+
+    @Override
+    public Optional<BatchProgress> getBatchProgress(UUID jobId) {
+        Job job;
+        try {
+            job = storageProvider.getJobById(jobId);
+        } catch (org.jobrunr.storage.JobNotFoundException e) {
+            throw new JobNotFoundException("Job with ID '" + jobId + "' not found");
+        }
+        return Optional.ofNullable(extractBatchProgress(job));
+    }
+
+    @Override
+    public Optional<JobExecutionSummary> getJobExecutionSummaryById(UUID jobId) {
+        return executeOrDefault(Optional.empty(), "Error retrieving job " + jobId, () -> {
+            Job job = storageProvider.getJobById(jobId);
+            return Optional.ofNullable(summaryMapper.extractJobType(job))
+                    .map(jobType -> summaryMapper.map(jobType, job));
+        });
+    }
+
+    /**
+     * Falls back to the result of a continuation job if the job itself has no result.
+     */
+    private ChainResult resolveChainResult(UUID jobId, String result, Integer resultCode) {
+        if (result == null && resultCode == null) {
+            org.jobrunr.jobs.Job resultJob = findResultJobInContinuationJobs(jobId);
+            if (resultJob != null) {
+                return new ChainResult(extractResult(resultJob), extractResultCode(resultJob));
+            }
+        }
+        return new ChainResult(result, resultCode);
+    }
+
+    /**
+     * Falls back to the result of one of the given, already loaded continuation jobs if the job itself has no result.
+     */
+    private ChainResult resolveChainResult(String result, Integer resultCode, List<Job> continuationJobs) {
+        if (result == null && resultCode == null) {
+            Optional<Job> resultJob = continuationJobs.stream()
+                    .filter(j -> extractResult(j) != null || extractResultCode(j) != null)
+                    .findFirst();
+            if (resultJob.isPresent()) {
+                return new ChainResult(extractResult(resultJob.get()), extractResultCode(resultJob.get()));
+            }
+        }
+        return new ChainResult(result, resultCode);
+    }
+
+    private JobExecutionStatusInfo mapToStatusInfo(Job job, JobChainStatusEvaluator.JobChainStatus chainStatus, ChainResult chainResult) {
+        return new JobExecutionStatusInfo(
+                job.getId(),
+                job.getJobName(),
+                summaryMapper.extractJobType(job),
+                chainStatus.overallStatus(),
+                summaryMapper.extractStartedAt(job),
+                summaryMapper.extractFinishedAt(job),
+                extractBatchProgress(job),
+                chainResult.result(),
+                chainResult.resultCode()
+        );
+    }
+
+    /**
+     * Returns the job, or null if it does not exist. Storage errors are thrown.
+     */
+    private Job findJob(UUID jobId) {
+        try {
+            return storageProvider.getJobById(jobId);
+        } catch (org.jobrunr.storage.JobNotFoundException e) {
+            LOG.debugf("Skipping job %s, it does not exist", jobId);
+            return null;
+        }
+    }
+
+    /**
+     * Loads the continuation jobs of several job chains level by level.
+     * JobRunr can only search the continuation jobs of one parent at a time, so each level issues one
+     * query per parent, running them concurrently. Every job is queried once: the result serves both the
+     * chain status evaluation and the result fallback. A failing query fails the whole request, since a chain
+     * evaluated without its continuation jobs would report a wrong status.
+     *
+     * @param rootJobIds the jobs at the start of the chains
+     * @return the direct continuation jobs by parent job, for every job in the chains
+     */
+    private Map<UUID, List<Job>> loadContinuationJobs(List<UUID> rootJobIds) {
+        Map<UUID, List<Job>> continuations = new HashMap<>();
+        List<UUID> level = rootJobIds;
+        while (!level.isEmpty()) {
+            List<List<Job>> found = configurableJobSearchAdapter.queryAll(level, jobChainStatusEvaluator::findContinuationJobs,
+                    jobId -> "continuation jobs of " + jobId);
+            Set<UUID> nextLevel = new LinkedHashSet<>();
+            for (int i = 0; i < level.size(); i++) {
+                continuations.put(level.get(i), found.get(i));
+                for (Job continuationJob : found.get(i)) {
+                    if (!continuations.containsKey(continuationJob.getId())) {
+                        nextLevel.add(continuationJob.getId());
+                    }
+                }
+            }
+            level = List.copyOf(nextLevel);
+        }
+        return continuations;
     }
 
     private JobExecutionInfo mapToJobExecutionInfo(String jobType, org.jobrunr.jobs.Job job) {
+        boolean external = jobDefinitionDiscoveryService
+                .findJobByHandlerClassName(job.getJobDetails().getClassName())
+                .map(JobDefinition::usesExternalParameters)
+                .orElse(false);
+        Map<UUID, Map<String, Object>> externalParameters = external
+                ? parameterSetLoader.loadParametersBySetIds(List.of(job.getId()))
+                : Map.of();
+        return mapToJobExecutionInfo(jobType, job, resolveParameters(job, external, externalParameters));
+    }
+
+    private JobExecutionInfo mapToJobExecutionInfo(String jobType, org.jobrunr.jobs.Job job, Map<String, Object> parameters) {
         JobStatus status = jobStateMapper.mapJobState(job.getJobState());
-        Instant startedAt = extractStartedAt(job);
-        Instant finishedAt = extractFinishedAt(job);
+        Instant startedAt = summaryMapper.extractStartedAt(job);
+        Instant finishedAt = summaryMapper.extractFinishedAt(job);
         BatchProgress batchProgress = extractBatchProgress(job);
         String jobName = job.getJobName();
-        var parameters = parameterSetLoaderPort.loadParameters(job.getId());
         var metadata = job.getMetadata().entrySet().stream()
                 .filter(entry -> !entry.getKey().startsWith("jobRunr"))
                 .collect(java.util.stream.Collectors.toMap(
@@ -122,7 +500,7 @@ public class JobRunrExecutionAdapter implements JobExecutionPort {
 
         String result = extractResult(job);
         Integer resultCode = extractResultCode(job);
-        BusinessStatus resultStatusOverride = extractBusinessStatus(job);
+        BusinessStatus resultStatusOverride = summaryMapper.extractBusinessStatus(job);
 
         return new JobExecutionInfo(
                 job.getId(),
@@ -141,23 +519,6 @@ public class JobRunrExecutionAdapter implements JobExecutionPort {
     }
 
 
-    private Instant extractStartedAt(org.jobrunr.jobs.Job job) {
-        // Suche nach PROCESSING State in der Job-History
-        return job.getJobStates().stream()
-                .filter(ProcessingState.class::isInstance)
-                .map(JobState::getCreatedAt)
-                .findFirst()
-                .orElse(null);
-    }
-
-    private Instant extractFinishedAt(org.jobrunr.jobs.Job job) {
-        JobState state = job.getJobState();
-        if (state instanceof SucceededState || state instanceof FailedState) {
-            return state.getCreatedAt();
-        }
-        return null;
-    }
-
     private String extractResult(org.jobrunr.jobs.Job job) {
         Object value = job.getMetadata().get(JobResultAdapter.RESULT_METADATA_KEY);
         return value != null ? value.toString() : null;
@@ -176,11 +537,6 @@ public class JobRunrExecutionAdapter implements JobExecutionPort {
         return null;
     }
 
-    private BusinessStatus extractBusinessStatus(Job job) {
-        Object value = job.getMetadata().get(JobResultAdapter.RESULT_BUSINESS_STATUS_METADATA_KEY);
-        return value != null && !value.toString().isBlank() ? BusinessStatus.valueOf(value.toString()) : BusinessStatus.NONE;
-    }
-
     /**
      * Returns the first direct continuation job (success/failure callback) that has a stored result.
      * This allows callback handlers to set a result that is surfaced on the parent job's status endpoint.
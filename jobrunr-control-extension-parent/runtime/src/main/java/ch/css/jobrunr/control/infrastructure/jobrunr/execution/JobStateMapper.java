@@ -40,6 +40,24 @@ public class JobStateMapper {
         };
     }
 
+    /**
+     * Maps a JobRunr StateName to the domain JobStatus.
+     * Consistent with {@link #mapJobState(JobState)}: scheduled and awaiting jobs are reported as ENQUEUED.
+     *
+     * @param stateName the JobRunr state name
+     * @return the corresponding domain JobStatus
+     */
+    public JobStatus mapStateName(StateName stateName) {
+        return switch (stateName) {
+            case PROCESSING -> JobStatus.PROCESSING;
+            case PROCESSED -> JobStatus.PROCESSED;
+            case SUCCEEDED -> JobStatus.SUCCEEDED;
+            case FAILED -> JobStatus.FAILED;
+            case DELETED -> JobStatus.DELETED;
+            case null, default -> JobStatus.ENQUEUED;
+        };
+    }
+
     /**
      * Maps JobRunr's StateName to domain JobAwaitingState.
      *
@@ -0,0 +1,70 @@
+package ch.css.jobrunr.control.infrastructure.jobrunr.filters;
+
+import ch.css.jobrunr.control.infrastructure.config.ExecutionIndexConfiguration;
+import ch.css.jobrunr.control.infrastructure.jobrunr.execution.InMemoryJobExecutionIndexAdapter;
+import ch.css.jobrunr.control.infrastructure.jobrunr.execution.JobExecutionSummaryMapper;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+import org.jobrunr.jobs.AbstractJob;
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.filters.ApplyStateFilter;
+import org.jobrunr.jobs.filters.JobClientFilter;
+import org.jobrunr.jobs.filters.JobServerFilter;
+import org.jobrunr.jobs.states.JobState;
+
+/**
+ * JobRunr filter that keeps the execution index up to date on every state transition.
+ * <p>
+ * Jobs entering a state of the execution history are added or updated; jobs leaving it
+ * (e.g. deleted or rescheduled) are removed. Jobs created on this node are indexed as soon as
+ * they are saved, without waiting for a background job server to pick them up. Jobs that are
+ * not managed by the control extension are ignored.
+ */
+@ApplicationScoped
+public class JobExecutionIndexFilter implements ApplyStateFilter, JobServerFilter, JobClientFilter {
+
+    private static final Logger LOG = Logger.getLogger(JobExecutionIndexFilter.class);
+
+    private final InMemoryJobExecutionIndexAdapter index;
+    private final JobExecutionSummaryMapper summaryMapper;
+    private final ExecutionIndexConfiguration configuration;
+
+    @Inject
+    public JobExecutionIndexFilter(
+            InMemoryJobExecutionIndexAdapter index,
+            JobExecutionSummaryMapper summaryMapper,
+            ExecutionIndexConfiguration configuration) {
+        this.index = index;
+        this.summaryMapper = summaryMapper;
+        this.configuration = configuration;
+    }
+
+    @Override
+    public void onStateApplied(Job job, JobState oldState, JobState newState) {
+        update(job, newState);
+    }
+
+    @Override
+    public void onCreated(AbstractJob job) {
+        if (job instanceof Job created) {
+            update(created, created.getJobState());
+        }
+    }
+
+    private void update(Job job, JobState state) {
+        if (!configuration.enabled()) {
+            return;
+        }
+        try {
+            if (JobExecutionSummaryMapper.HISTORY_STATES.contains(state.getName())) {
+                summaryMapper.mapIfManaged(job).ifPresent(index::put);
+            } else if (summaryMapper.extractJobType(job) != null) {
+                index.remove(job.getId());
+            }
+        } catch (Exception e) {
+            LOG.warnf(e, "Failed to update execution index for job %s", job.getId());
+            // Don't throw - the index is reconciled periodically
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package ch.css.jobrunr.control.infrastructure.jobrunr.filters;
+
+import ch.css.jobrunr.control.infrastructure.details.AsyncJobMessageWriter;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.filters.JobServerFilter;
+
+/**
+ * JobRunr filter that holds back the end of a job until its queued job messages are written,
+ * when job messages are written in the FLUSH_ON_JOB_END mode. Does nothing in the other modes.
+ */
+@ApplicationScoped
+public class JobMessageFlushFilter implements JobServerFilter {
+
+    private final AsyncJobMessageWriter asyncJobMessageWriter;
+
+    @Inject
+    public JobMessageFlushFilter(AsyncJobMessageWriter asyncJobMessageWriter) {
+        this.asyncJobMessageWriter = asyncJobMessageWriter;
+    }
+
+    @Override
+    public void onProcessingSucceeded(Job job) {
+        asyncJobMessageWriter.flushJob(job.getId());
+    }
+
+    @Override
+    public void onProcessingFailed(Job job, Exception e) {
+        asyncJobMessageWriter.flushJob(job.getId());
+    }
+}
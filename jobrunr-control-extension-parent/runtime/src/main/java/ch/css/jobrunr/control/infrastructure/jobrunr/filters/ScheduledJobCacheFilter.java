@@ -0,0 +1,35 @@
+package ch.css.jobrunr.control.infrastructure.jobrunr.filters;
+
+import ch.css.jobrunr.control.infrastructure.jobrunr.scheduler.ScheduledJobCache;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.filters.ApplyStateFilter;
+import org.jobrunr.jobs.filters.JobServerFilter;
+import org.jobrunr.jobs.states.JobState;
+import org.jobrunr.jobs.states.StateName;
+
+/**
+ * JobRunr filter that invalidates the scheduled job cache when JobRunr moves a job into or
+ * out of the SCHEDULED state, e.g. when a due job is enqueued or a failed job is scheduled for a retry.
+ * Changes made through the scheduler adapter invalidate the cache themselves.
+ */
+@ApplicationScoped
+public class ScheduledJobCacheFilter implements ApplyStateFilter, JobServerFilter {
+
+    private final ScheduledJobCache cache;
+
+    @Inject
+    public ScheduledJobCacheFilter(ScheduledJobCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void onStateApplied(Job job, JobState oldState, JobState newState) {
+        boolean wasScheduled = oldState != null && oldState.getName() == StateName.SCHEDULED;
+        boolean isScheduled = newState != null && newState.getName() == StateName.SCHEDULED;
+        if (wasScheduled != isScheduled) {
+            cache.invalidate();
+        }
+    }
+}
@@ -4,10 +4,11 @@ import ch.css.jobrunr.control.annotations.ConfigurableJob;
 import ch.css.jobrunr.control.annotations.JobRequestOnFailureFactory;
 import ch.css.jobrunr.control.annotations.JobRequestOnSuccessFactory;
 import ch.css.jobrunr.control.domain.JobDefinition;
+import ch.css.jobrunr.control.domain.JobDefinitionDiscoveryService;
+import ch.css.jobrunr.control.domain.ParameterCodecPort;
 import ch.css.jobrunr.control.domain.JobSettings;
 import ch.css.jobrunr.control.domain.exceptions.JobSchedulingException;
 import ch.css.jobrunr.control.infrastructure.jobrunr.JobTypeLabel;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.jboss.logging.Logger;
@@ -28,7 +29,7 @@ import static org.jobrunr.scheduling.JobBuilder.aJob;
 
 /**
  * Helper class for creating and scheduling JobRequests.
- * Converts parameter maps to JobRequest objects using Jackson ObjectMapper.
+ * Converts parameter maps to JobRequest objects using the generated parameter codecs.
  */
 @ApplicationScoped
 public class JobInvoker {
@@ -36,17 +37,20 @@ public class JobInvoker {
     private static final Logger LOG = Logger.getLogger(JobInvoker.class);
 
     private final JobRequestScheduler jobScheduler;
-    private final ObjectMapper objectMapper;
+    private final ParameterCodecPort parameterCodec;
+    private final JobDefinitionDiscoveryService jobDefinitionDiscoveryService;
 
     @Inject
-    public JobInvoker(JobRequestScheduler jobScheduler, ObjectMapper objectMapper) {
+    public JobInvoker(JobRequestScheduler jobScheduler, ParameterCodecPort parameterCodec,
+                      JobDefinitionDiscoveryService jobDefinitionDiscoveryService) {
         this.jobScheduler = jobScheduler;
-        this.objectMapper = objectMapper;
+        this.parameterCodec = parameterCodec;
+        this.jobDefinitionDiscoveryService = jobDefinitionDiscoveryService;
     }
 
     /**
      * Schedules a job with dynamic parameters using JobRequestScheduler.
-     * Uses Jackson ObjectMapper to create JobRequest instances from parameter maps.
+     * Uses the parameter codecs to create JobRequest instances from parameter maps.
      *
      * @param jobId            Optional JobId (null for new JobId)
      * @param jobName          Name of the job
@@ -55,15 +59,16 @@ public class JobInvoker {
      * @param scheduledAt      Time of execution
      * @param additionalLabels Additional labels to add to the job
      * @return JobId
+     * @throws JobSchedulingException if the JobRequest class of the job is missing or scheduling fails
      */
     public JobId scheduleJob(UUID jobId, String jobName, JobDefinition jobDefinition, Map<String, Object> parameters, Instant scheduledAt, List<String> additionalLabels) {
+        Class<? extends JobRequest> jobRequestClass = jobDefinitionDiscoveryService.findJobRequestClass(jobDefinition)
+                .map(type -> type.asSubclass(JobRequest.class))
+                .orElseThrow(() -> new JobSchedulingException("JobRequest class '" + jobDefinition.jobRequestTypeName()
+                        + "' of job type '" + jobDefinition.jobType() + "' not found"));
         try {
-            // Load the JobRequest class
-            String className = jobDefinition.jobRequestTypeName();
-            // Load the JobRequest class
-            Class<? extends JobRequest> jobRequestClass = Thread.currentThread().getContextClassLoader().loadClass(className).asSubclass(JobRequest.class);
-            // Convert parameters to JobRequest using Jackson
-            JobRequest jobRequest = objectMapper.convertValue(parameters, jobRequestClass);
+            // Convert parameters to JobRequest
+            JobRequest jobRequest = parameterCodec.fromMap(parameters, jobRequestClass);
 
             // Schedule the job with JobRequestScheduler
             JobBuilder jobBuilder = jobDefinition.isBatchJob() ? aBatchJob() : aJob();
@@ -90,9 +95,6 @@ public class JobInvoker {
             }
             LOG.debugf("Job scheduled successfully: %s (batch=%s) with JobId: %s", jobDefinition.jobSettings().name(), jobDefinition.jobType(), jobRequestId);
             return jobRequestId;
-        } catch (ClassNotFoundException e) {
-            LOG.errorf(e, "Failed to load JobRequest class: %s", jobDefinition.jobRequestTypeName());
-            throw new JobSchedulingException("JobRequest class not found: " + jobDefinition.jobRequestTypeName(), e);
         } catch (Exception e) {
             LOG.errorf(e, "Failed to schedule job: %s (batch=%s)", jobDefinition.jobSettings().name(), jobDefinition.jobType());
             throw new JobSchedulingException("Failed to schedule job: " + jobDefinition.jobSettings().name(), e);
@@ -3,7 +3,9 @@ package ch.css.jobrunr.control.infrastructure.jobrunr.scheduler;
 import ch.css.jobrunr.control.domain.JobDefinition;
 import ch.css.jobrunr.control.domain.JobDefinitionDiscoveryService;
 import ch.css.jobrunr.control.domain.JobSchedulerPort;
+import ch.css.jobrunr.control.domain.ParameterCodecPort;
 import ch.css.jobrunr.control.domain.ScheduledJobInfo;
+import ch.css.jobrunr.control.domain.TemplateCatalogEntry;
 import ch.css.jobrunr.control.domain.exceptions.DuplicateTemplateNameException;
 import ch.css.jobrunr.control.domain.exceptions.JobNotFoundException;
 import ch.css.jobrunr.control.domain.exceptions.JobSchedulingException;
@@ -38,17 +40,26 @@ public class JobRunrSchedulerAdapter implements JobSchedulerPort {
     private final StorageProvider storageProvider;
     private final JobInvoker jobInvoker;
     private final JobDefinitionDiscoveryService jobDefinitionDiscoveryService;
+    private final ScheduledJobCache scheduledJobCache;
+    private final TemplateCatalog templateCatalog;
+    private final ParameterCodecPort parameterCodec;
 
     @Inject
     public JobRunrSchedulerAdapter(
             JobScheduler jobScheduler,
             StorageProvider storageProvider,
             JobInvoker jobInvoker,
-            JobDefinitionDiscoveryService jobDefinitionDiscoveryService) {
+            JobDefinitionDiscoveryService jobDefinitionDiscoveryService,
+            ScheduledJobCache scheduledJobCache,
+            TemplateCatalog templateCatalog,
+            ParameterCodecPort parameterCodec) {
         this.jobScheduler = jobScheduler;
         this.storageProvider = storageProvider;
         this.jobInvoker = jobInvoker;
         this.jobDefinitionDiscoveryService = jobDefinitionDiscoveryService;
+        this.scheduledJobCache = scheduledJobCache;
+        this.templateCatalog = templateCatalog;
+        this.parameterCodec = parameterCodec;
     }
 
     @Override
@@ -73,7 +84,7 @@ public class JobRunrSchedulerAdapter implements JobSchedulerPort {
 
     private UUID createOrUpdateJob(UUID jobId, JobDefinition jobDefinition, String jobName, Map<String, Object> parameters, boolean isExternalTrigger, Instant scheduledAt, List<String> additionalLabels) {
         if (additionalLabels != null && additionalLabels.contains("template")) {
-            assertUniqueTemplateName(jobName, jobId);
+            assertTemplateNameUnique(jobName, jobId);
         }
         return executeOrThrow("Error scheduling job: " + jobDefinition.jobType(), () -> {
             Instant effectiveScheduledAt = isExternalTrigger ? EXTERNAL_TRIGGER : scheduledAt;
@@ -86,6 +97,13 @@ public class JobRunrSchedulerAdapter implements JobSchedulerPort {
             } catch (Exception e) {
                 LOG.warnf("Could not set job name for job %s: %s", jobId, e.getMessage());
             }
+            scheduledJobCache.invalidate();
+            if (additionalLabels != null && additionalLabels.contains("template")) {
+                templateCatalog.put(new TemplateCatalogEntry(newJobId.asUUID(), jobName, jobDefinition.jobType(),
+                        jobDefinition.usesExternalParameters()));
+            } else {
+                templateCatalog.remove(newJobId.asUUID());
+            }
 
             LOG.infof("Job scheduled: %s (ID: %s) for %s",
                     jobDefinition.jobType(), newJobId, isExternalTrigger ? "external" : scheduledAt);
@@ -98,23 +116,56 @@ public class JobRunrSchedulerAdapter implements JobSchedulerPort {
     public void deleteScheduledJob(UUID jobId) {
         executeOrThrow("Error deleting job: " + jobId, () -> {
             jobScheduler.delete(jobId);
+            scheduledJobCache.invalidate();
+            templateCatalog.remove(jobId);
             LOG.infof("Job deleted: %s", jobId);
             return null;
         });
     }
 
+    /**
+     * Returns all scheduled jobs managed by this extension.
+     * The list is served from the {@link ScheduledJobCache}; the storage is only queried when
+     * the cached list expired or was invalidated by a change.
+     */
     @Override
     public List<ScheduledJobInfo> getScheduledJobs() {
-        return executeOrDefault(new ArrayList<>(), "Error retrieving scheduled jobs", () -> {
-            var searchRequest = new org.jobrunr.storage.JobSearchRequest(StateName.SCHEDULED);
-            var amountRequest = new org.jobrunr.storage.navigation.AmountRequest("scheduledAt:ASC", 10000);
-            List<org.jobrunr.jobs.Job> scheduledJobs = storageProvider.getJobList(searchRequest, amountRequest);
-            LOG.debugf("Found scheduled jobs: %s", scheduledJobs.size());
-            return scheduledJobs.stream()
-                    .map(this::mapToScheduledJobInfo)
-                    .flatMap(Optional::stream)
-                    .toList();
-        });
+        return executeOrDefault(new ArrayList<>(), "Error retrieving scheduled jobs",
+                () -> scheduledJobCache.get(this::loadScheduledJobs));
+    }
+
+    private List<ScheduledJobInfo> loadScheduledJobs() {
+        long catalogVersion = templateCatalog.currentVersion();
+        List<ScheduledJobInfo> jobs = queryScheduledJobs();
+        templateCatalog.rebuild(catalogVersion, templateEntries(jobs));
+        return jobs;
+    }
+
+    private List<ScheduledJobInfo> queryScheduledJobs() {
+        var searchRequest = new org.jobrunr.storage.JobSearchRequest(StateName.SCHEDULED);
+        var amountRequest = new org.jobrunr.storage.navigation.AmountRequest("scheduledAt:ASC", 10000);
+        List<org.jobrunr.jobs.Job> scheduledJobs = storageProvider.getJobList(searchRequest, amountRequest);
+        LOG.debugf("Found scheduled jobs: %s", scheduledJobs.size());
+        return scheduledJobs.stream()
+                .map(this::mapToScheduledJobInfo)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    private static List<TemplateCatalogEntry> templateEntries(List<ScheduledJobInfo> jobs) {
+        return jobs.stream()
+                .filter(ScheduledJobInfo::isTemplate)
+                .map(TemplateCatalogEntry::of)
+                .toList();
+    }
+
+    /**
+     * Resolves a template by name from the {@link TemplateCatalog}.
+     * The catalog is rebuilt from storage first if it is older than the scheduled job cache allows.
+     */
+    @Override
+    public Optional<TemplateCatalogEntry> findTemplateByName(String templateName) {
+        return currentTemplateCatalog().findByName(templateName);
     }
 
     @Override
@@ -159,7 +210,7 @@ public class JobRunrSchedulerAdapter implements JobSchedulerPort {
                 .orElse(job.getCreatedAt());
 
         // Extract parameters
-        Map<String, Object> parameters = JobParameterExtractor.extractParameters(job);
+        Map<String, Object> parameters = JobParameterExtractor.extractParameters(job, parameterCodec);
 
         // Check if externally triggerable
         boolean isExternallyTriggerable = isExternallyTriggerable(scheduledAt);
@@ -196,6 +247,8 @@ public class JobRunrSchedulerAdapter implements JobSchedulerPort {
             }
             job.enqueue();
             storageProvider.save(job);
+            scheduledJobCache.invalidate();
+            templateCatalog.remove(jobId);
             LOG.infof("Job is being executed immediately: %s", jobId);
             return null;
         });
@@ -225,6 +278,7 @@ public class JobRunrSchedulerAdapter implements JobSchedulerPort {
                     .orElseThrow(() -> new IllegalStateException("Job definition not found for handler: " + handlerClassName));
 
             jobInvoker.scheduleJob(jobId, jobName, jobDefinition, parameters, scheduledAt, new ArrayList<>(existingJob.getLabels()));
+            scheduledJobCache.invalidate();
             LOG.infof("Updated parameters for job: %s", jobId);
             return null;
         });
@@ -232,20 +286,32 @@ public class JobRunrSchedulerAdapter implements JobSchedulerPort {
 
     /**
      * Throws DuplicateTemplateNameException if any other scheduled template already uses the given name.
+     * The check is answered by the {@link TemplateCatalog}.
      *
      * @param jobName   the candidate name
      * @param currentId the current job ID to exclude (null for new jobs)
      */
-    private void assertUniqueTemplateName(String jobName, UUID currentId) {
-        boolean duplicate = getScheduledJobs().stream()
-                .filter(ScheduledJobInfo::isTemplate)
-                .anyMatch(j -> jobName.equals(j.getJobName())
-                        && (currentId == null || !currentId.equals(j.getJobId())));
+    @Override
+    public void assertTemplateNameUnique(String jobName, UUID currentId) {
+        boolean duplicate = currentTemplateCatalog().findByName(jobName)
+                .filter(entry -> currentId == null || !currentId.equals(entry.templateId()))
+                .isPresent();
         if (duplicate) {
             throw new DuplicateTemplateNameException(jobName);
         }
     }
 
+    private TemplateCatalog currentTemplateCatalog() {
+        if (!templateCatalog.isFresh(scheduledJobCache.timeToLive())) {
+            // Loaded from storage even if the scheduled job cache is fresh: a cache hit does not rebuild the catalog
+            executeOrThrow("Error loading job templates", () -> {
+                templateCatalog.refreshIfStale(scheduledJobCache.timeToLive(), () -> templateEntries(queryScheduledJobs()));
+                return null;
+            });
+        }
+        return templateCatalog;
+    }
+
     private boolean isExternallyTriggerable(Instant scheduledAt) {
         // Year 2999 indicates external triggers
         return scheduledAt != null &&
@@ -0,0 +1,132 @@
+package ch.css.jobrunr.control.infrastructure.jobrunr.scheduler;
+
+import ch.css.jobrunr.control.domain.ScheduledJobInfo;
+import ch.css.jobrunr.control.infrastructure.config.ScheduledJobCacheConfiguration;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Node-local, versioned read-through cache of all scheduled jobs.
+ * <p>
+ * Every invalidation bumps the version. A snapshot is only served while it is younger than the
+ * configured time to live and was loaded at the current version; a load that overlaps with an
+ * invalidation is returned to its caller but not cached, so a change is never hidden by a
+ * snapshot that was read before it. Concurrent misses share a single load.
+ */
+@ApplicationScoped
+public class ScheduledJobCache {
+
+    private static final Logger LOG = Logger.getLogger(ScheduledJobCache.class);
+
+    /**
+     * Hit, miss and invalidation counts since startup.
+     *
+     * @param hits          Requests served from the cache
+     * @param misses        Requests that loaded the scheduled jobs from the storage
+     * @param invalidations Number of invalidations
+     */
+    public record Statistics(long hits, long misses, long invalidations) {
+
+        /**
+         * Returns the share of requests served from the cache, or 0 if there were none.
+         */
+        public double hitRatio() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+
+    private record Snapshot(List<ScheduledJobInfo> jobs, long version, long loadedAtNanos) {
+    }
+
+    private final ScheduledJobCacheConfiguration configuration;
+    private final AtomicLong version = new AtomicLong();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private volatile Snapshot snapshot;
+
+    @Inject
+    public ScheduledJobCache(ScheduledJobCacheConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Returns the cached scheduled jobs, loading them with the given loader if the cache is stale.
+     * Exceptions of the loader are propagated and nothing is cached.
+     *
+     * @param loader loads all scheduled jobs from the storage
+     * @return unmodifiable list of scheduled jobs
+     */
+    public List<ScheduledJobInfo> get(Supplier<List<ScheduledJobInfo>> loader) {
+        if (!configuration.enabled()) {
+            return loader.get();
+        }
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            hits.increment();
+            return current.jobs();
+        }
+
+        loadLock.lock();
+        try {
+            // Another request may have loaded the jobs while this one was waiting
+            current = snapshot;
+            if (isFresh(current)) {
+                hits.increment();
+                return current.jobs();
+            }
+            misses.increment();
+            long loadVersion = version.get();
+            List<ScheduledJobInfo> jobs = List.copyOf(loader.get());
+            if (version.get() == loadVersion) {
+                snapshot = new Snapshot(jobs, loadVersion, System.nanoTime());
+            }
+            if (LOG.isDebugEnabled()) {
+                Statistics statistics = statistics();
+                LOG.debugf("Loaded %d scheduled jobs into cache (hits=%d, misses=%d, hit ratio=%.2f)",
+                        jobs.size(), statistics.hits(), statistics.misses(), statistics.hitRatio());
+            }
+            return jobs;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Discards the cached snapshot, e.g. after a scheduled job was created, changed, deleted or enqueued.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+        invalidations.increment();
+    }
+
+    /**
+     * Returns how long a loaded list may be served, or zero if caching is disabled.
+     */
+    public Duration timeToLive() {
+        return configuration.enabled() ? configuration.ttl() : Duration.ZERO;
+    }
+
+    /**
+     * Returns the hit, miss and invalidation counts since startup.
+     */
+    public Statistics statistics() {
+        return new Statistics(hits.sum(), misses.sum(), invalidations.sum());
+    }
+
+    private boolean isFresh(Snapshot candidate) {
+        return candidate != null
+                && candidate.version() == version.get()
+                && System.nanoTime() - candidate.loadedAtNanos() < configuration.ttl().toNanos();
+    }
+}
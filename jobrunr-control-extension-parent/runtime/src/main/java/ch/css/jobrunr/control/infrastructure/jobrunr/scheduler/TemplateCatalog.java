@@ -0,0 +1,134 @@
+package ch.css.jobrunr.control.infrastructure.jobrunr.scheduler;
+
+import ch.css.jobrunr.control.domain.TemplateCatalogEntry;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Node-local catalog of job templates indexed by name.
+ * <p>
+ * The catalog is rebuilt whenever the scheduler adapter loads all scheduled jobs from storage and
+ * is updated incrementally when templates are created, updated, cloned or deleted through this node.
+ * Lookups never touch the storage. Every incremental change bumps the version; a rebuild from a
+ * list that was loaded before such a change is discarded, so the change is not lost.
+ * A stale catalog is refreshed with {@link #refreshIfStale(Duration, Supplier)}, which loads the templates
+ * while holding the catalog lock, so incremental changes made meanwhile are applied after the refresh.
+ */
+@ApplicationScoped
+public class TemplateCatalog {
+
+    private final Map<String, TemplateCatalogEntry> entriesByName = new ConcurrentHashMap<>();
+    private final Map<UUID, String> namesById = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private volatile long rebuiltAtNanos;
+    private volatile boolean ready;
+
+    /**
+     * Finds a template by name.
+     *
+     * @param name the template name
+     * @return the catalog entry, or empty if no template has this name
+     */
+    public Optional<TemplateCatalogEntry> findByName(String name) {
+        return Optional.ofNullable(entriesByName.get(name));
+    }
+
+    /**
+     * Checks whether the catalog was rebuilt from storage within the given age.
+     *
+     * @param maxAge maximum age of the last rebuild
+     * @return true if the catalog can answer lookups without a rebuild
+     */
+    public boolean isFresh(Duration maxAge) {
+        return ready && System.nanoTime() - rebuiltAtNanos < maxAge.toNanos();
+    }
+
+    /**
+     * Adds or updates a template after it was created, updated or cloned.
+     *
+     * @param entry the current catalog entry of the template
+     */
+    public synchronized void put(TemplateCatalogEntry entry) {
+        removeEntry(entry.templateId());
+        entriesByName.put(entry.name(), entry);
+        namesById.put(entry.templateId(), entry.name());
+        version.incrementAndGet();
+    }
+
+    /**
+     * Removes a job from the catalog after it was deleted, executed or lost its template label.
+     * Unknown IDs are ignored.
+     *
+     * @param jobId the job ID
+     */
+    public synchronized void remove(UUID jobId) {
+        removeEntry(jobId);
+        version.incrementAndGet();
+    }
+
+    /**
+     * Returns the current version, to be passed to {@link #rebuild(long, Collection)} by a caller
+     * that starts loading the templates from storage now.
+     */
+    public long currentVersion() {
+        return version.get();
+    }
+
+    /**
+     * Replaces the catalog content with the templates loaded from storage.
+     * If a template was changed since {@code loadVersion}, the loaded list is outdated and ignored.
+     * When several templates share a name, the first one wins.
+     *
+     * @param loadVersion the version read before the templates were loaded
+     * @param templates   all templates in storage
+     */
+    public synchronized void rebuild(long loadVersion, Collection<TemplateCatalogEntry> templates) {
+        if (version.get() != loadVersion) {
+            return;
+        }
+        replace(templates);
+    }
+
+    /**
+     * Reloads the catalog content if it was not rebuilt within the given age.
+     * The templates are loaded while the catalog is locked, so the catalog is always fresh afterwards;
+     * incremental changes wait for the refresh and are applied on top of it.
+     * Exceptions of the loader are propagated and leave the catalog unchanged.
+     *
+     * @param maxAge maximum age of the last rebuild
+     * @param loader loads all templates from storage
+     */
+    public synchronized void refreshIfStale(Duration maxAge, Supplier<Collection<TemplateCatalogEntry>> loader) {
+        if (isFresh(maxAge)) {
+            return;
+        }
+        replace(loader.get());
+    }
+
+    private void replace(Collection<TemplateCatalogEntry> templates) {
+        entriesByName.clear();
+        namesById.clear();
+        for (TemplateCatalogEntry entry : templates) {
+            if (entriesByName.putIfAbsent(entry.name(), entry) == null) {
+                namesById.put(entry.templateId(), entry.name());
+            }
+        }
+        rebuiltAtNanos = System.nanoTime();
+        ready = true;
+    }
+
+    private void removeEntry(UUID templateId) {
+        String name = namesById.remove(templateId);
+        if (name != null) {
+            entriesByName.computeIfPresent(name, (key, existing) -> existing.templateId().equals(templateId) ? null : existing);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package ch.css.jobrunr.control.infrastructure.jobrunr.scheduler;
+
+import ch.css.jobrunr.control.domain.JobSchedulerPort;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+/**
+ * Builds the {@link TemplateCatalog} from the JobRunr storage at startup, so the first
+ * name-based template start does not have to wait for all scheduled jobs to be loaded.
+ */
+@ApplicationScoped
+public class TemplateCatalogInitializer {
+
+    private static final Logger LOG = Logger.getLogger(TemplateCatalogInitializer.class);
+
+    private final JobSchedulerPort jobSchedulerPort;
+
+    @Inject
+    public TemplateCatalogInitializer(JobSchedulerPort jobSchedulerPort) {
+        this.jobSchedulerPort = jobSchedulerPort;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        Thread.ofVirtual().name("jobrunr-control-template-catalog").start(() -> {
+            try {
+                // Loading the scheduled jobs rebuilds the catalog
+                int count = jobSchedulerPort.getScheduledJobs().size();
+                LOG.debugf("Template catalog initialized from %d scheduled jobs", count);
+            } catch (Exception e) {
+                LOG.warnf(e, "Failed to initialize template catalog");
+                // Don't throw - the catalog is built on the first lookup
+            }
+        });
+    }
+}
@@ -149,6 +149,18 @@ public class DatabaseTypeHandler {
         return parametersJson;
     }
 
+    /**
+     * Returns whether a statement failed because of a constraint violation, e.g. a unique key inserted
+     * concurrently by another transaction (SQLState class 23, ORA-00001 on Oracle).
+     *
+     * @param e the exception thrown by the statement
+     * @return true if the exception reports an integrity constraint violation
+     */
+    public static boolean isIntegrityViolation(SQLException e) {
+        return e instanceof SQLIntegrityConstraintViolationException
+                || (e.getSQLState() != null && e.getSQLState().startsWith("23"));
+    }
+
     /**
      * Returns the detected database type.
      */
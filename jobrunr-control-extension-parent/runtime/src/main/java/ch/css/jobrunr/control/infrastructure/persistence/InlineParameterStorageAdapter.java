@@ -5,6 +5,8 @@ import ch.css.jobrunr.control.domain.ParameterStoragePort;
 import io.quarkus.arc.DefaultBean;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -31,6 +33,11 @@ public class InlineParameterStorageAdapter implements ParameterStoragePort {
         return Optional.empty();
     }
 
+    @Override
+    public Map<UUID, ParameterSet> findByIds(Collection<UUID> ids) {
+        return Map.of();
+    }
+
     @Override
     public void deleteById(UUID id) {
         // No-op
@@ -12,9 +12,7 @@ import org.jboss.logging.Logger;
 
 import java.sql.*;
 import java.time.Instant;
-import java.util.Map;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
 
 /**
  * JDBC-based implementation of ParameterStoragePort.
@@ -43,6 +41,17 @@ public class JdbcParameterStorageAdapter implements ParameterStoragePort {
             WHERE "ID" = ?
             """;
 
+    private static final String SELECT_BY_IDS_SQL = """
+            SELECT "ID", "JOB_TYPE", "PARAMETERS_JSON", "CREATED_AT", "UPDATED_AT", "VERSION"
+            FROM "JOBRUNR_CONTROL_PARAMETER_SETS"
+            WHERE "ID" IN (%s)
+            """;
+
+    /**
+     * Maximum number of bind variables per IN list (Oracle rejects more than 1000 expressions).
+     */
+    static final int FIND_BY_IDS_CHUNK_SIZE = 500;
+
     private static final String DELETE_BY_ID_SQL = """
             DELETE FROM "JOBRUNR_CONTROL_PARAMETER_SETS"
             WHERE "ID" = ?
@@ -144,6 +153,47 @@ public class JdbcParameterStorageAdapter implements ParameterStoragePort {
         }
     }
 
+    @Override
+    public Map<UUID, ParameterSet> findByIds(Collection<UUID> ids) {
+        List<UUID> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<UUID, ParameterSet> result = new HashMap<>();
+        try (Connection conn = dataSource.getConnection()) {
+            for (int from = 0; from < distinctIds.size(); from += FIND_BY_IDS_CHUNK_SIZE) {
+                List<UUID> chunk = distinctIds.subList(from, Math.min(from + FIND_BY_IDS_CHUNK_SIZE, distinctIds.size()));
+                findChunk(conn, chunk, result);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to find parameter sets", e);
+        }
+        LOG.debugf("Loaded %d of %d requested parameter sets", result.size(), distinctIds.size());
+        return result;
+    }
+
+    private void findChunk(Connection conn, List<UUID> chunk, Map<UUID, ParameterSet> result) throws SQLException {
+        String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+        try (PreparedStatement stmt = conn.prepareStatement(SELECT_BY_IDS_SQL.formatted(placeholders))) {
+            for (int i = 0; i < chunk.size(); i++) {
+                stmt.setString(i + 1, chunk.get(i).toString());
+            }
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    UUID id = UUID.fromString(rs.getString("ID"));
+                    String parametersJson = extractJsonFromResultSet(rs);
+                    if (parametersJson == null) {
+                        LOG.warnf("Parameter set %s has null JSON content", id);
+                        continue;
+                    }
+                    deserializeParameterSet(id, rs, parametersJson).ifPresent(set -> result.put(set.id(), set));
+                }
+            }
+        }
+    }
+
     /**
      * Extracts JSON string from ResultSet using database-specific handler.
      */
@@ -0,0 +1,14 @@
+package ch.css.jobrunr.control.infrastructure.persistence;
+
+import org.jobrunr.jobs.lambdas.JobRequest;
+
+/**
+ * JobRequest of the recurring job message counter reconciliation, see {@link JobMessageCounterStore}.
+ */
+public record JobMessageCounterReconcileJobRequest() implements JobRequest {
+
+    @Override
+    public Class<JobMessageCounterReconcileJobRequestHandler> getJobRequestHandler() {
+        return JobMessageCounterReconcileJobRequestHandler.class;
+    }
+}
@@ -0,0 +1,27 @@
+package ch.css.jobrunr.control.infrastructure.persistence;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jobrunr.jobs.annotations.Job;
+import org.jobrunr.jobs.lambdas.JobRequestHandler;
+
+/**
+ * Runs the job message counter reconciliation as a recurring JobRunr job, so it runs on one node of the cluster at a time.
+ */
+@ApplicationScoped
+public class JobMessageCounterReconcileJobRequestHandler implements JobRequestHandler<JobMessageCounterReconcileJobRequest> {
+
+    private final JobMessageCounterStore counterStore;
+
+    @Inject
+    public JobMessageCounterReconcileJobRequestHandler(JobMessageCounterStore counterStore) {
+        this.counterStore = counterStore;
+    }
+
+    @Override
+    @Job(name = "JobRunr Control message counter reconciliation", retries = 0)
+    public void run(JobMessageCounterReconcileJobRequest jobRequest) {
+        // Failures are logged by the reconciliation; the next occurrence retries
+        counterStore.reconcile();
+    }
+}
@@ -0,0 +1,467 @@
+package ch.css.jobrunr.control.infrastructure.persistence;
+
+import ch.css.jobrunr.control.domain.details.JobMessageLevel;
+import ch.css.jobrunr.control.domain.details.JobMessageLevelCounters;
+import ch.css.jobrunr.control.infrastructure.config.JobMessageCounterConfiguration;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+import org.jobrunr.scheduling.JobRequestScheduler;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maintains the number of job messages per batch and level in {@code JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS}.
+ * <p>
+ * Written messages are counted in memory and added to the counters table by a background thread, so
+ * concurrent child jobs of a batch never wait for each other on the counter rows. Counts can drift,
+ * e.g. when a message insert is rolled back or the application stops before a flush.
+ * <p>
+ * A recurring JobRunr job ({@value #RECURRING_JOB_ID}) compares the counters of recently updated batches with the
+ * messages table and overwrites drifted counters with the counted values. Being a recurring job, it runs on one
+ * node of the cluster at a time. Only settled batches are repaired: a batch that received messages within the
+ * last flush interval (plus a margin) may still have counts pending on any node, which would be added on top of
+ * the absolute value. Such a batch is repaired by a later run.
+ * <p>
+ * If the counters table does not exist, e.g. because it was not created after an upgrade, the counters are
+ * disabled and message counts are read from the messages table.
+ */
+@ApplicationScoped
+public class JobMessageCounterStore {
+
+    private static final Logger LOG = Logger.getLogger(JobMessageCounterStore.class);
+    static final String RECURRING_JOB_ID = "jobrunr-control-message-counter-reconciliation";
+    // Tolerates clock differences between nodes and delayed flushes
+    private static final Duration RECONCILE_MARGIN = Duration.ofMinutes(1);
+
+    private static final String PROBE_COUNTERS_TABLE_SQL = """
+            SELECT "MESSAGE_COUNT" FROM "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS" WHERE 1 = 0
+            """;
+
+    private static final String SELECT_COUNTERS_SQL = """
+            SELECT "LEVEL", "MESSAGE_COUNT"
+            FROM "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS"
+            WHERE "BATCH_JOB_ID" = ?
+            """;
+
+    private static final String COUNT_MESSAGES_SQL = """
+            SELECT "LEVEL", COUNT(*) AS level_count, MAX("CREATED_AT") AS latest_created_at
+            FROM "JOBRUNR_CONTROL_BATCH_MESSAGES"
+            WHERE "BATCH_JOB_ID" = ?
+            GROUP BY "LEVEL"
+            """;
+
+    private static final String SELECT_UPDATED_BATCHES_SQL = """
+            SELECT DISTINCT "BATCH_JOB_ID"
+            FROM "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS"
+            WHERE "UPDATED_AT" > ? AND "UPDATED_AT" <= ?
+            """;
+
+    private static final String SET_COUNT_SQL = """
+            UPDATE "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS"
+            SET "MESSAGE_COUNT" = ?
+            WHERE "BATCH_JOB_ID" = ? AND "LEVEL" = ?
+            """;
+
+    private static final String ADD_COUNT_POSTGRESQL_SQL = """
+            INSERT INTO "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS" ("BATCH_JOB_ID", "LEVEL", "MESSAGE_COUNT", "UPDATED_AT")
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT ("BATCH_JOB_ID", "LEVEL")
+            DO UPDATE SET "MESSAGE_COUNT" = "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS"."MESSAGE_COUNT" + EXCLUDED."MESSAGE_COUNT",
+                          "UPDATED_AT" = EXCLUDED."UPDATED_AT"
+            """;
+
+    private static final String ADD_COUNT_MYSQL_SQL = """
+            INSERT INTO "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS" ("BATCH_JOB_ID", "LEVEL", "MESSAGE_COUNT", "UPDATED_AT")
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE "MESSAGE_COUNT" = "MESSAGE_COUNT" + VALUES("MESSAGE_COUNT"), "UPDATED_AT" = VALUES("UPDATED_AT")
+            """;
+
+    private static final String ADD_COUNT_H2_SQL = """
+            MERGE INTO "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS" target
+            USING (SELECT CAST(? AS VARCHAR(36)) AS "BATCH_JOB_ID", CAST(? AS VARCHAR(20)) AS "LEVEL",
+                          CAST(? AS BIGINT) AS "MESSAGE_COUNT", CAST(? AS TIMESTAMP) AS "UPDATED_AT") source
+            ON (target."BATCH_JOB_ID" = source."BATCH_JOB_ID" AND target."LEVEL" = source."LEVEL")
+            WHEN MATCHED THEN UPDATE SET target."MESSAGE_COUNT" = target."MESSAGE_COUNT" + source."MESSAGE_COUNT",
+                                         target."UPDATED_AT" = source."UPDATED_AT"
+            WHEN NOT MATCHED THEN INSERT ("BATCH_JOB_ID", "LEVEL", "MESSAGE_COUNT", "UPDATED_AT")
+                VALUES (source."BATCH_JOB_ID", source."LEVEL", source."MESSAGE_COUNT", source."UPDATED_AT")
+            """;
+
+    private static final String ADD_COUNT_ORACLE_SQL = """
+            MERGE INTO "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS" target
+            USING (SELECT ? AS "BATCH_JOB_ID", ? AS "LEVEL", ? AS "MESSAGE_COUNT", ? AS "UPDATED_AT" FROM DUAL) source
+            ON (target."BATCH_JOB_ID" = source."BATCH_JOB_ID" AND target."LEVEL" = source."LEVEL")
+            WHEN MATCHED THEN UPDATE SET target."MESSAGE_COUNT" = target."MESSAGE_COUNT" + source."MESSAGE_COUNT",
+                                         target."UPDATED_AT" = source."UPDATED_AT"
+            WHEN NOT MATCHED THEN INSERT ("BATCH_JOB_ID", "LEVEL", "MESSAGE_COUNT", "UPDATED_AT")
+                VALUES (source."BATCH_JOB_ID", source."LEVEL", source."MESSAGE_COUNT", source."UPDATED_AT")
+            """;
+
+    private static final String UPDATE_COUNT_SQL = """
+            UPDATE "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS"
+            SET "MESSAGE_COUNT" = "MESSAGE_COUNT" + ?, "UPDATED_AT" = ?
+            WHERE "BATCH_JOB_ID" = ? AND "LEVEL" = ?
+            """;
+
+    private static final String INSERT_COUNT_SQL = """
+            INSERT INTO "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS" ("BATCH_JOB_ID", "LEVEL", "MESSAGE_COUNT", "UPDATED_AT")
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private record CounterKey(UUID batchJobId, JobMessageLevel level) {
+    }
+
+    private record CounterDelta(CounterKey key, long delta) {
+    }
+
+    /**
+     * Message counts of a batch per level and the creation time of its newest message.
+     */
+    private record MessageCounts(Map<JobMessageLevel, Long> counts, Instant latestCreatedAt) {
+    }
+
+    private final AgroalDataSource dataSource;
+    private final DatabaseTypeHandler databaseTypeHandler;
+    private final JobMessageCounterConfiguration configuration;
+    private final JobRequestScheduler jobRequestScheduler;
+    private final Map<CounterKey, Long> pending = new ConcurrentHashMap<>();
+    private volatile boolean tableMissing;
+    private ScheduledExecutorService scheduler;
+
+    @Inject
+    public JobMessageCounterStore(AgroalDataSource dataSource,
+                                  DatabaseTypeHandler databaseTypeHandler,
+                                  JobMessageCounterConfiguration configuration,
+                                  JobRequestScheduler jobRequestScheduler) {
+        this.dataSource = dataSource;
+        this.databaseTypeHandler = databaseTypeHandler;
+        this.configuration = configuration;
+        this.jobRequestScheduler = jobRequestScheduler;
+    }
+
+    @PostConstruct
+    void detectCountersTable() {
+        try (Connection conn = dataSource.getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement(PROBE_COUNTERS_TABLE_SQL);
+                 ResultSet ignored = stmt.executeQuery()) {
+                tableMissing = false;
+            } catch (SQLException e) {
+                tableMissing = true;
+                LOG.warnf("JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS is not available (%s), message counts are read from the messages table. "
+                        + "Create the table as described in the SQL scripts to materialize the counters", e.getMessage());
+            }
+        } catch (SQLException e) {
+            LOG.warnf(e, "Could not check the JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS table, assuming it exists");
+        }
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!isEnabled()) {
+            // Removes the recurring job of an earlier deployment that had the counters enabled
+            jobRequestScheduler.deleteRecurringJob(RECURRING_JOB_ID);
+            LOG.debug("Job message counters disabled, message counts are read from the messages table");
+            return;
+        }
+        long flushMillis = configuration.flushInterval().toMillis();
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofVirtual().name("jobrunr-control-message-counters").factory());
+        scheduler.scheduleWithFixedDelay(this::flush, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+        jobRequestScheduler.scheduleRecurrently(RECURRING_JOB_ID, configuration.reconcileInterval(),
+                new JobMessageCounterReconcileJobRequest());
+        LOG.debugf("Registered recurring job message counter reconciliation '%s' every %s",
+                RECURRING_JOB_ID, configuration.reconcileInterval());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * Returns whether {@code JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS} exists.
+     */
+    public boolean hasCountersTable() {
+        return !tableMissing;
+    }
+
+    /**
+     * Returns whether message counts are maintained in the counters table.
+     */
+    public boolean isEnabled() {
+        return configuration.enabled() && hasCountersTable();
+    }
+
+    /**
+     * Counts written messages. The count is added to the counters table with the next flush.
+     *
+     * @param batchJobId the batch job the messages belong to
+     * @param level      the level of the messages
+     * @param count      the number of messages
+     */
+    public void increment(UUID batchJobId, JobMessageLevel level, long count) {
+        if (!isEnabled() || count == 0) {
+            return;
+        }
+        pending.merge(new CounterKey(batchJobId, level), count, Long::sum);
+    }
+
+    /**
+     * Reads the message counters of a batch, including messages counted on this node but not yet flushed.
+     *
+     * @param conn       the connection to read with
+     * @param batchJobId the batch job
+     * @return the counters, or empty if the batch has no counter rows and nothing is pending
+     * @throws SQLException if the counters cannot be read
+     */
+    public Optional<JobMessageLevelCounters> readCounters(Connection conn, UUID batchJobId) throws SQLException {
+        Map<JobMessageLevel, Long> counts = readStoredCounts(conn, batchJobId);
+        boolean found = !counts.isEmpty();
+        for (JobMessageLevel level : JobMessageLevel.values()) {
+            Long pendingCount = pending.get(new CounterKey(batchJobId, level));
+            if (pendingCount != null) {
+                counts.merge(level, pendingCount, Long::sum);
+                found = true;
+            }
+        }
+        if (!found) {
+            return Optional.empty();
+        }
+        return Optional.of(new JobMessageLevelCounters(
+                counts.getOrDefault(JobMessageLevel.INFO, 0L),
+                counts.getOrDefault(JobMessageLevel.WARNING, 0L),
+                counts.getOrDefault(JobMessageLevel.ERROR, 0L),
+                counts.getOrDefault(JobMessageLevel.EXCEPTION, 0L)));
+    }
+
+    /**
+     * Adds the pending counts to the counters table. Counts that cannot be written are kept for the next flush.
+     */
+    void flush() {
+        List<CounterDelta> deltas = new ArrayList<>();
+        for (CounterKey key : pending.keySet()) {
+            Long delta = pending.remove(key);
+            if (delta != null && delta != 0L) {
+                deltas.add(new CounterDelta(key, delta));
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try (Connection conn = dataSource.getConnection()) {
+            addCounts(conn, deltas);
+            LOG.debugf("Flushed %d job message counter(s)", deltas.size());
+        } catch (Exception e) {
+            deltas.forEach(delta -> pending.merge(delta.key(), delta.delta(), Long::sum));
+            LOG.warnf(e, "Failed to flush %d job message counter(s), retrying with the next flush", deltas.size());
+            // Don't throw - the counts are kept in memory
+        }
+    }
+
+    /**
+     * Repairs the counters of the batches whose counters changed within the last reconcile interval and have
+     * settled since. The window overlaps the previous run by a margin, so batches are not missed when a run
+     * starts late. Failures are logged; the next run retries.
+     * <p>
+     * Runs as the recurring job {@value #RECURRING_JOB_ID}.
+     */
+    void reconcile() {
+        Instant settledBefore = Instant.now().minus(configuration.flushInterval()).minus(RECONCILE_MARGIN);
+        Instant since = settledBefore.minus(configuration.reconcileInterval()).minus(RECONCILE_MARGIN);
+        try (Connection conn = dataSource.getConnection()) {
+            List<UUID> batchJobIds = readUpdatedBatches(conn, since, settledBefore);
+            int repaired = 0;
+            for (UUID batchJobId : batchJobIds) {
+                if (reconcileBatch(conn, batchJobId, settledBefore)) {
+                    repaired++;
+                }
+            }
+            LOG.debugf("Reconciled job message counters of %d batch(es), %d repaired", batchJobIds.size(), repaired);
+        } catch (Exception e) {
+            LOG.warnf(e, "Failed to reconcile job message counters");
+        }
+    }
+
+    private boolean reconcileBatch(Connection conn, UUID batchJobId, Instant settledBefore) throws SQLException {
+        MessageCounts actual = countMessages(conn, batchJobId);
+        if (actual.latestCreatedAt() != null && actual.latestCreatedAt().isAfter(settledBefore)) {
+            LOG.debugf("Skipping job message counters of batch %s, it received messages recently", batchJobId);
+            return false;
+        }
+        Map<JobMessageLevel, Long> stored = readStoredCounts(conn, batchJobId);
+        boolean repaired = false;
+        for (JobMessageLevel level : JobMessageLevel.values()) {
+            long count = actual.counts().getOrDefault(level, 0L);
+            if (count != stored.getOrDefault(level, 0L)) {
+                setCount(conn, new CounterKey(batchJobId, level), count);
+                repaired = true;
+            }
+        }
+        if (repaired) {
+            LOG.infof("Repaired job message counters of batch %s (stored %s, actual %s)", batchJobId, stored, actual.counts());
+        }
+        return repaired;
+    }
+
+    /**
+     * Overwrites a counter with an absolute value, so repeated or overlapping reconciliations cannot add a
+     * correction twice.
+     */
+    private void setCount(Connection conn, CounterKey key, long count) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(SET_COUNT_SQL)) {
+            stmt.setLong(1, count);
+            stmt.setString(2, key.batchJobId().toString());
+            stmt.setString(3, key.level().name());
+            if (stmt.executeUpdate() > 0 || count == 0L) {
+                return;
+            }
+        }
+        try (PreparedStatement stmt = conn.prepareStatement(INSERT_COUNT_SQL)) {
+            stmt.setString(1, key.batchJobId().toString());
+            stmt.setString(2, key.level().name());
+            stmt.setLong(3, count);
+            stmt.setTimestamp(4, Timestamp.from(Instant.now()));
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            if (!DatabaseTypeHandler.isIntegrityViolation(e)) {
+                throw e;
+            }
+            // A flush created the row meanwhile, its count is repaired by the next run
+            LOG.debugf("Job message counter %s of batch %s was created concurrently", key.level(), key.batchJobId());
+        }
+    }
+
+    private Map<JobMessageLevel, Long> readStoredCounts(Connection conn, UUID batchJobId) throws SQLException {
+        return readLevelCounts(conn, SELECT_COUNTERS_SQL, batchJobId, "MESSAGE_COUNT");
+    }
+
+    private MessageCounts countMessages(Connection conn, UUID batchJobId) throws SQLException {
+        Map<JobMessageLevel, Long> counts = new EnumMap<>(JobMessageLevel.class);
+        Instant latestCreatedAt = null;
+        try (PreparedStatement stmt = conn.prepareStatement(COUNT_MESSAGES_SQL)) {
+            stmt.setString(1, batchJobId.toString());
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String level = rs.getString("LEVEL");
+                    if (level != null) {
+                        counts.put(JobMessageLevel.valueOf(level.toUpperCase(Locale.ROOT)), rs.getLong("level_count"));
+                    }
+                    Timestamp createdAt = rs.getTimestamp("latest_created_at");
+                    if (createdAt != null && (latestCreatedAt == null || createdAt.toInstant().isAfter(latestCreatedAt))) {
+                        latestCreatedAt = createdAt.toInstant();
+                    }
+                }
+            }
+        }
+        return new MessageCounts(counts, latestCreatedAt);
+    }
+
+    private Map<JobMessageLevel, Long> readLevelCounts(Connection conn, String sql, UUID batchJobId, String countColumn) throws SQLException {
+        Map<JobMessageLevel, Long> counts = new EnumMap<>(JobMessageLevel.class);
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, batchJobId.toString());
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String level = rs.getString("LEVEL");
+                    if (level != null) {
+                        counts.put(JobMessageLevel.valueOf(level.toUpperCase(Locale.ROOT)), rs.getLong(countColumn));
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+
+    private List<UUID> readUpdatedBatches(Connection conn, Instant since, Instant until) throws SQLException {
+        List<UUID> batchJobIds = new ArrayList<>();
+        try (PreparedStatement stmt = conn.prepareStatement(SELECT_UPDATED_BATCHES_SQL)) {
+            stmt.setTimestamp(1, Timestamp.from(since));
+            stmt.setTimestamp(2, Timestamp.from(until));
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    batchJobIds.add(UUID.fromString(rs.getString("BATCH_JOB_ID")));
+                }
+            }
+        }
+        return batchJobIds;
+    }
+
+    private void addCounts(Connection conn, List<CounterDelta> deltas) throws SQLException {
+        Timestamp now = Timestamp.from(Instant.now());
+        String addCountSql = addCountSql();
+        if (addCountSql == null) {
+            updateOrInsertCounts(conn, deltas, now);
+            return;
+        }
+        try (PreparedStatement stmt = conn.prepareStatement(addCountSql)) {
+            for (CounterDelta delta : deltas) {
+                stmt.setString(1, delta.key().batchJobId().toString());
+                stmt.setString(2, delta.key().level().name());
+                stmt.setLong(3, delta.delta());
+                stmt.setTimestamp(4, now);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    private void updateOrInsertCounts(Connection conn, List<CounterDelta> deltas, Timestamp now) throws SQLException {
+        try (PreparedStatement update = conn.prepareStatement(UPDATE_COUNT_SQL);
+             PreparedStatement insert = conn.prepareStatement(INSERT_COUNT_SQL)) {
+            for (CounterDelta delta : deltas) {
+                update.setLong(1, delta.delta());
+                update.setTimestamp(2, now);
+                update.setString(3, delta.key().batchJobId().toString());
+                update.setString(4, delta.key().level().name());
+                if (update.executeUpdate() == 0) {
+                    insert.setString(1, delta.key().batchJobId().toString());
+                    insert.setString(2, delta.key().level().name());
+                    insert.setLong(3, delta.delta());
+                    insert.setTimestamp(4, now);
+                    insert.executeUpdate();
+                }
+            }
+        }
+    }
+
+    private String addCountSql() {
+        return switch (databaseTypeHandler.getDatabaseType()) {
+            case POSTGRESQL -> ADD_COUNT_POSTGRESQL_SQL;
+            case H2 -> ADD_COUNT_H2_SQL;
+            case ORACLE -> ADD_COUNT_ORACLE_SQL;
+            case MYSQL -> ADD_COUNT_MYSQL_SQL;
+            case GENERIC -> null;
+        };
+    }
+}
@@ -1,13 +1,18 @@
 package ch.css.jobrunr.control.infrastructure.persistence;
 
 import ch.css.jobrunr.control.domain.details.JobMessage;
+import ch.css.jobrunr.control.domain.details.JobMessageCursor;
+import ch.css.jobrunr.control.domain.details.JobMessageEntry;
 import ch.css.jobrunr.control.domain.details.JobMessageLevel;
 import ch.css.jobrunr.control.domain.details.JobMessageLevelCounters;
 import ch.css.jobrunr.control.domain.details.JobMessageLevelSearch;
 import ch.css.jobrunr.control.domain.details.JobMessageSortOrder;
 import ch.css.jobrunr.control.domain.details.JobMessagesPaged;
-import io.agroal.api.AgroalDataSource;
+import ch.css.jobrunr.control.domain.details.JobMessagesSlice;
 import ch.css.jobrunr.control.domain.details.JobMessageStoragePort;
+import ch.css.jobrunr.control.infrastructure.config.JobMessageExportConfiguration;
+import ch.css.jobrunr.control.infrastructure.config.JobMessageSearchConfiguration;
+import io.agroal.api.AgroalDataSource;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.jboss.logging.Logger;
@@ -21,7 +26,14 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class JobMessageStorageAdapter implements JobMessageStoragePort {
@@ -29,12 +41,34 @@ public class JobMessageStorageAdapter implements JobMessageStoragePort {
     private static final Logger LOG = Logger.getLogger(JobMessageStorageAdapter.class);
 
     private static final String INSERT_SQL = """
+            INSERT INTO "JOBRUNR_CONTROL_BATCH_MESSAGES" ("BATCH_JOB_ID", "CHILD_JOB_ID", "CREATED_AT", "LEVEL", "MESSAGE", "STACK_TRACE", "STACK_TRACE_HASH")
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // Schemas created before stack trace deduplication have no STACK_TRACE_HASH column
+    private static final String INSERT_WITHOUT_HASH_SQL = """
             INSERT INTO "JOBRUNR_CONTROL_BATCH_MESSAGES" ("BATCH_JOB_ID", "CHILD_JOB_ID", "CREATED_AT", "LEVEL", "MESSAGE", "STACK_TRACE")
             VALUES (?, ?, ?, ?, ?, ?)
             """;
 
+    private static final String[] GENERATED_ID_COLUMNS = {"ID"};
+
+    private static final String INSERT_TOKEN_SQL = """
+            INSERT INTO "JOBRUNR_CONTROL_BATCH_MESSAGE_TOKENS" ("BATCH_JOB_ID", "TOKEN", "MESSAGE_ID")
+            VALUES (?, ?, ?)
+            """;
+
+    // MySQL does not index words shorter than innodb_ft_min_token_size (3 by default)
+    private static final int MYSQL_MIN_TOKEN_LENGTH = 3;
+    static final int EXPORT_RESOLVE_CHUNK_SIZE = 500;
+
     private static final String SEARCH_SELECT_PREFIX = """
-            SELECT "CREATED_AT", "CHILD_JOB_ID", "LEVEL", "MESSAGE", "STACK_TRACE"
+            SELECT "ID", "CREATED_AT", "CHILD_JOB_ID", "LEVEL", "MESSAGE", "STACK_TRACE", "STACK_TRACE_HASH"
+            FROM "JOBRUNR_CONTROL_BATCH_MESSAGES"
+            """;
+
+    private static final String SEARCH_SELECT_WITHOUT_HASH_PREFIX = """
+            SELECT "ID", "CREATED_AT", "CHILD_JOB_ID", "LEVEL", "MESSAGE", "STACK_TRACE"
             FROM "JOBRUNR_CONTROL_BATCH_MESSAGES"
             """;
 
@@ -52,30 +86,156 @@ public class JobMessageStorageAdapter implements JobMessageStoragePort {
 
     private final AgroalDataSource dataSource;
     private final DatabaseTypeHandler databaseTypeHandler;
+    private final JobMessageCounterStore counterStore;
+    private final JobMessageSearchConfiguration searchConfiguration;
+    private final JobMessageExportConfiguration exportConfiguration;
+    private final StackTraceStore stackTraceStore;
 
     @Inject
-    public JobMessageStorageAdapter(AgroalDataSource dataSource, DatabaseTypeHandler databaseTypeHandler) {
+    public JobMessageStorageAdapter(AgroalDataSource dataSource,
+                                    DatabaseTypeHandler databaseTypeHandler,
+                                    JobMessageCounterStore counterStore,
+                                    StackTraceStore stackTraceStore,
+                                    JobMessageSearchConfiguration searchConfiguration,
+                                    JobMessageExportConfiguration exportConfiguration) {
         this.dataSource = dataSource;
         this.databaseTypeHandler = databaseTypeHandler;
+        this.counterStore = counterStore;
+        this.stackTraceStore = stackTraceStore;
+        this.searchConfiguration = searchConfiguration;
+        this.exportConfiguration = exportConfiguration;
     }
 
     @Override
     public void writeMessage(UUID jobId, JobMessage message) {
+        boolean writeTokens = writesTokens();
+        StackTraceStore.StackTraceReference stackTrace = stackTraceStore.reference(message.stackTrace());
         try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(INSERT_SQL)) {
-            stmt.setString(1, jobId.toString());
-            stmt.setString(2, message.jobId() != null ? message.jobId().toString() : null);
-            stmt.setTimestamp(3, Timestamp.from(message.createdAt() != null ? message.createdAt() : Instant.now()));
-            stmt.setString(4, message.messageLevel().name());
-            stmt.setString(5, message.message());
-            stmt.setString(6, message.stackTrace());
+             PreparedStatement stmt = prepareInsert(conn, writeTokens)) {
+            if (stackTrace != null) {
+                stackTraceStore.store(conn, List.of(stackTrace));
+            }
+            bindInsert(stmt, jobId, message, stackTrace);
             stmt.executeUpdate();
+            if (writeTokens) {
+                writeTokens(conn, stmt, List.of(new JobMessageEntry(jobId, message)), List.of(storedStackTrace(message, stackTrace)));
+            }
+            counterStore.increment(jobId, message.messageLevel(), 1);
         } catch (SQLException e) {
+            if (stackTrace != null) {
+                stackTraceStore.forget(List.of(stackTrace));
+            }
             LOG.errorf(e, "Failed to write job message for jobId %s", jobId);
             throw new IllegalStateException("Failed to write job message", e);
         }
     }
 
+    @Override
+    public void writeMessages(List<JobMessageEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        boolean writeTokens = writesTokens();
+        List<StackTraceStore.StackTraceReference> stackTraces = new ArrayList<>(entries.size());
+        for (JobMessageEntry entry : entries) {
+            stackTraces.add(stackTraceStore.reference(entry.message().stackTrace()));
+        }
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = prepareInsert(conn, writeTokens)) {
+            stackTraceStore.store(conn, stackTraces);
+            for (int i = 0; i < entries.size(); i++) {
+                JobMessageEntry entry = entries.get(i);
+                bindInsert(stmt, entry.batchJobId(), entry.message(), stackTraces.get(i));
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            if (writeTokens) {
+                List<String> storedStackTraces = new ArrayList<>(entries.size());
+                for (int i = 0; i < entries.size(); i++) {
+                    storedStackTraces.add(storedStackTrace(entries.get(i).message(), stackTraces.get(i)));
+                }
+                writeTokens(conn, stmt, entries, storedStackTraces);
+            }
+            for (JobMessageEntry entry : entries) {
+                counterStore.increment(entry.batchJobId(), entry.message().messageLevel(), 1);
+            }
+        } catch (SQLException e) {
+            stackTraceStore.forget(stackTraces);
+            LOG.errorf(e, "Failed to write %d job messages", entries.size());
+            throw new IllegalStateException("Failed to write job messages", e);
+        }
+    }
+
+    /**
+     * H2 has no usable full-text index for the indexed search, the words of each message are kept in a token table instead.
+     */
+    private boolean writesTokens() {
+        return searchConfiguration.mode() == JobMessageSearchConfiguration.Mode.INDEXED
+                && databaseTypeHandler.getDatabaseType() == DatabaseTypeHandler.DatabaseType.H2;
+    }
+
+    private PreparedStatement prepareInsert(Connection conn, boolean returnGeneratedIds) throws SQLException {
+        String sql = stackTraceStore.hasHashColumn() ? INSERT_SQL : INSERT_WITHOUT_HASH_SQL;
+        return returnGeneratedIds
+                ? conn.prepareStatement(sql, GENERATED_ID_COLUMNS)
+                : conn.prepareStatement(sql);
+    }
+
+    private String searchSelectPrefix() {
+        return stackTraceStore.hasHashColumn() ? SEARCH_SELECT_PREFIX : SEARCH_SELECT_WITHOUT_HASH_PREFIX;
+    }
+
+    /**
+     * Writes the search tokens of the message text and of the stack trace text stored with each message,
+     * which is the search key of a deduplicated trace.
+     */
+    private void writeTokens(Connection conn,
+                             PreparedStatement insert,
+                             List<JobMessageEntry> entries,
+                             List<String> storedStackTraces) throws SQLException {
+        try (ResultSet generatedIds = insert.getGeneratedKeys();
+             PreparedStatement stmt = conn.prepareStatement(INSERT_TOKEN_SQL)) {
+            for (int i = 0; i < entries.size(); i++) {
+                JobMessageEntry entry = entries.get(i);
+                if (!generatedIds.next()) {
+                    LOG.warnf("Missing generated message IDs, %d job message(s) are not found by the text search", entries.size());
+                    // Don't throw - the messages are written, only the search tokens are missing
+                    return;
+                }
+                long messageId = generatedIds.getLong(1);
+                for (String token : JobMessageTokenizer.tokenize(entry.message().message(), storedStackTraces.get(i))) {
+                    stmt.setString(1, entry.batchJobId().toString());
+                    stmt.setString(2, token);
+                    stmt.setLong(3, messageId);
+                    stmt.addBatch();
+                }
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    /**
+     * Binds a message. A deduplicated stack trace is referenced by its hash; the message keeps only its search key.
+     */
+    private void bindInsert(PreparedStatement stmt,
+                            UUID jobId,
+                            JobMessage message,
+                            StackTraceStore.StackTraceReference stackTrace) throws SQLException {
+        stmt.setString(1, jobId.toString());
+        stmt.setString(2, message.jobId() != null ? message.jobId().toString() : null);
+        stmt.setTimestamp(3, Timestamp.from(message.createdAt() != null ? message.createdAt() : Instant.now()));
+        stmt.setString(4, message.messageLevel().name());
+        stmt.setString(5, message.message());
+        stmt.setString(6, storedStackTrace(message, stackTrace));
+        if (stackTraceStore.hasHashColumn()) {
+            stmt.setString(7, stackTrace != null ? stackTrace.hash() : null);
+        }
+    }
+
+    private static String storedStackTrace(JobMessage message, StackTraceStore.StackTraceReference stackTrace) {
+        return stackTrace != null ? stackTrace.searchKey() : message.stackTrace();
+    }
+
     @Override
     public JobMessagesPaged searchMessages(UUID jobId,
                                            JobMessageLevelSearch levelSearch,
@@ -95,11 +255,13 @@ public class JobMessageStorageAdapter implements JobMessageStoragePort {
                 ? " ORDER BY \"CREATED_AT\" DESC, \"ID\" DESC"
                 : " ORDER BY \"CREATED_AT\" ASC, \"ID\" ASC";
 
-        String pagedQuery = SEARCH_SELECT_PREFIX + queryParts.whereClause() + orderBy + paginationClause();
+        String pagedQuery = searchSelectPrefix() + queryParts.whereClause() + orderBy + paginationClause();
         String countQuery = SEARCH_COUNT_PREFIX + queryParts.whereClause();
 
         try (Connection conn = dataSource.getConnection()) {
-            long totalMessages = readTotalMessages(conn, countQuery, queryParts.parameters());
+            long totalMessages = normalizedTextSearch.isBlank()
+                    ? countByLevel(conn, jobId, effectiveLevelSearch, countQuery, queryParts.parameters())
+                    : readTotalMessages(conn, countQuery, queryParts.parameters());
             if (totalMessages == 0 || offset >= totalMessages) {
                 return new JobMessagesPaged(List.of(), totalMessages, sanitizedPage, sanitizedPageSize);
             }
@@ -114,15 +276,151 @@ public class JobMessageStorageAdapter implements JobMessageStoragePort {
         }
     }
 
+    @Override
+    public JobMessagesSlice searchMessagesAfter(UUID jobId,
+                                                JobMessageLevelSearch levelSearch,
+                                                String textSearch,
+                                                JobMessageSortOrder sortOrder,
+                                                JobMessageCursor after,
+                                                int limit) {
+        int sanitizedLimit = limit <= 0 ? 10 : limit;
+        JobMessageLevelSearch effectiveLevelSearch = levelSearch == null ? JobMessageLevelSearch.ALL : levelSearch;
+        boolean newestFirst = sortOrder == JobMessageSortOrder.NEWEST_FIRST;
+        String normalizedTextSearch = textSearch == null ? "" : textSearch.trim().toLowerCase(Locale.ROOT);
+
+        SearchQueryParts queryParts = buildSearchQueryParts(jobId, effectiveLevelSearch, normalizedTextSearch);
+        StringBuilder where = new StringBuilder(queryParts.whereClause());
+        List<Object> parameters = new ArrayList<>(queryParts.parameters());
+        if (after != null) {
+            // Seeks on the (BATCH_JOB_ID, [LEVEL,] CREATED_AT) indexes; ID only breaks ties of equal timestamps.
+            // The redundant range predicate lets the optimizer use CREATED_AT as an index range bound,
+            // which it does not derive from the OR condition (row value comparisons are not supported by Oracle).
+            String comparison = newestFirst ? "<" : ">";
+            where.append(" AND \"CREATED_AT\" ").append(comparison).append("= ?")
+                    .append(" AND (\"CREATED_AT\" ").append(comparison).append(" ? OR (\"CREATED_AT\" = ? AND \"ID\" ")
+                    .append(comparison).append(" ?))");
+            Timestamp createdAt = Timestamp.from(after.createdAt());
+            parameters.add(createdAt);
+            parameters.add(createdAt);
+            parameters.add(createdAt);
+            parameters.add(after.id());
+        }
+        String orderBy = newestFirst
+                ? " ORDER BY \"CREATED_AT\" DESC, \"ID\" DESC"
+                : " ORDER BY \"CREATED_AT\" ASC, \"ID\" ASC";
+        String sliceQuery = searchSelectPrefix() + where + orderBy + limitClause();
+
+        try (Connection conn = dataSource.getConnection()) {
+            // Reads one message more than requested to find out whether a further slice exists
+            List<StoredMessage> rows = readStoredMessages(conn, sliceQuery, parameters, sanitizedLimit + 1);
+            boolean hasMore = rows.size() > sanitizedLimit;
+            List<StoredMessage> sliceRows = hasMore ? rows.subList(0, sanitizedLimit) : rows;
+            JobMessageCursor nextCursor = null;
+            if (hasMore) {
+                StoredMessage last = sliceRows.getLast();
+                nextCursor = new JobMessageCursor(last.message().createdAt(), last.id());
+            }
+            long totalMessages = normalizedTextSearch.isBlank()
+                    ? countFromCounters(conn, jobId, effectiveLevelSearch).orElse(JobMessagesSlice.UNKNOWN_TOTAL)
+                    : JobMessagesSlice.UNKNOWN_TOTAL;
+            return new JobMessagesSlice(resolveStackTraces(sliceRows), nextCursor, totalMessages);
+        } catch (SQLException e) {
+            LOG.errorf(e, "Failed to search job messages for jobId %s", jobId);
+            throw new IllegalStateException("Failed to search job messages", e);
+        }
+    }
+
+    @Override
+    public void forEachMessage(UUID jobId,
+                               JobMessageLevelSearch levelSearch,
+                               String textSearch,
+                               JobMessageSortOrder sortOrder,
+                               Consumer<JobMessage> consumer) {
+        JobMessageLevelSearch effectiveLevelSearch = levelSearch == null ? JobMessageLevelSearch.ALL : levelSearch;
+        String normalizedTextSearch = textSearch == null ? "" : textSearch.trim().toLowerCase(Locale.ROOT);
+
+        SearchQueryParts queryParts = buildSearchQueryParts(jobId, effectiveLevelSearch, normalizedTextSearch);
+        String orderBy = sortOrder == JobMessageSortOrder.NEWEST_FIRST
+                ? " ORDER BY \"CREATED_AT\" DESC, \"ID\" DESC"
+                : " ORDER BY \"CREATED_AT\" ASC, \"ID\" ASC";
+        String query = searchSelectPrefix() + queryParts.whereClause() + orderBy;
+
+        try (Connection conn = dataSource.getConnection()) {
+            // PostgreSQL only reads the result in chunks of the fetch size inside a transaction
+            boolean autoCommit = conn.getAutoCommit();
+            if (autoCommit) {
+                conn.setAutoCommit(false);
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                bindParameters(stmt, queryParts.parameters());
+                stmt.setFetchSize(exportFetchSize());
+                try (ResultSet rs = stmt.executeQuery()) {
+                    // Stack traces are resolved per chunk of rows with one lookup,
+                    // from the cache or with a separate connection since the cursor keeps this one busy
+                    List<StoredMessage> chunk = new ArrayList<>(EXPORT_RESOLVE_CHUNK_SIZE);
+                    while (rs.next()) {
+                        chunk.add(toStoredMessage(rs));
+                        if (chunk.size() == EXPORT_RESOLVE_CHUNK_SIZE) {
+                            resolveStackTraces(chunk).forEach(consumer);
+                            chunk.clear();
+                        }
+                    }
+                    resolveStackTraces(chunk).forEach(consumer);
+                }
+            } finally {
+                if (autoCommit) {
+                    // Nothing was written, ending the read-only transaction releases the cursor
+                    conn.rollback();
+                    conn.setAutoCommit(true);
+                }
+            }
+        } catch (SQLException e) {
+            LOG.errorf(e, "Failed to export job messages for jobId %s", jobId);
+            throw new IllegalStateException("Failed to export job messages", e);
+        }
+    }
+
+    /**
+     * MySQL Connector/J only streams a result set row by row with {@link Integer#MIN_VALUE} as fetch size,
+     * otherwise it reads the whole result into memory.
+     */
+    private int exportFetchSize() {
+        return databaseTypeHandler.getDatabaseType() == DatabaseTypeHandler.DatabaseType.MYSQL
+                ? Integer.MIN_VALUE
+                : Math.max(1, exportConfiguration.fetchSize());
+    }
+
     @Override
     public JobMessageLevelCounters determineMessageLevelCounters(UUID jobId) {
+        try (Connection conn = dataSource.getConnection()) {
+            return readLevelCounters(conn, jobId);
+        } catch (SQLException e) {
+            LOG.errorf(e, "Failed to determine message counters for jobId %s", jobId);
+            throw new IllegalStateException("Failed to determine message counters", e);
+        } catch (IllegalArgumentException e) {
+            LOG.errorf(e, "Found unsupported message level while reading counters for jobId %s", jobId);
+            throw new IllegalStateException("Failed to determine message counters", e);
+        }
+    }
+
+    /**
+     * Reads the counters from the counters table and falls back to counting the messages of batches
+     * without counter rows (e.g. messages written before the counters table existed).
+     */
+    private JobMessageLevelCounters readLevelCounters(Connection conn, UUID jobId) throws SQLException {
+        if (counterStore.isEnabled()) {
+            Optional<JobMessageLevelCounters> counters = counterStore.readCounters(conn, jobId);
+            if (counters.isPresent()) {
+                return counters.get();
+            }
+        }
+
         long info = 0;
         long warning = 0;
         long error = 0;
         long exception = 0;
 
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(COUNTERS_SQL)) {
+        try (PreparedStatement stmt = conn.prepareStatement(COUNTERS_SQL)) {
             stmt.setString(1, jobId.toString());
 
             try (ResultSet rs = stmt.executeQuery()) {
@@ -142,15 +440,41 @@ public class JobMessageStorageAdapter implements JobMessageStoragePort {
                 }
             }
             return new JobMessageLevelCounters(info, warning, error, exception);
-        } catch (SQLException e) {
-            LOG.errorf(e, "Failed to determine message counters for jobId %s", jobId);
-            throw new IllegalStateException("Failed to determine message counters", e);
-        } catch (IllegalArgumentException e) {
-            LOG.errorf(e, "Found unsupported message level while reading counters for jobId %s", jobId);
-            throw new IllegalStateException("Failed to determine message counters", e);
         }
     }
 
+    /**
+     * Determines the number of messages matching a level filter from the message counters, if they are maintained.
+     */
+    private long countByLevel(Connection conn,
+                              UUID jobId,
+                              JobMessageLevelSearch levelSearch,
+                              String countQuery,
+                              List<Object> parameters) throws SQLException {
+        OptionalLong counted = countFromCounters(conn, jobId, levelSearch);
+        return counted.isPresent() ? counted.getAsLong() : readTotalMessages(conn, countQuery, parameters);
+    }
+
+    private OptionalLong countFromCounters(Connection conn, UUID jobId, JobMessageLevelSearch levelSearch) throws SQLException {
+        Optional<JobMessageLevelCounters> stored = counterStore.isEnabled()
+                ? counterStore.readCounters(conn, jobId)
+                : Optional.empty();
+        if (stored.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        JobMessageLevelCounters counters = stored.get();
+        return OptionalLong.of(switch (levelSearch) {
+            case ALL -> counters.totalMessages();
+            case WARNINGS_AND_ERRORS_AND_EXCEPTIONS ->
+                    counters.warningMessages() + counters.errorMessages() + counters.exceptionMessages();
+            case ERRORS_AND_EXCEPTIONS -> counters.errorMessages() + counters.exceptionMessages();
+            case INFO_ONLY -> counters.infoMessages();
+            case WARNING_ONLY -> counters.warningMessages();
+            case ERROR_ONLY -> counters.errorMessages();
+            case EXCEPTION_ONLY -> counters.exceptionMessages();
+        });
+    }
+
     private long readTotalMessages(Connection conn, String sql, List<Object> parameters) throws SQLException {
         try (PreparedStatement stmt = conn.prepareStatement(sql)) {
             bindParameters(stmt, parameters);
@@ -180,24 +504,69 @@ public class JobMessageStorageAdapter implements JobMessageStoragePort {
             }
 
             try (ResultSet rs = stmt.executeQuery()) {
-                List<JobMessage> messages = new ArrayList<>();
+                List<StoredMessage> rows = new ArrayList<>();
                 while (rs.next()) {
-                    Timestamp timestamp = rs.getTimestamp("CREATED_AT");
-                    Instant createdAt = timestamp == null ? Instant.now() : timestamp.toInstant();
-                    String childJobId = rs.getString("CHILD_JOB_ID");
-                    messages.add(new JobMessage(
-                            createdAt,
-                            childJobId != null ? UUID.fromString(childJobId) : null,
-                            JobMessageLevel.valueOf(rs.getString("LEVEL").toUpperCase(Locale.ROOT)),
-                            rs.getString("MESSAGE"),
-                            rs.getString("STACK_TRACE")
-                    ));
+                    rows.add(toStoredMessage(rs));
+                }
+                return resolveStackTraces(rows);
+            }
+        }
+    }
+
+    private List<StoredMessage> readStoredMessages(Connection conn,
+                                                   String sql,
+                                                   List<Object> parameters,
+                                                   int limit) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            int index = bindParameters(stmt, parameters);
+            stmt.setInt(index, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<StoredMessage> messages = new ArrayList<>();
+                while (rs.next()) {
+                    messages.add(toStoredMessage(rs));
                 }
                 return messages;
             }
         }
     }
 
+    private StoredMessage toStoredMessage(ResultSet rs) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp("CREATED_AT");
+        Instant createdAt = timestamp == null ? Instant.now() : timestamp.toInstant();
+        String childJobId = rs.getString("CHILD_JOB_ID");
+        JobMessage message = new JobMessage(
+                createdAt,
+                childJobId != null ? UUID.fromString(childJobId) : null,
+                JobMessageLevel.valueOf(rs.getString("LEVEL").toUpperCase(Locale.ROOT)),
+                rs.getString("MESSAGE"),
+                rs.getString("STACK_TRACE")
+        );
+        String stackTraceHash = stackTraceStore.hasHashColumn() ? rs.getString("STACK_TRACE_HASH") : null;
+        return new StoredMessage(rs.getLong("ID"), message, stackTraceHash);
+    }
+
+    /**
+     * Replaces the search key stored with deduplicated stack traces by the full trace.
+     */
+    private List<JobMessage> resolveStackTraces(List<StoredMessage> rows) {
+        Set<String> hashes = rows.stream()
+                .map(StoredMessage::stackTraceHash)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, String> stackTraces = hashes.isEmpty() ? Map.of() : stackTraceStore.resolve(hashes);
+        return rows.stream().map(row -> withStackTrace(row, stackTraces)).toList();
+    }
+
+    private JobMessage withStackTrace(StoredMessage row, Map<String, String> stackTraces) {
+        String stackTrace = row.stackTraceHash() != null ? stackTraces.get(row.stackTraceHash()) : null;
+        if (stackTrace == null) {
+            return row.message();
+        }
+        JobMessage message = row.message();
+        return new JobMessage(message.createdAt(), message.jobId(), message.messageLevel(), message.message(), stackTrace);
+    }
+
     private SearchQueryParts buildSearchQueryParts(UUID jobId,
                                                    JobMessageLevelSearch levelSearch,
                                                    String normalizedTextSearch) {
@@ -219,15 +588,74 @@ public class JobMessageStorageAdapter implements JobMessageStoragePort {
         }
 
         if (!normalizedTextSearch.isBlank()) {
-            where.append(" AND (LOWER(\"MESSAGE\") LIKE ? OR LOWER(\"STACK_TRACE\") LIKE ? OR LOWER(\"CHILD_JOB_ID\") LIKE ?)");
-            String searchPattern = "%" + normalizedTextSearch + "%";
-            parameters.add(searchPattern);
-            parameters.add(searchPattern);
-            parameters.add(searchPattern);
+            appendTextSearch(where, parameters, jobId, normalizedTextSearch);
         }
         return new SearchQueryParts(where.toString(), parameters);
     }
 
+    private void appendTextSearch(StringBuilder where, List<Object> parameters, UUID jobId, String normalizedTextSearch) {
+        Optional<UUID> childJobId = JobMessageTokenizer.parseJobId(normalizedTextSearch);
+        if (childJobId.isPresent()) {
+            where.append(" AND \"CHILD_JOB_ID\" = ?");
+            parameters.add(childJobId.get().toString());
+            return;
+        }
+        if (searchConfiguration.mode() == JobMessageSearchConfiguration.Mode.INDEXED
+                && appendIndexedTextSearch(where, parameters, jobId, normalizedTextSearch)) {
+            return;
+        }
+        where.append(" AND (LOWER(\"MESSAGE\") LIKE ? OR LOWER(\"STACK_TRACE\") LIKE ?)");
+        String searchPattern = "%" + normalizedTextSearch + "%";
+        parameters.add(searchPattern);
+        parameters.add(searchPattern);
+    }
+
+    /**
+     * Appends the full-text condition of the database. Returns false if the database has none or the
+     * search text contains no searchable words, in which case the substring match is used.
+     */
+    private boolean appendIndexedTextSearch(StringBuilder where, List<Object> parameters, UUID jobId, String normalizedTextSearch) {
+        List<String> tokens = JobMessageTokenizer.tokenize(normalizedTextSearch);
+        switch (databaseTypeHandler.getDatabaseType()) {
+            case ORACLE -> {
+                if (tokens.isEmpty()) {
+                    return false;
+                }
+                // Braces escape words that are Oracle Text operators, e.g. "and" or "near"
+                String query = tokens.stream().map(token -> "{" + token + "}").collect(Collectors.joining(" AND "));
+                where.append(" AND (CONTAINS(\"MESSAGE\", ?) > 0 OR CONTAINS(\"STACK_TRACE\", ?) > 0)");
+                parameters.add(query);
+                parameters.add(query);
+                return true;
+            }
+            case MYSQL -> {
+                List<String> words = tokens.stream().filter(token -> token.length() >= MYSQL_MIN_TOKEN_LENGTH).toList();
+                if (words.isEmpty()) {
+                    return false;
+                }
+                where.append(" AND MATCH(\"MESSAGE\", \"STACK_TRACE\") AGAINST (? IN BOOLEAN MODE)");
+                parameters.add(words.stream().map(word -> "+" + word + "*").collect(Collectors.joining(" ")));
+                return true;
+            }
+            case H2 -> {
+                if (tokens.isEmpty()) {
+                    return false;
+                }
+                for (String token : tokens) {
+                    where.append(" AND \"ID\" IN (SELECT \"MESSAGE_ID\" FROM \"JOBRUNR_CONTROL_BATCH_MESSAGE_TOKENS\"")
+                            .append(" WHERE \"BATCH_JOB_ID\" = ? AND \"TOKEN\" LIKE ?)");
+                    parameters.add(jobId.toString());
+                    parameters.add(token + "%");
+                }
+                return true;
+            }
+            default -> {
+                // PostgreSQL: the substring match is served by the pg_trgm indexes
+                return false;
+            }
+        }
+    }
+
     private List<String> resolveLevelFilter(JobMessageLevelSearch levelSearch) {
         return switch (levelSearch) {
             case ALL -> List.of();
@@ -253,6 +681,12 @@ public class JobMessageStorageAdapter implements JobMessageStoragePort {
                 : " LIMIT ? OFFSET ?";
     }
 
+    private String limitClause() {
+        return databaseTypeHandler.getDatabaseType() == DatabaseTypeHandler.DatabaseType.ORACLE
+                ? " FETCH FIRST ? ROWS ONLY"
+                : " LIMIT ?";
+    }
+
     private int bindParameters(PreparedStatement stmt, List<Object> parameters) throws SQLException {
         int index = 1;
         for (Object parameter : parameters) {
@@ -263,4 +697,7 @@ public class JobMessageStorageAdapter implements JobMessageStoragePort {
 
     private record SearchQueryParts(String whereClause, List<Object> parameters) {
     }
+
+    private record StoredMessage(long id, JobMessage message, String stackTraceHash) {
+    }
 }
@@ -0,0 +1,62 @@
+package ch.css.jobrunr.control.infrastructure.persistence;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Splits message texts and search texts into the lower-case words used by the indexed message search.
+ * Words are separated by every character that is neither a letter nor a digit, so
+ * {@code java.lang.IllegalStateException} becomes {@code java}, {@code lang} and {@code illegalstateexception}.
+ */
+final class JobMessageTokenizer {
+
+    static final int MAX_TOKEN_LENGTH = 100;
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern UUID_PATTERN = Pattern.compile(
+            "\\p{XDigit}{8}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{12}");
+
+    private JobMessageTokenizer() {
+        // Utility class
+    }
+
+    /**
+     * Returns the distinct words of the given texts in order of their first occurrence.
+     * Words longer than {@link #MAX_TOKEN_LENGTH} are truncated.
+     *
+     * @param texts the texts, null entries are skipped
+     * @return the words, never null
+     */
+    static List<String> tokenize(String... texts) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text == null || text.isBlank()) {
+                continue;
+            }
+            for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+                if (!token.isEmpty()) {
+                    tokens.add(token.length() > MAX_TOKEN_LENGTH ? token.substring(0, MAX_TOKEN_LENGTH) : token);
+                }
+            }
+        }
+        return List.copyOf(tokens);
+    }
+
+    /**
+     * Returns the search text as job ID if it is a complete UUID.
+     *
+     * @param text the trimmed search text
+     * @return the job ID, or empty if the text is not a UUID
+     */
+    static Optional<UUID> parseJobId(String text) {
+        if (text == null || !UUID_PATTERN.matcher(text).matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(UUID.fromString(text));
+    }
+}
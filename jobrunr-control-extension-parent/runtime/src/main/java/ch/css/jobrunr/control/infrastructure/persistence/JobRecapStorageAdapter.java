@@ -10,25 +10,171 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 
+/**
+ * Stores recap counters per child job in {@code JOBRUNR_CONTROL_BATCH_RECAP} and keeps the sum per batch
+ * in {@code JOBRUNR_CONTROL_BATCH_RECAP_TOTALS}.
+ * <p>
+ * Every child write adds the difference between the new and the previously stored child counters to the
+ * totals, on the same connection and therefore in the same transaction. Reading the recap of a batch
+ * only reads its totals rows, independent of the number of children.
+ * <p>
+ * The first write to a batch without totals rows seeds them from the child rows stored so far, so batches
+ * that were running while the totals table was introduced keep complete totals.
+ */
 @ApplicationScoped
 public class JobRecapStorageAdapter implements JobRecapStoragePort {
 
     private static final Logger LOG = Logger.getLogger(JobRecapStorageAdapter.class);
 
+    private static final String SELECT_RECAP_FOR_CHILD_SQL = """
+            SELECT "COUNTER_NAME", "COUNTER_VALUE"
+            FROM "JOBRUNR_CONTROL_BATCH_RECAP"
+            WHERE "BATCH_JOB_ID" = ? AND "CHILD_JOB_ID" = ?
+            """;
+
     private static final String DELETE_RECAP_FOR_CHILD_SQL = """
             DELETE FROM "JOBRUNR_CONTROL_BATCH_RECAP"
             WHERE "BATCH_JOB_ID" = ? AND "CHILD_JOB_ID" = ?
             """;
 
+    private static final String DELETE_RECAP_COUNTER_SQL = """
+            DELETE FROM "JOBRUNR_CONTROL_BATCH_RECAP"
+            WHERE "BATCH_JOB_ID" = ? AND "CHILD_JOB_ID" = ? AND "COUNTER_NAME" = ?
+            """;
+
     private static final String INSERT_RECAP_SQL = """
             INSERT INTO "JOBRUNR_CONTROL_BATCH_RECAP" ("BATCH_JOB_ID", "CHILD_JOB_ID", "COUNTER_NAME", "COUNTER_VALUE")
             VALUES (?, ?, ?, ?)
             """;
 
+    private static final String UPSERT_RECAP_POSTGRESQL_SQL = """
+            INSERT INTO "JOBRUNR_CONTROL_BATCH_RECAP" ("BATCH_JOB_ID", "CHILD_JOB_ID", "COUNTER_NAME", "COUNTER_VALUE")
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT ("BATCH_JOB_ID", "CHILD_JOB_ID", "COUNTER_NAME")
+            DO UPDATE SET "COUNTER_VALUE" = EXCLUDED."COUNTER_VALUE"
+            """;
+
+    private static final String UPSERT_RECAP_MYSQL_SQL = """
+            INSERT INTO "JOBRUNR_CONTROL_BATCH_RECAP" ("BATCH_JOB_ID", "CHILD_JOB_ID", "COUNTER_NAME", "COUNTER_VALUE")
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE "COUNTER_VALUE" = VALUES("COUNTER_VALUE")
+            """;
+
+    private static final String UPSERT_RECAP_H2_SQL = """
+            MERGE INTO "JOBRUNR_CONTROL_BATCH_RECAP" ("BATCH_JOB_ID", "CHILD_JOB_ID", "COUNTER_NAME", "COUNTER_VALUE")
+            KEY ("BATCH_JOB_ID", "CHILD_JOB_ID", "COUNTER_NAME")
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String UPSERT_RECAP_ORACLE_SQL = """
+            MERGE INTO "JOBRUNR_CONTROL_BATCH_RECAP" target
+            USING (SELECT ? AS "BATCH_JOB_ID", ? AS "CHILD_JOB_ID", ? AS "COUNTER_NAME", ? AS "COUNTER_VALUE" FROM DUAL) source
+            ON (target."BATCH_JOB_ID" = source."BATCH_JOB_ID"
+                AND target."CHILD_JOB_ID" = source."CHILD_JOB_ID"
+                AND target."COUNTER_NAME" = source."COUNTER_NAME")
+            WHEN MATCHED THEN UPDATE SET target."COUNTER_VALUE" = source."COUNTER_VALUE"
+            WHEN NOT MATCHED THEN INSERT ("BATCH_JOB_ID", "CHILD_JOB_ID", "COUNTER_NAME", "COUNTER_VALUE")
+                VALUES (source."BATCH_JOB_ID", source."CHILD_JOB_ID", source."COUNTER_NAME", source."COUNTER_VALUE")
+            """;
+
+    private static final String ADD_TOTAL_POSTGRESQL_SQL = """
+            INSERT INTO "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS" ("BATCH_JOB_ID", "COUNTER_NAME", "COUNTER_VALUE")
+            VALUES (?, ?, ?)
+            ON CONFLICT ("BATCH_JOB_ID", "COUNTER_NAME")
+            DO UPDATE SET "COUNTER_VALUE" = "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS"."COUNTER_VALUE" + EXCLUDED."COUNTER_VALUE"
+            """;
+
+    private static final String ADD_TOTAL_MYSQL_SQL = """
+            INSERT INTO "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS" ("BATCH_JOB_ID", "COUNTER_NAME", "COUNTER_VALUE")
+            VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE "COUNTER_VALUE" = "COUNTER_VALUE" + VALUES("COUNTER_VALUE")
+            """;
+
+    private static final String ADD_TOTAL_H2_SQL = """
+            MERGE INTO "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS" target
+            USING (SELECT CAST(? AS VARCHAR(36)) AS "BATCH_JOB_ID", CAST(? AS VARCHAR(255)) AS "COUNTER_NAME", CAST(? AS BIGINT) AS "COUNTER_VALUE") source
+            ON (target."BATCH_JOB_ID" = source."BATCH_JOB_ID" AND target."COUNTER_NAME" = source."COUNTER_NAME")
+            WHEN MATCHED THEN UPDATE SET target."COUNTER_VALUE" = target."COUNTER_VALUE" + source."COUNTER_VALUE"
+            WHEN NOT MATCHED THEN INSERT ("BATCH_JOB_ID", "COUNTER_NAME", "COUNTER_VALUE")
+                VALUES (source."BATCH_JOB_ID", source."COUNTER_NAME", source."COUNTER_VALUE")
+            """;
+
+    private static final String ADD_TOTAL_ORACLE_SQL = """
+            MERGE INTO "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS" target
+            USING (SELECT ? AS "BATCH_JOB_ID", ? AS "COUNTER_NAME", ? AS "COUNTER_VALUE" FROM DUAL) source
+            ON (target."BATCH_JOB_ID" = source."BATCH_JOB_ID" AND target."COUNTER_NAME" = source."COUNTER_NAME")
+            WHEN MATCHED THEN UPDATE SET target."COUNTER_VALUE" = target."COUNTER_VALUE" + source."COUNTER_VALUE"
+            WHEN NOT MATCHED THEN INSERT ("BATCH_JOB_ID", "COUNTER_NAME", "COUNTER_VALUE")
+                VALUES (source."BATCH_JOB_ID", source."COUNTER_NAME", source."COUNTER_VALUE")
+            """;
+
+    private static final String SELECT_TOTALS_EXIST_SQL = """
+            SELECT 1
+            FROM "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS"
+            WHERE "BATCH_JOB_ID" = ?
+            """;
+
+    private static final String SEED_TOTALS_POSTGRESQL_SQL = """
+            INSERT INTO "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS" ("BATCH_JOB_ID", "COUNTER_NAME", "COUNTER_VALUE")
+            SELECT "BATCH_JOB_ID", "COUNTER_NAME", SUM("COUNTER_VALUE")
+            FROM "JOBRUNR_CONTROL_BATCH_RECAP"
+            WHERE "BATCH_JOB_ID" = ?
+            GROUP BY "BATCH_JOB_ID", "COUNTER_NAME"
+            ON CONFLICT ("BATCH_JOB_ID", "COUNTER_NAME") DO NOTHING
+            """;
+
+    private static final String SEED_TOTALS_MYSQL_SQL = """
+            INSERT INTO "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS" ("BATCH_JOB_ID", "COUNTER_NAME", "COUNTER_VALUE")
+            SELECT "BATCH_JOB_ID", "COUNTER_NAME", SUM("COUNTER_VALUE")
+            FROM "JOBRUNR_CONTROL_BATCH_RECAP"
+            WHERE "BATCH_JOB_ID" = ?
+            GROUP BY "BATCH_JOB_ID", "COUNTER_NAME"
+            ON DUPLICATE KEY UPDATE "COUNTER_VALUE" = "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS"."COUNTER_VALUE"
+            """;
+
+    private static final String SEED_TOTALS_MERGE_SQL = """
+            MERGE INTO "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS" target
+            USING (SELECT "BATCH_JOB_ID", "COUNTER_NAME", SUM("COUNTER_VALUE") AS "COUNTER_VALUE"
+                   FROM "JOBRUNR_CONTROL_BATCH_RECAP"
+                   WHERE "BATCH_JOB_ID" = ?
+                   GROUP BY "BATCH_JOB_ID", "COUNTER_NAME") source
+            ON (target."BATCH_JOB_ID" = source."BATCH_JOB_ID" AND target."COUNTER_NAME" = source."COUNTER_NAME")
+            WHEN NOT MATCHED THEN INSERT ("BATCH_JOB_ID", "COUNTER_NAME", "COUNTER_VALUE")
+                VALUES (source."BATCH_JOB_ID", source."COUNTER_NAME", source."COUNTER_VALUE")
+            """;
+
+    private static final String SEED_TOTALS_SQL = """
+            INSERT INTO "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS" ("BATCH_JOB_ID", "COUNTER_NAME", "COUNTER_VALUE")
+            SELECT "BATCH_JOB_ID", "COUNTER_NAME", SUM("COUNTER_VALUE")
+            FROM "JOBRUNR_CONTROL_BATCH_RECAP"
+            WHERE "BATCH_JOB_ID" = ?
+            GROUP BY "BATCH_JOB_ID", "COUNTER_NAME"
+            """;
+
+    private static final String UPDATE_TOTAL_SQL = """
+            UPDATE "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS"
+            SET "COUNTER_VALUE" = "COUNTER_VALUE" + ?
+            WHERE "BATCH_JOB_ID" = ? AND "COUNTER_NAME" = ?
+            """;
+
+    private static final String INSERT_TOTAL_SQL = """
+            INSERT INTO "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS" ("BATCH_JOB_ID", "COUNTER_NAME", "COUNTER_VALUE")
+            VALUES (?, ?, ?)
+            """;
+
+    private static final String SELECT_RECAP_TOTALS_SQL = """
+            SELECT "COUNTER_NAME", "COUNTER_VALUE"
+            FROM "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS"
+            WHERE "BATCH_JOB_ID" = ?
+            """;
+
     private static final String SELECT_RECAP_ALL_COUNTERS_SQL = """
             SELECT "COUNTER_NAME", SUM("COUNTER_VALUE") AS total_counter_value
             FROM "JOBRUNR_CONTROL_BATCH_RECAP"
@@ -37,59 +183,315 @@ public class JobRecapStorageAdapter implements JobRecapStoragePort {
             """;
 
     private final AgroalDataSource dataSource;
+    private final DatabaseTypeHandler databaseTypeHandler;
 
     @Inject
-    public JobRecapStorageAdapter(AgroalDataSource dataSource) {
+    public JobRecapStorageAdapter(AgroalDataSource dataSource, DatabaseTypeHandler databaseTypeHandler) {
         this.dataSource = dataSource;
+        this.databaseTypeHandler = databaseTypeHandler;
     }
 
+    /**
+     * Writes the recap counters of a child job and adds the changes to the batch totals.
+     * <p>
+     * On PostgreSQL, H2, Oracle and MySQL, changed non-zero counters are upserted in a single statement
+     * batch and counters that dropped to zero are removed in a second batch on the same connection. Other
+     * databases replace all rows of the child with a delete followed by a batched insert.
+     * Counters of the previous recap that are missing from the new one count as dropped to zero, so they are
+     * removed from the child rows and subtracted from the totals on every database.
+     */
     @Override
     public void writeRecap(UUID batchJobId, UUID childJobId, Map<String, Long> recap) {
+        DatabaseTypeHandler.DatabaseType databaseType = databaseTypeHandler.getDatabaseType();
+        boolean replace = databaseType == DatabaseTypeHandler.DatabaseType.GENERIC;
         try (Connection conn = dataSource.getConnection()) {
-            try (PreparedStatement deleteStatement = conn.prepareStatement(DELETE_RECAP_FOR_CHILD_SQL)) {
+            Map<String, Long> previous = readChildRecap(conn, batchJobId, childJobId);
+            Map<String, Long> deltas = deltas(previous, recap);
+            if (!deltas.isEmpty()) {
+                // Before the child rows change, so the seeded totals match the previous counters of this child
+                seedTotals(conn, databaseType, batchJobId);
+            }
+            if (replace) {
+                replaceRecap(conn, batchJobId, childJobId, recap);
+            } else if (!deltas.isEmpty()) {
+                upsertRecap(conn, upsertSql(databaseType), batchJobId, childJobId, previous, deltas);
+            }
+            addToTotals(conn, databaseType, batchJobId, deltas);
+        } catch (SQLException e) {
+            LOG.errorf(e, "Failed to write recap for batchJobId %s and childJobId %s", batchJobId, childJobId);
+            throw new IllegalStateException("Failed to write job recap", e);
+        }
+    }
+
+    private Map<String, Long> readChildRecap(Connection conn, UUID batchJobId, UUID childJobId) throws SQLException {
+        Map<String, Long> previous = new HashMap<>();
+        try (PreparedStatement stmt = conn.prepareStatement(SELECT_RECAP_FOR_CHILD_SQL)) {
+            stmt.setString(1, batchJobId.toString());
+            stmt.setString(2, childJobId.toString());
+            try (ResultSet resultSet = stmt.executeQuery()) {
+                while (resultSet.next()) {
+                    previous.put(resultSet.getString("COUNTER_NAME"), resultSet.getLong("COUNTER_VALUE"));
+                }
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * Returns the changed counters of a child, sorted by name so that concurrent children lock the
+     * totals rows of their batch in the same order. Counters missing from the new recap are reset to zero.
+     */
+    private static Map<String, Long> deltas(Map<String, Long> previous, Map<String, Long> recap) {
+        Map<String, Long> deltas = new TreeMap<>();
+        if (recap != null) {
+            for (Map.Entry<String, Long> recapEntry : recap.entrySet()) {
+                long delta = valueOf(recapEntry.getValue()) - previous.getOrDefault(recapEntry.getKey(), 0L);
+                if (delta != 0L) {
+                    deltas.put(recapEntry.getKey(), delta);
+                }
+            }
+        }
+        for (Map.Entry<String, Long> previousEntry : previous.entrySet()) {
+            if ((recap == null || !recap.containsKey(previousEntry.getKey())) && previousEntry.getValue() != 0L) {
+                deltas.put(previousEntry.getKey(), -previousEntry.getValue());
+            }
+        }
+        return deltas;
+    }
+
+    private void upsertRecap(Connection conn, String upsertSql, UUID batchJobId, UUID childJobId,
+                             Map<String, Long> previous, Map<String, Long> deltas) throws SQLException {
+        List<String> droppedCounters = new ArrayList<>();
+        int upserts = 0;
+        try (PreparedStatement upsertStatement = conn.prepareStatement(upsertSql)) {
+            for (Map.Entry<String, Long> delta : deltas.entrySet()) {
+                long value = previous.getOrDefault(delta.getKey(), 0L) + delta.getValue();
+                if (value == 0L) {
+                    droppedCounters.add(delta.getKey());
+                    continue;
+                }
+                bindCounter(upsertStatement, batchJobId, childJobId, delta.getKey(), value);
+                upsertStatement.addBatch();
+                upserts++;
+            }
+            if (upserts > 0) {
+                upsertStatement.executeBatch();
+            }
+        }
+        if (droppedCounters.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement deleteStatement = conn.prepareStatement(DELETE_RECAP_COUNTER_SQL)) {
+            for (String counterName : droppedCounters) {
                 deleteStatement.setString(1, batchJobId.toString());
                 deleteStatement.setString(2, childJobId.toString());
-                deleteStatement.executeUpdate();
+                deleteStatement.setString(3, counterName);
+                deleteStatement.addBatch();
             }
+            deleteStatement.executeBatch();
+        }
+    }
 
-            if (recap != null) {
-                recap.entrySet().removeIf(entry -> entry.getValue() == null || entry.getValue() == 0L);
+    private void replaceRecap(Connection conn, UUID batchJobId, UUID childJobId, Map<String, Long> recap) throws SQLException {
+        try (PreparedStatement deleteStatement = conn.prepareStatement(DELETE_RECAP_FOR_CHILD_SQL)) {
+            deleteStatement.setString(1, batchJobId.toString());
+            deleteStatement.setString(2, childJobId.toString());
+            deleteStatement.executeUpdate();
+        }
+
+        if (recap == null || recap.values().stream().allMatch(JobRecapStorageAdapter::isZero)) {
+            return;
+        }
+
+        try (PreparedStatement insertStatement = conn.prepareStatement(INSERT_RECAP_SQL)) {
+            for (Map.Entry<String, Long> recapEntry : recap.entrySet()) {
+                if (!isZero(recapEntry.getValue())) {
+                    bindCounter(insertStatement, batchJobId, childJobId, recapEntry.getKey(), recapEntry.getValue());
+                    insertStatement.addBatch();
+                }
             }
+            insertStatement.executeBatch();
+        }
+    }
 
-            if (recap != null && !recap.isEmpty()) {
-                try (PreparedStatement insertStatement = conn.prepareStatement(INSERT_RECAP_SQL)) {
-                    for (Map.Entry<String, Long> recapEntry : recap.entrySet()) {
-                        insertStatement.setString(1, batchJobId.toString());
-                        insertStatement.setString(2, childJobId.toString());
-                        insertStatement.setString(3, recapEntry.getKey());
-                        insertStatement.setLong(4, recapEntry.getValue() == null ? 0L : recapEntry.getValue());
-                        insertStatement.addBatch();
-                    }
-                    insertStatement.executeBatch();
+    /**
+     * Seeds the totals of a batch from its child rows if the batch has no totals rows yet. For a new batch
+     * there are no child rows and nothing is written. A seed inserted concurrently by another child wins.
+     */
+    private void seedTotals(Connection conn, DatabaseTypeHandler.DatabaseType databaseType, UUID batchJobId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(SELECT_TOTALS_EXIST_SQL)) {
+            stmt.setString(1, batchJobId.toString());
+            try (ResultSet resultSet = stmt.executeQuery()) {
+                if (resultSet.next()) {
+                    return;
                 }
             }
+        }
+        try (PreparedStatement stmt = conn.prepareStatement(seedTotalsSql(databaseType))) {
+            stmt.setString(1, batchJobId.toString());
+            int seeded = stmt.executeUpdate();
+            if (seeded > 0) {
+                LOG.debugf("Seeded %d recap totals of batch %s from its child rows", seeded, batchJobId);
+            }
         } catch (SQLException e) {
-            LOG.errorf(e, "Failed to write recap for batchJobId %s and childJobId %s", batchJobId, childJobId);
-            throw new IllegalStateException("Failed to write job recap", e);
+            if (!DatabaseTypeHandler.isIntegrityViolation(e)) {
+                throw e;
+            }
+            LOG.debugf("Recap totals of batch %s were seeded concurrently", batchJobId);
+        }
+    }
+
+    /**
+     * Adds the deltas to the totals. PostgreSQL and MySQL upsert atomically in one batch. The MERGE of H2 and
+     * Oracle and the update-or-insert of other databases can fail with a unique key violation when two children
+     * create the same totals row at once; each counter is therefore written on its own and the loser of such a
+     * race adds its delta to the row the other child inserted.
+     */
+    private void addToTotals(Connection conn, DatabaseTypeHandler.DatabaseType databaseType, UUID batchJobId,
+                             Map<String, Long> deltas) throws SQLException {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        if (databaseType == DatabaseTypeHandler.DatabaseType.POSTGRESQL || databaseType == DatabaseTypeHandler.DatabaseType.MYSQL) {
+            try (PreparedStatement stmt = conn.prepareStatement(addTotalSql(databaseType))) {
+                for (Map.Entry<String, Long> delta : deltas.entrySet()) {
+                    bindTotal(stmt, batchJobId, delta.getKey(), delta.getValue());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+            return;
+        }
+        String mergeSql = addTotalSql(databaseType);
+        try (PreparedStatement merge = mergeSql != null ? conn.prepareStatement(mergeSql) : null;
+             PreparedStatement update = conn.prepareStatement(UPDATE_TOTAL_SQL);
+             PreparedStatement insert = mergeSql == null ? conn.prepareStatement(INSERT_TOTAL_SQL) : null) {
+            for (Map.Entry<String, Long> delta : deltas.entrySet()) {
+                addToTotal(merge, update, insert, batchJobId, delta.getKey(), delta.getValue());
+            }
+        }
+    }
+
+    private void addToTotal(PreparedStatement merge, PreparedStatement update, PreparedStatement insert,
+                            UUID batchJobId, String counterName, long delta) throws SQLException {
+        try {
+            if (merge != null) {
+                bindTotal(merge, batchJobId, counterName, delta);
+                merge.executeUpdate();
+                return;
+            }
+            if (updateTotal(update, batchJobId, counterName, delta)) {
+                return;
+            }
+            bindTotal(insert, batchJobId, counterName, delta);
+            insert.executeUpdate();
+        } catch (SQLException e) {
+            if (!DatabaseTypeHandler.isIntegrityViolation(e)) {
+                throw e;
+            }
+            // Another child inserted the totals row concurrently, the failed statement changed nothing
+            LOG.debugf("Recap total %s of batch %s was created concurrently", counterName, batchJobId);
+            if (!updateTotal(update, batchJobId, counterName, delta)) {
+                throw e;
+            }
         }
     }
 
+    private static boolean updateTotal(PreparedStatement update, UUID batchJobId, String counterName, long delta) throws SQLException {
+        update.setLong(1, delta);
+        update.setString(2, batchJobId.toString());
+        update.setString(3, counterName);
+        return update.executeUpdate() > 0;
+    }
+
+    private static void bindTotal(PreparedStatement stmt, UUID batchJobId, String counterName, long value) throws SQLException {
+        stmt.setString(1, batchJobId.toString());
+        stmt.setString(2, counterName);
+        stmt.setLong(3, value);
+    }
+
+    private static String upsertSql(DatabaseTypeHandler.DatabaseType databaseType) {
+        return switch (databaseType) {
+            case POSTGRESQL -> UPSERT_RECAP_POSTGRESQL_SQL;
+            case H2 -> UPSERT_RECAP_H2_SQL;
+            case ORACLE -> UPSERT_RECAP_ORACLE_SQL;
+            case MYSQL -> UPSERT_RECAP_MYSQL_SQL;
+            case GENERIC -> null;
+        };
+    }
+
+    private static String seedTotalsSql(DatabaseTypeHandler.DatabaseType databaseType) {
+        return switch (databaseType) {
+            case POSTGRESQL -> SEED_TOTALS_POSTGRESQL_SQL;
+            case H2, ORACLE -> SEED_TOTALS_MERGE_SQL;
+            case MYSQL -> SEED_TOTALS_MYSQL_SQL;
+            case GENERIC -> SEED_TOTALS_SQL;
+        };
+    }
+
+    private static String addTotalSql(DatabaseTypeHandler.DatabaseType databaseType) {
+        return switch (databaseType) {
+            case POSTGRESQL -> ADD_TOTAL_POSTGRESQL_SQL;
+            case H2 -> ADD_TOTAL_H2_SQL;
+            case ORACLE -> ADD_TOTAL_ORACLE_SQL;
+            case MYSQL -> ADD_TOTAL_MYSQL_SQL;
+            case GENERIC -> null;
+        };
+    }
+
+    private static void bindCounter(PreparedStatement stmt, UUID batchJobId, UUID childJobId, String counterName, long counterValue) throws SQLException {
+        stmt.setString(1, batchJobId.toString());
+        stmt.setString(2, childJobId.toString());
+        stmt.setString(3, counterName);
+        stmt.setLong(4, counterValue);
+    }
+
+    private static boolean isZero(Long value) {
+        return value == null || value == 0L;
+    }
+
+    private static long valueOf(Long value) {
+        return value == null ? 0L : value;
+    }
+
+    /**
+     * Reads the recap of a batch from its totals rows. Batches that have not been written to since the
+     * totals table was introduced have no totals rows and are aggregated from the child rows instead.
+     */
     @Override
     public Map<String, Long> readRecap(UUID batchJobId) {
-        Map<String, Long> recap = new HashMap<>();
+        try (Connection conn = dataSource.getConnection()) {
+            Map<String, Long> recap = new HashMap<>();
+            boolean hasTotals = false;
+            try (PreparedStatement stmt = conn.prepareStatement(SELECT_RECAP_TOTALS_SQL)) {
+                stmt.setString(1, batchJobId.toString());
+                try (ResultSet resultSet = stmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        hasTotals = true;
+                        long value = resultSet.getLong("COUNTER_VALUE");
+                        if (value != 0L) {
+                            recap.put(resultSet.getString("COUNTER_NAME"), value);
+                        }
+                    }
+                }
+            }
+            return hasTotals ? recap : aggregateRecap(conn, batchJobId);
+        } catch (SQLException e) {
+            LOG.errorf(e, "Failed to read recap for batchJobId %s", batchJobId);
+            throw new IllegalStateException("Failed to read job recap", e);
+        }
+    }
 
-        try (Connection conn = dataSource.getConnection(); PreparedStatement stmt = conn.prepareStatement(SELECT_RECAP_ALL_COUNTERS_SQL)) {
+    private Map<String, Long> aggregateRecap(Connection conn, UUID batchJobId) throws SQLException {
+        Map<String, Long> recap = new HashMap<>();
+        try (PreparedStatement stmt = conn.prepareStatement(SELECT_RECAP_ALL_COUNTERS_SQL)) {
             stmt.setString(1, batchJobId.toString());
-
             try (ResultSet resultSet = stmt.executeQuery()) {
                 while (resultSet.next()) {
                     recap.put(resultSet.getString("COUNTER_NAME"), resultSet.getLong("total_counter_value"));
                 }
             }
-            return recap;
-        } catch (SQLException e) {
-            LOG.errorf(e, "Failed to read recap for batchJobId %s", batchJobId);
-            throw new IllegalStateException("Failed to read job recap", e);
         }
+        return recap;
     }
 }
@@ -1,9 +1,9 @@
 package ch.css.jobrunr.control.infrastructure.persistence;
 
+import ch.css.jobrunr.control.domain.ParameterCodecPort;
 import ch.css.jobrunr.control.domain.ParameterSet;
 import ch.css.jobrunr.control.domain.ParameterStoragePort;
 import ch.css.jobrunr.control.domain.ParameterStorageService;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Any;
 import jakarta.enterprise.inject.Instance;
@@ -26,12 +26,12 @@ public class ParameterStorageAdapter implements ParameterStorageService {
     private static final Logger LOG = Logger.getLogger(ParameterStorageAdapter.class);
 
     private final Instance<ParameterStoragePort> storageAdapters;
-    private final ObjectMapper objectMapper;
+    private final ParameterCodecPort parameterCodec;
 
     @Inject
-    public ParameterStorageAdapter(@Any Instance<ParameterStoragePort> storageAdapters, ObjectMapper objectMapper) {
+    public ParameterStorageAdapter(@Any Instance<ParameterStoragePort> storageAdapters, ParameterCodecPort parameterCodec) {
         this.storageAdapters = storageAdapters;
-        this.objectMapper = objectMapper;
+        this.parameterCodec = parameterCodec;
     }
 
     @Override
@@ -96,7 +96,7 @@ public class ParameterStorageAdapter implements ParameterStorageService {
      */
     @Override
     public <T> Optional<T> findById(UUID id, Class<T> type) {
-        return findById(id).map(params -> objectMapper.convertValue(params.parameters(), type));
+        return findById(id).map(params -> parameterCodec.fromMap(params.parameters(), type));
     }
 
     /**
@@ -0,0 +1,14 @@
+package ch.css.jobrunr.control.infrastructure.persistence;
+
+import org.jobrunr.jobs.lambdas.JobRequest;
+
+/**
+ * JobRequest of the recurring retention purge, see {@link RetentionPurger}.
+ */
+public record RetentionPurgeJobRequest() implements JobRequest {
+
+    @Override
+    public Class<RetentionPurgeJobRequestHandler> getJobRequestHandler() {
+        return RetentionPurgeJobRequestHandler.class;
+    }
+}
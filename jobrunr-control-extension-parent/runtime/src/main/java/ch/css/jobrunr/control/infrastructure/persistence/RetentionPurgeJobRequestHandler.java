@@ -0,0 +1,27 @@
+package ch.css.jobrunr.control.infrastructure.persistence;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jobrunr.jobs.annotations.Job;
+import org.jobrunr.jobs.lambdas.JobRequestHandler;
+
+/**
+ * Runs the retention purge as a recurring JobRunr job, so it runs on one node of the cluster at a time.
+ */
+@ApplicationScoped
+public class RetentionPurgeJobRequestHandler implements JobRequestHandler<RetentionPurgeJobRequest> {
+
+    private final RetentionPurger retentionPurger;
+
+    @Inject
+    public RetentionPurgeJobRequestHandler(RetentionPurger retentionPurger) {
+        this.retentionPurger = retentionPurger;
+    }
+
+    @Override
+    @Job(name = "JobRunr Control retention purge", retries = 0)
+    public void run(RetentionPurgeJobRequest jobRequest) {
+        // Failures are logged by the purge; the next occurrence continues with the remaining batches
+        retentionPurger.purge();
+    }
+}
@@ -0,0 +1,518 @@
+package ch.css.jobrunr.control.infrastructure.persistence;
+
+import ch.css.jobrunr.control.infrastructure.config.JobMessageSearchConfiguration;
+import ch.css.jobrunr.control.infrastructure.config.RetentionConfiguration;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.states.StateName;
+import org.jobrunr.scheduling.JobRequestScheduler;
+import org.jobrunr.storage.JobNotFoundException;
+import org.jobrunr.storage.StorageProvider;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Purges the messages, recap counters and message counters of expired batch jobs.
+ * <p>
+ * JobRunr does not know about the tables of this extension, so their rows stay when a batch job is deleted.
+ * A recurring JobRunr job ({@value #RECURRING_JOB_ID}) periodically looks up the batches that have messages,
+ * recap rows or counters, checks their jobs in JobRunr and removes the rows of expired batches in chunks of
+ * {@link RetentionConfiguration#chunkSize()} rows, each committed on its own. Being a recurring job, the purge
+ * runs on one node of the cluster at a time. The counter rows are removed last, so a batch interrupted by a
+ * restart is found again with the next run. The statistics describe the runs of this node.
+ * <p>
+ * If the messages table is partitioned by {@code CREATED_AT} (PostgreSQL, Oracle) and partition dropping is enabled,
+ * closed partitions whose batches are all expired are dropped as a whole before the chunked deletes run.
+ */
+@ApplicationScoped
+public class RetentionPurger {
+
+    private static final Logger LOG = Logger.getLogger(RetentionPurger.class);
+
+    static final String RECURRING_JOB_ID = "jobrunr-control-retention-purge";
+    private static final String MESSAGES_TABLE = "JOBRUNR_CONTROL_BATCH_MESSAGES";
+    private static final Set<StateName> FINAL_STATES = Set.of(StateName.SUCCEEDED, StateName.FAILED, StateName.DELETED);
+    // Range bounds as rendered by pg_get_expr ("FOR VALUES FROM (...) TO ('2026-02-01 00:00:00')")
+    // and by Oracle in HIGH_VALUE ("TIMESTAMP' 2026-02-01 00:00:00'")
+    private static final Pattern POSTGRESQL_UPPER_BOUND = Pattern.compile("TO \\('([^']+)'\\)");
+    private static final Pattern ORACLE_UPPER_BOUND = Pattern.compile("'\\s*([0-9]{4}-[0-9]{2}-[0-9]{2}[^']*)'");
+
+    private static final String SELECT_COUNTER_BATCHES_SQL = """
+            SELECT DISTINCT "BATCH_JOB_ID" FROM "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS"
+            """;
+
+    private static final String SELECT_MESSAGE_BATCHES_SQL = """
+            SELECT DISTINCT "BATCH_JOB_ID" FROM "JOBRUNR_CONTROL_BATCH_MESSAGES"
+            """;
+
+    private static final String SELECT_RECAP_TOTALS_BATCHES_SQL = """
+            SELECT DISTINCT "BATCH_JOB_ID" FROM "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS"
+            """;
+
+    // Batches written before the totals and counters existed only have rows in the recap and messages tables
+    private static final String SELECT_RECAP_BATCHES_SQL = """
+            SELECT DISTINCT "BATCH_JOB_ID" FROM "JOBRUNR_CONTROL_BATCH_RECAP"
+            """;
+
+    private static final String DELETE_MESSAGES_POSTGRESQL_SQL = """
+            DELETE FROM "JOBRUNR_CONTROL_BATCH_MESSAGES"
+            WHERE "ID" IN (SELECT "ID" FROM "JOBRUNR_CONTROL_BATCH_MESSAGES" WHERE "BATCH_JOB_ID" = ? LIMIT ?)
+            """;
+
+    private static final String DELETE_MESSAGES_MYSQL_SQL = """
+            DELETE FROM "JOBRUNR_CONTROL_BATCH_MESSAGES" WHERE "BATCH_JOB_ID" = ? LIMIT ?
+            """;
+
+    private static final String DELETE_MESSAGES_H2_SQL = """
+            DELETE FROM "JOBRUNR_CONTROL_BATCH_MESSAGES" WHERE "BATCH_JOB_ID" = ? FETCH FIRST ? ROWS ONLY
+            """;
+
+    private static final String DELETE_MESSAGES_ORACLE_SQL = """
+            DELETE FROM "JOBRUNR_CONTROL_BATCH_MESSAGES" WHERE "BATCH_JOB_ID" = ? AND ROWNUM <= ?
+            """;
+
+    private static final String DELETE_MESSAGES_SQL = """
+            DELETE FROM "JOBRUNR_CONTROL_BATCH_MESSAGES" WHERE "BATCH_JOB_ID" = ?
+            """;
+
+    private static final String DELETE_TOKENS_H2_SQL = """
+            DELETE FROM "JOBRUNR_CONTROL_BATCH_MESSAGE_TOKENS" WHERE "BATCH_JOB_ID" = ? FETCH FIRST ? ROWS ONLY
+            """;
+
+    private static final String DELETE_RECAP_POSTGRESQL_SQL = """
+            DELETE FROM "JOBRUNR_CONTROL_BATCH_RECAP"
+            WHERE ("BATCH_JOB_ID", "CHILD_JOB_ID", "COUNTER_NAME") IN (
+                SELECT "BATCH_JOB_ID", "CHILD_JOB_ID", "COUNTER_NAME" FROM "JOBRUNR_CONTROL_BATCH_RECAP" WHERE "BATCH_JOB_ID" = ? LIMIT ?)
+            """;
+
+    private static final String DELETE_RECAP_MYSQL_SQL = """
+            DELETE FROM "JOBRUNR_CONTROL_BATCH_RECAP" WHERE "BATCH_JOB_ID" = ? LIMIT ?
+            """;
+
+    private static final String DELETE_RECAP_H2_SQL = """
+            DELETE FROM "JOBRUNR_CONTROL_BATCH_RECAP" WHERE "BATCH_JOB_ID" = ? FETCH FIRST ? ROWS ONLY
+            """;
+
+    private static final String DELETE_RECAP_ORACLE_SQL = """
+            DELETE FROM "JOBRUNR_CONTROL_BATCH_RECAP" WHERE "BATCH_JOB_ID" = ? AND ROWNUM <= ?
+            """;
+
+    private static final String DELETE_RECAP_SQL = """
+            DELETE FROM "JOBRUNR_CONTROL_BATCH_RECAP" WHERE "BATCH_JOB_ID" = ?
+            """;
+
+    private static final String DELETE_RECAP_TOTALS_SQL = """
+            DELETE FROM "JOBRUNR_CONTROL_BATCH_RECAP_TOTALS" WHERE "BATCH_JOB_ID" = ?
+            """;
+
+    private static final String DELETE_COUNTERS_SQL = """
+            DELETE FROM "JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS" WHERE "BATCH_JOB_ID" = ?
+            """;
+
+    // Recently written traces may belong to messages that are not committed yet, see StackTraceStore
+    private static final String DELETE_UNREFERENCED_STACK_TRACES_SQL = """
+            DELETE FROM "JOBRUNR_CONTROL_STACK_TRACES"
+            WHERE "CREATED_AT" < ?
+              AND NOT EXISTS (SELECT 1 FROM "JOBRUNR_CONTROL_BATCH_MESSAGES" m
+                              WHERE m."STACK_TRACE_HASH" = "JOBRUNR_CONTROL_STACK_TRACES"."TRACE_HASH")
+            """;
+
+    private static final String SELECT_PARTITIONS_POSTGRESQL_SQL = """
+            SELECT child.relname AS partition_name, pg_get_expr(child.relpartbound, child.oid) AS partition_bound
+            FROM pg_inherits
+            JOIN pg_class parent ON pg_inherits.inhparent = parent.oid
+            JOIN pg_class child ON pg_inherits.inhrelid = child.oid
+            WHERE parent.relname = 'JOBRUNR_CONTROL_BATCH_MESSAGES'
+            """;
+
+    private static final String SELECT_PARTITIONS_ORACLE_SQL = """
+            SELECT partition_name, high_value AS partition_bound
+            FROM user_tab_partitions
+            WHERE table_name = 'JOBRUNR_CONTROL_BATCH_MESSAGES'
+            """;
+
+    /**
+     * A snapshot of the purge progress and the reclaimed rows since startup.
+     *
+     * @param enabled            whether the purge is enabled
+     * @param running            whether a purge run is in progress
+     * @param batchesChecked     batches checked in the current or last run
+     * @param batchesTotal       batches to check in the current or last run
+     * @param lastRunStartedAt   start of the current or last run, null before the first run
+     * @param lastRunFinishedAt  end of the last completed run, null before the first completed run
+     * @param lastRunFailed      whether the last run stopped with an error
+     * @param batchesPurged      expired batches purged since startup
+     * @param rowsReclaimed      rows deleted since startup
+     * @param partitionsDropped  partitions dropped since startup
+     */
+    public record Statistics(boolean enabled,
+                             boolean running,
+                             long batchesChecked,
+                             long batchesTotal,
+                             Instant lastRunStartedAt,
+                             Instant lastRunFinishedAt,
+                             boolean lastRunFailed,
+                             long batchesPurged,
+                             long rowsReclaimed,
+                             long partitionsDropped) {
+    }
+
+    private record Partition(String name, Instant upperBound) {
+    }
+
+    private final AgroalDataSource dataSource;
+    private final DatabaseTypeHandler databaseTypeHandler;
+    private final StorageProvider storageProvider;
+    private final JobMessageCounterStore counterStore;
+    private final StackTraceStore stackTraceStore;
+    private final RetentionConfiguration configuration;
+    private final JobMessageSearchConfiguration searchConfiguration;
+    private final JobRequestScheduler jobRequestScheduler;
+    private final AtomicLong batchesChecked = new AtomicLong();
+    private final AtomicLong batchesPurged = new AtomicLong();
+    private final AtomicLong rowsReclaimed = new AtomicLong();
+    private final AtomicLong partitionsDropped = new AtomicLong();
+    private volatile long batchesTotal;
+    private volatile boolean running;
+    private volatile boolean stopping;
+    private volatile boolean lastRunFailed;
+    private volatile Instant lastRunStartedAt;
+    private volatile Instant lastRunFinishedAt;
+
+    @Inject
+    public RetentionPurger(AgroalDataSource dataSource,
+                           DatabaseTypeHandler databaseTypeHandler,
+                           StorageProvider storageProvider,
+                           JobMessageCounterStore counterStore,
+                           StackTraceStore stackTraceStore,
+                           RetentionConfiguration configuration,
+                           JobMessageSearchConfiguration searchConfiguration,
+                           JobRequestScheduler jobRequestScheduler) {
+        this.dataSource = dataSource;
+        this.databaseTypeHandler = databaseTypeHandler;
+        this.storageProvider = storageProvider;
+        this.counterStore = counterStore;
+        this.stackTraceStore = stackTraceStore;
+        this.configuration = configuration;
+        this.searchConfiguration = searchConfiguration;
+        this.jobRequestScheduler = jobRequestScheduler;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!configuration.enabled()) {
+            // Removes the recurring job of an earlier deployment that had retention enabled
+            jobRequestScheduler.deleteRecurringJob(RECURRING_JOB_ID);
+            LOG.debug("Retention disabled, messages and recap counters of expired batches are kept");
+            return;
+        }
+        jobRequestScheduler.scheduleRecurrently(RECURRING_JOB_ID, configuration.purgeInterval(), new RetentionPurgeJobRequest());
+        LOG.debugf("Registered recurring retention purge '%s' every %s", RECURRING_JOB_ID, configuration.purgeInterval());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // A running purge stops after the current chunk, the next run continues
+        stopping = true;
+    }
+
+    /**
+     * Returns the purge progress and the reclaimed rows since startup.
+     */
+    public Statistics statistics() {
+        return new Statistics(configuration.enabled(), running, batchesChecked.get(), batchesTotal,
+                lastRunStartedAt, lastRunFinishedAt, lastRunFailed,
+                batchesPurged.get(), rowsReclaimed.get(), partitionsDropped.get());
+    }
+
+    /**
+     * Purges the rows of all expired batches. Failures are logged; the next run retries.
+     * Runs as the recurring job {@value #RECURRING_JOB_ID}.
+     */
+    void purge() {
+        Instant started = Instant.now();
+        Instant cutoff = configuration.maxAge().map(started::minus).orElse(null);
+        Map<UUID, Boolean> expired = new HashMap<>();
+        running = true;
+        lastRunStartedAt = started;
+        batchesChecked.set(0);
+        batchesTotal = 0;
+        long rowsBefore = rowsReclaimed.get();
+        long batchesBefore = batchesPurged.get();
+        try (Connection conn = dataSource.getConnection()) {
+            if (configuration.dropPartitions()) {
+                dropExpiredPartitions(conn, started, cutoff, expired);
+            }
+            Set<UUID> batchJobIds = readBatches(conn);
+            batchesTotal = batchJobIds.size();
+            for (UUID batchJobId : batchJobIds) {
+                if (stopping) {
+                    break;
+                }
+                if (expired.computeIfAbsent(batchJobId, id -> isExpired(id, cutoff))) {
+                    purgeBatch(conn, batchJobId);
+                    batchesPurged.incrementAndGet();
+                }
+                batchesChecked.incrementAndGet();
+            }
+            if (batchesPurged.get() > batchesBefore && stackTraceStore.isEnabled()) {
+                rowsReclaimed.addAndGet(commit(conn,
+                        deleteUnreferencedStackTraces(conn, started.minus(StackTraceStore.PURGE_GRACE_PERIOD))));
+            }
+            lastRunFailed = false;
+            lastRunFinishedAt = Instant.now();
+            LOG.infof("Retention purge checked %d batch(es), purged %d expired batch(es) and %d row(s) in %d ms",
+                    batchesChecked.get(), batchesPurged.get() - batchesBefore, rowsReclaimed.get() - rowsBefore,
+                    lastRunFinishedAt.toEpochMilli() - started.toEpochMilli());
+        } catch (Exception e) {
+            lastRunFailed = true;
+            LOG.warnf(e, "Retention purge failed after %d batch(es), retrying with the next run", batchesChecked.get());
+            // Don't throw - the next run continues with the remaining batches
+        } finally {
+            running = false;
+        }
+    }
+
+    /**
+     * Checks whether the rows of a batch can be purged: its job no longer exists, or it has finished before the cutoff.
+     */
+    boolean isExpired(UUID batchJobId, Instant cutoff) {
+        Job job;
+        try {
+            job = storageProvider.getJobById(batchJobId);
+        } catch (JobNotFoundException e) {
+            return true;
+        }
+        if (job == null) {
+            return true;
+        }
+        return cutoff != null && FINAL_STATES.contains(job.getState()) && job.getUpdatedAt().isBefore(cutoff);
+    }
+
+    private Set<UUID> readBatches(Connection conn) throws SQLException {
+        Set<UUID> batchJobIds = new LinkedHashSet<>();
+        if (counterStore.isEnabled()) {
+            readBatchIds(conn, SELECT_COUNTER_BATCHES_SQL, batchJobIds);
+        }
+        readBatchIds(conn, SELECT_RECAP_TOTALS_BATCHES_SQL, batchJobIds);
+        // Counters and totals only know the batches written since they exist
+        readBatchIds(conn, SELECT_MESSAGE_BATCHES_SQL, batchJobIds);
+        readBatchIds(conn, SELECT_RECAP_BATCHES_SQL, batchJobIds);
+        return batchJobIds;
+    }
+
+    private static void readBatchIds(Connection conn, String sql, Set<UUID> batchJobIds) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                batchJobIds.add(UUID.fromString(rs.getString("BATCH_JOB_ID")));
+            }
+        }
+    }
+
+    private void purgeBatch(Connection conn, UUID batchJobId) throws SQLException {
+        DatabaseTypeHandler.DatabaseType databaseType = databaseTypeHandler.getDatabaseType();
+        // Without a dialect specific row limit, all rows of the batch are deleted with one statement
+        boolean chunked = databaseType != DatabaseTypeHandler.DatabaseType.GENERIC;
+        long rows = deleteInChunks(conn, deleteMessagesSql(databaseType), batchJobId, chunked);
+        if (databaseType == DatabaseTypeHandler.DatabaseType.H2
+                && searchConfiguration.mode() == JobMessageSearchConfiguration.Mode.INDEXED) {
+            rows += deleteInChunks(conn, DELETE_TOKENS_H2_SQL, batchJobId, true);
+        }
+        rows += deleteInChunks(conn, deleteRecapSql(databaseType), batchJobId, chunked);
+        if (stopping) {
+            // Keep the counter rows, so the next run finds the batch again
+            LOG.debugf("Purged %d row(s) of expired batch %s before stopping", rows, batchJobId);
+            return;
+        }
+        rows += commit(conn, deleteBatchRows(conn, DELETE_RECAP_TOTALS_SQL, batchJobId));
+        if (counterStore.hasCountersTable()) {
+            rows += commit(conn, deleteBatchRows(conn, DELETE_COUNTERS_SQL, batchJobId));
+        }
+        LOG.debugf("Purged %d row(s) of expired batch %s", rows, batchJobId);
+    }
+
+    /**
+     * Deletes the rows of a batch chunk by chunk until a chunk deletes fewer rows than the chunk size.
+     */
+    private long deleteInChunks(Connection conn, String sql, UUID batchJobId, boolean chunked) throws SQLException {
+        int chunkSize = Math.max(1, configuration.chunkSize());
+        long total = 0;
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            int deleted;
+            do {
+                stmt.setString(1, batchJobId.toString());
+                if (chunked) {
+                    stmt.setInt(2, chunkSize);
+                }
+                deleted = commit(conn, stmt.executeUpdate());
+                total += deleted;
+                rowsReclaimed.addAndGet(deleted);
+            } while (chunked && deleted >= chunkSize && !stopping);
+        }
+        return total;
+    }
+
+    private int deleteBatchRows(Connection conn, String sql, UUID batchJobId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, batchJobId.toString());
+            int deleted = stmt.executeUpdate();
+            rowsReclaimed.addAndGet(deleted);
+            return deleted;
+        }
+    }
+
+    private int deleteUnreferencedStackTraces(Connection conn, Instant writtenBefore) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(DELETE_UNREFERENCED_STACK_TRACES_SQL)) {
+            stmt.setTimestamp(1, Timestamp.from(writtenBefore));
+            return stmt.executeUpdate();
+        }
+    }
+
+    private void dropExpiredPartitions(Connection conn, Instant started, Instant cutoff, Map<UUID, Boolean> expired) throws SQLException {
+        DatabaseTypeHandler.DatabaseType databaseType = databaseTypeHandler.getDatabaseType();
+        String selectPartitionsSql = switch (databaseType) {
+            case POSTGRESQL -> SELECT_PARTITIONS_POSTGRESQL_SQL;
+            case ORACLE -> SELECT_PARTITIONS_ORACLE_SQL;
+            case H2, MYSQL, GENERIC -> null;
+        };
+        if (selectPartitionsSql == null) {
+            LOG.debugf("Partitions are not supported for database type %s, purging in chunks", databaseType);
+            return;
+        }
+        for (Partition partition : readPartitions(conn, selectPartitionsSql, databaseType)) {
+            if (stopping) {
+                return;
+            }
+            // Partitions that can still receive messages are never dropped
+            if (partition.upperBound() == null || !partition.upperBound().isBefore(started)) {
+                continue;
+            }
+            List<UUID> batchJobIds = readPartitionBatches(conn, partition, databaseType);
+            boolean allExpired = batchJobIds.stream()
+                    .allMatch(batchJobId -> expired.computeIfAbsent(batchJobId, id -> isExpired(id, cutoff)));
+            if (allExpired) {
+                dropPartition(conn, partition, databaseType);
+            }
+        }
+    }
+
+    private static List<Partition> readPartitions(Connection conn, String sql, DatabaseTypeHandler.DatabaseType databaseType) throws SQLException {
+        List<Partition> partitions = new ArrayList<>();
+        try (PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                partitions.add(new Partition(rs.getString("partition_name"),
+                        upperBound(rs.getString("partition_bound"), databaseType)));
+            }
+        }
+        return partitions;
+    }
+
+    /**
+     * Parses the exclusive upper bound of a {@code CREATED_AT} range partition.
+     *
+     * @return the bound, or null for default and {@code MAXVALUE} partitions or bounds that cannot be parsed
+     */
+    static Instant upperBound(String partitionBound, DatabaseTypeHandler.DatabaseType databaseType) {
+        if (partitionBound == null) {
+            return null;
+        }
+        Matcher matcher = (databaseType == DatabaseTypeHandler.DatabaseType.ORACLE ? ORACLE_UPPER_BOUND : POSTGRESQL_UPPER_BOUND)
+                .matcher(partitionBound);
+        if (!matcher.find()) {
+            return null;
+        }
+        try {
+            // CREATED_AT is written as a timestamp in the default time zone of the JVM
+            return Timestamp.valueOf(LocalDateTime.parse(matcher.group(1).trim().replace(' ', 'T'))).toInstant();
+        } catch (DateTimeParseException e) {
+            LOG.debugf("Ignoring partition with unsupported bound: %s", partitionBound);
+            return null;
+        }
+    }
+
+    private static List<UUID> readPartitionBatches(Connection conn, Partition partition, DatabaseTypeHandler.DatabaseType databaseType) throws SQLException {
+        String sql = databaseType == DatabaseTypeHandler.DatabaseType.ORACLE
+                ? "SELECT DISTINCT \"BATCH_JOB_ID\" FROM \"" + MESSAGES_TABLE + "\" PARTITION (" + quote(partition.name()) + ")"
+                : "SELECT DISTINCT \"BATCH_JOB_ID\" FROM " + quote(partition.name());
+        List<UUID> batchJobIds = new ArrayList<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                batchJobIds.add(UUID.fromString(rs.getString("BATCH_JOB_ID")));
+            }
+        }
+        return batchJobIds;
+    }
+
+    private void dropPartition(Connection conn, Partition partition, DatabaseTypeHandler.DatabaseType databaseType) {
+        String sql = databaseType == DatabaseTypeHandler.DatabaseType.ORACLE
+                ? "ALTER TABLE \"" + MESSAGES_TABLE + "\" DROP PARTITION " + quote(partition.name()) + " UPDATE GLOBAL INDEXES"
+                : "DROP TABLE " + quote(partition.name());
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+            commit(conn, 0);
+            partitionsDropped.incrementAndGet();
+            LOG.infof("Dropped expired message partition %s (messages before %s)", partition.name(), partition.upperBound());
+        } catch (SQLException e) {
+            // e.g. the last range partition of an Oracle interval partitioned table cannot be dropped
+            LOG.warnf(e, "Failed to drop message partition %s, its messages are purged in chunks", partition.name());
+            // Don't throw - the chunked deletes remove the rows of the expired batches
+        }
+    }
+
+    private static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+
+    private static int commit(Connection conn, int deleted) throws SQLException {
+        if (!conn.getAutoCommit()) {
+            conn.commit();
+        }
+        return deleted;
+    }
+
+    private static String deleteMessagesSql(DatabaseTypeHandler.DatabaseType databaseType) {
+        return switch (databaseType) {
+            case POSTGRESQL -> DELETE_MESSAGES_POSTGRESQL_SQL;
+            case H2 -> DELETE_MESSAGES_H2_SQL;
+            case ORACLE -> DELETE_MESSAGES_ORACLE_SQL;
+            case MYSQL -> DELETE_MESSAGES_MYSQL_SQL;
+            case GENERIC -> DELETE_MESSAGES_SQL;
+        };
+    }
+
+    private static String deleteRecapSql(DatabaseTypeHandler.DatabaseType databaseType) {
+        return switch (databaseType) {
+            case POSTGRESQL -> DELETE_RECAP_POSTGRESQL_SQL;
+            case H2 -> DELETE_RECAP_H2_SQL;
+            case ORACLE -> DELETE_RECAP_ORACLE_SQL;
+            case MYSQL -> DELETE_RECAP_MYSQL_SQL;
+            case GENERIC -> DELETE_RECAP_SQL;
+        };
+    }
+}
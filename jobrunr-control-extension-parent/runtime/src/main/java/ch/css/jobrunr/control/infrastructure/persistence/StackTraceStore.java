@@ -0,0 +1,457 @@
+package ch.css.jobrunr.control.infrastructure.persistence;
+
+import ch.css.jobrunr.control.infrastructure.config.StackTraceStorageConfiguration;
+import io.agroal.api.AgroalDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.jboss.logging.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores exception stack traces once per distinct trace in {@code JOBRUNR_CONTROL_STACK_TRACES}.
+ * <p>
+ * Traces are normalized (line endings, trailing whitespace), keyed by the SHA-256 hash of the normalized
+ * text and stored gzip-compressed. Messages reference the trace by hash and keep only a short search key (the
+ * top exception line and the "Caused by" lines, truncated), so failure storms with thousands of identical
+ * traces write each trace once and small message rows while the text search still finds exceptions and causes.
+ * <p>
+ * Deduplication needs the {@code STACK_TRACE_HASH} column of {@code JOBRUNR_CONTROL_BATCH_MESSAGES}. On schemas
+ * without it, messages keep their full stack trace as before.
+ * <p>
+ * {@code CREATED_AT} holds the time a message last wrote the trace: writing an existing trace refreshes it,
+ * inside the transaction of the messages. The retention purge only removes unreferenced traces that were not
+ * written within {@link #PURGE_GRACE_PERIOD}, so it never removes a trace a message is being written with.
+ * Hashes written by this node are remembered once the transaction of the messages has committed, for
+ * {@link #KNOWN_HASH_TTL}, well inside the grace period, so repeated traces cause at most one write per node and minute.
+ */
+@ApplicationScoped
+public class StackTraceStore {
+
+    private static final Logger LOG = Logger.getLogger(StackTraceStore.class);
+
+    static final Duration KNOWN_HASH_TTL = Duration.ofMinutes(1);
+
+    /**
+     * Minimum time since the last write before an unreferenced trace may be purged.
+     */
+    public static final Duration PURGE_GRACE_PERIOD = Duration.ofMinutes(15);
+
+    static final int MAX_SEARCH_KEY_LINE_LENGTH = 200;
+    static final int MAX_SEARCH_KEY_LENGTH = 1_000;
+    private static final String CAUSED_BY = "Caused by:";
+
+    private static final int MAX_KNOWN_HASHES = 10_000;
+    // Oracle allows at most 1000 expressions in an IN list
+    private static final int MAX_HASHES_PER_QUERY = 500;
+
+    private static final String INSERT_POSTGRESQL_SQL = """
+            INSERT INTO "JOBRUNR_CONTROL_STACK_TRACES" ("TRACE_HASH", "PAYLOAD", "CREATED_AT")
+            VALUES (?, ?, ?)
+            ON CONFLICT ("TRACE_HASH") DO UPDATE SET "CREATED_AT" = EXCLUDED."CREATED_AT"
+            """;
+
+    private static final String INSERT_MYSQL_SQL = """
+            INSERT INTO "JOBRUNR_CONTROL_STACK_TRACES" ("TRACE_HASH", "PAYLOAD", "CREATED_AT")
+            VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE "CREATED_AT" = VALUES("CREATED_AT")
+            """;
+
+    private static final String INSERT_H2_SQL = """
+            MERGE INTO "JOBRUNR_CONTROL_STACK_TRACES" target
+            USING (SELECT CAST(? AS VARCHAR(64)) AS "TRACE_HASH") source
+            ON (target."TRACE_HASH" = source."TRACE_HASH")
+            WHEN MATCHED THEN UPDATE SET "CREATED_AT" = ?
+            WHEN NOT MATCHED THEN INSERT ("TRACE_HASH", "PAYLOAD", "CREATED_AT")
+                VALUES (source."TRACE_HASH", ?, ?)
+            """;
+
+    private static final String INSERT_ORACLE_SQL = """
+            MERGE INTO "JOBRUNR_CONTROL_STACK_TRACES" target
+            USING (SELECT ? AS "TRACE_HASH" FROM DUAL) source
+            ON (target."TRACE_HASH" = source."TRACE_HASH")
+            WHEN MATCHED THEN UPDATE SET target."CREATED_AT" = ?
+            WHEN NOT MATCHED THEN INSERT ("TRACE_HASH", "PAYLOAD", "CREATED_AT")
+                VALUES (source."TRACE_HASH", ?, ?)
+            """;
+
+    private static final String TOUCH_SQL = """
+            UPDATE "JOBRUNR_CONTROL_STACK_TRACES" SET "CREATED_AT" = ? WHERE "TRACE_HASH" = ?
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO "JOBRUNR_CONTROL_STACK_TRACES" ("TRACE_HASH", "PAYLOAD", "CREATED_AT")
+            VALUES (?, ?, ?)
+            """;
+
+    private static final String PROBE_HASH_COLUMN_SQL = """
+            SELECT "STACK_TRACE_HASH" FROM "JOBRUNR_CONTROL_BATCH_MESSAGES" WHERE 1 = 0
+            """;
+
+    private static final String SELECT_PREFIX = """
+            SELECT "TRACE_HASH", "PAYLOAD"
+            FROM "JOBRUNR_CONTROL_STACK_TRACES"
+            WHERE "TRACE_HASH" IN\s""";
+
+    /**
+     * A stack trace as it is referenced from a message.
+     *
+     * @param hash            the SHA-256 hash of the normalized trace
+     * @param searchKey       the top exception line and the causes of the trace, stored with the message for the text search
+     * @param normalizedTrace the normalized trace
+     */
+    public record StackTraceReference(String hash, String searchKey, String normalizedTrace) {
+    }
+
+    private final AgroalDataSource dataSource;
+    private final DatabaseTypeHandler databaseTypeHandler;
+    private final StackTraceStorageConfiguration configuration;
+    private final TransactionSynchronizationRegistry transactionRegistry;
+    private final Clock clock;
+    // Hash -> time this node last wrote the trace
+    private final Map<String, Instant> knownHashes = new ConcurrentHashMap<>();
+    private final Map<String, String> traceCache;
+    private volatile boolean hashColumnMissing;
+
+    @Inject
+    public StackTraceStore(AgroalDataSource dataSource,
+                           DatabaseTypeHandler databaseTypeHandler,
+                           StackTraceStorageConfiguration configuration,
+                           TransactionSynchronizationRegistry transactionRegistry) {
+        this(dataSource, databaseTypeHandler, configuration, transactionRegistry, Clock.systemUTC());
+    }
+
+    StackTraceStore(AgroalDataSource dataSource,
+                    DatabaseTypeHandler databaseTypeHandler,
+                    StackTraceStorageConfiguration configuration,
+                    TransactionSynchronizationRegistry transactionRegistry,
+                    Clock clock) {
+        this.dataSource = dataSource;
+        this.databaseTypeHandler = databaseTypeHandler;
+        this.configuration = configuration;
+        this.transactionRegistry = transactionRegistry;
+        this.clock = clock;
+        int cacheSize = Math.max(0, configuration.cacheSize());
+        this.traceCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    @PostConstruct
+    void detectHashColumn() {
+        try (Connection conn = dataSource.getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement(PROBE_HASH_COLUMN_SQL);
+                 ResultSet ignored = stmt.executeQuery()) {
+                hashColumnMissing = false;
+            } catch (SQLException e) {
+                hashColumnMissing = true;
+                LOG.warnf("JOBRUNR_CONTROL_BATCH_MESSAGES has no STACK_TRACE_HASH column (%s), messages keep their full stack trace. "
+                        + "Add the column as described in the SQL scripts to deduplicate stack traces", e.getMessage());
+            }
+        } catch (SQLException e) {
+            LOG.warnf(e, "Could not check the STACK_TRACE_HASH column, assuming it exists");
+        }
+    }
+
+    /**
+     * Returns whether {@code JOBRUNR_CONTROL_BATCH_MESSAGES} has the {@code STACK_TRACE_HASH} column.
+     */
+    public boolean hasHashColumn() {
+        return !hashColumnMissing;
+    }
+
+    /**
+     * Returns whether stack traces are stored in {@code JOBRUNR_CONTROL_STACK_TRACES}.
+     */
+    public boolean isEnabled() {
+        return configuration.deduplicate() && hasHashColumn();
+    }
+
+    /**
+     * Creates the reference for a stack trace.
+     *
+     * @return the reference, or null if traces are not deduplicated or the trace is blank
+     */
+    public StackTraceReference reference(String stackTrace) {
+        if (!isEnabled() || stackTrace == null || stackTrace.isBlank()) {
+            return null;
+        }
+        String normalized = normalize(stackTrace);
+        return new StackTraceReference(hash(normalized), searchKey(normalized), normalized);
+    }
+
+    /**
+     * Writes the referenced traces, using the connection that writes the messages. Traces this node has written
+     * within {@link #KNOWN_HASH_TTL} are skipped; all others are inserted or have their write time refreshed.
+     * Written hashes are remembered once the active transaction commits, or at once without a transaction.
+     *
+     * @throws SQLException if a trace cannot be written
+     */
+    public void store(Connection conn, Collection<StackTraceReference> references) throws SQLException {
+        Instant now = clock.instant();
+        Instant knownSince = now.minus(KNOWN_HASH_TTL);
+        Map<String, StackTraceReference> unknown = new LinkedHashMap<>();
+        for (StackTraceReference reference : references) {
+            if (reference == null) {
+                continue;
+            }
+            Instant written = knownHashes.get(reference.hash());
+            if (written == null || written.isBefore(knownSince)) {
+                unknown.putIfAbsent(reference.hash(), reference);
+            }
+        }
+        if (unknown.isEmpty()) {
+            return;
+        }
+        Timestamp writtenAt = Timestamp.from(now);
+        for (StackTraceReference reference : unknown.values()) {
+            upsert(conn, reference, writtenAt);
+        }
+        Set<String> written = Set.copyOf(unknown.keySet());
+        afterCommit(() -> remember(written, now));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (transactionRegistry.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            // Outside a transaction the connection commits each statement
+            action.run();
+            return;
+        }
+        transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                // Nothing to do before the commit
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    private void remember(Set<String> hashes, Instant writtenAt) {
+        if (knownHashes.size() + hashes.size() > MAX_KNOWN_HASHES) {
+            Instant knownSince = clock.instant().minus(KNOWN_HASH_TTL);
+            knownHashes.values().removeIf(known -> known.isBefore(knownSince));
+            if (knownHashes.size() + hashes.size() > MAX_KNOWN_HASHES) {
+                knownHashes.clear();
+            }
+        }
+        hashes.forEach(hash -> knownHashes.put(hash, writtenAt));
+    }
+
+    /**
+     * Forgets the traces of a failed message write, so they are written again with the next message.
+     */
+    public void forget(Collection<StackTraceReference> references) {
+        for (StackTraceReference reference : references) {
+            if (reference != null) {
+                knownHashes.remove(reference.hash());
+            }
+        }
+    }
+
+    /**
+     * Resolves hashes to the stored stack traces. Traces that cannot be read are missing from the result.
+     */
+    public Map<String, String> resolve(Collection<String> hashes) {
+        Map<String, String> traces = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        synchronized (traceCache) {
+            for (String hash : hashes) {
+                String cached = traceCache.get(hash);
+                if (cached != null) {
+                    traces.put(hash, cached);
+                } else {
+                    missing.add(hash);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return traces;
+        }
+        try (Connection conn = dataSource.getConnection()) {
+            for (int from = 0; from < missing.size(); from += MAX_HASHES_PER_QUERY) {
+                List<String> chunk = missing.subList(from, Math.min(missing.size(), from + MAX_HASHES_PER_QUERY));
+                readTraces(conn, chunk, traces);
+            }
+        } catch (SQLException e) {
+            LOG.warnf(e, "Failed to read %d stack trace(s)", missing.size());
+            // Don't throw - the messages are shown with the search key of their stack trace
+        }
+        return traces;
+    }
+
+    private void readTraces(Connection conn, List<String> hashes, Map<String, String> traces) throws SQLException {
+        String sql = SELECT_PREFIX + hashes.stream().map(hash -> "?").collect(Collectors.joining(", ", "(", ")"));
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < hashes.size(); i++) {
+                stmt.setString(i + 1, hashes.get(i));
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String hash = rs.getString("TRACE_HASH");
+                    String trace = decompressOrNull(hash, rs.getBytes("PAYLOAD"));
+                    if (trace != null) {
+                        traces.put(hash, trace);
+                        synchronized (traceCache) {
+                            traceCache.put(hash, trace);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void upsert(Connection conn, StackTraceReference reference, Timestamp now) throws SQLException {
+        DatabaseTypeHandler.DatabaseType databaseType = databaseTypeHandler.getDatabaseType();
+        String insertSql = upsertSql(databaseType);
+        if (insertSql == null) {
+            if (touch(conn, reference.hash(), now)) {
+                return;
+            }
+            insertSql = INSERT_SQL;
+        }
+        byte[] payload = compress(reference.normalizedTrace());
+        try (PreparedStatement stmt = conn.prepareStatement(insertSql)) {
+            int index = 1;
+            stmt.setString(index++, reference.hash());
+            if (databaseType == DatabaseTypeHandler.DatabaseType.H2 || databaseType == DatabaseTypeHandler.DatabaseType.ORACLE) {
+                // MERGE: the write time of an existing trace comes first
+                stmt.setTimestamp(index++, now);
+            }
+            stmt.setBytes(index++, payload);
+            stmt.setTimestamp(index, now);
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            if (!DatabaseTypeHandler.isIntegrityViolation(e)) {
+                throw e;
+            }
+            // Another node wrote the same trace concurrently, refresh its write time instead
+            LOG.debugf("Stack trace %s was written concurrently", reference.hash());
+            touch(conn, reference.hash(), now);
+        }
+    }
+
+    private boolean touch(Connection conn, String hash, Timestamp now) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(TOUCH_SQL)) {
+            stmt.setTimestamp(1, now);
+            stmt.setString(2, hash);
+            return stmt.executeUpdate() > 0;
+        }
+    }
+
+    private static String upsertSql(DatabaseTypeHandler.DatabaseType databaseType) {
+        return switch (databaseType) {
+            case POSTGRESQL -> INSERT_POSTGRESQL_SQL;
+            case H2 -> INSERT_H2_SQL;
+            case ORACLE -> INSERT_ORACLE_SQL;
+            case MYSQL -> INSERT_MYSQL_SQL;
+            case GENERIC -> null;
+        };
+    }
+
+    private static String decompressOrNull(String hash, byte[] payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return decompress(payload);
+        } catch (UncheckedIOException e) {
+            LOG.warnf(e, "Failed to decompress stack trace %s", hash);
+            // Don't throw - the message is shown with the search key of its stack trace
+            return null;
+        }
+    }
+
+    static String normalize(String stackTrace) {
+        return stackTrace.lines().map(String::stripTrailing).collect(Collectors.joining("\n")).strip();
+    }
+
+    /**
+     * Keeps the top exception line and the distinct "Caused by" lines, each truncated to
+     * {@value #MAX_SEARCH_KEY_LINE_LENGTH} characters and together at most {@value #MAX_SEARCH_KEY_LENGTH},
+     * so the message row stays small however long the trace is.
+     */
+    static String searchKey(String normalizedTrace) {
+        Set<String> lines = new LinkedHashSet<>();
+        String[] traceLines = normalizedTrace.split("\n");
+        lines.add(truncate(traceLines[0].strip()));
+        for (int i = 1; i < traceLines.length; i++) {
+            String stripped = traceLines[i].strip();
+            if (stripped.startsWith(CAUSED_BY)) {
+                lines.add(truncate(stripped));
+            }
+        }
+        String key = String.join("\n", lines);
+        return key.length() > MAX_SEARCH_KEY_LENGTH ? key.substring(0, MAX_SEARCH_KEY_LENGTH) : key;
+    }
+
+    private static String truncate(String line) {
+        return line.length() > MAX_SEARCH_KEY_LINE_LENGTH ? line.substring(0, MAX_SEARCH_KEY_LINE_LENGTH) : line;
+    }
+
+    static String hash(String normalizedTrace) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalizedTrace.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    static byte[] compress(String trace) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(trace.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static String decompress(byte[] payload) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package ch.css.jobrunr.control.infrastructure.quarkus;
+
+import ch.css.jobrunr.control.infrastructure.details.DefaultJobDetailsProvider;
+import ch.css.jobrunr.control.infrastructure.details.WeightedSnapshotCache;
+import io.smallrye.health.api.Wellness;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+
+/**
+ * Reports the size, estimated weight and evictions of the batch snapshot cache under {@code /q/health/well}.
+ * The check is always up; it never affects liveness or readiness.
+ */
+@Wellness
+@ApplicationScoped
+public class BatchSnapshotCacheHealthCheck implements HealthCheck {
+
+    private final DefaultJobDetailsProvider defaultJobDetailsProvider;
+
+    @Inject
+    public BatchSnapshotCacheHealthCheck(DefaultJobDetailsProvider defaultJobDetailsProvider) {
+        this.defaultJobDetailsProvider = defaultJobDetailsProvider;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        WeightedSnapshotCache.Statistics statistics = defaultJobDetailsProvider.snapshotCacheStatistics();
+        return HealthCheckResponse.named("jobrunr-control-batch-snapshot-cache")
+                .up()
+                .withData("size", statistics.size())
+                .withData("weight", statistics.weight())
+                .withData("maxWeight", statistics.maxWeight())
+                .withData("hits", statistics.hits())
+                .withData("misses", statistics.misses())
+                .withData("evictions", statistics.evictions())
+                .withData("expirations", statistics.expirations())
+                .withData("oversized", statistics.oversized())
+                .build();
+    }
+}
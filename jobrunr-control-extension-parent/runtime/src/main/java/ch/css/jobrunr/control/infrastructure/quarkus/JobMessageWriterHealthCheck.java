@@ -0,0 +1,38 @@
+package ch.css.jobrunr.control.infrastructure.quarkus;
+
+import ch.css.jobrunr.control.infrastructure.details.AsyncJobMessageWriter;
+import io.smallrye.health.api.Wellness;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+
+/**
+ * Reports the queued, written, dropped and failed job messages of the asynchronous message writer
+ * under {@code /q/health/well}. The check is always up; it never affects liveness or readiness.
+ */
+@Wellness
+@ApplicationScoped
+public class JobMessageWriterHealthCheck implements HealthCheck {
+
+    private final AsyncJobMessageWriter asyncJobMessageWriter;
+
+    @Inject
+    public JobMessageWriterHealthCheck(AsyncJobMessageWriter asyncJobMessageWriter) {
+        this.asyncJobMessageWriter = asyncJobMessageWriter;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        AsyncJobMessageWriter.Statistics statistics = asyncJobMessageWriter.statistics();
+        return HealthCheckResponse.named("jobrunr-control-job-message-writer")
+                .up()
+                .withData("enabled", asyncJobMessageWriter.isEnabled())
+                .withData("enqueued", statistics.enqueued())
+                .withData("written", statistics.written())
+                .withData("dropped", statistics.dropped())
+                .withData("failed", statistics.failed())
+                .withData("queued", statistics.queued())
+                .build();
+    }
+}
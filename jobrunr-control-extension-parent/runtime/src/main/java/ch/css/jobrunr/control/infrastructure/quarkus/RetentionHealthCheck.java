@@ -0,0 +1,46 @@
+package ch.css.jobrunr.control.infrastructure.quarkus;
+
+import ch.css.jobrunr.control.infrastructure.persistence.RetentionPurger;
+import io.smallrye.health.api.Wellness;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+
+/**
+ * Reports the progress of the retention purge and the rows reclaimed since startup under {@code /q/health/well}.
+ * The check is down while the last purge run failed; it never affects liveness or readiness.
+ */
+@Wellness
+@ApplicationScoped
+public class RetentionHealthCheck implements HealthCheck {
+
+    private final RetentionPurger retentionPurger;
+
+    @Inject
+    public RetentionHealthCheck(RetentionPurger retentionPurger) {
+        this.retentionPurger = retentionPurger;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        RetentionPurger.Statistics statistics = retentionPurger.statistics();
+        HealthCheckResponseBuilder builder = HealthCheckResponse.named("jobrunr-control-retention")
+                .status(!statistics.lastRunFailed())
+                .withData("enabled", statistics.enabled())
+                .withData("running", statistics.running())
+                .withData("batchesChecked", statistics.batchesChecked())
+                .withData("batchesTotal", statistics.batchesTotal())
+                .withData("batchesPurged", statistics.batchesPurged())
+                .withData("rowsReclaimed", statistics.rowsReclaimed())
+                .withData("partitionsDropped", statistics.partitionsDropped());
+        if (statistics.lastRunStartedAt() != null) {
+            builder.withData("lastRunStartedAt", statistics.lastRunStartedAt().toString());
+        }
+        if (statistics.lastRunFinishedAt() != null) {
+            builder.withData("lastRunFinishedAt", statistics.lastRunFinishedAt().toString());
+        }
+        return builder.build();
+    }
+}
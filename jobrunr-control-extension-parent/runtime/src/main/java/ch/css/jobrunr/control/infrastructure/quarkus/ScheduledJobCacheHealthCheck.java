@@ -0,0 +1,39 @@
+package ch.css.jobrunr.control.infrastructure.quarkus;
+
+import ch.css.jobrunr.control.infrastructure.jobrunr.scheduler.ScheduledJobCache;
+import io.smallrye.health.api.Wellness;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+
+import java.util.Locale;
+
+/**
+ * Reports the hits, misses and invalidations of the scheduled job cache under {@code /q/health/well}.
+ * The check is always up; it never affects liveness or readiness.
+ */
+@Wellness
+@ApplicationScoped
+public class ScheduledJobCacheHealthCheck implements HealthCheck {
+
+    private final ScheduledJobCache scheduledJobCache;
+
+    @Inject
+    public ScheduledJobCacheHealthCheck(ScheduledJobCache scheduledJobCache) {
+        this.scheduledJobCache = scheduledJobCache;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        ScheduledJobCache.Statistics statistics = scheduledJobCache.statistics();
+        return HealthCheckResponse.named("jobrunr-control-scheduled-job-cache")
+                .up()
+                .withData("ttl", scheduledJobCache.timeToLive().toString())
+                .withData("hits", statistics.hits())
+                .withData("misses", statistics.misses())
+                .withData("invalidations", statistics.invalidations())
+                .withData("hitRatio", String.format(Locale.ROOT, "%.2f", statistics.hitRatio()))
+                .build();
+    }
+}
@@ -1,32 +1,45 @@
 package ch.css.jobrunr.control.adapter.rest;
 
 import ch.css.jobrunr.control.adapter.rest.dto.BatchProgressDTO;
+import ch.css.jobrunr.control.adapter.rest.dto.JobStatusRequestDTO;
 import ch.css.jobrunr.control.adapter.rest.dto.JobStatusResponse;
 import ch.css.jobrunr.control.adapter.rest.dto.StartJobRequestDTO;
 import ch.css.jobrunr.control.adapter.rest.dto.StartJobResponse;
-import ch.css.jobrunr.control.application.monitoring.GetJobExecutionByIdUseCase;
+import ch.css.jobrunr.control.application.monitoring.GetJobStatusUseCase;
+import ch.css.jobrunr.control.application.monitoring.GetJobStatusesUseCase;
 import ch.css.jobrunr.control.application.scheduling.StartJobUseCase;
 import ch.css.jobrunr.control.domain.BatchProgress;
-import ch.css.jobrunr.control.domain.JobExecutionInfo;
+import ch.css.jobrunr.control.domain.JobExecutionStatusInfo;
 import ch.css.jobrunr.control.domain.JobStatus;
+import ch.css.jobrunr.control.domain.exceptions.JobExecutionException;
 import ch.css.jobrunr.control.domain.exceptions.JobNotFoundException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vertx.core.http.HttpServerResponse;
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,7 +50,16 @@ class JobControlResourceTest {
     private StartJobUseCase startJobUseCase;
 
     @Mock
-    private GetJobExecutionByIdUseCase getJobExecutionByIdUseCase;
+    private GetJobStatusUseCase getJobStatusUseCase;
+
+    @Mock
+    private GetJobStatusesUseCase getJobStatusesUseCase;
+
+    @Mock
+    private HttpServerResponse httpResponse;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
 
     @InjectMocks
     private JobControlResource resource;
@@ -169,7 +191,7 @@ class JobControlResourceTest {
         // Arrange
         UUID jobId = UUID.randomUUID();
         Instant startedAt = Instant.now();
-        JobExecutionInfo executionInfo = new JobExecutionInfo(
+        JobExecutionStatusInfo executionInfo = new JobExecutionStatusInfo(
                 jobId,
                 "Test Job",
                 "TestJobType",
@@ -177,14 +199,11 @@ class JobControlResourceTest {
                 startedAt,
                 null,              // finishedAt
                 null,              // batchProgress
-                Map.of(),          // parameters
-                Map.of(),          // metadata
                 null,              // result
-                null,              // resultCode
-                null               // resultStatusOverride
+                null               // resultCode
         );
 
-        when(getJobExecutionByIdUseCase.execute(jobId)).thenReturn(executionInfo);
+        when(getJobStatusUseCase.execute(jobId)).thenReturn(executionInfo);
 
         // Act
         Response response = resource.getJobStatus(jobId);
@@ -209,7 +228,7 @@ class JobControlResourceTest {
         // Arrange
         UUID jobId = UUID.randomUUID();
 
-        when(getJobExecutionByIdUseCase.execute(jobId))
+        when(getJobStatusUseCase.execute(jobId))
                 .thenThrow(new JobNotFoundException("Job not found: " + jobId));
 
         // Act & Assert
@@ -226,7 +245,7 @@ class JobControlResourceTest {
         Instant startedAt = Instant.now();
         BatchProgress batchProgress = new BatchProgress(100, 75, 5);
 
-        JobExecutionInfo executionInfo = new JobExecutionInfo(
+        JobExecutionStatusInfo executionInfo = new JobExecutionStatusInfo(
                 jobId,
                 "Batch Job",
                 "BatchJobType",
@@ -234,14 +253,11 @@ class JobControlResourceTest {
                 startedAt,
                 null,              // finishedAt
                 batchProgress,     // batchProgress
-                Map.of(),          // parameters
-                Map.of(),          // metadata
                 null,              // result
-                null,              // resultCode
-                null               // resultStatusOverride
+                null               // resultCode
         );
 
-        when(getJobExecutionByIdUseCase.execute(jobId)).thenReturn(executionInfo);
+        when(getJobStatusUseCase.execute(jobId)).thenReturn(executionInfo);
 
         // Act
         Response response = resource.getJobStatus(jobId);
@@ -257,4 +273,117 @@ class JobControlResourceTest {
         assertThat(progressDTO.pending()).isEqualTo(20);
         assertThat(progressDTO.progress()).isEqualTo(80.0);
     }
+
+    @Test
+    @DisplayName("POST /jobs/status should stream the statuses as a JSON array")
+    void getJobStatuses_ValidJobIds_StreamsJsonArray() throws Exception {
+        // Arrange
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        JobExecutionStatusInfo first = new JobExecutionStatusInfo(
+                firstId, "First Job", "TestJobType", JobStatus.SUCCEEDED, Instant.parse("2026-01-01T10:00:00Z"),
+                Instant.parse("2026-01-01T10:05:00Z"), null, "done", 0);
+        JobExecutionStatusInfo second = new JobExecutionStatusInfo(
+                secondId, "Batch Job", "BatchJobType", JobStatus.PROCESSING, null, null,
+                new BatchProgress(100, 75, 5), null, null);
+
+        when(getJobStatusesUseCase.execute(List.of(firstId, secondId))).thenReturn(Stream.of(List.of(first, second)));
+
+        // Act
+        Response response = resource.getJobStatuses(new JobStatusRequestDTO(List.of(firstId, secondId)), httpResponse);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(output);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(200);
+        JsonNode statuses = objectMapper.readTree(output.toByteArray());
+        assertThat(statuses.isArray()).isTrue();
+        assertThat(statuses).hasSize(2);
+        assertThat(statuses.get(0).get("jobId").asText()).isEqualTo(firstId.toString());
+        assertThat(statuses.get(0).get("finishedAt").asText()).isEqualTo("2026-01-01T10:05:00Z");
+        assertThat(statuses.get(0).get("resultCode").asInt()).isZero();
+        assertThat(statuses.get(1).get("status").asText()).isEqualTo("PROCESSING");
+        assertThat(statuses.get(1).has("finishedAt")).isFalse();
+        assertThat(statuses.get(1).get("batchProgress").get("total").asLong()).isEqualTo(100);
+        verifyNoInteractions(httpResponse);
+    }
+
+    @Test
+    @DisplayName("POST /jobs/status should stream an empty array when no job exists")
+    void getJobStatuses_NoJobFound_StreamsEmptyArray() throws Exception {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        when(getJobStatusesUseCase.execute(List.of(jobId))).thenReturn(Stream.empty());
+
+        // Act
+        Response response = resource.getJobStatuses(new JobStatusRequestDTO(List.of(jobId)), httpResponse);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(output);
+
+        // Assert
+        assertThat(output.toString()).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("POST /jobs/status without body should throw BadRequestException")
+    void getJobStatuses_MissingBody_ThrowsBadRequestException() {
+        // Act & Assert
+        assertThatThrownBy(() -> resource.getJobStatuses(null, httpResponse))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("jobIds is required");
+        verifyNoInteractions(getJobStatusesUseCase);
+    }
+
+    @Test
+    @DisplayName("POST /jobs/status should reject invalid job IDs before streaming")
+    void getJobStatuses_InvalidJobIds_ThrowsBeforeStreaming() {
+        // Arrange
+        List<UUID> jobIds = List.of(UUID.randomUUID());
+        when(getJobStatusesUseCase.execute(jobIds)).thenThrow(new IllegalArgumentException("At most 5000 jobIds are allowed per request"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> resource.getJobStatuses(new JobStatusRequestDTO(jobIds), httpResponse))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("At most");
+    }
+
+    @Test
+    @DisplayName("POST /jobs/status should fail before streaming when the first jobs cannot be read")
+    void getJobStatuses_StorageFailure_ThrowsBeforeStreaming() {
+        // Arrange
+        List<UUID> jobIds = List.of(UUID.randomUUID());
+        when(getJobStatusesUseCase.execute(jobIds)).thenReturn(Stream.generate(() -> {
+            throw new JobExecutionException("Error retrieving job " + jobIds.getFirst());
+        }));
+
+        // Act & Assert
+        assertThatThrownBy(() -> resource.getJobStatuses(new JobStatusRequestDTO(jobIds), httpResponse))
+                .isInstanceOf(JobExecutionException.class);
+    }
+
+    @Test
+    @DisplayName("POST /jobs/status should abort the connection when a later chunk cannot be read")
+    void getJobStatuses_StorageFailureOnSecondChunk_AbortsConnection() throws Exception {
+        // Arrange
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        JobExecutionStatusInfo first = new JobExecutionStatusInfo(
+                firstId, "First Job", "TestJobType", JobStatus.SUCCEEDED, null, null, null, null, null);
+        when(getJobStatusesUseCase.execute(List.of(firstId, secondId))).thenReturn(Stream.of(1, 2).map(chunk -> {
+            if (chunk == 2) {
+                throw new JobExecutionException("Error retrieving job " + secondId);
+            }
+            return List.of(first);
+        }));
+
+        // Act
+        Response response = resource.getJobStatuses(new JobStatusRequestDTO(List.of(firstId, secondId)), httpResponse);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(output);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(output.toString()).startsWith("[").contains(firstId.toString()).doesNotEndWith("]");
+        verify(httpResponse).reset();
+    }
 }
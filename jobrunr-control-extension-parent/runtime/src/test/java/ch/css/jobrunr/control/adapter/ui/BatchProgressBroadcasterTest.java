@@ -0,0 +1,165 @@
+package ch.css.jobrunr.control.adapter.ui;
+
+import ch.css.jobrunr.control.application.monitoring.GetBatchProgressUseCase;
+import ch.css.jobrunr.control.domain.BatchProgress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchProgressBroadcaster")
+class BatchProgressBroadcasterTest {
+
+    @Mock
+    private GetBatchProgressUseCase getBatchProgressUseCase;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    @Mock
+    private ScheduledFuture<Object> poller;
+
+    private BatchProgressBroadcaster broadcaster;
+
+    private final UUID jobId = UUID.randomUUID();
+
+    private final List<Runnable> pollTasks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().doReturn(poller).when(scheduler).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+        broadcaster = new BatchProgressBroadcaster(getBatchProgressUseCase,
+                progress -> progress.getProcessed() + "/" + progress.total(), scheduler, pollTasks::add, Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("should poll a batch once for all subscribers and push the progress to each of them")
+    void poll_TwoSubscribers_ReadsProgressOnce() {
+        // Given
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        broadcaster.subscribe(jobId, (id, html) -> first.add(html));
+        broadcaster.subscribe(jobId, (id, html) -> second.add(html));
+        when(getBatchProgressUseCase.execute(jobId)).thenReturn(Optional.of(new BatchProgress(10, 3, 1)));
+
+        // When
+        broadcaster.poll(jobId);
+
+        // Then
+        assertThat(first).containsExactly("4/10");
+        assertThat(second).containsExactly("4/10");
+        verify(getBatchProgressUseCase, times(1)).execute(jobId);
+        verify(scheduler, times(1)).scheduleWithFixedDelay(any(), eq(0L), eq(2000L), any());
+    }
+
+    @Test
+    @DisplayName("should push only changed progress and send the last progress to new subscribers")
+    void poll_UnchangedProgress_IsNotPushedAgain() {
+        // Given
+        List<String> pushed = new ArrayList<>();
+        broadcaster.subscribe(jobId, (id, html) -> pushed.add(html));
+        when(getBatchProgressUseCase.execute(jobId)).thenReturn(
+                Optional.of(new BatchProgress(10, 3, 1)),
+                Optional.of(new BatchProgress(10, 3, 1)),
+                Optional.empty());
+
+        // When
+        broadcaster.poll(jobId);
+        broadcaster.poll(jobId);
+        List<String> late = new ArrayList<>();
+        broadcaster.subscribe(jobId, (id, html) -> late.add(html));
+        broadcaster.poll(jobId);
+
+        // Then
+        assertThat(pushed).containsExactly("4/10", BatchProgressBroadcaster.NO_BATCH_HTML);
+        assertThat(late).containsExactly("4/10", BatchProgressBroadcaster.NO_BATCH_HTML);
+    }
+
+    @Test
+    @DisplayName("should stop polling a batch when its last subscriber leaves")
+    void unsubscribe_LastSubscriber_StopsPoller() {
+        // Given
+        Runnable first = broadcaster.subscribe(jobId, (id, html) -> {
+        });
+        Runnable second = broadcaster.subscribe(jobId, (id, html) -> {
+        });
+
+        // When
+        first.run();
+        first.run();
+
+        // Then
+        assertThat(broadcaster.watchedBatches()).isEqualTo(1);
+        verify(poller, never()).cancel(anyBoolean());
+
+        // When
+        second.run();
+
+        // Then
+        assertThat(broadcaster.watchedBatches()).isZero();
+        verify(poller).cancel(false);
+    }
+
+    @Test
+    @DisplayName("should keep pushing to other subscribers when one fails")
+    void poll_FailingSubscriber_OthersReceiveProgress() {
+        // Given
+        List<String> pushed = new ArrayList<>();
+        broadcaster.subscribe(jobId, (id, html) -> {
+            throw new IllegalStateException("Client gone");
+        });
+        broadcaster.subscribe(jobId, (id, html) -> pushed.add(html));
+        when(getBatchProgressUseCase.execute(jobId)).thenReturn(Optional.of(new BatchProgress(2, 2, 0)));
+
+        // When
+        broadcaster.poll(jobId);
+
+        // Then
+        assertThat(pushed).containsExactly("2/2");
+    }
+
+    @Test
+    @DisplayName("should poll on the poll executor and skip ticks while the previous poll of the batch is running")
+    void tick_PreviousPollRunning_SkipsPoll() {
+        // Given
+        ArgumentCaptor<Runnable> tick = ArgumentCaptor.forClass(Runnable.class);
+        List<String> pushed = new ArrayList<>();
+        broadcaster.subscribe(jobId, (id, html) -> pushed.add(html));
+        verify(scheduler).scheduleWithFixedDelay(tick.capture(), anyLong(), anyLong(), any());
+        when(getBatchProgressUseCase.execute(jobId)).thenReturn(Optional.of(new BatchProgress(10, 3, 1)));
+
+        // When
+        tick.getValue().run();
+        tick.getValue().run();
+
+        // Then
+        assertThat(pollTasks).hasSize(1);
+        verify(getBatchProgressUseCase, never()).execute(jobId);
+
+        // When
+        pollTasks.getFirst().run();
+        tick.getValue().run();
+
+        // Then
+        assertThat(pushed).containsExactly("4/10");
+        assertThat(pollTasks).hasSize(2);
+    }
+}
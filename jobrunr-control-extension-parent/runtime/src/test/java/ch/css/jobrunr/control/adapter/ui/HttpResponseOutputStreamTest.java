@@ -0,0 +1,111 @@
+package ch.css.jobrunr.control.adapter.ui;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HttpResponseOutputStream")
+class HttpResponseOutputStreamTest {
+
+    @Mock
+    private HttpServerResponse response;
+
+    @Test
+    @DisplayName("should buffer small writes and send them as one chunk on close")
+    void close_BufferedBytes_WritesOneChunkAndEndsResponse() throws Exception {
+        // Given
+        HttpResponseOutputStream stream = new HttpResponseOutputStream(response);
+
+        // When
+        stream.write("a,b\r\n".getBytes(StandardCharsets.UTF_8));
+        stream.write("c,d\r\n".getBytes(StandardCharsets.UTF_8));
+        stream.close();
+
+        // Then
+        ArgumentCaptor<Buffer> chunk = ArgumentCaptor.forClass(Buffer.class);
+        verify(response).write(chunk.capture());
+        assertThat(chunk.getValue().toString(StandardCharsets.UTF_8)).isEqualTo("a,b\r\nc,d\r\n");
+        verify(response).end();
+    }
+
+    @Test
+    @DisplayName("should split large writes into chunks")
+    void write_MoreThanOneChunk_WritesFullChunks() throws Exception {
+        // Given
+        HttpResponseOutputStream stream = new HttpResponseOutputStream(response);
+
+        // When
+        stream.write(new byte[HttpResponseOutputStream.CHUNK_SIZE * 2 + 1]);
+
+        // Then
+        ArgumentCaptor<Buffer> chunk = ArgumentCaptor.forClass(Buffer.class);
+        verify(response, times(2)).write(chunk.capture());
+        assertThat(chunk.getAllValues()).allSatisfy(buffer -> assertThat(buffer.length()).isEqualTo(HttpResponseOutputStream.CHUNK_SIZE));
+    }
+
+    @Test
+    @DisplayName("should wait for the drain handler while the write queue is full")
+    @SuppressWarnings("unchecked")
+    void flush_WriteQueueFull_WaitsForDrain() throws Exception {
+        // Given
+        HttpResponseOutputStream stream = new HttpResponseOutputStream(response);
+        when(response.writeQueueFull()).thenReturn(true, true, false);
+        when(response.drainHandler(any())).thenAnswer(invocation -> {
+            Handler<Void> handler = invocation.getArgument(0);
+            if (handler != null) {
+                handler.handle(null);
+            }
+            return response;
+        });
+        stream.write('x');
+
+        // When
+        stream.flush();
+
+        // Then
+        verify(response).write(any(Buffer.class));
+        verify(response).drainHandler(null);
+    }
+
+    @Test
+    @DisplayName("should fail when the client closed the connection")
+    void flush_ClientClosed_ThrowsIOException() throws Exception {
+        // Given
+        HttpResponseOutputStream stream = new HttpResponseOutputStream(response);
+        when(response.closed()).thenReturn(true);
+        stream.write('x');
+
+        // When / Then
+        assertThatThrownBy(stream::flush).isInstanceOf(IOException.class);
+        verify(response, never()).write(any(Buffer.class));
+    }
+
+    @Test
+    @DisplayName("should reset an unfinished response on abort")
+    void abort_UnfinishedResponse_ResetsResponse() {
+        // Given
+        HttpResponseOutputStream stream = new HttpResponseOutputStream(response);
+
+        // When
+        stream.abort();
+
+        // Then
+        verify(response).reset();
+        assertThatThrownBy(() -> stream.write('x')).isInstanceOf(IOException.class);
+    }
+}
@@ -1,8 +1,14 @@
 package ch.css.jobrunr.control.adapter.ui;
 
+import ch.css.jobrunr.control.domain.JobExecutionCursor;
+import ch.css.jobrunr.control.domain.JobExecutionSortKey;
+import ch.css.jobrunr.control.domain.details.JobMessageCursor;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -93,4 +99,112 @@ class PaginationHelperTest {
         assertTrue(result.pageItems().isEmpty());
         assertEquals(0L, result.metadata().totalElements());
     }
+
+    @Test
+    void shouldWrapPreloadedPage() {
+        List<String> pageItems = List.of("K", "L", "M", "N", "O");
+
+        PaginationHelper.PaginationResult<String> result = PaginationHelper.ofPage(pageItems, 2, 5, 42);
+
+        assertEquals(pageItems, result.pageItems());
+        assertEquals(2, result.metadata().page());
+        assertEquals(42L, result.metadata().totalElements());
+        assertEquals(9, result.metadata().totalPages());
+        assertEquals(11, result.metadata().startItem());
+        assertEquals(15, result.metadata().endItem());
+        assertEquals(5, result.pageRange().size());
+    }
+
+    @Test
+    void shouldPageAfterAnchorItem() {
+        List<UUID> items = uuids(7);
+
+        PaginationHelper.PaginationResult<UUID> result = PaginationHelper.paginate(items, 0, 3, id -> id, items.get(2), false);
+
+        assertEquals(items.subList(3, 6), result.pageItems());
+        assertEquals(1, result.metadata().page());
+        assertTrue(result.metadata().hasPrevious());
+        assertTrue(result.metadata().hasNext());
+        assertEquals(4, result.metadata().startItem());
+        assertEquals(items.get(3).toString(), result.cursors().previous());
+        assertEquals(items.get(5).toString(), result.cursors().next());
+    }
+
+    @Test
+    void shouldPageBeforeAnchorItem() {
+        List<UUID> items = uuids(7);
+
+        PaginationHelper.PaginationResult<UUID> result = PaginationHelper.paginate(items, 1, 3, id -> id, items.get(3), true);
+
+        assertEquals(items.subList(0, 3), result.pageItems());
+        assertEquals(0, result.metadata().page());
+        assertFalse(result.metadata().hasPrevious());
+    }
+
+    @Test
+    void shouldExcludeAnchorWhenPagingBackwardAndForwardAcrossStartOfList() {
+        List<UUID> items = uuids(7);
+
+        PaginationHelper.PaginationResult<UUID> backward = PaginationHelper.paginate(items, 1, 3, id -> id, items.get(1), true);
+
+        assertEquals(items.subList(0, 1), backward.pageItems());
+        assertEquals(0, backward.metadata().page());
+        assertFalse(backward.metadata().hasPrevious());
+
+        PaginationHelper.PaginationResult<UUID> forward = PaginationHelper.paginate(items, 0, 3, id -> id,
+                UUID.fromString(backward.cursors().next()), false);
+
+        assertEquals(items.subList(1, 4), forward.pageItems());
+        assertTrue(forward.metadata().hasPrevious());
+
+        PaginationHelper.PaginationResult<UUID> first = PaginationHelper.paginate(items, 0, 3, id -> id, items.getFirst(), true);
+
+        assertTrue(first.pageItems().isEmpty());
+    }
+
+    @Test
+    void shouldFallBackToPageNumberIfAnchorIsGone() {
+        List<UUID> items = uuids(7);
+
+        PaginationHelper.PaginationResult<UUID> result = PaginationHelper.paginate(items, 2, 3, id -> id, UUID.randomUUID(), false);
+
+        assertEquals(items.subList(6, 7), result.pageItems());
+        assertFalse(result.metadata().hasNext());
+    }
+
+    @Test
+    void shouldRoundTripExecutionCursor() {
+        JobExecutionCursor cursor = new JobExecutionCursor(JobExecutionSortKey.JOB_NAME, "Report | Q1", UUID.randomUUID(), false);
+
+        String token = PaginationHelper.encodeCursor(cursor);
+
+        assertEquals(cursor, PaginationHelper.decodeCursor(token, false));
+        assertNull(PaginationHelper.decodeCursor("not-a-cursor", false));
+        assertNull(PaginationHelper.decodeCursor(null, true));
+    }
+
+    @Test
+    void shouldRoundTripMessageCursor() {
+        JobMessageCursor cursor = new JobMessageCursor(Instant.parse("2026-05-26T10:15:30.123456Z"), 4711L);
+
+        String token = PaginationHelper.encodeMessageCursor(cursor);
+
+        assertEquals(cursor, PaginationHelper.decodeMessageCursor(token));
+        assertNull(PaginationHelper.encodeMessageCursor(null));
+        assertNull(PaginationHelper.decodeMessageCursor("not-a-cursor"));
+        assertNull(PaginationHelper.decodeMessageCursor(" "));
+    }
+
+    @Test
+    void shouldClampKeysetPageToLastPage() {
+        PaginationHelper.PaginationResult<String> result = PaginationHelper.ofKeysetPage(
+                List.of("A"), 5, 10, 12, new PaginationHelper.PageCursors("prev", "next"));
+
+        assertEquals(1, result.metadata().page());
+        assertEquals("next", result.cursors().next());
+    }
+
+    private static List<UUID> uuids(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID()).toList();
+    }
 }
@@ -86,5 +86,47 @@ class GetJobDetailsMessageUseCaseTest {
         verify(jobMessageProvider).searchJobMessages(jobId, JobMessageLevelSearch.ALL, "hello", JobMessageSortOrder.NEWEST_FIRST, 0, 10);
         verify(storageProvider, never()).getJobList(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any());
     }
-}
 
+    @Test
+    @DisplayName("should page providers without cursor support by the number of returned messages")
+    void execute_ProviderWithoutCursorSupport_PagesByReturnedMessages() {
+        UUID jobId = UUID.randomUUID();
+        String jobType = "ComplexDemoJob";
+        JobDefinition jobDefinition = new JobDefinition(
+                jobType,
+                true,
+                "requestType",
+                "handlerClass",
+                List.of(),
+                List.of(),
+                new JobSettings("Complex Demo Job", false, 3, List.of(), List.of(), "", "", "", "", "", "", "", null),
+                false,
+                null,
+                List.of(),
+                new JobDetailPage(null, "complex-demo-message-provider", "", true, true)
+        );
+        JobMessageProvider offsetProvider = mock(JobMessageProvider.class, CALLS_REAL_METHODS);
+        JobMessage message = new JobMessage(Instant.parse("2026-05-26T10:15:30Z"), null, JobMessageLevel.INFO, "hello", null);
+
+        when(storageProvider.getJobById(jobId)).thenReturn(batchJob);
+        when(batchJob.isBatchJob()).thenReturn(true);
+        when(jobDefinitionDiscoveryService.requireJobByType(jobType)).thenReturn(jobDefinition);
+        when(jobDetailsProviderRegistry.getMessageProvider("complex-demo-message-provider")).thenReturn(offsetProvider);
+        doReturn(new JobMessagesPaged(List.of(message), 25, 1, 10))
+                .when(offsetProvider).searchJobMessages(jobId, JobMessageLevelSearch.ALL, null, JobMessageSortOrder.OLDEST_FIRST, 1, 10);
+
+        JobMessagesSlice result = useCase.execute(
+                jobId,
+                jobType,
+                JobMessageLevelSearch.ALL,
+                null,
+                JobMessageSortOrder.OLDEST_FIRST,
+                new JobMessageCursor(Instant.parse("2026-05-26T10:15:00Z"), 10),
+                10
+        );
+
+        assertThat(result.messages()).containsExactly(message);
+        assertThat(result.totalMessages()).isEqualTo(25);
+        assertThat(result.nextCursor()).isEqualTo(new JobMessageCursor(message.createdAt(), 11));
+    }
+}
@@ -0,0 +1,170 @@
+package ch.css.jobrunr.control.application.details;
+
+import ch.css.jobrunr.control.domain.JobDefinition;
+import ch.css.jobrunr.control.domain.JobDefinitionDiscoveryService;
+import ch.css.jobrunr.control.domain.JobDetailPage;
+import ch.css.jobrunr.control.domain.JobSettings;
+import ch.css.jobrunr.control.domain.details.*;
+import org.jobrunr.jobs.BatchJob;
+import org.jobrunr.storage.StorageProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetJobDetailsMessagesAsCsvUseCase")
+class GetJobDetailsMessagesAsCsvUseCaseTest {
+
+    private static final String JOB_TYPE = "ComplexDemoJob";
+
+    @Mock
+    private StorageProvider storageProvider;
+
+    @Mock
+    private JobDefinitionDiscoveryService jobDefinitionDiscoveryService;
+
+    @Mock
+    private JobDetailsProviderRegistry jobDetailsProviderRegistry;
+
+    @Mock
+    private JobMessageProvider jobMessageProvider;
+
+    @Mock
+    private BatchJob batchJob;
+
+    @InjectMocks
+    private GetJobDetailsMessagesAsCsvUseCase useCase;
+
+    private final UUID jobId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(storageProvider.getJobById(jobId)).thenReturn(batchJob);
+        lenient().when(batchJob.isBatchJob()).thenReturn(true);
+        lenient().when(jobDefinitionDiscoveryService.requireJobByType(JOB_TYPE)).thenReturn(jobDefinition());
+    }
+
+    @Test
+    @DisplayName("should write each streamed message as an escaped CSV row")
+    void execute_StreamedMessages_WritesEscapedRows() throws Exception {
+        // Given
+        UUID childId = UUID.randomUUID();
+        JobMessage plain = new JobMessage(Instant.parse("2026-05-26T10:15:30Z"), childId, JobMessageLevel.INFO, "done", null);
+        JobMessage quoted = new JobMessage(Instant.parse("2026-05-26T10:15:31Z"), null, JobMessageLevel.ERROR,
+                "failed, \"badly\"", "line 1\nline 2");
+        when(jobDetailsProviderRegistry.getMessageProvider("complex-demo-message-provider")).thenReturn(jobMessageProvider);
+        doAnswer(invocation -> {
+            Consumer<JobMessage> consumer = invocation.getArgument(4);
+            consumer.accept(plain);
+            consumer.accept(quoted);
+            return null;
+        }).when(jobMessageProvider).forEachJobMessage(eq(jobId), eq(JobMessageLevelSearch.ALL), eq("needle"),
+                eq(JobMessageSortOrder.OLDEST_FIRST), any());
+        StringWriter writer = new StringWriter();
+
+        // When
+        long exported = useCase.execute(jobId, JOB_TYPE, JobMessageLevelSearch.ALL, "needle", JobMessageSortOrder.OLDEST_FIRST, writer);
+
+        // Then
+        assertThat(exported).isEqualTo(2);
+        String[] lines = writer.toString().split("\r\n");
+        assertThat(lines[0]).isEqualTo("Zeitstempel,Level,jobId,Message,StackTrace");
+        assertThat(lines[1]).isEqualTo(plain.createdAtFormatted() + ",INFO," + childId + ",done,");
+        assertThat(lines[2]).isEqualTo(quoted.createdAtFormatted() + ",ERROR,,\"failed, \"\"badly\"\"\",\"line 1\nline 2\"");
+    }
+
+    @Test
+    @DisplayName("should follow the cursors of providers without streaming support")
+    void execute_ProviderWithoutStreamingSupport_FollowsCursors() throws Exception {
+        // Given
+        JobMessageProvider sliceProvider = mock(JobMessageProvider.class, CALLS_REAL_METHODS);
+        JobMessage first = new JobMessage(Instant.parse("2026-05-26T10:15:30Z"), null, JobMessageLevel.INFO, "first", null);
+        JobMessage second = new JobMessage(Instant.parse("2026-05-26T10:15:31Z"), null, JobMessageLevel.INFO, "second", null);
+        JobMessageCursor cursor = new JobMessageCursor(first.createdAt(), 1);
+        when(jobDetailsProviderRegistry.getMessageProvider("complex-demo-message-provider")).thenReturn(sliceProvider);
+        doReturn(new JobMessagesSlice(List.of(first), cursor, 2))
+                .when(sliceProvider).searchJobMessagesAfter(jobId, JobMessageLevelSearch.ALL, null, JobMessageSortOrder.OLDEST_FIRST,
+                        null, JobMessageProvider.EXPORT_SLICE_SIZE);
+        doReturn(new JobMessagesSlice(List.of(second), null, 2))
+                .when(sliceProvider).searchJobMessagesAfter(jobId, JobMessageLevelSearch.ALL, null, JobMessageSortOrder.OLDEST_FIRST,
+                        cursor, JobMessageProvider.EXPORT_SLICE_SIZE);
+        StringWriter writer = new StringWriter();
+
+        // When
+        long exported = useCase.execute(jobId, JOB_TYPE, JobMessageLevelSearch.ALL, null, JobMessageSortOrder.OLDEST_FIRST, writer);
+
+        // Then
+        assertThat(exported).isEqualTo(2);
+        assertThat(writer.toString()).contains(",first,\r\n").endsWith(",second,\r\n");
+        verify(sliceProvider, never()).searchJobMessages(any(), any(), any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("should stop the export and rethrow when writing fails")
+    void execute_WriterFails_RethrowsIOException() throws Exception {
+        // Given
+        JobMessage message = new JobMessage(Instant.parse("2026-05-26T10:15:30Z"), null, JobMessageLevel.INFO, "hello", null);
+        when(jobDetailsProviderRegistry.getMessageProvider("complex-demo-message-provider")).thenReturn(jobMessageProvider);
+        doAnswer(invocation -> {
+            Consumer<JobMessage> consumer = invocation.getArgument(4);
+            consumer.accept(message);
+            consumer.accept(message);
+            return null;
+        }).when(jobMessageProvider).forEachJobMessage(any(), any(), any(), any(), any());
+        Writer writer = mock(Writer.class);
+        doNothing().doThrow(new IOException("Broken pipe")).when(writer).write(anyString());
+
+        // When / Then
+        assertThatThrownBy(() -> useCase.execute(jobId, JOB_TYPE, JobMessageLevelSearch.ALL, null, JobMessageSortOrder.OLDEST_FIRST, writer))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+    }
+
+    @Test
+    @DisplayName("should reject jobs that are not batch jobs before writing")
+    void execute_NoBatchJob_ThrowsWithoutWriting() {
+        // Given
+        when(batchJob.isBatchJob()).thenReturn(false);
+        StringWriter writer = new StringWriter();
+
+        // When / Then
+        assertThatThrownBy(() -> useCase.execute(jobId, JOB_TYPE, JobMessageLevelSearch.ALL, null, JobMessageSortOrder.OLDEST_FIRST, writer))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(writer.toString()).isEmpty();
+    }
+
+    private JobDefinition jobDefinition() {
+        return new JobDefinition(
+                JOB_TYPE,
+                true,
+                "requestType",
+                "handlerClass",
+                List.of(),
+                List.of(),
+                new JobSettings("Complex Demo Job", false, 3, List.of(), List.of(), "", "", "", "", "", "", "", null),
+                false,
+                null,
+                List.of(),
+                new JobDetailPage(null, "complex-demo-message-provider", "", true, true)
+        );
+    }
+}
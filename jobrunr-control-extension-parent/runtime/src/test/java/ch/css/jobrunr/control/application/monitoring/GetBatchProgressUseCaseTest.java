@@ -0,0 +1,92 @@
+package ch.css.jobrunr.control.application.monitoring;
+
+import ch.css.jobrunr.control.domain.JobDefinition;
+import ch.css.jobrunr.control.domain.JobDefinitionDiscoveryService;
+import ch.css.jobrunr.control.domain.JobExecutionInfo;
+import ch.css.jobrunr.control.domain.JobExecutionPort;
+import ch.css.jobrunr.control.domain.JobStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetBatchProgressUseCase")
+class GetBatchProgressUseCaseTest {
+
+    @Mock
+    private JobExecutionPort jobExecutionPort;
+
+    @Mock
+    private JobDefinitionDiscoveryService jobDefinitionDiscoveryService;
+
+    private GetBatchProgressUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetBatchProgressUseCase(jobExecutionPort, jobDefinitionDiscoveryService, Duration.ofSeconds(5));
+        JobDefinition batchDefinition = mock(JobDefinition.class);
+        lenient().when(batchDefinition.isBatchJob()).thenReturn(true);
+        JobDefinition simpleDefinition = mock(JobDefinition.class);
+        lenient().when(jobDefinitionDiscoveryService.findJobByType("BatchJob")).thenReturn(Optional.of(batchDefinition));
+        lenient().when(jobDefinitionDiscoveryService.findJobByType("SimpleJob")).thenReturn(Optional.of(simpleDefinition));
+        lenient().when(jobDefinitionDiscoveryService.findJobByType("UnknownJob")).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("should keep only processing batch jobs")
+    void findRunningBatches_MixedJobs_ReturnsProcessingBatches() {
+        // Arrange
+        UUID running = UUID.randomUUID();
+        UUID finished = UUID.randomUUID();
+        UUID simple = UUID.randomUUID();
+        UUID unknownType = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        List<UUID> jobIds = List.of(running, finished, simple, unknownType, missing);
+        when(jobExecutionPort.getJobExecutionsByIds(jobIds)).thenReturn(List.of(
+                execution(running, "BatchJob", JobStatus.PROCESSING),
+                execution(finished, "BatchJob", JobStatus.SUCCEEDED),
+                execution(simple, "SimpleJob", JobStatus.PROCESSING),
+                execution(unknownType, "UnknownJob", JobStatus.PROCESSING)));
+
+        // Act
+        Set<UUID> result = useCase.findRunningBatches(jobIds);
+
+        // Assert
+        assertThat(result).containsExactly(running);
+    }
+
+    @Test
+    @DisplayName("should not read the storage without job IDs")
+    void findRunningBatches_NoIds_ReturnsEmpty() {
+        // Act
+        Set<UUID> result = useCase.findRunningBatches(List.of());
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(jobExecutionPort, never()).getJobExecutionsByIds(anyList());
+    }
+
+    private static JobExecutionInfo execution(UUID jobId, String jobType, JobStatus status) {
+        return new JobExecutionInfo(jobId, "Job " + jobId, jobType, status, Instant.now(), null, null,
+                Map.of(), Map.of(), null, null, null);
+    }
+}
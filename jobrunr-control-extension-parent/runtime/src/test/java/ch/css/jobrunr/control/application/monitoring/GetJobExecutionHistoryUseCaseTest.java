@@ -1,7 +1,15 @@
 package ch.css.jobrunr.control.application.monitoring;
 
+import ch.css.jobrunr.control.domain.BusinessStatus;
+import ch.css.jobrunr.control.domain.JobExecutionIndexPort;
+import ch.css.jobrunr.control.domain.JobExecutionCursor;
 import ch.css.jobrunr.control.domain.JobExecutionInfo;
+import ch.css.jobrunr.control.domain.JobExecutionPage;
 import ch.css.jobrunr.control.domain.JobExecutionPort;
+import ch.css.jobrunr.control.domain.JobExecutionQuery;
+import ch.css.jobrunr.control.domain.JobExecutionSortKey;
+import ch.css.jobrunr.control.domain.JobExecutionSummary;
+import ch.css.jobrunr.control.domain.JobStatus;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,8 +18,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,6 +31,9 @@ class GetJobExecutionHistoryUseCaseTest {
     @Mock
     private JobExecutionPort jobExecutionPort;
 
+    @Mock
+    private JobExecutionIndexPort jobExecutionIndexPort;
+
     @InjectMocks
     private GetJobExecutionHistoryUseCase useCase;
 
@@ -57,4 +70,114 @@ class GetJobExecutionHistoryUseCaseTest {
         // Assert
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("should delegate paged query to port")
+    void execute_WithQuery_DelegatesToPort() {
+        // Arrange
+        JobExecutionQuery query = new JobExecutionQuery(JobStatus.FAILED, null, JobExecutionSortKey.CREATED_AT, false, 2, 10);
+        JobExecutionPage expectedPage = new JobExecutionPage(List.of(mock(JobExecutionInfo.class)), 21, 2, 10);
+        when(jobExecutionPort.supportsSort(JobExecutionSortKey.CREATED_AT)).thenReturn(true);
+        when(jobExecutionPort.getJobExecutions(query)).thenReturn(expectedPage);
+
+        // Act
+        JobExecutionPage result = useCase.execute(query);
+
+        // Assert
+        assertThat(result).isEqualTo(expectedPage);
+        assertThat(query.offset()).isEqualTo(20);
+        verify(jobExecutionPort, never()).getJobExecutions();
+    }
+
+    @Test
+    @DisplayName("should reject a sort the job storage cannot push down when the index is not ready")
+    void execute_UnsupportedSortWithoutIndex_ThrowsException() {
+        // Arrange
+        JobExecutionQuery query = new JobExecutionQuery(null, null, JobExecutionSortKey.FINISHED_AT, false, 0, 10);
+        when(jobExecutionPort.supportsSort(JobExecutionSortKey.FINISHED_AT)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.execute(query))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("FINISHED_AT");
+        verify(jobExecutionPort, never()).getJobExecutions(any(JobExecutionQuery.class));
+    }
+
+    @Test
+    @DisplayName("should offer every sort with the index and only storage sorts without it")
+    void isSortable_DependsOnIndexAndStorage() {
+        // Arrange
+        when(jobExecutionIndexPort.isReady()).thenReturn(false, false, true);
+        when(jobExecutionPort.supportsSort(JobExecutionSortKey.CREATED_AT)).thenReturn(true);
+        when(jobExecutionPort.supportsSort(JobExecutionSortKey.JOB_NAME)).thenReturn(false);
+
+        // Act & Assert
+        assertThat(useCase.isSortable(JobExecutionSortKey.CREATED_AT)).isTrue();
+        assertThat(useCase.isSortable(JobExecutionSortKey.JOB_NAME)).isFalse();
+        assertThat(useCase.isSortable(JobExecutionSortKey.JOB_NAME)).isTrue();
+    }
+
+    @Test
+    @DisplayName("should resolve the page from the execution index when it is ready")
+    void execute_IndexReady_LoadsOnlyPageRowsFromPort() {
+        // Arrange
+        JobExecutionQuery query = new JobExecutionQuery(null, null, JobExecutionSortKey.STARTED_AT, false, 1, 2);
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        List<JobExecutionInfo> pageRows = List.of(mock(JobExecutionInfo.class), mock(JobExecutionInfo.class));
+        when(jobExecutionIndexPort.isReady()).thenReturn(true);
+        when(jobExecutionIndexPort.find(query)).thenReturn(List.of(summary(firstId), summary(secondId)));
+        when(jobExecutionIndexPort.count(null, null)).thenReturn(7L);
+        when(jobExecutionPort.getJobExecutionsByIds(List.of(firstId, secondId))).thenReturn(pageRows);
+
+        // Act
+        JobExecutionPage result = useCase.execute(query);
+
+        // Assert
+        assertThat(result.executions()).isEqualTo(pageRows);
+        assertThat(result.totalElements()).isEqualTo(7);
+        assertThat(result.previous()).isEqualTo(new JobExecutionCursor(JobExecutionSortKey.STARTED_AT, null, firstId, true));
+        assertThat(result.next()).isEqualTo(new JobExecutionCursor(JobExecutionSortKey.STARTED_AT, null, secondId, false));
+        verify(jobExecutionPort, never()).getJobExecutions(query);
+    }
+
+    @Test
+    @DisplayName("should remove executions deleted from the job storage and resolve the page again")
+    void execute_IndexedJobDeleted_EvictsItAndReloadsPage() {
+        // Arrange
+        JobExecutionQuery query = new JobExecutionQuery(null, null, JobExecutionSortKey.STARTED_AT, false, 0, 2);
+        UUID deletedId = UUID.randomUUID();
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        JobExecutionInfo first = mock(JobExecutionInfo.class);
+        JobExecutionInfo second = mock(JobExecutionInfo.class);
+        when(first.jobId()).thenReturn(firstId);
+        when(jobExecutionIndexPort.isReady()).thenReturn(true);
+        when(jobExecutionIndexPort.find(query))
+                .thenReturn(List.of(summary(deletedId), summary(firstId)))
+                .thenReturn(List.of(summary(firstId), summary(secondId)));
+        when(jobExecutionPort.getJobExecutionsByIds(List.of(deletedId, firstId))).thenReturn(List.of(first));
+        when(jobExecutionPort.getJobExecutionsByIds(List.of(firstId, secondId))).thenReturn(List.of(first, second));
+        when(jobExecutionIndexPort.count(null, null)).thenReturn(2L);
+
+        // Act
+        JobExecutionPage result = useCase.execute(query);
+
+        // Assert
+        assertThat(result.executions()).containsExactly(first, second);
+        assertThat(result.totalElements()).isEqualTo(2);
+        verify(jobExecutionIndexPort).remove(deletedId);
+        verify(jobExecutionIndexPort, never()).remove(firstId);
+    }
+
+    @Test
+    @DisplayName("should reject null query")
+    void execute_NullQuery_ThrowsException() {
+        assertThatThrownBy(() -> useCase.execute((JobExecutionQuery) null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static JobExecutionSummary summary(UUID jobId) {
+        return new JobExecutionSummary(jobId, "Report", "ReportJob", JobStatus.SUCCEEDED, null, null, null, BusinessStatus.NONE, false);
+    }
 }
@@ -0,0 +1,70 @@
+package ch.css.jobrunr.control.application.monitoring;
+
+import ch.css.jobrunr.control.domain.JobExecutionStatusInfo;
+import ch.css.jobrunr.control.domain.JobStatus;
+import ch.css.jobrunr.control.domain.JobExecutionPort;
+import ch.css.jobrunr.control.domain.exceptions.JobNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetJobStatusUseCase")
+class GetJobStatusUseCaseTest {
+
+    @Mock
+    private JobExecutionPort jobExecutionPort;
+
+    @InjectMocks
+    private GetJobStatusUseCase useCase;
+
+    @Test
+    @DisplayName("should return chain-evaluated status projection when job exists")
+    void execute_ExistingExecution_ReturnsExecution() {
+        // Arrange
+        UUID executionId = UUID.randomUUID();
+        JobExecutionStatusInfo expectedExecution = new JobExecutionStatusInfo(
+                executionId, "Test Job", "TestJobType", JobStatus.SUCCEEDED, null, null, null, "done", 0);
+        when(jobExecutionPort.getJobChainStatusById(executionId)).thenReturn(Optional.of(expectedExecution));
+
+        // Act
+        JobExecutionStatusInfo result = useCase.execute(executionId);
+
+        // Assert
+        assertThat(result).isEqualTo(expectedExecution);
+        verify(jobExecutionPort).getJobChainStatusById(executionId);
+    }
+
+    @Test
+    @DisplayName("should throw JobNotFoundException when execution not found")
+    void execute_NonExistentExecution_ThrowsException() {
+        // Arrange
+        UUID executionId = UUID.randomUUID();
+        when(jobExecutionPort.getJobChainStatusById(executionId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.execute(executionId))
+                .isInstanceOf(JobNotFoundException.class)
+                .hasMessageContaining("Job with ID")
+                .hasMessageContaining(executionId.toString());
+    }
+
+    @Test
+    @DisplayName("should throw IllegalArgumentException when jobId is null")
+    void execute_NullJobId_ThrowsException() {
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.execute(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("jobId must not be null");
+    }
+}
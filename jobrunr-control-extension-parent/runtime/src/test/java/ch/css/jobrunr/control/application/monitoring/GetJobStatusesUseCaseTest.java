@@ -0,0 +1,111 @@
+package ch.css.jobrunr.control.application.monitoring;
+
+import ch.css.jobrunr.control.domain.JobExecutionPort;
+import ch.css.jobrunr.control.domain.JobExecutionStatusInfo;
+import ch.css.jobrunr.control.domain.JobStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetJobStatusesUseCase")
+class GetJobStatusesUseCaseTest {
+
+    @Mock
+    private JobExecutionPort jobExecutionPort;
+
+    @InjectMocks
+    private GetJobStatusesUseCase useCase;
+
+    @Test
+    @DisplayName("should return the statuses of all distinct jobs in request order")
+    void execute_DuplicateIds_ReturnsEachStatusOnce() {
+        // Arrange
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        JobExecutionStatusInfo firstStatus = status(first);
+        JobExecutionStatusInfo secondStatus = status(second);
+        when(jobExecutionPort.getJobChainStatusesByIds(List.of(first, second))).thenReturn(List.of(firstStatus, secondStatus));
+
+        // Act
+        List<JobExecutionStatusInfo> result = useCase.execute(List.of(first, second, first)).flatMap(List::stream).toList();
+
+        // Assert
+        assertThat(result).containsExactly(firstStatus, secondStatus);
+    }
+
+    @Test
+    @DisplayName("should load the statuses in chunks while the stream is consumed")
+    void execute_ManyIds_LoadsChunksLazily() {
+        // Arrange
+        List<UUID> jobIds = IntStream.range(0, GetJobStatusesUseCase.CHUNK_SIZE + 1).mapToObj(i -> UUID.randomUUID()).toList();
+        List<List<UUID>> requestedChunks = new ArrayList<>();
+        when(jobExecutionPort.getJobChainStatusesByIds(anyList())).thenAnswer(invocation -> {
+            List<UUID> chunk = invocation.getArgument(0);
+            requestedChunks.add(List.copyOf(chunk));
+            return chunk.stream().map(GetJobStatusesUseCaseTest::status).toList();
+        });
+
+        // Act
+        Stream<List<JobExecutionStatusInfo>> result = useCase.execute(jobIds);
+
+        // Assert
+        assertThat(requestedChunks).isEmpty();
+        assertThat(result.flatMap(List::stream).map(JobExecutionStatusInfo::jobId).toList()).isEqualTo(jobIds);
+        assertThat(requestedChunks).hasSize(2);
+        assertThat(requestedChunks.get(0)).hasSize(GetJobStatusesUseCase.CHUNK_SIZE);
+        assertThat(requestedChunks.get(1)).containsExactly(jobIds.getLast());
+    }
+
+    @Test
+    @DisplayName("should throw IllegalArgumentException when jobIds is null")
+    void execute_NullJobIds_ThrowsException() {
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.execute(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("jobIds must not be null");
+    }
+
+    @Test
+    @DisplayName("should throw IllegalArgumentException when jobIds contains null")
+    void execute_NullJobId_ThrowsException() {
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.execute(Arrays.asList(UUID.randomUUID(), null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("jobIds must not contain null");
+        verifyNoInteractions(jobExecutionPort);
+    }
+
+    @Test
+    @DisplayName("should throw IllegalArgumentException when too many jobIds are requested")
+    void execute_TooManyJobIds_ThrowsException() {
+        // Arrange
+        List<UUID> jobIds = Collections.nCopies(GetJobStatusesUseCase.MAX_JOB_IDS + 1, UUID.randomUUID());
+
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.execute(jobIds))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("At most " + GetJobStatusesUseCase.MAX_JOB_IDS);
+        verifyNoInteractions(jobExecutionPort);
+    }
+
+    private static JobExecutionStatusInfo status(UUID jobId) {
+        return new JobExecutionStatusInfo(jobId, "Test Job", "TestJobType", JobStatus.SUCCEEDED, null, null, null, null, null);
+    }
+}
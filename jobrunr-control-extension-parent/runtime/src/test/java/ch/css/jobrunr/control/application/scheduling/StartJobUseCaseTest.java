@@ -5,6 +5,7 @@ import ch.css.jobrunr.control.domain.JobDefinition;
 import ch.css.jobrunr.control.domain.JobSchedulerPort;
 import ch.css.jobrunr.control.domain.JobSettings;
 import ch.css.jobrunr.control.domain.ScheduledJobInfo;
+import ch.css.jobrunr.control.domain.TemplateCatalogEntry;
 import ch.css.jobrunr.control.application.audit.AuditLoggerHelper;
 import ch.css.jobrunr.control.application.audit.TriggerSource;
 import jakarta.ws.rs.NotFoundException;
@@ -18,6 +19,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -144,6 +146,39 @@ class StartJobUseCaseTest {
         verifyNoInteractions(auditLogger);
     }
 
+    @Test
+    @DisplayName("should resolve a template by name through the template catalog")
+    void execute_TemplateName_ResolvesThroughCatalog() {
+        // Arrange
+        UUID templateId = UUID.randomUUID();
+        UUID newJobId = UUID.randomUUID();
+        when(jobSchedulerPort.findTemplateByName("NightlyExport"))
+                .thenReturn(Optional.of(new TemplateCatalogEntry(templateId, "NightlyExport", "TestJob", false)));
+        when(jobSchedulerPort.getScheduledJobById(templateId))
+                .thenReturn(createJob(templateId, "NightlyExport", List.of("template")));
+        when(templateCloneHelper.cloneTemplate(templateId, null, null, null)).thenReturn(newJobId);
+
+        // Act
+        UUID result = useCase.execute("NightlyExport", null, null, true);
+
+        // Assert
+        assertThat(result).isEqualTo(newJobId);
+        verify(jobSchedulerPort, never()).getScheduledJobs();
+    }
+
+    @Test
+    @DisplayName("should throw NotFoundException when no template has the given name")
+    void execute_UnknownTemplateName_ThrowsException() {
+        // Arrange
+        when(jobSchedulerPort.findTemplateByName("Unknown")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.execute("Unknown", null, null, true))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("Template with name 'Unknown' not found");
+        verifyNoInteractions(templateCloneHelper);
+    }
+
     private ScheduledJobInfo createJob(UUID jobId, String jobName, List<String> labels) {
         JobDefinition jobDef = new JobDefinition(
                 "TestJob", false, "TestJobRequest", "TestJobHandler",
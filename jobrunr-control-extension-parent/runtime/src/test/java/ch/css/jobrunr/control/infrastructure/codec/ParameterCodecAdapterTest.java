@@ -0,0 +1,139 @@
+package ch.css.jobrunr.control.infrastructure.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.enterprise.inject.Instance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ParameterCodecAdapter")
+class ParameterCodecAdapterTest {
+
+    public record CodecParameters(String name, int count) {
+    }
+
+    public record OtherParameters(String name) {
+    }
+
+    /**
+     * Hand-written equivalent of a generated codec.
+     */
+    static class CodecParametersCodec implements ParameterCodec {
+
+        @Override
+        public String recordClassName() {
+            return CodecParameters.class.getName();
+        }
+
+        @Override
+        public Object fromMap(Map<String, ?> parameters) {
+            return new CodecParameters(
+                    ParameterCodecSupport.toStringValue(parameters.get("name")),
+                    ParameterCodecSupport.intValue(parameters.get("count")));
+        }
+
+        @Override
+        public Map<String, Object> toMap(Object record) {
+            CodecParameters parameters = (CodecParameters) record;
+            Map<String, Object> result = new HashMap<>();
+            result.put("name", ParameterCodecSupport.toMapValue(parameters.name()));
+            result.put("count", ParameterCodecSupport.toMapValue(parameters.count()));
+            return result;
+        }
+    }
+
+    @Mock
+    private Instance<ParameterCodec> codecs;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    private ParameterCodecAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(codecs.iterator()).thenAnswer(invocation -> List.<ParameterCodec>of(new CodecParametersCodec()).iterator());
+        adapter = new ParameterCodecAdapter(codecs, objectMapper);
+    }
+
+    @Test
+    @DisplayName("should create records with the generated codec without using Jackson")
+    void fromMap_CodecAvailable_UsesCodec() {
+        // Act
+        CodecParameters result = adapter.fromMap(Map.of("name", "nightly", "count", "3", "unknown", true), CodecParameters.class);
+
+        // Assert
+        assertThat(result).isEqualTo(new CodecParameters("nightly", 3));
+        verifyNoInteractions(objectMapper);
+    }
+
+    @Test
+    @DisplayName("should read records with the generated codec into a modifiable map")
+    void toMap_CodecAvailable_UsesCodec() {
+        // Act
+        Map<String, Object> result = adapter.toMap(new CodecParameters("nightly", 3));
+        result.remove("count");
+
+        // Assert
+        assertThat(result).containsExactly(Map.entry("name", "nightly"));
+        verifyNoInteractions(objectMapper);
+    }
+
+    @Test
+    @DisplayName("should fall back to Jackson for types without codec")
+    void fromMap_NoCodec_UsesJackson() {
+        // Arrange
+        Map<String, Object> parameters = Map.of("name", "nightly");
+        when(objectMapper.convertValue(parameters, OtherParameters.class)).thenReturn(new OtherParameters("nightly"));
+
+        // Act
+        OtherParameters result = adapter.fromMap(parameters, OtherParameters.class);
+
+        // Assert
+        assertThat(result).isEqualTo(new OtherParameters("nightly"));
+    }
+
+    @Test
+    @DisplayName("should fall back to Jackson when the codec cannot convert a value")
+    void fromMap_CodecFails_UsesJackson() {
+        // Arrange
+        Map<String, Object> parameters = Map.of("name", "nightly", "count", "many");
+        when(objectMapper.convertValue(parameters, CodecParameters.class)).thenThrow(new IllegalArgumentException("not a number"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> adapter.fromMap(parameters, CodecParameters.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("not a number");
+        verify(objectMapper).convertValue(eq(parameters), eq(CodecParameters.class));
+    }
+
+    @Test
+    @DisplayName("should convert objects without codec to a map with Jackson")
+    void toMap_NoCodec_UsesJackson() {
+        // Arrange
+        when(objectMapper.convertValue(any(OtherParameters.class), eq(Map.class))).thenReturn(new HashMap<>(Map.of("name", "nightly")));
+
+        // Act
+        Map<String, Object> result = adapter.toMap(new OtherParameters("nightly"));
+
+        // Assert
+        assertThat(result).containsEntry("name", "nightly");
+    }
+}
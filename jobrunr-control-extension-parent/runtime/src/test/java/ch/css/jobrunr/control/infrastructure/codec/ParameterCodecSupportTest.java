@@ -0,0 +1,89 @@
+package ch.css.jobrunr.control.infrastructure.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ParameterCodecSupport")
+class ParameterCodecSupportTest {
+
+    enum Color {RED, GREEN}
+
+    @Test
+    @DisplayName("should convert numbers given as numbers or strings")
+    void numbers_NumberOrString_Converted() {
+        // Act & Assert
+        assertThat(ParameterCodecSupport.toInteger(42L)).isEqualTo(42);
+        assertThat(ParameterCodecSupport.toInteger(" 42 ")).isEqualTo(42);
+        assertThat(ParameterCodecSupport.toLong(42)).isEqualTo(42L);
+        assertThat(ParameterCodecSupport.toDouble("1.5")).isEqualTo(1.5d);
+        assertThat(ParameterCodecSupport.toDouble(2)).isEqualTo(2.0d);
+    }
+
+    @Test
+    @DisplayName("should treat missing and blank values as null or the primitive default")
+    void missingValues_NullOrDefault() {
+        // Act & Assert
+        assertThat(ParameterCodecSupport.toInteger(null)).isNull();
+        assertThat(ParameterCodecSupport.toInteger("  ")).isNull();
+        assertThat(ParameterCodecSupport.intValue(null)).isZero();
+        assertThat(ParameterCodecSupport.longValue("")).isZero();
+        assertThat(ParameterCodecSupport.booleanValue(null)).isFalse();
+        assertThat(ParameterCodecSupport.toLocalDate("")).isNull();
+        assertThat(ParameterCodecSupport.toEnum(Color.class, null)).isNull();
+        assertThat(ParameterCodecSupport.toEnumSet(Color.class, null)).isNull();
+    }
+
+    @Test
+    @DisplayName("should convert booleans given as booleans or strings and reject other strings")
+    void booleans_Converted() {
+        // Act & Assert
+        assertThat(ParameterCodecSupport.toBoolean(Boolean.TRUE)).isTrue();
+        assertThat(ParameterCodecSupport.toBoolean("FALSE")).isFalse();
+        assertThatThrownBy(() -> ParameterCodecSupport.toBoolean("yes"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should convert dates given as ISO strings or date arrays")
+    void dates_StringOrArray_Converted() {
+        // Act & Assert
+        assertThat(ParameterCodecSupport.toLocalDate("2024-03-01")).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(ParameterCodecSupport.toLocalDate(List.of(2024, 3, 1))).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(ParameterCodecSupport.toLocalDateTime("2024-03-01T10:15:30"))
+                .isEqualTo(LocalDateTime.of(2024, 3, 1, 10, 15, 30));
+        assertThat(ParameterCodecSupport.toLocalDateTime(List.of(2024, 3, 1, 10, 15)))
+                .isEqualTo(LocalDateTime.of(2024, 3, 1, 10, 15));
+    }
+
+    @Test
+    @DisplayName("should convert enums and enum sets by name")
+    void enums_ByName_Converted() {
+        // Act & Assert
+        assertThat(ParameterCodecSupport.toEnum(Color.class, "GREEN")).isEqualTo(Color.GREEN);
+        assertThat(ParameterCodecSupport.toEnum(Color.class, Color.RED)).isEqualTo(Color.RED);
+        assertThat(ParameterCodecSupport.toEnumSet(Color.class, List.of("RED", Color.GREEN)))
+                .isEqualTo(EnumSet.of(Color.RED, Color.GREEN));
+        assertThatThrownBy(() -> ParameterCodecSupport.toEnumSet(Color.class, "RED"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should write map values the way Jackson does")
+    void toMapValue_MatchesJacksonRepresentation() {
+        // Act & Assert
+        assertThat(ParameterCodecSupport.toMapValue(Color.RED)).isEqualTo("RED");
+        assertThat(ParameterCodecSupport.toMapValue(LocalDate.of(2024, 3, 1))).isEqualTo("2024-03-01");
+        assertThat(ParameterCodecSupport.toMapValue(LocalDateTime.of(2024, 3, 1, 10, 0))).isEqualTo("2024-03-01T10:00:00");
+        assertThat(ParameterCodecSupport.toMapValue(EnumSet.of(Color.RED, Color.GREEN))).isEqualTo(List.of("RED", "GREEN"));
+        assertThat(ParameterCodecSupport.toMapValue(7)).isEqualTo(7);
+        assertThat(ParameterCodecSupport.toMapValue((Object) "text")).isEqualTo("text");
+    }
+}
@@ -0,0 +1,171 @@
+package ch.css.jobrunr.control.infrastructure.details;
+
+import ch.css.jobrunr.control.domain.details.JobMessage;
+import ch.css.jobrunr.control.domain.details.JobMessageEntry;
+import ch.css.jobrunr.control.domain.details.JobMessageLevel;
+import ch.css.jobrunr.control.domain.details.JobMessageStoragePort;
+import ch.css.jobrunr.control.infrastructure.config.JobMessageWriterConfiguration;
+import ch.css.jobrunr.control.infrastructure.config.JobMessageWriterConfiguration.WriteMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AsyncJobMessageWriter")
+class AsyncJobMessageWriterTest {
+
+    @Mock
+    private JobMessageStoragePort jobMessageStorage;
+
+    @Mock
+    private JobMessageWriterConfiguration configuration;
+
+    private AsyncJobMessageWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(configuration.writeMode()).thenReturn(WriteMode.FIRE_AND_FORGET);
+        lenient().when(configuration.queueCapacity()).thenReturn(100);
+        lenient().when(configuration.batchSize()).thenReturn(10);
+        lenient().when(configuration.flushInterval()).thenReturn(Duration.ofHours(1));
+        lenient().when(configuration.enqueueTimeout()).thenReturn(Duration.ZERO);
+        lenient().when(configuration.flushTimeout()).thenReturn(Duration.ofSeconds(10));
+        writer = new AsyncJobMessageWriter(jobMessageStorage, configuration);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("should be disabled in synchronous mode")
+    void isEnabled_SynchronousMode_ReturnsFalse() {
+        // Arrange
+        lenient().when(configuration.writeMode()).thenReturn(WriteMode.SYNCHRONOUS);
+
+        // Act & Assert
+        assertThat(writer.isEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should write synchronously while the flusher is not running")
+    void enqueue_NotStarted_WritesSynchronously() {
+        // Arrange
+        UUID batchJobId = UUID.randomUUID();
+        JobMessage message = message(UUID.randomUUID(), "hello");
+
+        // Act
+        writer.enqueue(batchJobId, message);
+
+        // Assert
+        verify(jobMessageStorage).writeMessage(batchJobId, message);
+        verify(jobMessageStorage, never()).writeMessages(anyList());
+    }
+
+    @Test
+    @DisplayName("should write queued messages in batches on shutdown")
+    @SuppressWarnings("unchecked")
+    void shutdown_QueuedMessages_WrittenInBatches() {
+        // Arrange
+        writer.onStart(null);
+        UUID batchJobId = UUID.randomUUID();
+        UUID childJobId = UUID.randomUUID();
+        for (int i = 0; i < 25; i++) {
+            writer.enqueue(batchJobId, message(childJobId, "message " + i));
+        }
+
+        // Act
+        writer.shutdown();
+
+        // Assert
+        ArgumentCaptor<List<JobMessageEntry>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jobMessageStorage, atLeastOnce()).writeMessages(batches.capture());
+        assertThat(batches.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(10));
+        assertThat(batches.getAllValues().stream().flatMap(List::stream).map(entry -> entry.message().message()))
+                .hasSize(25)
+                .startsWith("message 0", "message 1");
+        assertThat(writer.statistics().written()).isEqualTo(25);
+        assertThat(writer.statistics().queued()).isZero();
+    }
+
+    @Test
+    @DisplayName("should drop messages when the queue is full")
+    void enqueue_QueueFull_DropsMessage() throws InterruptedException {
+        // Arrange
+        lenient().when(configuration.queueCapacity()).thenReturn(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> release.await(5, TimeUnit.SECONDS)).when(jobMessageStorage).writeMessages(anyList());
+        writer.onStart(null);
+        UUID batchJobId = UUID.randomUUID();
+
+        // Act
+        writer.enqueue(batchJobId, message(UUID.randomUUID(), "kept"));
+        writer.enqueue(batchJobId, message(UUID.randomUUID(), "dropped"));
+        release.countDown();
+
+        // Assert
+        assertThat(writer.statistics().dropped()).isEqualTo(1);
+        assertThat(writer.statistics().enqueued()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should wait for the messages of a finished job in flush-on-job-end mode")
+    void flushJob_FlushOnJobEnd_WaitsUntilWritten() {
+        // Arrange
+        lenient().when(configuration.writeMode()).thenReturn(WriteMode.FLUSH_ON_JOB_END);
+        writer.onStart(null);
+        UUID childJobId = UUID.randomUUID();
+        writer.enqueue(UUID.randomUUID(), message(childJobId, "done"));
+
+        // Act
+        writer.flushJob(childJobId);
+
+        // Assert
+        verify(jobMessageStorage).writeMessages(anyList());
+        assertThat(writer.statistics().written()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should count failed batches and release waiting jobs")
+    void flushJob_WriteFails_CountsFailure() {
+        // Arrange
+        lenient().when(configuration.writeMode()).thenReturn(WriteMode.FLUSH_ON_JOB_END);
+        doThrow(new IllegalStateException("database down")).when(jobMessageStorage).writeMessages(anyList());
+        writer.onStart(null);
+        UUID childJobId = UUID.randomUUID();
+        writer.enqueue(UUID.randomUUID(), message(childJobId, "lost"));
+
+        // Act
+        writer.flushJob(childJobId);
+
+        // Assert
+        assertThat(writer.statistics().failed()).isEqualTo(1);
+        assertThat(writer.statistics().written()).isZero();
+    }
+
+    private static JobMessage message(UUID jobId, String text) {
+        return new JobMessage(Instant.now(), jobId, JobMessageLevel.INFO, text, null);
+    }
+}
@@ -0,0 +1,97 @@
+package ch.css.jobrunr.control.infrastructure.details;
+
+import ch.css.jobrunr.control.domain.details.JobMessage;
+import ch.css.jobrunr.control.domain.details.JobMessageLevel;
+import ch.css.jobrunr.control.domain.details.JobMessageLevelSearch;
+import ch.css.jobrunr.control.domain.details.JobMessageSortOrder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BatchMessageColumns")
+class BatchMessageColumnsTest {
+
+    private static final Instant BASE = Instant.parse("2026-05-28T11:50:00.123456789Z");
+
+    private final UUID childJobId = UUID.randomUUID();
+
+    private final List<JobMessage> messages = List.of(
+            message(3, JobMessageLevel.ERROR, "Third", null),
+            message(1, JobMessageLevel.INFO, "First", null),
+            message(4, JobMessageLevel.EXCEPTION, "Fourth", "java.lang.IllegalStateException: Boom"),
+            message(2, JobMessageLevel.WARNING, "Second", null)
+    );
+
+    @Test
+    @DisplayName("should page all messages by creation time in both sort orders")
+    void countAndPage_AllLevels_SlicesSortedRows() {
+        // Given
+        BatchMessageColumns columns = BatchMessageColumns.of(messages);
+
+        // When
+        BatchMessageColumns.PageResult oldestFirst = columns.countAndPage(JobMessageLevelSearch.ALL, null, JobMessageSortOrder.OLDEST_FIRST, 1, 2);
+        BatchMessageColumns.PageResult newestFirst = columns.countAndPage(JobMessageLevelSearch.ALL, null, JobMessageSortOrder.NEWEST_FIRST, 0, 3);
+
+        // Then
+        assertThat(oldestFirst.totalMessages()).isEqualTo(4);
+        assertThat(oldestFirst.messages()).extracting(JobMessage::message).containsExactly("Second", "Third");
+        assertThat(newestFirst.messages()).extracting(JobMessage::message).containsExactly("Fourth", "Third", "Second");
+    }
+
+    @Test
+    @DisplayName("should page the precomputed rows of a level search")
+    void countAndPage_LevelSearch_ReturnsMatchingLevels() {
+        // Given
+        BatchMessageColumns columns = BatchMessageColumns.of(messages);
+
+        // When
+        BatchMessageColumns.PageResult errors = columns.countAndPage(JobMessageLevelSearch.ERRORS_AND_EXCEPTIONS, "", JobMessageSortOrder.OLDEST_FIRST, 0, 10);
+        BatchMessageColumns.PageResult beyondLastPage = columns.countAndPage(JobMessageLevelSearch.INFO_ONLY, null, JobMessageSortOrder.OLDEST_FIRST, 10, 10);
+
+        // Then
+        assertThat(errors.totalMessages()).isEqualTo(2);
+        assertThat(errors.messages()).extracting(JobMessage::messageLevel)
+                .containsExactly(JobMessageLevel.ERROR, JobMessageLevel.EXCEPTION);
+        assertThat(beyondLastPage.totalMessages()).isEqualTo(1);
+        assertThat(beyondLastPage.messages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should match the text search case-insensitively in message and stack trace")
+    void countAndPage_TextSearch_MatchesMessageAndStackTrace() {
+        // Given
+        BatchMessageColumns columns = BatchMessageColumns.of(messages);
+
+        // When
+        BatchMessageColumns.PageResult inMessage = columns.countAndPage(JobMessageLevelSearch.ALL, "sECOND", JobMessageSortOrder.OLDEST_FIRST, 0, 10);
+        BatchMessageColumns.PageResult inStackTrace = columns.countAndPage(JobMessageLevelSearch.ALL, "illegalstate", JobMessageSortOrder.OLDEST_FIRST, 0, 10);
+
+        // Then
+        assertThat(inMessage.messages()).extracting(JobMessage::message).containsExactly("Second");
+        assertThat(inStackTrace.messages()).extracting(JobMessage::message).containsExactly("Fourth");
+    }
+
+    @Test
+    @DisplayName("should materialize messages with their exact creation time and child job")
+    void forEach_NewestFirst_MaterializesOriginalMessages() {
+        // Given
+        BatchMessageColumns columns = BatchMessageColumns.of(messages);
+        List<JobMessage> visited = new ArrayList<>();
+
+        // When
+        columns.forEach(JobMessageLevelSearch.ALL, null, JobMessageSortOrder.NEWEST_FIRST, visited::add);
+
+        // Then
+        assertThat(visited).containsExactly(messages.get(2), messages.get(0), messages.get(3), messages.get(1));
+    }
+
+    private JobMessage message(int secondsAfterBase, JobMessageLevel level, String text, String stackTrace) {
+        return new JobMessage(BASE.plusSeconds(secondsAfterBase), childJobId, level, text, stackTrace);
+    }
+}
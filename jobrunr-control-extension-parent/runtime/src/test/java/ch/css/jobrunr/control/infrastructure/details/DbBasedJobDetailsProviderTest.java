@@ -1,10 +1,13 @@
 package ch.css.jobrunr.control.infrastructure.details;
 
+import ch.css.jobrunr.control.domain.details.JobMessage;
+import ch.css.jobrunr.control.domain.details.JobMessageCursor;
 import ch.css.jobrunr.control.domain.details.JobMessageLevelCounters;
 import ch.css.jobrunr.control.domain.details.JobMessageLevelSearch;
 import ch.css.jobrunr.control.domain.details.JobMessageSortOrder;
 import ch.css.jobrunr.control.domain.details.JobMessageStoragePort;
 import ch.css.jobrunr.control.domain.details.JobMessagesPaged;
+import ch.css.jobrunr.control.domain.details.JobMessagesSlice;
 import ch.css.jobrunr.control.domain.details.JobRecapStoragePort;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,9 +15,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
@@ -73,4 +78,44 @@ class DbBasedJobDetailsProviderTest {
         verify(jobMessageStoragePort).determineMessageLevelCounters(batchJobId);
         verify(jobRecapStoragePort).readRecap(batchJobId);
     }
+
+    @Test
+    @DisplayName("delegates cursor based message lookups to the storage port")
+    void delegatesCursorSearchToStoragePort() {
+        DbBasedJobDetailsProvider provider = new DbBasedJobDetailsProvider(jobMessageStoragePort, jobRecapStoragePort);
+        UUID batchJobId = UUID.randomUUID();
+        JobMessageCursor cursor = new JobMessageCursor(Instant.parse("2026-05-26T10:15:30Z"), 17L);
+        JobMessagesSlice slice = new JobMessagesSlice(List.of(), null, JobMessagesSlice.UNKNOWN_TOTAL);
+
+        when(jobMessageStoragePort.searchMessagesAfter(
+                batchJobId,
+                JobMessageLevelSearch.ERROR_ONLY,
+                "needle",
+                JobMessageSortOrder.OLDEST_FIRST,
+                cursor,
+                25
+        )).thenReturn(slice);
+
+        assertThat(provider.searchJobMessagesAfter(
+                batchJobId,
+                JobMessageLevelSearch.ERROR_ONLY,
+                "needle",
+                JobMessageSortOrder.OLDEST_FIRST,
+                cursor,
+                25
+        )).isSameAs(slice);
+    }
+
+    @Test
+    @DisplayName("delegates the message export to the storage port")
+    void delegatesMessageExportToStoragePort() {
+        DbBasedJobDetailsProvider provider = new DbBasedJobDetailsProvider(jobMessageStoragePort, jobRecapStoragePort);
+        UUID batchJobId = UUID.randomUUID();
+        Consumer<JobMessage> consumer = message -> {
+        };
+
+        provider.forEachJobMessage(batchJobId, JobMessageLevelSearch.ALL, "needle", JobMessageSortOrder.NEWEST_FIRST, consumer);
+
+        verify(jobMessageStoragePort).forEachMessage(batchJobId, JobMessageLevelSearch.ALL, "needle", JobMessageSortOrder.NEWEST_FIRST, consumer);
+    }
 }
@@ -5,15 +5,24 @@ import ch.css.jobrunr.control.domain.details.JobMessageLevelCounters;
 import ch.css.jobrunr.control.domain.details.JobMessageLevelSearch;
 import ch.css.jobrunr.control.domain.details.JobMessageSortOrder;
 import ch.css.jobrunr.control.domain.details.JobMessagesPaged;
+import ch.css.jobrunr.control.infrastructure.config.BatchSnapshotConfiguration;
+import io.quarkus.runtime.configuration.MemorySize;
 import org.jobrunr.jobs.BatchJob;
 import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.states.FailedState;
+import org.jobrunr.jobs.states.StateName;
 import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.storage.navigation.OffsetBasedPageRequest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigInteger;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +30,8 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -53,18 +64,34 @@ class DefaultJobDetailsProviderTest {
     @Mock
     private Job childJobB;
 
+    @Mock
+    private Job childJobC;
+
+    @Mock
+    private BatchSnapshotConfiguration batchSnapshotConfiguration;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(batchSnapshotConfiguration.childPageSize()).thenReturn(1000);
+        lenient().when(batchSnapshotConfiguration.cacheMaxWeight()).thenReturn(new MemorySize(BigInteger.valueOf(256L * 1024 * 1024)));
+        lenient().when(batchSnapshotConfiguration.cacheIdleExpiry()).thenReturn(Duration.ofMinutes(30));
+    }
+
     @Test
     @DisplayName("reuses one child scan for recap, message counter, and message page")
     void usesSharedSnapshotAcrossProviderMethods() {
         UUID batchId = UUID.randomUUID();
         DefaultJobDetailsProvider provider = new DefaultJobDetailsProvider(
-                jobExecutionPort, storageProvider, jobDefinitionDiscoveryService, recapValueExtractorRegistry);
+                jobExecutionPort, storageProvider, jobDefinitionDiscoveryService, recapValueExtractorRegistry,
+                batchSnapshotConfiguration);
 
         when(storageProvider.getJobById(batchId)).thenReturn(batchJob);
         when(batchJob.isBatchJob()).thenReturn(true);
         when(batchJob.getId()).thenReturn(batchId);
         when(storageProvider.getJobList(any(), any())).thenReturn(List.of(childJobA, childJobB));
 
+        when(childJobA.getId()).thenReturn(UUID.randomUUID());
+        when(childJobB.getId()).thenReturn(UUID.randomUUID());
         when(childJobA.getResult()).thenReturn(new RecapResult(2L));
         when(childJobB.getResult()).thenReturn(new RecapResult(3L));
         when(childJobA.getMetadata()).thenReturn(Map.of());
@@ -72,21 +99,18 @@ class DefaultJobDetailsProviderTest {
         when(childJobA.getLastJobStateOfType(any())).thenReturn(Optional.empty());
         when(childJobB.getLastJobStateOfType(any())).thenReturn(Optional.empty());
 
-        JobExecutionInfo executionInfo = new JobExecutionInfo(
+        JobExecutionSummary executionSummary = new JobExecutionSummary(
                 batchId,
                 "Demo",
                 "DemoJob",
                 JobStatus.SUCCEEDED,
                 Instant.parse("2026-05-28T11:55:00Z"),
+                Instant.parse("2026-05-28T11:55:00Z"),
                 Instant.parse("2026-05-28T11:59:00Z"),
-                null,
-                Map.of(),
-                Map.of(),
-                null,
-                null,
-                null
+                BusinessStatus.NONE,
+                true
         );
-        when(jobExecutionPort.getJobExecutionById(batchId)).thenReturn(Optional.of(executionInfo));
+        when(jobExecutionPort.getJobExecutionSummaryById(batchId)).thenReturn(Optional.of(executionSummary));
         when(jobDefinitionDiscoveryService.requireJobByType("DemoJob")).thenReturn(jobDefinition());
         when(recapValueExtractorRegistry.findByRecapClassName(RecapResult.class.getName())).thenReturn(Optional.of(recapValueExtractor));
         when(recapValueExtractor.extract(any())).thenAnswer(invocation -> {
@@ -104,7 +128,7 @@ class DefaultJobDetailsProviderTest {
         assertThat(messages.totalMessages()).isZero();
 
         verify(storageProvider, times(1)).getJobList(any(), any());
-        verify(jobExecutionPort, times(1)).getJobExecutionById(batchId);
+        verify(jobExecutionPort, times(1)).getJobExecutionSummaryById(batchId);
         verify(jobDefinitionDiscoveryService, times(1)).requireJobByType("DemoJob");
     }
 
@@ -113,7 +137,8 @@ class DefaultJobDetailsProviderTest {
     void rebuildsSnapshotAfterTtlExpiration() throws InterruptedException {
         UUID batchId = UUID.randomUUID();
         DefaultJobDetailsProvider provider = new DefaultJobDetailsProvider(
-                jobExecutionPort, storageProvider, jobDefinitionDiscoveryService, recapValueExtractorRegistry);
+                jobExecutionPort, storageProvider, jobDefinitionDiscoveryService, recapValueExtractorRegistry,
+                batchSnapshotConfiguration);
 
         when(storageProvider.getJobById(batchId)).thenReturn(batchJob);
         when(batchJob.isBatchJob()).thenReturn(true);
@@ -124,21 +149,18 @@ class DefaultJobDetailsProviderTest {
         when(childJobA.getMetadata()).thenReturn(Map.of());
         when(childJobA.getLastJobStateOfType(any())).thenReturn(Optional.empty());
 
-        JobExecutionInfo executionInfo = new JobExecutionInfo(
+        JobExecutionSummary executionSummary = new JobExecutionSummary(
                 batchId,
                 "Demo",
                 "DemoJob",
                 JobStatus.SUCCEEDED,
                 Instant.parse("2026-05-28T11:50:00Z"),
+                Instant.parse("2026-05-28T11:50:00Z"),
                 Instant.parse("2026-05-28T11:55:00Z"),
-                null,
-                Map.of(),
-                Map.of(),
-                null,
-                null,
-                null
+                BusinessStatus.NONE,
+                true
         );
-        when(jobExecutionPort.getJobExecutionById(batchId)).thenReturn(Optional.of(executionInfo));
+        when(jobExecutionPort.getJobExecutionSummaryById(batchId)).thenReturn(Optional.of(executionSummary));
         when(jobDefinitionDiscoveryService.requireJobByType("DemoJob")).thenReturn(jobDefinition());
         when(recapValueExtractorRegistry.findByRecapClassName(RecapResult.class.getName())).thenReturn(Optional.of(recapValueExtractor));
         when(recapValueExtractor.extract(any())).thenAnswer(invocation -> {
@@ -152,7 +174,155 @@ class DefaultJobDetailsProviderTest {
         provider.determineJobMessageCounter(batchId);
 
         verify(storageProvider, times(2)).getJobList(any(), any());
-        verify(jobExecutionPort, times(2)).getJobExecutionById(eq(batchId));
+        // The job definition is resolved once, the refresh only merges changed children
+        verify(jobExecutionPort, times(1)).getJobExecutionSummaryById(eq(batchId));
+    }
+
+    @Test
+    @DisplayName("merges only children changed since the previous refresh")
+    void refreshMergesChangedChildrenByDelta() throws InterruptedException {
+        UUID batchId = UUID.randomUUID();
+        UUID childIdA = UUID.randomUUID();
+        Instant highWater = Instant.parse("2026-05-28T11:50:00Z");
+        DefaultJobDetailsProvider provider = new DefaultJobDetailsProvider(
+                jobExecutionPort, storageProvider, jobDefinitionDiscoveryService, recapValueExtractorRegistry,
+                batchSnapshotConfiguration);
+        stubRunningBatch(batchId);
+
+        // First refresh: child A without failure; second refresh: child A failed, child B is older than the high-water mark
+        when(storageProvider.getJobList(any(), any())).thenReturn(List.of(childJobA), List.of(childJobA, childJobB));
+        when(childJobA.getId()).thenReturn(childIdA);
+        when(childJobA.getJobName()).thenReturn("Child A");
+        when(childJobA.getUpdatedAt()).thenReturn(highWater, highWater.plusSeconds(30));
+        when(childJobA.getResult()).thenReturn(new RecapResult(2L), new RecapResult(7L));
+        when(childJobA.getMetadata()).thenReturn(Map.of());
+        FailedState failedState = mock(FailedState.class);
+        when(failedState.getCreatedAt()).thenReturn(highWater.plusSeconds(30));
+        when(failedState.getExceptionMessage()).thenReturn("boom");
+        doReturn(Optional.empty(), Optional.of(failedState)).when(childJobA).getLastJobStateOfType(any());
+        when(childJobB.getUpdatedAt()).thenReturn(highWater.minusSeconds(60));
+
+        assertThat(provider.determineRecap(batchId)).containsEntry("processed", 2L);
+        assertThat(provider.determineJobMessageCounter(batchId).totalMessages()).isZero();
+
+        Thread.sleep(2100L);
+        Map<String, Long> recap = provider.determineRecap(batchId);
+        JobMessageLevelCounters messageCounter = provider.determineJobMessageCounter(batchId);
+        JobMessagesPaged messages = provider.searchJobMessages(batchId, JobMessageLevelSearch.ALL, null, JobMessageSortOrder.OLDEST_FIRST, 0, 10);
+
+        assertThat(recap).containsEntry("processed", 7L);
+        assertThat(messageCounter.exceptionMessages()).isEqualTo(1);
+        assertThat(messages.messages()).singleElement()
+                .satisfies(message -> assertThat(message.message()).isEqualTo("[Child A] boom"));
+        verify(childJobB, never()).getResult();
+    }
+
+    @Test
+    @DisplayName("rebuilds the snapshot after a refresh failed partway through the children")
+    void failedRefreshDropsSnapshotAndRebuildsIt() throws InterruptedException {
+        UUID batchId = UUID.randomUUID();
+        Instant updatedAt = Instant.parse("2026-05-28T11:50:00Z");
+        when(batchSnapshotConfiguration.childPageSize()).thenReturn(1);
+        DefaultJobDetailsProvider provider = new DefaultJobDetailsProvider(
+                jobExecutionPort, storageProvider, jobDefinitionDiscoveryService, recapValueExtractorRegistry,
+                batchSnapshotConfiguration);
+        stubRunningBatch(batchId);
+
+        // First refresh reads child A; the second fails on its second page; the rebuild reads child A again
+        when(storageProvider.getJobList(any(), any()))
+                .thenReturn(List.of(childJobA), List.of(), List.of(childJobA))
+                .thenThrow(new IllegalStateException("storage unavailable"))
+                .thenReturn(List.of(childJobA), List.of());
+        when(childJobA.getId()).thenReturn(UUID.randomUUID());
+        when(childJobA.getUpdatedAt()).thenReturn(updatedAt, updatedAt.plusSeconds(30));
+        when(childJobA.getResult()).thenReturn(new RecapResult(2L), new RecapResult(7L));
+        when(childJobA.getMetadata()).thenReturn(Map.of());
+        when(childJobA.getLastJobStateOfType(any())).thenReturn(Optional.empty());
+
+        assertThat(provider.determineRecap(batchId)).containsEntry("processed", 2L);
+        Thread.sleep(2100L);
+        assertThatThrownBy(() -> provider.determineRecap(batchId)).isInstanceOf(IllegalStateException.class);
+        Map<String, Long> recap = provider.determineRecap(batchId);
+
+        assertThat(recap).containsEntry("processed", 7L);
+        assertThat(provider.snapshotCacheStatistics().size()).isEqualTo(1);
+        // The failed refresh dropped the cached state, so the job definition is resolved again for the rebuild
+        verify(jobExecutionPort, times(2)).getJobExecutionSummaryById(eq(batchId));
+        verify(storageProvider, times(6)).getJobList(any(), any());
+    }
+
+    @Test
+    @DisplayName("keeps the snapshot of a finished batch until the batch job changes")
+    void freezesSnapshotOfFinishedBatch() throws InterruptedException {
+        UUID batchId = UUID.randomUUID();
+        DefaultJobDetailsProvider provider = new DefaultJobDetailsProvider(
+                jobExecutionPort, storageProvider, jobDefinitionDiscoveryService, recapValueExtractorRegistry,
+                batchSnapshotConfiguration);
+        stubRunningBatch(batchId);
+        when(batchJob.getState()).thenReturn(StateName.SUCCEEDED);
+        when(batchJob.getUpdatedAt()).thenReturn(Instant.parse("2026-05-28T11:59:00Z"));
+        when(storageProvider.getJobList(any(), any())).thenReturn(List.of(childJobA));
+        when(childJobA.getResult()).thenReturn(new RecapResult(4L));
+        when(childJobA.getMetadata()).thenReturn(Map.of());
+        when(childJobA.getLastJobStateOfType(any())).thenReturn(Optional.empty());
+
+        provider.determineRecap(batchId);
+        Thread.sleep(2100L);
+        Map<String, Long> recap = provider.determineRecap(batchId);
+
+        assertThat(recap).containsEntry("processed", 4L);
+        verify(storageProvider, times(1)).getJobList(any(), any());
+    }
+
+    @Test
+    @DisplayName("reads the children page by page with the configured page size")
+    void readsChildrenInPagesOfConfiguredSize() {
+        UUID batchId = UUID.randomUUID();
+        when(batchSnapshotConfiguration.childPageSize()).thenReturn(2);
+        DefaultJobDetailsProvider provider = new DefaultJobDetailsProvider(
+                jobExecutionPort, storageProvider, jobDefinitionDiscoveryService, recapValueExtractorRegistry,
+                batchSnapshotConfiguration);
+        stubRunningBatch(batchId);
+        when(storageProvider.getJobList(any(), any())).thenReturn(List.of(childJobA, childJobB), List.of(childJobC));
+        for (Job childJob : List.of(childJobA, childJobB, childJobC)) {
+            when(childJob.getId()).thenReturn(UUID.randomUUID());
+            when(childJob.getResult()).thenReturn(new RecapResult(1L));
+            when(childJob.getMetadata()).thenReturn(Map.of());
+            when(childJob.getLastJobStateOfType(any())).thenReturn(Optional.empty());
+        }
+
+        Map<String, Long> recap = provider.determineRecap(batchId);
+
+        assertThat(recap).containsEntry("processed", 3L);
+        ArgumentCaptor<OffsetBasedPageRequest> pageRequests = ArgumentCaptor.forClass(OffsetBasedPageRequest.class);
+        verify(storageProvider, times(2)).getJobList(any(), pageRequests.capture());
+        assertThat(pageRequests.getAllValues())
+                .extracting(OffsetBasedPageRequest::getOffset, OffsetBasedPageRequest::getLimit)
+                .containsExactly(tuple(0L, 2), tuple(2L, 2));
+    }
+
+    private void stubRunningBatch(UUID batchId) {
+        when(storageProvider.getJobById(batchId)).thenReturn(batchJob);
+        when(batchJob.isBatchJob()).thenReturn(true);
+        when(batchJob.getId()).thenReturn(batchId);
+        JobExecutionSummary executionSummary = new JobExecutionSummary(
+                batchId,
+                "Demo",
+                "DemoJob",
+                JobStatus.PROCESSING,
+                Instant.parse("2026-05-28T11:50:00Z"),
+                Instant.parse("2026-05-28T11:50:00Z"),
+                null,
+                BusinessStatus.NONE,
+                true
+        );
+        when(jobExecutionPort.getJobExecutionSummaryById(batchId)).thenReturn(Optional.of(executionSummary));
+        when(jobDefinitionDiscoveryService.requireJobByType("DemoJob")).thenReturn(jobDefinition());
+        when(recapValueExtractorRegistry.findByRecapClassName(RecapResult.class.getName())).thenReturn(Optional.of(recapValueExtractor));
+        when(recapValueExtractor.extract(any())).thenAnswer(invocation -> {
+            RecapResult recapResult = invocation.getArgument(0);
+            return Map.of("processed", recapResult.processed());
+        });
     }
 
     private JobDefinition jobDefinition() {
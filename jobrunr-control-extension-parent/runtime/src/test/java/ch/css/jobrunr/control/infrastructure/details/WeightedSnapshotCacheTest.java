@@ -0,0 +1,167 @@
+package ch.css.jobrunr.control.infrastructure.details;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WeightedSnapshotCache")
+class WeightedSnapshotCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    private final WeightedSnapshotCache<String, String> cache =
+            new WeightedSnapshotCache<>(10, Duration.ofMinutes(30), String::length, clock);
+
+    @Test
+    @DisplayName("should evict the least recently used values when the weight exceeds the bound")
+    void put_WeightExceeded_EvictsLeastRecentlyUsed() {
+        // Given
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.get("a");
+
+        // When
+        cache.put("c", "cccc");
+
+        // Then
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo("aaaa");
+        assertThat(cache.get("c")).isEqualTo("cccc");
+        WeightedSnapshotCache.Statistics statistics = cache.statistics();
+        assertThat(statistics.size()).isEqualTo(2);
+        assertThat(statistics.weight()).isEqualTo(8);
+        assertThat(statistics.evictions()).isEqualTo(1);
+        assertThat(statistics.hits()).isEqualTo(3);
+        assertThat(statistics.misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should update the weight when a value is put again")
+    void put_SameKey_ReplacesWeight() {
+        // Given
+        cache.put("a", "aaaa");
+
+        // When
+        cache.put("a", "aaaaaaaa");
+
+        // Then
+        assertThat(cache.statistics().weight()).isEqualTo(8);
+        assertThat(cache.statistics().evictions()).isZero();
+    }
+
+    @Test
+    @DisplayName("should keep a value heavier than the bound as the only value")
+    void put_ValueHeavierThanBound_IsKeptAlone() {
+        // Given
+        cache.put("a", "aaaa");
+
+        // When
+        cache.put("b", "bbbbbbbbbbbb");
+
+        // Then
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isEqualTo("bbbbbbbbbbbb");
+        WeightedSnapshotCache.Statistics statistics = cache.statistics();
+        assertThat(statistics.size()).isEqualTo(1);
+        assertThat(statistics.weight()).isEqualTo(12);
+        assertThat(statistics.evictions()).isEqualTo(1);
+        assertThat(statistics.oversized()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should evict a value heavier than the bound when the next value is put")
+    void put_AfterValueHeavierThanBound_EvictsIt() {
+        // Given
+        cache.put("a", "aaaaaaaaaaaa");
+
+        // When
+        cache.put("b", "bbbb");
+
+        // Then
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isEqualTo("bbbb");
+        assertThat(cache.statistics().weight()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("should expire a value heavier than the bound after the idle expiry")
+    void get_ValueHeavierThanBoundIdleExpired_RemovesValue() {
+        // Given
+        cache.put("a", "aaaaaaaaaaaa");
+        clock.advance(Duration.ofMinutes(29));
+        assertThat(cache.get("a")).isEqualTo("aaaaaaaaaaaa");
+
+        // When
+        clock.advance(Duration.ofMinutes(31));
+
+        // Then
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.statistics().weight()).isZero();
+    }
+
+    @Test
+    @DisplayName("should expire values that were not read within the idle expiry")
+    void get_IdleExpired_RemovesValue() {
+        // Given
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        clock.advance(Duration.ofMinutes(20));
+        cache.get("b");
+
+        // When
+        clock.advance(Duration.ofMinutes(15));
+
+        // Then
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isEqualTo("bbbb");
+        assertThat(cache.statistics().expirations()).isEqualTo(1);
+        assertThat(cache.statistics().weight()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("should release the weight of a removed value")
+    void remove_CachedValue_ReleasesWeight() {
+        // Given
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+
+        // When
+        cache.remove("a");
+        cache.remove("missing");
+
+        // Then
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.statistics().size()).isEqualTo(1);
+        assertThat(cache.statistics().weight()).isEqualTo(4);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-05-28T12:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("JobDefinitionDiscoveryAdapter")
 class JobDefinitionDiscoveryAdapterTest {
@@ -144,12 +145,87 @@ class JobDefinitionDiscoveryAdapterTest {
                 });
     }
 
+    @Test
+    @DisplayName("should find job by handler class name")
+    void findJobByHandlerClassName_ExistingJob_ReturnsJobDefinition() {
+        // Act
+        Optional<JobDefinition> result = adapter.findJobByHandlerClassName("com.example.TestJob2Handler");
+
+        // Assert
+        assertThat(result)
+                .isPresent()
+                .get()
+                .extracting(JobDefinition::jobType)
+                .isEqualTo("TestJob2");
+    }
+
+    @Test
+    @DisplayName("should return the external parameters class resolved at registration")
+    void findParametersClass_ExternalParameters_ReturnsResolvedClass() {
+        // Arrange
+        JobDefinition externalJob = createJobDefinition("ResolvedParamJob", false, true, TestParameters.class.getName());
+        JobDefinitionRecorder.JobDefinitionRegistry.INSTANCE.setDefinitions(Set.of(externalJob));
+
+        // Act
+        Optional<Class<?>> result = adapter.findParametersClass(externalJob);
+
+        // Assert
+        assertThat(result).contains(TestParameters.class);
+        assertThat(JobDefinitionRecorder.JobDefinitionRegistry.INSTANCE.getDefinitionByExternalParametersClass(TestParameters.class.getName()))
+                .isEqualTo(externalJob);
+    }
+
+    @Test
+    @DisplayName("should return empty parameters class when the class cannot be loaded")
+    void findParametersClass_UnknownClass_ReturnsEmpty() {
+        // Arrange
+        JobDefinition jobDefinition = adapter.findJobByType("TestJob1").orElseThrow();
+
+        // Act
+        Optional<Class<?>> result = adapter.findParametersClass(jobDefinition);
+
+        // Assert
+        assertThat(result).isEmpty();
+        assertThat(JobDefinitionRecorder.JobDefinitionRegistry.INSTANCE.getDefinitionByJobRequestClass("com.example.TestJob1Request"))
+                .isEqualTo(jobDefinition);
+    }
+
+    @Test
+    @DisplayName("should return empty JobRequest class when the class cannot be loaded")
+    void findJobRequestClass_UnknownClass_ReturnsEmpty() {
+        // Arrange
+        JobDefinition jobDefinition = adapter.findJobByType("TestJob1").orElseThrow();
+
+        // Act
+        Optional<Class<?>> result = adapter.findJobRequestClass(jobDefinition);
+
+        // Assert
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should return an unmodifiable collection of job definitions")
+    void getAllJobDefinitions_ReturnsUnmodifiableCollection() {
+        // Act
+        Collection<JobDefinition> definitions = adapter.getAllJobDefinitions();
+
+        // Assert
+        assertThatThrownBy(definitions::clear).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    record TestParameters(String param1, Integer param2) {
+    }
+
     // Test data builders
     private JobDefinition createJobDefinition(String jobType, boolean isBatch) {
         return createJobDefinition(jobType, isBatch, false);
     }
 
     private JobDefinition createJobDefinition(String jobType, boolean isBatch, boolean externalParams) {
+        return createJobDefinition(jobType, isBatch, externalParams, externalParams ? "parameterSet" : null);
+    }
+
+    private JobDefinition createJobDefinition(String jobType, boolean isBatch, boolean externalParams, String externalParametersClassName) {
         return new JobDefinition(
                 jobType,                                    // jobType
                 isBatch,                                    // isBatchJob
@@ -176,7 +252,7 @@ class JobDefinitionDiscoveryAdapterTest {
                         null
                 ),
                 externalParams,                             // usesExternalParameters
-                externalParams ? "parameterSet" : null,     // parameterSetFieldName
+                externalParametersClassName,                // externalParametersClassName
                 List.of(),                                  // recapParameters
                 null                                        // JobDetailPage
         );
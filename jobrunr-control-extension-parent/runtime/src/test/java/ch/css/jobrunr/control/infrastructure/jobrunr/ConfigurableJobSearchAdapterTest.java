@@ -0,0 +1,205 @@
+package ch.css.jobrunr.control.infrastructure.jobrunr;
+
+import ch.css.jobrunr.control.domain.JobDefinition;
+import ch.css.jobrunr.control.domain.JobDefinitionDiscoveryService;
+import ch.css.jobrunr.control.domain.JobSettings;
+import ch.css.jobrunr.control.domain.exceptions.JobExecutionException;
+import ch.css.jobrunr.control.domain.exceptions.TimeoutException;
+import ch.css.jobrunr.control.infrastructure.config.JobSearchConfiguration;
+import ch.css.jobrunr.control.infrastructure.jobrunr.ConfigurableJobSearchAdapter.ConfigurableJobSearchResult;
+import ch.css.jobrunr.control.infrastructure.jobrunr.ConfigurableJobSearchAdapter.SearchSegment;
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.states.StateName;
+import org.jobrunr.storage.JobSearchRequest;
+import org.jobrunr.storage.StorageProvider;
+import org.jobrunr.storage.navigation.AmountRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConfigurableJobSearchAdapter")
+class ConfigurableJobSearchAdapterTest {
+
+    private static final List<StateName> STATES = List.of(StateName.ENQUEUED, StateName.PROCESSING, StateName.SUCCEEDED);
+
+    @Mock
+    private StorageProvider storageProvider;
+
+    @Mock
+    private JobDefinitionDiscoveryService jobDefinitionDiscoveryService;
+
+    @Mock
+    private JobSearchConfiguration configuration;
+
+    private final JobDefinition jobDefinition = new JobDefinition(
+            "ReportJob", false, "ReportJobRequest", "com.example.ReportJob",
+            List.of(), List.of(),
+            new JobSettings(null, false, 0, List.of(), List.of(), null, null, null, null, null, null, null, null),
+            false, null,
+            List.of(),
+            null
+    );
+
+    private ConfigurableJobSearchAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(configuration.parallel()).thenReturn(true);
+        lenient().when(configuration.maxConcurrency()).thenReturn(2);
+        lenient().when(configuration.queryTimeout()).thenReturn(Duration.ofSeconds(5));
+        when(jobDefinitionDiscoveryService.getAllJobDefinitions()).thenReturn(List.of(jobDefinition));
+        adapter = new ConfigurableJobSearchAdapter(storageProvider, jobDefinitionDiscoveryService, configuration);
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.shutdown();
+    }
+
+    @Test
+    @DisplayName("should merge parallel query results in segment order regardless of completion order")
+    void getConfigurableJob_Parallel_MergesInSegmentOrder() {
+        // Arrange
+        Job enqueued = mock(Job.class);
+        Job processing = mock(Job.class);
+        Job succeeded = mock(Job.class);
+        Map<StateName, Job> jobsByState = Map.of(
+                StateName.ENQUEUED, enqueued,
+                StateName.PROCESSING, processing,
+                StateName.SUCCEEDED, succeeded);
+        when(storageProvider.getJobList(any(JobSearchRequest.class), any(AmountRequest.class))).thenAnswer(invocation -> {
+            StateName state = invocation.<JobSearchRequest>getArgument(0).getState();
+            if (state == StateName.ENQUEUED) {
+                // The first segment answers last
+                Thread.sleep(200);
+            }
+            return List.of(jobsByState.get(state));
+        });
+
+        // Act
+        List<ConfigurableJobSearchResult> result = adapter.getConfigurableJob(STATES);
+
+        // Assert
+        assertThat(result).extracting(ConfigurableJobSearchResult::job).containsExactly(enqueued, processing, succeeded);
+    }
+
+    @Test
+    @DisplayName("should skip a failing segment query and keep the others")
+    void getConfigurableJob_SegmentFails_ContinuesWithOtherSegments() {
+        // Arrange
+        Job enqueued = mock(Job.class);
+        Job succeeded = mock(Job.class);
+        when(storageProvider.getJobList(any(JobSearchRequest.class), any(AmountRequest.class))).thenAnswer(invocation -> {
+            StateName state = invocation.<JobSearchRequest>getArgument(0).getState();
+            return switch (state) {
+                case ENQUEUED -> List.of(enqueued);
+                case SUCCEEDED -> List.of(succeeded);
+                default -> throw new IllegalStateException("Storage unavailable");
+            };
+        });
+
+        // Act
+        List<ConfigurableJobSearchResult> result = adapter.getConfigurableJob(STATES);
+
+        // Assert
+        assertThat(result).extracting(ConfigurableJobSearchResult::job).containsExactly(enqueued, succeeded);
+    }
+
+    @Test
+    @DisplayName("should count a timed out segment query as zero")
+    void countJobs_SegmentTimesOut_CountsZero() {
+        // Arrange
+        when(configuration.queryTimeout()).thenReturn(Duration.ofMillis(100));
+        when(storageProvider.countJobs(any(JobSearchRequest.class))).thenAnswer(invocation -> {
+            StateName state = invocation.<JobSearchRequest>getArgument(0).getState();
+            if (state == StateName.PROCESSING) {
+                Thread.sleep(5_000);
+            }
+            return 3L;
+        });
+        List<SearchSegment> segments = adapter.createSegments(STATES, null);
+
+        // Act
+        Map<SearchSegment, Long> result = adapter.countJobs(segments);
+
+        // Assert
+        assertThat(result).containsExactly(
+                Map.entry(segments.get(0), 3L),
+                Map.entry(segments.get(1), 0L),
+                Map.entry(segments.get(2), 3L));
+    }
+
+    @Test
+    @DisplayName("should run segment queries on the calling thread when parallel search is disabled")
+    void getConfigurableJob_ParallelDisabled_RunsSequentially() {
+        // Arrange
+        when(configuration.parallel()).thenReturn(false);
+        Thread caller = Thread.currentThread();
+        when(storageProvider.getJobList(any(JobSearchRequest.class), any(AmountRequest.class))).thenAnswer(invocation -> {
+            assertThat(Thread.currentThread()).isSameAs(caller);
+            return List.of(mock(Job.class));
+        });
+
+        // Act
+        List<ConfigurableJobSearchResult> result = adapter.getConfigurableJob(STATES);
+
+        // Assert
+        assertThat(result).hasSize(STATES.size());
+    }
+
+    @Test
+    @DisplayName("should fail instead of using a fallback when a strict query fails")
+    void queryAll_QueryFails_ThrowsJobExecutionException() {
+        // Act & Assert
+        assertThatThrownBy(() -> adapter.queryAll(List.of("a", "b"), key -> {
+            if (key.equals("b")) {
+                throw new IllegalStateException("Storage unavailable");
+            }
+            return key;
+        }, key -> "job " + key))
+                .isInstanceOf(JobExecutionException.class)
+                .hasMessage("Error retrieving job b")
+                .hasRootCauseMessage("Storage unavailable");
+    }
+
+    @Test
+    @DisplayName("should fail instead of using a fallback when a strict query times out")
+    void queryAll_QueryTimesOut_ThrowsTimeoutException() {
+        // Arrange
+        when(configuration.queryTimeout()).thenReturn(Duration.ofMillis(100));
+
+        // Act & Assert
+        assertThatThrownBy(() -> adapter.queryAll(List.of("a", "b"), key -> {
+            if (key.equals("b")) {
+                sleep(5_000);
+            }
+            return key;
+        }, key -> "job " + key))
+                .isInstanceOf(TimeoutException.class)
+                .hasMessageContaining("job b");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package ch.css.jobrunr.control.infrastructure.jobrunr;
 import ch.css.jobrunr.control.domain.JobDefinition;
 import ch.css.jobrunr.control.domain.JobDefinitionDiscoveryService;
 import ch.css.jobrunr.control.domain.JobSettings;
+import ch.css.jobrunr.control.domain.ParameterCodecPort;
 import ch.css.jobrunr.control.domain.ParameterSet;
 import ch.css.jobrunr.control.domain.ParameterStoragePort;
 import ch.css.jobrunr.control.domain.exceptions.ParameterSetNotFoundException;
@@ -23,6 +24,8 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -39,6 +42,9 @@ class JobRunrParameterSetLoaderAdapterTest {
     @Mock
     private JobDefinitionDiscoveryService jobDefinitionDiscoveryService;
 
+    @Mock
+    private ParameterCodecPort parameterCodec;
+
     @Mock
     private Job job;
 
@@ -53,7 +59,7 @@ class JobRunrParameterSetLoaderAdapterTest {
     @BeforeEach
     void setUp() {
         adapter = new JobRunrParameterSetLoaderAdapter(
-                storageProvider, parameterStoragePort, jobDefinitionDiscoveryService);
+                storageProvider, parameterStoragePort, jobDefinitionDiscoveryService, parameterCodec);
     }
 
     @Test
@@ -174,4 +180,34 @@ class JobRunrParameterSetLoaderAdapterTest {
                 .containsEntry("boolean", true)
                 .containsEntry("list", List.of("a", "b", "c"));
     }
+
+    @Test
+    @DisplayName("should load parameter sets in bulk and omit missing ones")
+    void loadParametersBySetIds_ExistingAndMissingSets_ReturnsFoundParameters() {
+        // Arrange
+        UUID existingSetId = UUID.randomUUID();
+        UUID missingSetId = UUID.randomUUID();
+        when(parameterStoragePort.findByIds(List.of(existingSetId, missingSetId))).thenReturn(Map.of(
+                existingSetId, ParameterSet.create(existingSetId, "ExternalJob", Map.of("param1", "value1"))));
+
+        // Act
+        Map<UUID, Map<String, Object>> result = adapter.loadParametersBySetIds(List.of(existingSetId, missingSetId));
+
+        // Assert
+        assertThat(result).containsOnlyKeys(existingSetId);
+        assertThat(result.get(existingSetId)).containsEntry("param1", "value1");
+        verify(storageProvider, never()).getJobById(any(UUID.class));
+        verify(parameterStoragePort, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("should not query the storage for an empty ID list")
+    void loadParametersBySetIds_NoIds_ReturnsEmpty() {
+        // Act
+        Map<UUID, Map<String, Object>> result = adapter.loadParametersBySetIds(List.of());
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(parameterStoragePort, never()).findByIds(any());
+    }
 }
@@ -0,0 +1,202 @@
+package ch.css.jobrunr.control.infrastructure.jobrunr.execution;
+
+import ch.css.jobrunr.control.domain.BusinessStatus;
+import ch.css.jobrunr.control.domain.JobExecutionCursor;
+import ch.css.jobrunr.control.domain.JobExecutionQuery;
+import ch.css.jobrunr.control.domain.JobExecutionSortKey;
+import ch.css.jobrunr.control.domain.JobExecutionSummary;
+import ch.css.jobrunr.control.domain.JobStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryJobExecutionIndexAdapter")
+class InMemoryJobExecutionIndexAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+
+    private InMemoryJobExecutionIndexAdapter index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryJobExecutionIndexAdapter();
+    }
+
+    @Test
+    @DisplayName("should not be ready before the first reconciliation")
+    void isReady_BeforeReplaceAll_ReturnsFalse() {
+        // Act
+        index.put(summary(UUID.randomUUID(), "ReportJob", JobStatus.ENQUEUED, null));
+
+        // Assert
+        assertThat(index.isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should filter, sort and page indexed executions")
+    void find_StatusFilterAndStartedAtDesc_ReturnsRequestedPage() {
+        // Arrange
+        JobExecutionSummary oldest = summary(UUID.randomUUID(), "ReportJob", JobStatus.SUCCEEDED, NOW.minusSeconds(30));
+        JobExecutionSummary middle = summary(UUID.randomUUID(), "ImportJob", JobStatus.SUCCEEDED, NOW.minusSeconds(20));
+        JobExecutionSummary newest = summary(UUID.randomUUID(), "ReportJob", JobStatus.SUCCEEDED, NOW.minusSeconds(10));
+        JobExecutionSummary failed = summary(UUID.randomUUID(), "ReportJob", JobStatus.FAILED, NOW);
+        index.replaceAll(index.currentVersion(), List.of(oldest, middle, newest, failed));
+
+        // Act
+        List<JobExecutionSummary> firstPage = index.find(
+                new JobExecutionQuery(JobStatus.SUCCEEDED, null, JobExecutionSortKey.STARTED_AT, false, 0, 2));
+        List<JobExecutionSummary> secondPage = index.find(
+                new JobExecutionQuery(JobStatus.SUCCEEDED, null, JobExecutionSortKey.STARTED_AT, false, 1, 2));
+
+        // Assert
+        assertThat(index.isReady()).isTrue();
+        assertThat(firstPage).containsExactly(newest, middle);
+        assertThat(secondPage).containsExactly(oldest);
+        assertThat(index.count(JobStatus.SUCCEEDED, null)).isEqualTo(3);
+        assertThat(index.count(null, "ReportJob")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should page relative to the cursor row even if rows were added in front of it")
+    void find_Cursor_ReturnsRowsNextToBoundaryRow() {
+        // Arrange
+        JobExecutionSummary first = summary(UUID.randomUUID(), "ReportJob", JobStatus.SUCCEEDED, NOW.minusSeconds(40));
+        JobExecutionSummary second = summary(UUID.randomUUID(), "ReportJob", JobStatus.SUCCEEDED, NOW.minusSeconds(30));
+        JobExecutionSummary third = summary(UUID.randomUUID(), "ReportJob", JobStatus.SUCCEEDED, NOW.minusSeconds(20));
+        JobExecutionSummary fourth = summary(UUID.randomUUID(), "ReportJob", JobStatus.SUCCEEDED, NOW.minusSeconds(10));
+        index.replaceAll(index.currentVersion(), List.of(first, second, third, fourth));
+        index.put(summary(UUID.randomUUID(), "ReportJob", JobStatus.SUCCEEDED, NOW.minusSeconds(50)));
+
+        // Act
+        List<JobExecutionSummary> nextPage = index.find(new JobExecutionQuery(null, null, JobExecutionSortKey.STARTED_AT, true, 1, 2,
+                JobExecutionCursor.after(JobExecutionSortKey.STARTED_AT, second)));
+        List<JobExecutionSummary> previousPage = index.find(new JobExecutionQuery(null, null, JobExecutionSortKey.STARTED_AT, true, 0, 2,
+                JobExecutionCursor.before(JobExecutionSortKey.STARTED_AT, fourth)));
+
+        // Assert
+        assertThat(nextPage).containsExactly(third, fourth);
+        assertThat(previousPage).containsExactly(second, third);
+    }
+
+    @Test
+    @DisplayName("should page descending rows with equal sort values in exactly the reverse ascending order")
+    void find_DescendingTies_ReversesAscendingOrder() {
+        // Arrange
+        List<JobExecutionSummary> tied = List.of(
+                summary(UUID.randomUUID(), "ReportJob", JobStatus.SUCCEEDED, NOW),
+                summary(UUID.randomUUID(), "ReportJob", JobStatus.SUCCEEDED, NOW),
+                summary(UUID.randomUUID(), "ReportJob", JobStatus.SUCCEEDED, NOW));
+        index.replaceAll(index.currentVersion(), tied);
+        List<JobExecutionSummary> ascending = index.find(new JobExecutionQuery(null, null, JobExecutionSortKey.STARTED_AT, true, 0, 3));
+
+        // Act
+        List<JobExecutionSummary> firstPage = index.find(new JobExecutionQuery(null, null, JobExecutionSortKey.STARTED_AT, false, 0, 1));
+        List<JobExecutionSummary> nextPage = index.find(new JobExecutionQuery(null, null, JobExecutionSortKey.STARTED_AT, false, 1, 2,
+                JobExecutionCursor.after(JobExecutionSortKey.STARTED_AT, firstPage.getLast())));
+
+        // Assert
+        assertThat(firstPage).containsExactly(ascending.get(2));
+        assertThat(nextPage).containsExactly(ascending.get(1), ascending.get(0));
+    }
+
+    @Test
+    @DisplayName("should keep sorted pages and counts up to date on state transitions")
+    void put_StateTransition_UpdatesPagesAndCounts() {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        JobExecutionSummary other = summary(UUID.randomUUID(), "ReportJob", JobStatus.SUCCEEDED, NOW.minusSeconds(10));
+        index.replaceAll(index.currentVersion(), List.of(summary(jobId, "ReportJob", JobStatus.PROCESSING, NOW.minusSeconds(20)), other));
+        index.find(new JobExecutionQuery(null, null, JobExecutionSortKey.STATUS, true, 0, 10));
+
+        // Act
+        JobExecutionSummary failed = summary(jobId, "ReportJob", JobStatus.FAILED, NOW.minusSeconds(20));
+        index.put(failed);
+
+        // Assert
+        assertThat(index.find(new JobExecutionQuery(null, null, JobExecutionSortKey.STATUS, true, 0, 10)))
+                .containsExactlyInAnyOrder(failed, other);
+        assertThat(index.find(new JobExecutionQuery(JobStatus.FAILED, null, JobExecutionSortKey.STARTED_AT, true, 0, 10)))
+                .containsExactly(failed);
+        assertThat(index.count(JobStatus.PROCESSING, null)).isZero();
+        assertThat(index.count(JobStatus.FAILED, "ReportJob")).isEqualTo(1);
+        assertThat(index.count(null, null)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should fall back to the page offset for a cursor with an invalid sort value")
+    void find_InvalidCursor_UsesOffset() {
+        // Arrange
+        JobExecutionSummary older = summary(UUID.randomUUID(), "ReportJob", JobStatus.SUCCEEDED, NOW.minusSeconds(20));
+        JobExecutionSummary newer = summary(UUID.randomUUID(), "ReportJob", JobStatus.SUCCEEDED, NOW.minusSeconds(10));
+        index.replaceAll(index.currentVersion(), List.of(older, newer));
+        JobExecutionCursor invalid = new JobExecutionCursor(JobExecutionSortKey.STATUS, "UNKNOWN", UUID.randomUUID(), false);
+
+        // Act
+        List<JobExecutionSummary> result = index.find(
+                new JobExecutionQuery(null, null, JobExecutionSortKey.STATUS, true, 1, 1, invalid));
+
+        // Assert
+        assertThat(result).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("should keep state transitions applied while a snapshot was loading")
+    void replaceAll_ConcurrentTransition_KeepsNewerEntry() {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        long snapshotVersion = index.currentVersion();
+        JobExecutionSummary transitioned = summary(jobId, "ReportJob", JobStatus.SUCCEEDED, NOW);
+        index.put(transitioned);
+
+        // Act
+        index.replaceAll(snapshotVersion, List.of(summary(jobId, "ReportJob", JobStatus.PROCESSING, NOW)));
+
+        // Assert
+        assertThat(index.findById(jobId)).contains(transitioned);
+    }
+
+    @Test
+    @DisplayName("should not resurrect executions removed while a snapshot was loading")
+    void replaceAll_RemovedDuringSnapshot_StaysRemoved() {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        index.replaceAll(index.currentVersion(), List.of(summary(jobId, "ReportJob", JobStatus.SUCCEEDED, NOW)));
+        long snapshotVersion = index.currentVersion();
+        index.remove(jobId);
+
+        // Act
+        index.replaceAll(snapshotVersion, List.of(summary(jobId, "ReportJob", JobStatus.SUCCEEDED, NOW)));
+
+        // Assert
+        assertThat(index.findById(jobId)).isEmpty();
+        assertThat(index.count(null, null)).isZero();
+    }
+
+    @Test
+    @DisplayName("should drop executions missing from a newer snapshot")
+    void replaceAll_MissingFromSnapshot_RemovesEntry() {
+        // Arrange
+        UUID keptId = UUID.randomUUID();
+        UUID droppedId = UUID.randomUUID();
+        index.replaceAll(index.currentVersion(), List.of(
+                summary(keptId, "ReportJob", JobStatus.SUCCEEDED, NOW),
+                summary(droppedId, "ReportJob", JobStatus.SUCCEEDED, NOW)));
+
+        // Act
+        index.replaceAll(index.currentVersion(), List.of(summary(keptId, "ReportJob", JobStatus.SUCCEEDED, NOW)));
+
+        // Assert
+        assertThat(index.findById(keptId)).isPresent();
+        assertThat(index.findById(droppedId)).isEmpty();
+    }
+
+    private static JobExecutionSummary summary(UUID jobId, String jobType, JobStatus status, Instant startedAt) {
+        return new JobExecutionSummary(jobId, jobType + " run", jobType, status, startedAt, startedAt, null, BusinessStatus.NONE, false);
+    }
+}
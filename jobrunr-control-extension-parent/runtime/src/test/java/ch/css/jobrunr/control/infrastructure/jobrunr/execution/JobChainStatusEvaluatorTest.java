@@ -8,11 +8,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -143,6 +145,28 @@ class JobChainStatusEvaluatorTest {
         assertEquals(JobStatus.SUCCEEDED, result.overallStatus());
     }
 
+    @Test
+    void evaluateChainStatus_withContinuationLookup_doesNotQueryStorage() {
+        // Given: Parent -> Intermediate -> Leaf structure, loaded up front
+        UUID parentJobId = UUID.randomUUID();
+        Job intermediateJob = createMockJob(UUID.randomUUID());
+        Job leafJob = createMockJob(UUID.randomUUID());
+        Map<UUID, List<Job>> continuations = Map.of(
+                parentJobId, List.of(intermediateJob),
+                intermediateJob.getId(), List.of(leafJob));
+
+        when(jobStateMapper.mapJobState(any())).thenReturn(JobStatus.FAILED);
+
+        // When
+        var result = evaluator.evaluateChainStatus(parentJobId, JobStatus.SUCCEEDED,
+                jobId -> continuations.getOrDefault(jobId, List.of()));
+
+        // Then
+        assertTrue(result.isComplete());
+        assertEquals(JobStatus.FAILED, result.overallStatus());
+        verifyNoInteractions(storageProvider);
+    }
+
     /**
      * Helper method to create a mock Job.
      */
@@ -0,0 +1,317 @@
+package ch.css.jobrunr.control.infrastructure.jobrunr.execution;
+
+import ch.css.jobrunr.control.domain.JobDefinition;
+import ch.css.jobrunr.control.domain.JobDefinitionDiscoveryService;
+import ch.css.jobrunr.control.domain.JobExecutionCursor;
+import ch.css.jobrunr.control.domain.JobExecutionInfo;
+import ch.css.jobrunr.control.domain.JobExecutionPage;
+import ch.css.jobrunr.control.domain.JobExecutionQuery;
+import ch.css.jobrunr.control.domain.JobExecutionSortKey;
+import ch.css.jobrunr.control.domain.JobSettings;
+import ch.css.jobrunr.control.domain.ParameterCodecPort;
+import ch.css.jobrunr.control.domain.ParameterSetLoaderPort;
+import ch.css.jobrunr.control.domain.exceptions.JobNotFoundException;
+import ch.css.jobrunr.control.infrastructure.jobrunr.ConfigurableJobSearchAdapter;
+import ch.css.jobrunr.control.infrastructure.jobrunr.ConfigurableJobSearchAdapter.ConfigurableJobSearchResult;
+import ch.css.jobrunr.control.infrastructure.jobrunr.ConfigurableJobSearchAdapter.CreatedAtRange;
+import ch.css.jobrunr.control.infrastructure.jobrunr.ConfigurableJobSearchAdapter.SearchSegment;
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.states.JobState;
+import org.jobrunr.jobs.states.ProcessingState;
+import org.jobrunr.jobs.states.StateName;
+import org.jobrunr.storage.StorageProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobRunrExecutionAdapter")
+class JobRunrExecutionAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+
+    private static final JobDefinition IMPORT_JOB = jobDefinition("ImportJob");
+    private static final JobDefinition REPORT_JOB = jobDefinition("ReportJob");
+
+    private static final SearchSegment IMPORT_SUCCEEDED = new SearchSegment(StateName.SUCCEEDED, IMPORT_JOB);
+    private static final SearchSegment REPORT_SUCCEEDED = new SearchSegment(StateName.SUCCEEDED, REPORT_JOB);
+    private static final SearchSegment REPORT_FAILED = new SearchSegment(StateName.FAILED, REPORT_JOB);
+
+    @Mock
+    private StorageProvider storageProvider;
+
+    @Mock
+    private JobDefinitionDiscoveryService jobDefinitionDiscoveryService;
+
+    @Mock
+    private ConfigurableJobSearchAdapter configurableJobSearchAdapter;
+
+    @Mock
+    private JobChainStatusEvaluator jobChainStatusEvaluator;
+
+    @Mock
+    private ParameterSetLoaderPort parameterSetLoader;
+
+    @Mock
+    private ParameterCodecPort parameterCodec;
+
+    private JobRunrExecutionAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        JobStateMapper jobStateMapper = new JobStateMapper();
+        adapter = new JobRunrExecutionAdapter(storageProvider, jobDefinitionDiscoveryService, configurableJobSearchAdapter,
+                jobChainStatusEvaluator, jobStateMapper, new JobExecutionSummaryMapper(jobDefinitionDiscoveryService, jobStateMapper),
+                parameterSetLoader, parameterCodec);
+        lenient().when(configurableJobSearchAdapter.createSegments(any(), any()))
+                .thenReturn(List.of(IMPORT_SUCCEEDED, REPORT_SUCCEEDED, REPORT_FAILED));
+    }
+
+    @Test
+    @DisplayName("should query only the segments overlapping a page grouped by job type, with their own offset and limit")
+    void getJobExecutions_JobTypePage_QueriesOverlappingSegments() {
+        // Arrange
+        givenSegmentCounts(3, 0, 2);
+        Job lastImport = job(NOW, null);
+        Job firstReport = job(NOW, null);
+        when(configurableJobSearchAdapter.getJobs(IMPORT_SUCCEEDED, "updatedAt:DESC", 2, 1))
+                .thenReturn(List.of(new ConfigurableJobSearchResult(IMPORT_JOB, lastImport)));
+        when(configurableJobSearchAdapter.getJobs(REPORT_FAILED, "updatedAt:DESC", 0, 1))
+                .thenReturn(List.of(new ConfigurableJobSearchResult(REPORT_JOB, firstReport)));
+
+        // Act
+        JobExecutionPage page = adapter.getJobExecutions(
+                new JobExecutionQuery(null, null, JobExecutionSortKey.JOB_TYPE, true, 1, 2));
+
+        // Assert
+        assertThat(page.totalElements()).isEqualTo(5);
+        assertThat(page.executions()).extracting(JobExecutionInfo::jobId)
+                .containsExactly(lastImport.getId(), firstReport.getId());
+        verify(configurableJobSearchAdapter, never()).getJobs(eq(REPORT_SUCCEEDED), anyString(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("should reject a sort the job storage cannot push down instead of serving another order")
+    void getJobExecutions_StartedAtSort_IsRejected() {
+        // Arrange
+        JobExecutionQuery query = new JobExecutionQuery(null, null, JobExecutionSortKey.STARTED_AT, true, 0, 10);
+
+        // Act & Assert
+        assertThat(adapter.supportsSort(JobExecutionSortKey.STARTED_AT)).isFalse();
+        assertThat(adapter.supportsSort(JobExecutionSortKey.CREATED_AT)).isTrue();
+        assertThatThrownBy(() -> adapter.getJobExecutions(query))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("STARTED_AT");
+        verify(configurableJobSearchAdapter, never()).countJobs(any());
+    }
+
+    @Test
+    @DisplayName("should merge the first offset + size rows of every segment for a page sorted by creation time")
+    void getJobExecutions_CreatedAtPage_MergesSegmentWindows() {
+        // Arrange
+        givenSegmentCounts(1500, 1000, 0);
+        Job newest = job(NOW, null);
+        Job second = job(NOW.minusSeconds(10), null);
+        Job third = job(NOW.minusSeconds(20), null);
+        Job fourth = job(NOW.minusSeconds(30), null);
+        ArgumentCaptor<ToIntFunction<SearchSegment>> limit = limitCaptor();
+        when(configurableJobSearchAdapter.getJobs(eq(List.of(IMPORT_SUCCEEDED, REPORT_SUCCEEDED)), eq("createdAt:DESC"), limit.capture()))
+                .thenReturn(List.of(
+                        new ConfigurableJobSearchResult(IMPORT_JOB, newest),
+                        new ConfigurableJobSearchResult(IMPORT_JOB, third),
+                        new ConfigurableJobSearchResult(REPORT_JOB, second),
+                        new ConfigurableJobSearchResult(REPORT_JOB, fourth)));
+
+        // Act
+        JobExecutionPage page = adapter.getJobExecutions(
+                new JobExecutionQuery(null, null, JobExecutionSortKey.CREATED_AT, false, 1, 1));
+
+        // Assert
+        assertThat(page.totalElements()).isEqualTo(2500);
+        assertThat(page.executions()).extracting(JobExecutionInfo::jobId).containsExactly(second.getId());
+        assertThat(limit.getValue().applyAsInt(IMPORT_SUCCEEDED)).isEqualTo(2);
+        assertThat(limit.getValue().applyAsInt(REPORT_SUCCEEDED)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should read a page at the end of the history from its end in the reverse order")
+    void getJobExecutions_LastPage_ReadsFromEnd() {
+        // Arrange
+        givenSegmentCounts(1500, 999, 0);
+        Job oldest = job(NOW.minusSeconds(30), null);
+        Job secondOldest = job(NOW.minusSeconds(20), null);
+        Job thirdOldest = job(NOW.minusSeconds(10), null);
+        ArgumentCaptor<ToIntFunction<SearchSegment>> limit = limitCaptor();
+        when(configurableJobSearchAdapter.getJobs(eq(List.of(IMPORT_SUCCEEDED, REPORT_SUCCEEDED)), eq("createdAt:ASC"), limit.capture()))
+                .thenReturn(List.of(
+                        new ConfigurableJobSearchResult(IMPORT_JOB, secondOldest),
+                        new ConfigurableJobSearchResult(IMPORT_JOB, thirdOldest),
+                        new ConfigurableJobSearchResult(REPORT_JOB, oldest)));
+
+        // Act: rows 2496 to 2498 of 2499, newest first
+        JobExecutionPage page = adapter.getJobExecutions(
+                new JobExecutionQuery(null, null, JobExecutionSortKey.CREATED_AT, false, 832, 3));
+
+        // Assert
+        assertThat(page.executions()).extracting(JobExecutionInfo::jobId)
+                .containsExactly(thirdOldest.getId(), secondOldest.getId(), oldest.getId());
+        assertThat(limit.getValue().applyAsInt(IMPORT_SUCCEEDED)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should seek to the cursor in storage and skip the jobs created at the same time but already shown")
+    void getJobExecutions_CreatedAtCursor_SeeksFromBoundaryRow() {
+        // Arrange
+        givenSegmentCounts(1500, 1000, 0);
+        UUID boundaryId = UUID.fromString("00000000-0000-0000-0000-000000000005");
+        Job boundary = job(boundaryId, NOW);
+        Job shownTie = job(UUID.fromString("00000000-0000-0000-0000-000000000009"), NOW);
+        Job nextTie = job(UUID.fromString("00000000-0000-0000-0000-000000000001"), NOW);
+        Job older = job(UUID.randomUUID(), NOW.minusSeconds(10));
+        Job oldest = job(UUID.randomUUID(), NOW.minusSeconds(20));
+        List<SearchSegment> segments = List.of(IMPORT_SUCCEEDED, REPORT_SUCCEEDED);
+        when(configurableJobSearchAdapter.countJobs(segments, new CreatedAtRange(NOW.minusNanos(1), NOW.plusNanos(1))))
+                .thenReturn(Map.of(IMPORT_SUCCEEDED, 3L, REPORT_SUCCEEDED, 0L));
+        ArgumentCaptor<ToIntFunction<SearchSegment>> limit = limitCaptor();
+        when(configurableJobSearchAdapter.getJobs(eq(segments), eq(new CreatedAtRange(null, NOW.plusNanos(1))),
+                eq("createdAt:DESC"), limit.capture()))
+                .thenReturn(List.of(
+                        new ConfigurableJobSearchResult(IMPORT_JOB, shownTie),
+                        new ConfigurableJobSearchResult(IMPORT_JOB, boundary),
+                        new ConfigurableJobSearchResult(IMPORT_JOB, nextTie),
+                        new ConfigurableJobSearchResult(IMPORT_JOB, oldest),
+                        new ConfigurableJobSearchResult(REPORT_JOB, older)));
+        JobExecutionCursor cursor = new JobExecutionCursor(JobExecutionSortKey.CREATED_AT, NOW.toString(), boundaryId, false);
+
+        // Act: a page deep in the history, resolved from the cursor instead of its offset
+        JobExecutionPage page = adapter.getJobExecutions(
+                new JobExecutionQuery(null, null, JobExecutionSortKey.CREATED_AT, false, 700, 2, cursor));
+
+        // Assert
+        assertThat(page.totalElements()).isEqualTo(2500);
+        assertThat(page.executions()).extracting(JobExecutionInfo::jobId).containsExactly(nextTie.getId(), older.getId());
+        assertThat(limit.getValue().applyAsInt(IMPORT_SUCCEEDED)).isEqualTo(5);
+        assertThat(limit.getValue().applyAsInt(REPORT_SUCCEEDED)).isEqualTo(2);
+        assertThat(page.previous()).isEqualTo(
+                new JobExecutionCursor(JobExecutionSortKey.CREATED_AT, NOW.toString(), nextTie.getId(), true));
+        assertThat(page.next()).isEqualTo(
+                new JobExecutionCursor(JobExecutionSortKey.CREATED_AT, NOW.minusSeconds(10).toString(), older.getId(), false));
+        verify(configurableJobSearchAdapter, never()).getJobs(any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("should read the page before a cursor from storage in the reverse order")
+    void getJobExecutions_CreatedAtBackwardCursor_ReadsTowardsNewerJobs() {
+        // Arrange
+        givenSegmentCounts(1500, 1000, 0);
+        UUID boundaryId = UUID.randomUUID();
+        Job newer = job(UUID.randomUUID(), NOW.plusSeconds(10));
+        Job newest = job(UUID.randomUUID(), NOW.plusSeconds(20));
+        List<SearchSegment> segments = List.of(IMPORT_SUCCEEDED, REPORT_SUCCEEDED);
+        when(configurableJobSearchAdapter.countJobs(segments, new CreatedAtRange(NOW.minusNanos(1), NOW.plusNanos(1))))
+                .thenReturn(Map.of(IMPORT_SUCCEEDED, 0L, REPORT_SUCCEEDED, 0L));
+        when(configurableJobSearchAdapter.getJobs(eq(segments), eq(new CreatedAtRange(NOW.minusNanos(1), null)),
+                eq("createdAt:ASC"), any()))
+                .thenReturn(List.of(
+                        new ConfigurableJobSearchResult(IMPORT_JOB, newest),
+                        new ConfigurableJobSearchResult(REPORT_JOB, newer)));
+        JobExecutionCursor cursor = new JobExecutionCursor(JobExecutionSortKey.CREATED_AT, NOW.toString(), boundaryId, true);
+
+        // Act
+        JobExecutionPage page = adapter.getJobExecutions(
+                new JobExecutionQuery(null, null, JobExecutionSortKey.CREATED_AT, false, 0, 10, cursor));
+
+        // Assert: newest first, as the query asks
+        assertThat(page.executions()).extracting(JobExecutionInfo::jobId).containsExactly(newest.getId(), newer.getId());
+    }
+
+    @Test
+    @DisplayName("should map a missing job to JobNotFoundException when reading batch progress")
+    void getBatchProgress_MissingJob_ThrowsJobNotFound() {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        when(storageProvider.getJobById(jobId)).thenThrow(new org.jobrunr.storage.JobNotFoundException(jobId));
+
+        // Act & Assert
+        assertThatThrownBy(() -> adapter.getBatchProgress(jobId)).isInstanceOf(JobNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("should propagate storage errors when reading batch progress")
+    void getBatchProgress_StorageError_Propagates() {
+        // Arrange
+        UUID jobId = UUID.randomUUID();
+        IllegalStateException failure = new IllegalStateException("Connection refused");
+        when(storageProvider.getJobById(jobId)).thenThrow(failure);
+
+        // Act & Assert
+        assertThatThrownBy(() -> adapter.getBatchProgress(jobId)).isSameAs(failure);
+    }
+
+    private void givenSegmentCounts(long importSucceeded, long reportSucceeded, long reportFailed) {
+        Map<SearchSegment, Long> counts = new LinkedHashMap<>();
+        counts.put(IMPORT_SUCCEEDED, importSucceeded);
+        counts.put(REPORT_SUCCEEDED, reportSucceeded);
+        counts.put(REPORT_FAILED, reportFailed);
+        when(configurableJobSearchAdapter.countJobs(List.of(IMPORT_SUCCEEDED, REPORT_SUCCEEDED, REPORT_FAILED))).thenReturn(counts);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<ToIntFunction<SearchSegment>> limitCaptor() {
+        return ArgumentCaptor.forClass(ToIntFunction.class);
+    }
+
+    private static Job job(UUID jobId, Instant createdAt) {
+        Job job = job(createdAt, null);
+        lenient().when(job.getId()).thenReturn(jobId);
+        return job;
+    }
+
+    private static Job job(Instant createdAt, Instant startedAt) {
+        Job job = mock(Job.class);
+        lenient().when(job.getId()).thenReturn(UUID.randomUUID());
+        lenient().when(job.getJobName()).thenReturn("Job");
+        lenient().when(job.getCreatedAt()).thenReturn(createdAt);
+        if (startedAt != null) {
+            ProcessingState processing = mock(ProcessingState.class);
+            lenient().when(processing.getCreatedAt()).thenReturn(startedAt);
+            lenient().when(job.getJobStates()).thenReturn(List.<JobState>of(processing));
+        }
+        return job;
+    }
+
+    private static JobDefinition jobDefinition(String jobType) {
+        return new JobDefinition(
+                jobType, false, jobType + "Request", "com.example." + jobType,
+                List.of(), List.of(),
+                new JobSettings(null, false, 0, List.of(), List.of(), null, null, null, null, null, null, null, null),
+                false, null,
+                List.of(),
+                null
+        );
+    }
+}
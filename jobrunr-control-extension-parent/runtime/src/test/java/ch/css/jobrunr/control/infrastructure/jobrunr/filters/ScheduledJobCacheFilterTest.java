@@ -0,0 +1,68 @@
+package ch.css.jobrunr.control.infrastructure.jobrunr.filters;
+
+import ch.css.jobrunr.control.infrastructure.jobrunr.scheduler.ScheduledJobCache;
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.states.JobState;
+import org.jobrunr.jobs.states.StateName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduledJobCacheFilter")
+class ScheduledJobCacheFilterTest {
+
+    @Mock
+    private ScheduledJobCache cache;
+
+    @Mock
+    private Job job;
+
+    private ScheduledJobCacheFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ScheduledJobCacheFilter(cache);
+    }
+
+    @Test
+    @DisplayName("should invalidate the cache when a scheduled job is enqueued")
+    void onStateApplied_ScheduledToEnqueued_Invalidates() {
+        // Act
+        filter.onStateApplied(job, state(StateName.SCHEDULED), state(StateName.ENQUEUED));
+
+        // Assert
+        verify(cache).invalidate();
+    }
+
+    @Test
+    @DisplayName("should invalidate the cache when a failed job is scheduled for a retry")
+    void onStateApplied_FailedToScheduled_Invalidates() {
+        // Act
+        filter.onStateApplied(job, state(StateName.FAILED), state(StateName.SCHEDULED));
+
+        // Assert
+        verify(cache).invalidate();
+    }
+
+    @Test
+    @DisplayName("should ignore transitions that do not involve the SCHEDULED state")
+    void onStateApplied_ProcessingToSucceeded_DoesNothing() {
+        // Act
+        filter.onStateApplied(job, state(StateName.PROCESSING), state(StateName.SUCCEEDED));
+
+        // Assert
+        verifyNoInteractions(cache);
+    }
+
+    private static JobState state(StateName name) {
+        JobState state = mock(JobState.class);
+        when(state.getName()).thenReturn(name);
+        return state;
+    }
+}
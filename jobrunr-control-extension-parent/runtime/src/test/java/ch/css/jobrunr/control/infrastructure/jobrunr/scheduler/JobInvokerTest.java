@@ -0,0 +1,71 @@
+package ch.css.jobrunr.control.infrastructure.jobrunr.scheduler;
+
+import ch.css.jobrunr.control.domain.JobDefinition;
+import ch.css.jobrunr.control.domain.JobDefinitionDiscoveryService;
+import ch.css.jobrunr.control.domain.JobSettings;
+import ch.css.jobrunr.control.domain.ParameterCodecPort;
+import ch.css.jobrunr.control.domain.exceptions.JobSchedulingException;
+import org.jobrunr.scheduling.JobRequestScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobInvoker")
+class JobInvokerTest {
+
+    @Mock
+    private JobRequestScheduler jobScheduler;
+
+    @Mock
+    private ParameterCodecPort parameterCodec;
+
+    @Mock
+    private JobDefinitionDiscoveryService jobDefinitionDiscoveryService;
+
+    private JobInvoker jobInvoker;
+
+    @BeforeEach
+    void setUp() {
+        jobInvoker = new JobInvoker(jobScheduler, parameterCodec, jobDefinitionDiscoveryService);
+    }
+
+    @Test
+    @DisplayName("should reject a job whose JobRequest class is missing without scheduling it")
+    void scheduleJob_MissingJobRequestClass_ThrowsJobSchedulingException() {
+        // Arrange
+        JobDefinition jobDefinition = jobDefinition();
+        when(jobDefinitionDiscoveryService.findJobRequestClass(jobDefinition)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> jobInvoker.scheduleJob(UUID.randomUUID(), "Report", jobDefinition, Map.of(), Instant.now()))
+                .isInstanceOf(JobSchedulingException.class)
+                .hasMessage("JobRequest class 'com.example.ReportJobRequest' of job type 'ReportJob' not found")
+                .hasNoCause();
+        verifyNoInteractions(parameterCodec, jobScheduler);
+    }
+
+    private static JobDefinition jobDefinition() {
+        return new JobDefinition(
+                "ReportJob", false, "com.example.ReportJobRequest", "com.example.ReportJob",
+                List.of(), List.of(),
+                new JobSettings(null, false, 0, List.of(), List.of(), null, null, null, null, null, null, null, null),
+                false, null,
+                List.of(),
+                null
+        );
+    }
+}
@@ -3,7 +3,11 @@ package ch.css.jobrunr.control.infrastructure.jobrunr.scheduler;
 import ch.css.jobrunr.control.domain.JobDefinition;
 import ch.css.jobrunr.control.domain.JobDefinitionDiscoveryService;
 import ch.css.jobrunr.control.domain.JobSettings;
+import ch.css.jobrunr.control.domain.ParameterCodecPort;
 import ch.css.jobrunr.control.domain.ScheduledJobInfo;
+import ch.css.jobrunr.control.domain.TemplateCatalogEntry;
+import ch.css.jobrunr.control.domain.exceptions.DuplicateTemplateNameException;
+import ch.css.jobrunr.control.infrastructure.config.ScheduledJobCacheConfiguration;
 import org.jobrunr.jobs.Job;
 import org.jobrunr.jobs.JobDetails;
 import org.jobrunr.jobs.states.StateName;
@@ -20,13 +24,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,11 +54,23 @@ class JobRunrSchedulerAdapterTest {
     @Mock
     private JobDefinitionDiscoveryService jobDefinitionDiscoveryService;
 
+    @Mock
+    private ParameterCodecPort parameterCodec;
+
+    @Mock
+    private ScheduledJobCacheConfiguration cacheConfiguration;
+
+    private TemplateCatalog templateCatalog;
+
     private JobRunrSchedulerAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new JobRunrSchedulerAdapter(jobScheduler, storageProvider, jobInvoker, jobDefinitionDiscoveryService);
+        when(cacheConfiguration.enabled()).thenReturn(true);
+        when(cacheConfiguration.ttl()).thenReturn(Duration.ofMinutes(1));
+        templateCatalog = new TemplateCatalog();
+        adapter = new JobRunrSchedulerAdapter(jobScheduler, storageProvider, jobInvoker, jobDefinitionDiscoveryService,
+                new ScheduledJobCache(cacheConfiguration), templateCatalog, parameterCodec);
     }
 
     @Test
@@ -72,6 +92,68 @@ class JobRunrSchedulerAdapterTest {
         assertThat(result.getFirst().getJobDefinition().jobType()).isEqualTo("ConfigurableHandler");
     }
 
+    @Test
+    @DisplayName("getScheduledJobs serves repeated calls from the cache until a job is deleted")
+    void getScheduledJobs_cachedUntilDelete() {
+        Job job = mockJob(UUID.randomUUID(), "com.example.ConfigurableHandler", "Configurable");
+        when(storageProvider.getJobList(any(JobSearchRequest.class), any(AmountRequest.class)))
+                .thenReturn(List.of(job));
+        when(jobDefinitionDiscoveryService.findJobByHandlerClassName("com.example.ConfigurableHandler"))
+                .thenReturn(Optional.of(jobDefinition("ConfigurableHandler", "com.example.ConfigurableHandler")));
+
+        adapter.getScheduledJobs();
+        adapter.getScheduledJobs();
+        verify(storageProvider, times(1)).getJobList(any(JobSearchRequest.class), any(AmountRequest.class));
+
+        adapter.deleteScheduledJob(job.getId());
+        adapter.getScheduledJobs();
+        verify(storageProvider, times(2)).getJobList(any(JobSearchRequest.class), any(AmountRequest.class));
+    }
+
+    @Test
+    @DisplayName("findTemplateByName answers from the template catalog after one storage load")
+    void findTemplateByName_servedFromCatalog() {
+        UUID templateId = UUID.randomUUID();
+        Job template = mockJob(templateId, "com.example.ConfigurableHandler", "NightlyExport");
+        when(template.getLabels()).thenReturn(List.of("template"));
+        when(storageProvider.getJobList(any(JobSearchRequest.class), any(AmountRequest.class)))
+                .thenReturn(List.of(template));
+        when(jobDefinitionDiscoveryService.findJobByHandlerClassName("com.example.ConfigurableHandler"))
+                .thenReturn(Optional.of(jobDefinition("ConfigurableHandler", "com.example.ConfigurableHandler")));
+
+        assertThat(adapter.findTemplateByName("NightlyExport"))
+                .map(TemplateCatalogEntry::templateId).contains(templateId);
+        assertThat(adapter.findTemplateByName("Unknown")).isEmpty();
+        assertThatThrownBy(() -> adapter.assertTemplateNameUnique("NightlyExport", null))
+                .isInstanceOf(DuplicateTemplateNameException.class);
+        adapter.assertTemplateNameUnique("NightlyExport", templateId);
+
+        verify(storageProvider, times(1)).getJobList(any(JobSearchRequest.class), any(AmountRequest.class));
+    }
+
+    @Test
+    @DisplayName("findTemplateByName reloads the catalog when its rebuild was discarded although the cache is fresh")
+    void findTemplateByName_catalogStaleWhileCacheFresh_reloadsCatalog() {
+        UUID templateId = UUID.randomUUID();
+        Job template = mockJob(templateId, "com.example.ConfigurableHandler", "NightlyExport");
+        when(template.getLabels()).thenReturn(List.of("template"));
+        // A template change on this node while the scheduled jobs are loading discards the catalog rebuild
+        when(storageProvider.getJobList(any(JobSearchRequest.class), any(AmountRequest.class)))
+                .thenAnswer(invocation -> {
+                    templateCatalog.remove(UUID.randomUUID());
+                    return List.of(template);
+                })
+                .thenReturn(List.of(template));
+        when(jobDefinitionDiscoveryService.findJobByHandlerClassName("com.example.ConfigurableHandler"))
+                .thenReturn(Optional.of(jobDefinition("ConfigurableHandler", "com.example.ConfigurableHandler")));
+
+        adapter.getScheduledJobs();
+
+        assertThat(adapter.findTemplateByName("NightlyExport"))
+                .map(TemplateCatalogEntry::templateId).contains(templateId);
+        verify(storageProvider, times(2)).getJobList(any(JobSearchRequest.class), any(AmountRequest.class));
+    }
+
     @Test
     @DisplayName("getScheduledJobById returns null when handler has no @ConfigurableJob definition")
     void getScheduledJobById_returnsNullWhenDefinitionMissing() {
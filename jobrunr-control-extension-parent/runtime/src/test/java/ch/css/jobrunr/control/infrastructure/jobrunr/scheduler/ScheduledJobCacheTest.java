@@ -0,0 +1,133 @@
+package ch.css.jobrunr.control.infrastructure.jobrunr.scheduler;
+
+import ch.css.jobrunr.control.domain.ScheduledJobInfo;
+import ch.css.jobrunr.control.infrastructure.config.ScheduledJobCacheConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduledJobCache")
+class ScheduledJobCacheTest {
+
+    @Mock
+    private ScheduledJobCacheConfiguration configuration;
+
+    private ScheduledJobCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+    private final List<ScheduledJobInfo> jobs = List.of(mock(ScheduledJobInfo.class));
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(configuration.enabled()).thenReturn(true);
+        lenient().when(configuration.ttl()).thenReturn(Duration.ofMinutes(1));
+        cache = new ScheduledJobCache(configuration);
+    }
+
+    @Test
+    @DisplayName("should serve repeated requests from the cache")
+    void get_RepeatedRequests_LoadsOnce() {
+        // Act
+        List<ScheduledJobInfo> first = cache.get(this::load);
+        List<ScheduledJobInfo> second = cache.get(this::load);
+
+        // Assert
+        assertThat(first).isEqualTo(jobs);
+        assertThat(second).isEqualTo(jobs);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.statistics()).isEqualTo(new ScheduledJobCache.Statistics(1, 1, 0));
+        assertThat(cache.statistics().hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("should reload after an invalidation")
+    void get_AfterInvalidate_Reloads() {
+        // Arrange
+        cache.get(this::load);
+
+        // Act
+        cache.invalidate();
+        cache.get(this::load);
+
+        // Assert
+        assertThat(loads).hasValue(2);
+        assertThat(cache.statistics().invalidations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should reload once the time to live has passed")
+    void get_TtlExpired_Reloads() {
+        // Arrange
+        when(configuration.ttl()).thenReturn(Duration.ZERO);
+
+        // Act
+        cache.get(this::load);
+        cache.get(this::load);
+
+        // Assert
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should not cache a load that overlapped with an invalidation")
+    void get_InvalidatedWhileLoading_DoesNotCache() {
+        // Arrange
+        Supplier<List<ScheduledJobInfo>> racingLoader = () -> {
+            cache.invalidate();
+            return load();
+        };
+
+        // Act
+        List<ScheduledJobInfo> result = cache.get(racingLoader);
+        cache.get(this::load);
+
+        // Assert
+        assertThat(result).isEqualTo(jobs);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should not cache a failed load")
+    void get_LoaderFails_PropagatesAndReloadsNextTime() {
+        // Act & Assert
+        assertThatThrownBy(() -> cache.get(() -> {
+            throw new IllegalStateException("Storage unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+        cache.get(this::load);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("should bypass the cache when disabled")
+    void get_Disabled_AlwaysLoads() {
+        // Arrange
+        when(configuration.enabled()).thenReturn(false);
+
+        // Act
+        cache.get(this::load);
+        cache.get(this::load);
+
+        // Assert
+        assertThat(loads).hasValue(2);
+        assertThat(cache.statistics().hits()).isZero();
+    }
+
+    private List<ScheduledJobInfo> load() {
+        loads.incrementAndGet();
+        return jobs;
+    }
+}
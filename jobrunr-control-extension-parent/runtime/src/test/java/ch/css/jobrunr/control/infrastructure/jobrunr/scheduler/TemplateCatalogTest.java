@@ -0,0 +1,137 @@
+package ch.css.jobrunr.control.infrastructure.jobrunr.scheduler;
+
+import ch.css.jobrunr.control.domain.TemplateCatalogEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TemplateCatalog")
+class TemplateCatalogTest {
+
+    private TemplateCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new TemplateCatalog();
+    }
+
+    @Test
+    @DisplayName("should resolve templates by name after a rebuild")
+    void findByName_AfterRebuild_ReturnsEntry() {
+        // Arrange
+        TemplateCatalogEntry entry = entry(UUID.randomUUID(), "NightlyExport");
+
+        // Act
+        catalog.rebuild(catalog.currentVersion(), List.of(entry));
+
+        // Assert
+        assertThat(catalog.findByName("NightlyExport")).contains(entry);
+        assertThat(catalog.findByName("Unknown")).isEmpty();
+        assertThat(catalog.isFresh(Duration.ofMinutes(1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("should not be fresh before the first rebuild")
+    void isFresh_BeforeRebuild_ReturnsFalse() {
+        // Act
+        catalog.put(entry(UUID.randomUUID(), "NightlyExport"));
+
+        // Assert
+        assertThat(catalog.isFresh(Duration.ofMinutes(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("should move a renamed template to its new name")
+    void put_Renamed_ReplacesOldName() {
+        // Arrange
+        UUID templateId = UUID.randomUUID();
+        catalog.put(entry(templateId, "OldName"));
+
+        // Act
+        catalog.put(entry(templateId, "NewName"));
+
+        // Assert
+        assertThat(catalog.findByName("OldName")).isEmpty();
+        assertThat(catalog.findByName("NewName")).map(TemplateCatalogEntry::templateId).contains(templateId);
+    }
+
+    @Test
+    @DisplayName("should only remove the name if it still belongs to the removed template")
+    void remove_NameTakenOver_KeepsNewOwner() {
+        // Arrange
+        UUID oldId = UUID.randomUUID();
+        UUID newId = UUID.randomUUID();
+        catalog.put(entry(oldId, "NightlyExport"));
+        catalog.put(entry(newId, "NightlyExport"));
+
+        // Act
+        catalog.remove(oldId);
+
+        // Assert
+        assertThat(catalog.findByName("NightlyExport")).map(TemplateCatalogEntry::templateId).contains(newId);
+    }
+
+    @Test
+    @DisplayName("should discard a rebuild loaded before an incremental change")
+    void rebuild_ChangedWhileLoading_IsIgnored() {
+        // Arrange
+        long loadVersion = catalog.currentVersion();
+        TemplateCatalogEntry created = entry(UUID.randomUUID(), "Created");
+        catalog.put(created);
+
+        // Act
+        catalog.rebuild(loadVersion, List.of());
+
+        // Assert
+        assertThat(catalog.findByName("Created")).contains(created);
+        assertThat(catalog.isFresh(Duration.ofMinutes(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("should reload a stale catalog, even after a discarded rebuild")
+    void refreshIfStale_Stale_LoadsTemplates() {
+        // Arrange
+        long loadVersion = catalog.currentVersion();
+        catalog.put(entry(UUID.randomUUID(), "Created"));
+        catalog.rebuild(loadVersion, List.of());
+        TemplateCatalogEntry stored = entry(UUID.randomUUID(), "Stored");
+
+        // Act
+        catalog.refreshIfStale(Duration.ofMinutes(1), () -> List.of(stored));
+
+        // Assert
+        assertThat(catalog.findByName("Stored")).contains(stored);
+        assertThat(catalog.findByName("Created")).isEmpty();
+        assertThat(catalog.isFresh(Duration.ofMinutes(1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("should not reload a fresh catalog")
+    void refreshIfStale_Fresh_KeepsCatalog() {
+        // Arrange
+        TemplateCatalogEntry entry = entry(UUID.randomUUID(), "NightlyExport");
+        catalog.rebuild(catalog.currentVersion(), List.of(entry));
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        catalog.refreshIfStale(Duration.ofMinutes(1), () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        // Assert
+        assertThat(loads).hasValue(0);
+        assertThat(catalog.findByName("NightlyExport")).contains(entry);
+    }
+
+    private static TemplateCatalogEntry entry(UUID templateId, String name) {
+        return new TemplateCatalogEntry(templateId, name, "ExportJob", false);
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -47,6 +48,16 @@ class InlineParameterStorageAdapterTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("findByIds should always return an empty map")
+    void findByIds_AnyIds_ReturnsEmpty() {
+        // Act
+        Map<UUID, ParameterSet> result = adapter.findByIds(List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+        // Assert
+        assertThat(result).isEmpty();
+    }
+
     @Test
     @DisplayName("update should do nothing (no-op implementation)")
     void update_AnyParameterSet_DoesNothing() {
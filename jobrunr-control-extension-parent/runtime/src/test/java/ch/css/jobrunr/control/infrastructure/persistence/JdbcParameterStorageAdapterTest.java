@@ -12,9 +12,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.sql.*;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -221,5 +223,68 @@ class JdbcParameterStorageAdapterTest {
         verify(connection).close();
         // Note: Error log will include the invalid JSON content for debugging
     }
-}
 
+    @Test
+    @DisplayName("should load several parameter sets with one IN query")
+    void findByIds_ExistingIds_ReturnsParameterSetsById() throws Exception {
+        // Given
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        Instant now = Instant.now();
+
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString("ID")).thenReturn(id1.toString(), id1.toString(), id2.toString(), id2.toString());
+        when(resultSet.getString("JOB_TYPE")).thenReturn("TestJob");
+        when(resultSet.getString("PARAMETERS_JSON")).thenReturn("{\"key\":\"one\"}", "{\"key\":\"two\"}");
+        when(resultSet.getTimestamp("CREATED_AT")).thenReturn(Timestamp.from(now));
+        when(resultSet.getTimestamp("UPDATED_AT")).thenReturn(Timestamp.from(now));
+
+        // When
+        Map<UUID, ParameterSet> result = adapter.findByIds(List.of(id1, id2, id1));
+
+        // Then
+        assertThat(result).containsOnlyKeys(id1, id2);
+        assertThat(result.get(id1).parameters()).containsEntry("key", "one");
+        assertThat(result.get(id2).parameters()).containsEntry("key", "two");
+        verify(connection).prepareStatement(contains("\"ID\" IN (?, ?)"));
+        verify(preparedStatement).setString(1, id1.toString());
+        verify(preparedStatement).setString(2, id2.toString());
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("should split large ID lists into chunks")
+    void findByIds_ManyIds_QueriesInChunks() throws Exception {
+        // Given
+        List<UUID> ids = IntStream.range(0, JdbcParameterStorageAdapter.FIND_BY_IDS_CHUNK_SIZE + 1)
+                .mapToObj(i -> UUID.randomUUID())
+                .toList();
+
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(false);
+
+        // When
+        Map<UUID, ParameterSet> result = adapter.findByIds(ids);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(connection, times(2)).prepareStatement(anyString());
+        verify(preparedStatement, times(2)).executeQuery();
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("should propagate SQL exception when finding in bulk")
+    void findByIds_SqlException_ThrowsIllegalStateException() throws Exception {
+        // Given
+        when(connection.prepareStatement(anyString())).thenThrow(new SQLException("Connection error"));
+
+        // When/Then
+        assertThatThrownBy(() -> adapter.findByIds(List.of(UUID.randomUUID())))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Failed to find parameter sets");
+    }
+}
@@ -0,0 +1,283 @@
+package ch.css.jobrunr.control.infrastructure.persistence;
+
+import ch.css.jobrunr.control.domain.details.JobMessageLevel;
+import ch.css.jobrunr.control.domain.details.JobMessageLevelCounters;
+import ch.css.jobrunr.control.infrastructure.config.JobMessageCounterConfiguration;
+import io.agroal.api.AgroalDataSource;
+import org.jobrunr.scheduling.JobRequestScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobMessageCounterStore")
+class JobMessageCounterStoreTest {
+
+    @Mock
+    private AgroalDataSource dataSource;
+
+    @Mock
+    private DatabaseTypeHandler databaseTypeHandler;
+
+    @Mock
+    private JobMessageCounterConfiguration configuration;
+
+    @Mock
+    private JobRequestScheduler jobRequestScheduler;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement selectStatement;
+
+    @Mock
+    private PreparedStatement countStatement;
+
+    @Mock
+    private PreparedStatement addStatement;
+
+    @Mock
+    private ResultSet selectResultSet;
+
+    @Mock
+    private ResultSet countResultSet;
+
+    private JobMessageCounterStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        store = new JobMessageCounterStore(dataSource, databaseTypeHandler, configuration, jobRequestScheduler);
+        lenient().when(configuration.enabled()).thenReturn(true);
+        lenient().when(configuration.flushInterval()).thenReturn(Duration.ofSeconds(1));
+        lenient().when(configuration.reconcileInterval()).thenReturn(Duration.ofMinutes(15));
+        lenient().when(dataSource.getConnection()).thenReturn(connection);
+        lenient().when(databaseTypeHandler.getDatabaseType()).thenReturn(DatabaseTypeHandler.DatabaseType.POSTGRESQL);
+        lenient().when(selectStatement.executeQuery()).thenReturn(selectResultSet);
+        lenient().when(countStatement.executeQuery()).thenReturn(countResultSet);
+    }
+
+    @Test
+    @DisplayName("should add pending counts to the stored counters")
+    void readCounters_PendingAndStoredCounts_MergesCounts() throws Exception {
+        // Given
+        UUID batchId = UUID.randomUUID();
+        store.increment(batchId, JobMessageLevel.ERROR, 1);
+        store.increment(batchId, JobMessageLevel.ERROR, 2);
+        when(connection.prepareStatement(anyString())).thenReturn(selectStatement);
+        when(selectResultSet.next()).thenReturn(true, true, false);
+        when(selectResultSet.getString("LEVEL")).thenReturn("INFO", "ERROR");
+        when(selectResultSet.getLong("MESSAGE_COUNT")).thenReturn(10L, 4L);
+
+        // When
+        Optional<JobMessageLevelCounters> counters = store.readCounters(connection, batchId);
+
+        // Then
+        assertThat(counters).contains(new JobMessageLevelCounters(10L, 0L, 7L, 0L));
+    }
+
+    @Test
+    @DisplayName("should return empty when the batch has neither stored nor pending counts")
+    void readCounters_NoCounts_ReturnsEmpty() throws Exception {
+        // Given
+        when(connection.prepareStatement(anyString())).thenReturn(selectStatement);
+        when(selectResultSet.next()).thenReturn(false);
+
+        // When
+        Optional<JobMessageLevelCounters> counters = store.readCounters(connection, UUID.randomUUID());
+
+        // Then
+        assertThat(counters).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should not count messages when the counters are disabled")
+    void increment_Disabled_IgnoresCount() throws Exception {
+        // Given
+        UUID batchId = UUID.randomUUID();
+        when(configuration.enabled()).thenReturn(false);
+
+        // When
+        store.increment(batchId, JobMessageLevel.INFO, 1);
+        store.flush();
+
+        // Then
+        verify(dataSource, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("should write pending counts in one batch and clear them")
+    void flush_PendingCounts_AddsCountsAndClearsPending() throws Exception {
+        // Given
+        UUID batchId = UUID.randomUUID();
+        store.increment(batchId, JobMessageLevel.INFO, 3);
+        store.increment(batchId, JobMessageLevel.WARNING, 1);
+        when(connection.prepareStatement(anyString())).thenReturn(addStatement);
+
+        // When
+        store.flush();
+        store.flush();
+
+        // Then
+        verify(connection).prepareStatement(contains("ON CONFLICT (\"BATCH_JOB_ID\", \"LEVEL\")"));
+        verify(addStatement).setLong(3, 3L);
+        verify(addStatement).setLong(3, 1L);
+        verify(addStatement, times(2)).addBatch();
+        verify(addStatement).executeBatch();
+        verify(dataSource, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("should keep pending counts when the flush fails")
+    void flush_SqlException_KeepsPendingCounts() throws Exception {
+        // Given
+        UUID batchId = UUID.randomUUID();
+        store.increment(batchId, JobMessageLevel.EXCEPTION, 2);
+        when(connection.prepareStatement(anyString())).thenThrow(new SQLException("DB error"));
+
+        // When
+        store.flush();
+
+        // Then
+        reset(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(selectStatement);
+        when(selectResultSet.next()).thenReturn(false);
+        assertThat(store.readCounters(connection, batchId))
+                .contains(new JobMessageLevelCounters(0L, 0L, 0L, 2L));
+    }
+
+    @Test
+    @DisplayName("should overwrite drifted counters with the number of messages")
+    void reconcile_DriftedCounters_SetsAbsoluteCount() throws Exception {
+        // Given
+        UUID batchId = UUID.randomUUID();
+        PreparedStatement batchesStatement = mock(PreparedStatement.class);
+        ResultSet batchesResultSet = mock(ResultSet.class);
+        PreparedStatement setStatement = mock(PreparedStatement.class);
+        when(batchesStatement.executeQuery()).thenReturn(batchesResultSet);
+        when(batchesResultSet.next()).thenReturn(true, false);
+        when(batchesResultSet.getString("BATCH_JOB_ID")).thenReturn(batchId.toString());
+        when(connection.prepareStatement(anyString()))
+                .thenReturn(batchesStatement, countStatement, selectStatement, setStatement);
+        when(countResultSet.next()).thenReturn(true, true, false);
+        when(countResultSet.getString("LEVEL")).thenReturn("INFO", "ERROR");
+        when(countResultSet.getLong("level_count")).thenReturn(10L, 2L);
+        when(countResultSet.getTimestamp("latest_created_at")).thenReturn(Timestamp.from(Instant.now().minus(Duration.ofHours(1))));
+        when(selectResultSet.next()).thenReturn(true, true, false);
+        when(selectResultSet.getString("LEVEL")).thenReturn("INFO", "ERROR");
+        when(selectResultSet.getLong("MESSAGE_COUNT")).thenReturn(10L, 5L);
+        when(setStatement.executeUpdate()).thenReturn(1);
+        store.increment(batchId, JobMessageLevel.ERROR, 4);
+
+        // When
+        store.reconcile();
+
+        // Then
+        verify(batchesStatement).setTimestamp(eq(1), any(Timestamp.class));
+        verify(batchesStatement).setTimestamp(eq(2), any(Timestamp.class));
+        verify(connection).prepareStatement(contains("SET \"MESSAGE_COUNT\" = ?"));
+        verify(setStatement).setLong(1, 2L);
+        verify(setStatement).setString(3, JobMessageLevel.ERROR.name());
+        verify(setStatement).executeUpdate();
+        verify(addStatement, never()).executeBatch();
+    }
+
+    @Test
+    @DisplayName("should leave batches that received messages recently for a later run")
+    void reconcile_RecentMessages_SkipsBatch() throws Exception {
+        // Given
+        UUID batchId = UUID.randomUUID();
+        PreparedStatement batchesStatement = mock(PreparedStatement.class);
+        ResultSet batchesResultSet = mock(ResultSet.class);
+        when(batchesStatement.executeQuery()).thenReturn(batchesResultSet);
+        when(batchesResultSet.next()).thenReturn(true, false);
+        when(batchesResultSet.getString("BATCH_JOB_ID")).thenReturn(batchId.toString());
+        when(connection.prepareStatement(anyString())).thenReturn(batchesStatement, countStatement);
+        when(countResultSet.next()).thenReturn(true, false);
+        when(countResultSet.getString("LEVEL")).thenReturn("INFO");
+        when(countResultSet.getLong("level_count")).thenReturn(3L);
+        when(countResultSet.getTimestamp("latest_created_at")).thenReturn(Timestamp.from(Instant.now()));
+
+        // When
+        store.reconcile();
+
+        // Then
+        verify(connection, times(2)).prepareStatement(anyString());
+    }
+
+    @Test
+    @DisplayName("should disable the counters when the counters table does not exist")
+    void detectCountersTable_MissingTable_DisablesCounters() throws Exception {
+        // Given
+        PreparedStatement probeStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(probeStatement);
+        when(probeStatement.executeQuery()).thenThrow(new SQLException("Table \"JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS\" not found", "42S02"));
+
+        // When
+        store.detectCountersTable();
+        store.increment(UUID.randomUUID(), JobMessageLevel.INFO, 1);
+        store.onStart(null);
+
+        // Then
+        assertThat(store.isEnabled()).isFalse();
+        assertThat(store.hasCountersTable()).isFalse();
+        verify(jobRequestScheduler).deleteRecurringJob(JobMessageCounterStore.RECURRING_JOB_ID);
+        verify(jobRequestScheduler, never()).scheduleRecurrently(anyString(), any(Duration.class), any());
+    }
+
+    @Test
+    @DisplayName("should reconcile through a recurring job when the counters are enabled")
+    void onStart_Enabled_SchedulesRecurringReconciliation() {
+        // When
+        store.onStart(null);
+        store.shutdown();
+
+        // Then
+        verify(jobRequestScheduler).scheduleRecurrently(eq(JobMessageCounterStore.RECURRING_JOB_ID), eq(Duration.ofMinutes(15)),
+                any(JobMessageCounterReconcileJobRequest.class));
+    }
+
+    @Test
+    @DisplayName("should not write when the counters match the messages table")
+    void reconcile_MatchingCounters_WritesNothing() throws Exception {
+        // Given
+        UUID batchId = UUID.randomUUID();
+        PreparedStatement batchesStatement = mock(PreparedStatement.class);
+        ResultSet batchesResultSet = mock(ResultSet.class);
+        when(batchesStatement.executeQuery()).thenReturn(batchesResultSet);
+        when(batchesResultSet.next()).thenReturn(true, false);
+        when(batchesResultSet.getString("BATCH_JOB_ID")).thenReturn(batchId.toString());
+        when(connection.prepareStatement(anyString())).thenReturn(batchesStatement, countStatement, selectStatement);
+        when(countResultSet.next()).thenReturn(true, false);
+        when(countResultSet.getString("LEVEL")).thenReturn("WARNING");
+        when(countResultSet.getLong("level_count")).thenReturn(4L);
+        when(selectResultSet.next()).thenReturn(true, false);
+        when(selectResultSet.getString("LEVEL")).thenReturn("WARNING");
+        when(selectResultSet.getLong("MESSAGE_COUNT")).thenReturn(4L);
+
+        // When
+        store.reconcile();
+
+        // Then
+        verify(connection, times(3)).prepareStatement(anyString());
+    }
+}
@@ -1,16 +1,25 @@
 package ch.css.jobrunr.control.infrastructure.persistence;
 
 import ch.css.jobrunr.control.domain.details.JobMessage;
+import ch.css.jobrunr.control.domain.details.JobMessageCursor;
+import ch.css.jobrunr.control.domain.details.JobMessageEntry;
 import ch.css.jobrunr.control.domain.details.JobMessageLevel;
 import ch.css.jobrunr.control.domain.details.JobMessageLevelCounters;
 import ch.css.jobrunr.control.domain.details.JobMessageLevelSearch;
 import ch.css.jobrunr.control.domain.details.JobMessageSortOrder;
 import ch.css.jobrunr.control.domain.details.JobMessagesPaged;
+import ch.css.jobrunr.control.domain.details.JobMessagesSlice;
+import ch.css.jobrunr.control.infrastructure.config.JobMessageExportConfiguration;
+import ch.css.jobrunr.control.infrastructure.config.JobMessageSearchConfiguration;
+import ch.css.jobrunr.control.infrastructure.config.StackTraceStorageConfiguration;
 import io.agroal.api.AgroalDataSource;
+import jakarta.transaction.Status;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -19,10 +28,17 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -36,6 +52,18 @@ class JobMessageStorageAdapterTest {
     @Mock
     private DatabaseTypeHandler databaseTypeHandler;
 
+    @Mock
+    private JobMessageCounterStore counterStore;
+
+    @Mock
+    private StackTraceStore stackTraceStore;
+
+    @Mock
+    private JobMessageSearchConfiguration searchConfiguration;
+
+    @Mock
+    private JobMessageExportConfiguration exportConfiguration;
+
     @Mock
     private Connection connection;
 
@@ -64,9 +92,12 @@ class JobMessageStorageAdapterTest {
 
     @BeforeEach
     void setUp() throws Exception {
-        adapter = new JobMessageStorageAdapter(dataSource, databaseTypeHandler);
+        adapter = new JobMessageStorageAdapter(dataSource, databaseTypeHandler, counterStore, stackTraceStore, searchConfiguration, exportConfiguration);
         when(dataSource.getConnection()).thenReturn(connection);
         lenient().when(databaseTypeHandler.getDatabaseType()).thenReturn(DatabaseTypeHandler.DatabaseType.H2);
+        lenient().when(searchConfiguration.mode()).thenReturn(JobMessageSearchConfiguration.Mode.LIKE);
+        lenient().when(exportConfiguration.fetchSize()).thenReturn(500);
+        lenient().when(stackTraceStore.hasHashColumn()).thenReturn(true);
     }
 
     @Test
@@ -89,6 +120,7 @@ class JobMessageStorageAdapterTest {
         verify(insertStatement).setString(5, "Warning text");
         verify(insertStatement).setString(6, "stack");
         verify(insertStatement).executeUpdate();
+        verify(counterStore).increment(batchId, JobMessageLevel.WARNING, 1);
     }
 
     @Test
@@ -155,6 +187,464 @@ class JobMessageStorageAdapterTest {
         assertThat(counters.exceptionMessages()).isEqualTo(1L);
     }
 
+    @Test
+    @DisplayName("should read counters from the counters table when they are maintained")
+    void determineMessageLevelCounters_CountersMaintained_ReadsCounterStore() throws Exception {
+        // Given
+        UUID batchId = UUID.randomUUID();
+        JobMessageLevelCounters stored = new JobMessageLevelCounters(7L, 3L, 2L, 1L);
+        when(counterStore.isEnabled()).thenReturn(true);
+        when(counterStore.readCounters(connection, batchId)).thenReturn(Optional.of(stored));
+
+        // When
+        JobMessageLevelCounters counters = adapter.determineMessageLevelCounters(batchId);
+
+        // Then
+        assertThat(counters).isEqualTo(stored);
+        verify(connection, never()).prepareStatement(anyString());
+    }
+
+    @Test
+    @DisplayName("should count messages when the batch has no counter rows")
+    void determineMessageLevelCounters_NoCounterRows_CountsMessages() throws Exception {
+        // Given
+        UUID batchId = UUID.randomUUID();
+        when(counterStore.isEnabled()).thenReturn(true);
+        when(counterStore.readCounters(connection, batchId)).thenReturn(Optional.empty());
+        when(connection.prepareStatement(anyString())).thenReturn(countersStatement);
+        when(countersStatement.executeQuery()).thenReturn(countersResultSet);
+        when(countersResultSet.next()).thenReturn(true, false);
+        when(countersResultSet.getString("LEVEL")).thenReturn(JobMessageLevel.ERROR.name());
+        when(countersResultSet.getLong("level_count")).thenReturn(5L);
+
+        // When
+        JobMessageLevelCounters counters = adapter.determineMessageLevelCounters(batchId);
+
+        // Then
+        assertThat(counters.errorMessages()).isEqualTo(5L);
+        assertThat(counters.totalMessages()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("should take the total of a search without text from the counters")
+    void searchMessages_NoTextSearch_TakesTotalFromCounters() throws Exception {
+        // Given
+        UUID batchId = UUID.randomUUID();
+        when(counterStore.isEnabled()).thenReturn(true);
+        when(counterStore.readCounters(connection, batchId))
+                .thenReturn(Optional.of(new JobMessageLevelCounters(100L, 0L, 4L, 2L)));
+        when(connection.prepareStatement(anyString())).thenReturn(searchStatement);
+        when(searchStatement.executeQuery()).thenReturn(searchResultSet);
+        when(searchResultSet.next()).thenReturn(false);
+
+        // When
+        JobMessagesPaged result = adapter.searchMessages(
+                batchId,
+                JobMessageLevelSearch.ERRORS_AND_EXCEPTIONS,
+                " ",
+                JobMessageSortOrder.OLDEST_FIRST,
+                0,
+                10
+        );
+
+        // Then
+        assertThat(result.totalMessages()).isEqualTo(6L);
+        verify(connection, never()).prepareStatement(contains("COUNT(*)"));
+    }
+
+    @Test
+    @DisplayName("should count matching messages of a text search")
+    void searchMessages_TextSearch_CountsMessages() throws Exception {
+        // Given
+        UUID batchId = UUID.randomUUID();
+        when(connection.prepareStatement(anyString())).thenReturn(countStatement);
+        when(countStatement.executeQuery()).thenReturn(countResultSet);
+        when(countResultSet.next()).thenReturn(true);
+        when(countResultSet.getLong(1)).thenReturn(0L);
+
+        // When
+        JobMessagesPaged result = adapter.searchMessages(
+                batchId,
+                JobMessageLevelSearch.ALL,
+                "timeout",
+                JobMessageSortOrder.OLDEST_FIRST,
+                0,
+                10
+        );
+
+        // Then
+        assertThat(result.totalMessages()).isZero();
+        verify(connection).prepareStatement(contains("COUNT(*)"));
+        verify(counterStore, never()).readCounters(any(), any());
+    }
+
+    @Test
+    @DisplayName("should read one message more than requested to determine the next cursor")
+    void searchMessagesAfter_MoreMessagesAvailable_ReturnsNextCursor() throws Exception {
+        // Given
+        UUID batchId = UUID.randomUUID();
+        Instant first = Instant.parse("2026-05-26T10:15:30Z");
+        Instant second = Instant.parse("2026-05-26T10:15:31Z");
+        when(counterStore.isEnabled()).thenReturn(true);
+        when(counterStore.readCounters(connection, batchId))
+                .thenReturn(Optional.of(new JobMessageLevelCounters(3L, 0L, 0L, 0L)));
+        when(connection.prepareStatement(anyString())).thenReturn(searchStatement);
+        when(searchStatement.executeQuery()).thenReturn(searchResultSet);
+        when(searchResultSet.next()).thenReturn(true, true, true, false);
+        when(searchResultSet.getLong("ID")).thenReturn(11L, 12L, 13L);
+        when(searchResultSet.getTimestamp("CREATED_AT"))
+                .thenReturn(Timestamp.from(first), Timestamp.from(second), Timestamp.from(second));
+        when(searchResultSet.getString("LEVEL")).thenReturn("INFO");
+
+        // When
+        JobMessagesSlice slice = adapter.searchMessagesAfter(
+                batchId, JobMessageLevelSearch.ALL, null, JobMessageSortOrder.OLDEST_FIRST, null, 2);
+
+        // Then
+        assertThat(slice.messages()).hasSize(2);
+        assertThat(slice.nextCursor()).isEqualTo(new JobMessageCursor(second, 12L));
+        assertThat(slice.totalMessages()).isEqualTo(3L);
+        verify(connection).prepareStatement(contains("ORDER BY \"CREATED_AT\" ASC, \"ID\" ASC LIMIT ?"));
+        verify(connection, never()).prepareStatement(contains("OFFSET"));
+        verify(searchStatement).setInt(2, 3);
+    }
+
+    @Test
+    @DisplayName("should seek after the cursor without counting the messages of a text search")
+    void searchMessagesAfter_CursorAndTextSearch_SeeksAfterCursor() throws Exception {
+        // Given
+        UUID batchId = UUID.randomUUID();
+        Instant createdAt = Instant.parse("2026-05-26T10:15:30Z");
+        when(databaseTypeHandler.getDatabaseType()).thenReturn(DatabaseTypeHandler.DatabaseType.ORACLE);
+        when(connection.prepareStatement(anyString())).thenReturn(searchStatement);
+        when(searchStatement.executeQuery()).thenReturn(searchResultSet);
+        when(searchResultSet.next()).thenReturn(false);
+
+        // When
+        JobMessagesSlice slice = adapter.searchMessagesAfter(
+                batchId,
+                JobMessageLevelSearch.ALL,
+                "timeout",
+                JobMessageSortOrder.NEWEST_FIRST,
+                new JobMessageCursor(createdAt, 42L),
+                10
+        );
+
+        // Then
+        assertThat(slice.messages()).isEmpty();
+        assertThat(slice.hasMore()).isFalse();
+        assertThat(slice.isTotalKnown()).isFalse();
+        verify(connection).prepareStatement(contains(
+                "AND \"CREATED_AT\" <= ? AND (\"CREATED_AT\" < ? OR (\"CREATED_AT\" = ? AND \"ID\" < ?))"));
+        verify(connection).prepareStatement(contains("FETCH FIRST ? ROWS ONLY"));
+        verify(searchStatement).setObject(4, Timestamp.from(createdAt));
+        verify(searchStatement).setObject(5, Timestamp.from(createdAt));
+        verify(searchStatement).setObject(6, Timestamp.from(createdAt));
+        verify(searchStatement).setObject(7, 42L);
+        verify(searchStatement).setInt(8, 11);
+        verify(connection, never()).prepareStatement(contains("COUNT(*)"));
+        verify(counterStore, never()).readCounters(any(), any());
+    }
+
+    @Test
+    @DisplayName("should match a child job ID exactly instead of searching the message texts")
+    void searchMessages_ChildJobIdSearch_MatchesChildJobIdExactly() throws Exception {
+        // Given
+        UUID batchId = UUID.randomUUID();
+        UUID childId = UUID.randomUUID();
+        when(connection.prepareStatement(anyString())).thenReturn(countStatement);
+        when(countStatement.executeQuery()).thenReturn(countResultSet);
+        when(countResultSet.next()).thenReturn(true);
+
+        // When
+        adapter.searchMessages(batchId, JobMessageLevelSearch.ALL, " " + childId.toString().toUpperCase() + " ",
+                JobMessageSortOrder.OLDEST_FIRST, 0, 10);
+
+        // Then
+        verify(connection).prepareStatement(contains("AND \"CHILD_JOB_ID\" = ?"));
+        verify(connection, never()).prepareStatement(contains("LIKE"));
+        verify(countStatement).setObject(2, childId.toString());
+    }
+
+    @Test
+    @DisplayName("should search the Oracle Text indexes in indexed search mode")
+    void searchMessages_IndexedModeOnOracle_UsesContains() throws Exception {
+        // Given
+        when(searchConfiguration.mode()).thenReturn(JobMessageSearchConfiguration.Mode.INDEXED);
+        when(databaseTypeHandler.getDatabaseType()).thenReturn(DatabaseTypeHandler.DatabaseType.ORACLE);
+        when(connection.prepareStatement(anyString())).thenReturn(countStatement);
+        when(countStatement.executeQuery()).thenReturn(countResultSet);
+        when(countResultSet.next()).thenReturn(true);
+
+        // When
+        adapter.searchMessages(UUID.randomUUID(), JobMessageLevelSearch.ALL, "java.lang.NullPointerException",
+                JobMessageSortOrder.OLDEST_FIRST, 0, 10);
+
+        // Then
+        verify(connection).prepareStatement(contains("CONTAINS(\"MESSAGE\", ?) > 0 OR CONTAINS(\"STACK_TRACE\", ?) > 0"));
+        verify(countStatement).setObject(2, "{java} AND {lang} AND {nullpointerexception}");
+        verify(countStatement).setObject(3, "{java} AND {lang} AND {nullpointerexception}");
+    }
+
+    @Test
+    @DisplayName("should search the FULLTEXT index in indexed search mode on MySQL")
+    void searchMessages_IndexedModeOnMySql_UsesMatchAgainst() throws Exception {
+        // Given
+        when(searchConfiguration.mode()).thenReturn(JobMessageSearchConfiguration.Mode.INDEXED);
+        when(databaseTypeHandler.getDatabaseType()).thenReturn(DatabaseTypeHandler.DatabaseType.MYSQL);
+        when(connection.prepareStatement(anyString())).thenReturn(countStatement);
+        when(countStatement.executeQuery()).thenReturn(countResultSet);
+        when(countResultSet.next()).thenReturn(true);
+
+        // When
+        adapter.searchMessages(UUID.randomUUID(), JobMessageLevelSearch.ALL, "db timeout in step 7",
+                JobMessageSortOrder.OLDEST_FIRST, 0, 10);
+
+        // Then
+        verify(connection).prepareStatement(contains("MATCH(\"MESSAGE\", \"STACK_TRACE\") AGAINST (? IN BOOLEAN MODE)"));
+        verify(countStatement).setObject(2, "+timeout* +step*");
+    }
+
+    @Test
+    @DisplayName("should search the token table in indexed search mode on H2")
+    void searchMessages_IndexedModeOnH2_UsesTokenTable() throws Exception {
+        // Given
+        UUID batchId = UUID.randomUUID();
+        when(searchConfiguration.mode()).thenReturn(JobMessageSearchConfiguration.Mode.INDEXED);
+        when(connection.prepareStatement(anyString())).thenReturn(countStatement);
+        when(countStatement.executeQuery()).thenReturn(countResultSet);
+        when(countResultSet.next()).thenReturn(true);
+
+        // When
+        adapter.searchMessages(batchId, JobMessageLevelSearch.ALL, "NullPointer", JobMessageSortOrder.OLDEST_FIRST, 0, 10);
+
+        // Then
+        verify(connection).prepareStatement(contains("\"ID\" IN (SELECT \"MESSAGE_ID\" FROM \"JOBRUNR_CONTROL_BATCH_MESSAGE_TOKENS\""));
+        verify(countStatement).setObject(2, batchId.toString());
+        verify(countStatement).setObject(3, "nullpointer%");
+    }
+
+    @Test
+    @DisplayName("should write the words of each message to the token table in indexed search mode on H2")
+    void writeMessages_IndexedModeOnH2_WritesTokens() throws Exception {
+        // Given
+        UUID batchId = UUID.randomUUID();
+        PreparedStatement tokenStatement = mock(PreparedStatement.class);
+        ResultSet generatedIds = mock(ResultSet.class);
+        when(searchConfiguration.mode()).thenReturn(JobMessageSearchConfiguration.Mode.INDEXED);
+        when(connection.prepareStatement(anyString(), any(String[].class))).thenReturn(insertStatement);
+        when(connection.prepareStatement(anyString())).thenReturn(tokenStatement);
+        when(insertStatement.getGeneratedKeys()).thenReturn(generatedIds);
+        when(generatedIds.next()).thenReturn(true);
+        when(generatedIds.getLong(1)).thenReturn(7L);
+        JobMessage message = new JobMessage(Instant.now(), null, JobMessageLevel.ERROR, "Import failed: Import", "java.io.IOException");
+
+        // When
+        adapter.writeMessages(List.of(new JobMessageEntry(batchId, message)));
+
+        // Then
+        verify(tokenStatement).setString(2, "import");
+        verify(tokenStatement).setString(2, "failed");
+        verify(tokenStatement).setString(2, "java");
+        verify(tokenStatement).setString(2, "io");
+        verify(tokenStatement).setString(2, "ioexception");
+        verify(tokenStatement, times(5)).setLong(3, 7L);
+        verify(tokenStatement, times(5)).addBatch();
+        verify(tokenStatement).executeBatch();
+    }
+
+    @Test
+    @DisplayName("should stream all matching messages with the configured fetch size inside a transaction")
+    void forEachMessage_MatchingMessages_StreamsWithFetchSize() throws Exception {
+        // Given
+        UUID batchId = UUID.randomUUID();
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.prepareStatement(anyString(), eq(ResultSet.TYPE_FORWARD_ONLY), eq(ResultSet.CONCUR_READ_ONLY)))
+                .thenReturn(searchStatement);
+        when(searchStatement.executeQuery()).thenReturn(searchResultSet);
+        when(searchResultSet.next()).thenReturn(true, true, false);
+        when(searchResultSet.getTimestamp("CREATED_AT")).thenReturn(Timestamp.from(Instant.parse("2026-05-26T10:15:30Z")));
+        when(searchResultSet.getString("CHILD_JOB_ID")).thenReturn(null);
+        when(searchResultSet.getString("LEVEL")).thenReturn("ERROR");
+        when(searchResultSet.getString("MESSAGE")).thenReturn("first", "second");
+        List<JobMessage> exported = new ArrayList<>();
+
+        // When
+        adapter.forEachMessage(batchId, JobMessageLevelSearch.ERROR_ONLY, null, JobMessageSortOrder.NEWEST_FIRST, exported::add);
+
+        // Then
+        assertThat(exported).extracting(JobMessage::message).containsExactly("first", "second");
+        verify(connection).prepareStatement(contains("ORDER BY \"CREATED_AT\" DESC, \"ID\" DESC"),
+                eq(ResultSet.TYPE_FORWARD_ONLY), eq(ResultSet.CONCUR_READ_ONLY));
+        verify(searchStatement).setFetchSize(500);
+        verify(connection).setAutoCommit(false);
+        verify(connection).rollback();
+        verify(connection).setAutoCommit(true);
+        verify(searchStatement, never()).setInt(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("should resolve the stack traces of streamed messages once per chunk")
+    void forEachMessage_DeduplicatedStackTraces_ResolvesPerChunk() throws Exception {
+        // Given
+        int rows = JobMessageStorageAdapter.EXPORT_RESOLVE_CHUNK_SIZE + 1;
+        Boolean[] hasNext = new Boolean[rows];
+        Arrays.fill(hasNext, true);
+        hasNext[rows - 1] = false;
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(searchStatement);
+        when(searchStatement.executeQuery()).thenReturn(searchResultSet);
+        when(searchResultSet.next()).thenReturn(true, hasNext);
+        when(searchResultSet.getTimestamp("CREATED_AT")).thenReturn(Timestamp.from(Instant.now()));
+        when(searchResultSet.getString("LEVEL")).thenReturn(JobMessageLevel.EXCEPTION.name());
+        when(searchResultSet.getString("STACK_TRACE")).thenReturn("java.io.IOException: timeout");
+        when(searchResultSet.getString("STACK_TRACE_HASH")).thenReturn("abc123");
+        when(stackTraceStore.resolve(Set.of("abc123"))).thenReturn(Map.of("abc123", "java.io.IOException: timeout\n\tat A.b(A.java:1)"));
+        List<JobMessage> exported = new ArrayList<>();
+
+        // When
+        adapter.forEachMessage(UUID.randomUUID(), JobMessageLevelSearch.ALL, null, JobMessageSortOrder.OLDEST_FIRST, exported::add);
+
+        // Then
+        assertThat(exported).hasSize(rows)
+                .extracting(JobMessage::stackTrace)
+                .containsOnly("java.io.IOException: timeout\n\tat A.b(A.java:1)");
+        verify(stackTraceStore, times(2)).resolve(Set.of("abc123"));
+    }
+
+    @Test
+    @DisplayName("should stream row by row on MySQL")
+    void forEachMessage_MySql_UsesStreamingFetchSize() throws Exception {
+        // Given
+        when(databaseTypeHandler.getDatabaseType()).thenReturn(DatabaseTypeHandler.DatabaseType.MYSQL);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(searchStatement);
+        when(searchStatement.executeQuery()).thenReturn(searchResultSet);
+        when(searchResultSet.next()).thenReturn(false);
+
+        // When
+        adapter.forEachMessage(UUID.randomUUID(), JobMessageLevelSearch.ALL, null, JobMessageSortOrder.OLDEST_FIRST, message -> {
+        });
+
+        // Then
+        verify(searchStatement).setFetchSize(Integer.MIN_VALUE);
+    }
+
+    @Test
+    @DisplayName("should reference a deduplicated stack trace by hash and keep its search key")
+    void writeMessage_DeduplicatedStackTrace_StoresTraceAndReferencesHash() throws Exception {
+        // Given
+        UUID batchId = UUID.randomUUID();
+        JobMessage message = new JobMessage(Instant.now(), null, JobMessageLevel.EXCEPTION, "failed", "java.io.IOException: timeout\n\tat A.b(A.java:1)");
+        StackTraceStore.StackTraceReference reference = new StackTraceStore.StackTraceReference(
+                "abc123", "java.io.IOException: timeout", "java.io.IOException: timeout\n\tat A.b(A.java:1)");
+        when(stackTraceStore.reference(message.stackTrace())).thenReturn(reference);
+        when(connection.prepareStatement(anyString())).thenReturn(insertStatement);
+
+        // When
+        adapter.writeMessage(batchId, message);
+
+        // Then
+        verify(stackTraceStore).store(connection, List.of(reference));
+        verify(insertStatement).setString(6, "java.io.IOException: timeout");
+        verify(insertStatement).setString(7, "abc123");
+        verify(insertStatement).executeUpdate();
+    }
+
+    @Test
+    @DisplayName("should write one trace payload and small message rows for identical failures")
+    void writeMessage_IdenticalFailures_WritesTraceOnceAndSmallRows() throws Exception {
+        // Given
+        StackTraceStorageConfiguration stackTraceConfiguration = mock(StackTraceStorageConfiguration.class);
+        when(stackTraceConfiguration.deduplicate()).thenReturn(true);
+        when(stackTraceConfiguration.cacheSize()).thenReturn(10);
+        TransactionSynchronizationRegistry transactionRegistry = mock(TransactionSynchronizationRegistry.class);
+        when(transactionRegistry.getTransactionStatus()).thenReturn(Status.STATUS_NO_TRANSACTION);
+        adapter = new JobMessageStorageAdapter(dataSource, databaseTypeHandler, counterStore,
+                new StackTraceStore(dataSource, databaseTypeHandler, stackTraceConfiguration, transactionRegistry),
+                searchConfiguration, exportConfiguration);
+        PreparedStatement traceStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(contains("JOBRUNR_CONTROL_STACK_TRACES"))).thenReturn(traceStatement);
+        when(connection.prepareStatement(contains("JOBRUNR_CONTROL_BATCH_MESSAGES"))).thenReturn(insertStatement);
+        StringBuilder trace = new StringBuilder("java.lang.IllegalStateException: Import failed");
+        for (int i = 0; i < 200; i++) {
+            trace.append("\n\tat com.example.Importer.step").append(i).append("(Importer.java:").append(i).append(')');
+        }
+        trace.append("\nCaused by: java.sql.SQLException: ORA-00001\n\tat oracle.jdbc.Driver.execute(Driver.java:99)");
+        UUID batchId = UUID.randomUUID();
+        int failures = 50;
+
+        // When
+        for (int i = 0; i < failures; i++) {
+            adapter.writeMessage(batchId, new JobMessage(Instant.now(), UUID.randomUUID(), JobMessageLevel.EXCEPTION, "failed", trace.toString()));
+        }
+
+        // Then
+        verify(traceStatement, times(1)).setBytes(eq(3), any(byte[].class));
+        verify(traceStatement, times(1)).executeUpdate();
+        verify(insertStatement, times(failures)).executeUpdate();
+        ArgumentCaptor<String> storedStackTraces = ArgumentCaptor.forClass(String.class);
+        verify(insertStatement, times(failures)).setString(eq(6), storedStackTraces.capture());
+        assertThat(storedStackTraces.getAllValues())
+                .hasSize(failures)
+                .containsOnly("java.lang.IllegalStateException: Import failed\nCaused by: java.sql.SQLException: ORA-00001");
+    }
+
+    @Test
+    @DisplayName("should write and read messages without the hash column of older schemas")
+    void writeMessage_NoHashColumn_OmitsHashColumn() throws Exception {
+        // Given
+        UUID batchId = UUID.randomUUID();
+        JobMessage message = new JobMessage(Instant.now(), null, JobMessageLevel.EXCEPTION, "failed", "java.io.IOException: timeout");
+        when(stackTraceStore.hasHashColumn()).thenReturn(false);
+        when(connection.prepareStatement(anyString())).thenReturn(insertStatement);
+
+        // When
+        adapter.writeMessage(batchId, message);
+
+        // Then
+        verify(connection).prepareStatement(argThat((String sql) -> !sql.contains("STACK_TRACE_HASH")));
+        verify(insertStatement).setString(6, "java.io.IOException: timeout");
+        verify(insertStatement, never()).setString(eq(7), any());
+        verify(insertStatement).executeUpdate();
+    }
+
+    @Test
+    @DisplayName("should forget the written stack traces when the message write fails")
+    void writeMessages_SqlException_ForgetsStackTraces() throws Exception {
+        // Given
+        JobMessage message = new JobMessage(Instant.now(), null, JobMessageLevel.EXCEPTION, "failed", "trace");
+        StackTraceStore.StackTraceReference reference = new StackTraceStore.StackTraceReference("abc123", "trace", "trace");
+        when(stackTraceStore.reference("trace")).thenReturn(reference);
+        when(connection.prepareStatement(anyString())).thenReturn(insertStatement);
+        when(insertStatement.executeBatch()).thenThrow(new java.sql.SQLException("DB error"));
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.writeMessages(List.of(new JobMessageEntry(UUID.randomUUID(), message))))
+                .isInstanceOf(IllegalStateException.class);
+        verify(stackTraceStore).forget(List.of(reference));
+    }
+
+    @Test
+    @DisplayName("should resolve deduplicated stack traces of the read messages")
+    void searchMessagesAfter_DeduplicatedStackTrace_ResolvesFullTrace() throws Exception {
+        // Given
+        UUID batchId = UUID.randomUUID();
+        when(connection.prepareStatement(anyString())).thenReturn(searchStatement);
+        when(searchStatement.executeQuery()).thenReturn(searchResultSet);
+        when(searchResultSet.next()).thenReturn(true, true, false);
+        when(searchResultSet.getTimestamp("CREATED_AT")).thenReturn(Timestamp.from(Instant.now()));
+        when(searchResultSet.getString("LEVEL")).thenReturn(JobMessageLevel.EXCEPTION.name());
+        when(searchResultSet.getString("STACK_TRACE")).thenReturn("java.io.IOException: timeout", "legacy trace");
+        when(searchResultSet.getString("STACK_TRACE_HASH")).thenReturn("abc123", (String) null);
+        when(stackTraceStore.resolve(Set.of("abc123"))).thenReturn(Map.of("abc123", "java.io.IOException: timeout\n\tat A.b(A.java:1)"));
+
+        // When
+        JobMessagesSlice slice = adapter.searchMessagesAfter(batchId, JobMessageLevelSearch.ALL, null, JobMessageSortOrder.OLDEST_FIRST, null, 10);
+
+        // Then
+        assertThat(slice.messages()).extracting(JobMessage::stackTrace)
+                .containsExactly("java.io.IOException: timeout\n\tat A.b(A.java:1)", "legacy trace");
+    }
+
     @Test
     @DisplayName("should throw IllegalStateException when write fails")
     void writeMessage_SqlException_ThrowsIllegalStateException() throws Exception {
@@ -0,0 +1,37 @@
+package ch.css.jobrunr.control.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JobMessageTokenizer")
+class JobMessageTokenizerTest {
+
+    @Test
+    @DisplayName("should split texts into distinct lower-case words")
+    void tokenize_MessageAndStackTrace_ReturnsDistinctWords() {
+        assertThat(JobMessageTokenizer.tokenize("Import of Müller-2024 failed", null, "java.lang.IllegalStateException: failed"))
+                .containsExactly("import", "of", "müller", "2024", "failed", "java", "lang", "illegalstateexception");
+    }
+
+    @Test
+    @DisplayName("should truncate words longer than the token column")
+    void tokenize_LongWord_TruncatesWord() {
+        assertThat(JobMessageTokenizer.tokenize("x".repeat(150)))
+                .singleElement()
+                .satisfies(token -> assertThat(token).hasSize(JobMessageTokenizer.MAX_TOKEN_LENGTH));
+    }
+
+    @Test
+    @DisplayName("should only accept complete UUIDs as job ID")
+    void parseJobId_UuidAndPartialUuid_ParsesOnlyCompleteUuid() {
+        UUID jobId = UUID.randomUUID();
+
+        assertThat(JobMessageTokenizer.parseJobId(jobId.toString())).contains(jobId);
+        assertThat(JobMessageTokenizer.parseJobId(jobId.toString().substring(0, 8))).isEmpty();
+        assertThat(JobMessageTokenizer.parseJobId("timeout")).isEmpty();
+    }
+}
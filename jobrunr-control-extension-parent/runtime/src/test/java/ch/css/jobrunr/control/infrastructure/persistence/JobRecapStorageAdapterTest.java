@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -12,6 +13,8 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
@@ -27,28 +30,67 @@ class JobRecapStorageAdapterTest {
     @Mock
     private AgroalDataSource dataSource;
 
+    @Mock
+    private DatabaseTypeHandler databaseTypeHandler;
+
     @Mock
     private Connection connection;
 
+    @Mock
+    private PreparedStatement selectChildStatement;
+
+    @Mock
+    private ResultSet childResultSet;
+
+    @Mock
+    private PreparedStatement existsStatement;
+
+    @Mock
+    private ResultSet existsResultSet;
+
+    @Mock
+    private PreparedStatement seedStatement;
+
     @Mock
     private PreparedStatement deleteStatement;
 
     @Mock
     private PreparedStatement insertStatement;
 
+    @Mock
+    private PreparedStatement upsertStatement;
+
+    @Mock
+    private PreparedStatement totalsStatement;
+
+    @Mock
+    private PreparedStatement totalsInsertStatement;
+
+    @Mock
+    private PreparedStatement totalsUpdateStatement;
+
     @Mock
     private PreparedStatement readStatement;
 
+    @Mock
+    private PreparedStatement aggregateStatement;
+
     @Mock
     private ResultSet resultSet;
 
+    @Mock
+    private ResultSet aggregateResultSet;
+
     private JobRecapStorageAdapter adapter;
 
     @BeforeEach
     void setUp() throws Exception {
-        adapter = new JobRecapStorageAdapter(dataSource);
+        adapter = new JobRecapStorageAdapter(dataSource, databaseTypeHandler);
         when(dataSource.getConnection()).thenReturn(connection);
+        lenient().when(databaseTypeHandler.getDatabaseType()).thenReturn(DatabaseTypeHandler.DatabaseType.GENERIC);
         lenient().when(connection.getAutoCommit()).thenReturn(true);
+        lenient().when(selectChildStatement.executeQuery()).thenReturn(childResultSet);
+        lenient().when(existsStatement.executeQuery()).thenReturn(existsResultSet);
     }
 
     @Test
@@ -58,9 +100,12 @@ class JobRecapStorageAdapterTest {
         UUID childId = UUID.randomUUID();
         Map<String, Long> recap = Map.of("processed", 10L, "failed", 1L);
 
-        when(connection.prepareStatement(anyString())).thenReturn(deleteStatement, insertStatement);
+        when(connection.prepareStatement(anyString()))
+                .thenReturn(selectChildStatement, existsStatement, seedStatement, deleteStatement, insertStatement,
+                        totalsStatement, totalsInsertStatement);
         when(deleteStatement.executeUpdate()).thenReturn(1);
         when(insertStatement.executeBatch()).thenReturn(new int[]{1, 1});
+        when(totalsStatement.executeUpdate()).thenReturn(1);
 
         adapter.writeRecap(batchId, childId, recap);
 
@@ -69,6 +114,9 @@ class JobRecapStorageAdapterTest {
         verify(deleteStatement).executeUpdate();
         verify(insertStatement, times(2)).addBatch();
         verify(insertStatement).executeBatch();
+        verify(totalsStatement).setLong(1, 10L);
+        verify(totalsStatement).setLong(1, 1L);
+        verify(totalsInsertStatement, never()).executeUpdate();
     }
 
     @Test
@@ -77,48 +125,237 @@ class JobRecapStorageAdapterTest {
         UUID batchId = UUID.randomUUID();
         UUID childId = UUID.randomUUID();
 
-        when(connection.prepareStatement(anyString())).thenReturn(deleteStatement);
+        when(connection.prepareStatement(anyString())).thenReturn(selectChildStatement, deleteStatement);
         when(deleteStatement.executeUpdate()).thenReturn(1);
 
         adapter.writeRecap(batchId, childId, Map.of());
 
         verify(deleteStatement).executeUpdate();
         verify(connection, never()).prepareStatement(contains("INSERT INTO \"JOBRUNR_CONTROL_BATCH_RECAP\""));
+        verify(connection, never()).prepareStatement(contains("JOBRUNR_CONTROL_BATCH_RECAP_TOTALS"));
+    }
+
+    @Test
+    @DisplayName("should insert a totals row when the counter has no total yet")
+    void writeRecap_NewTotal_InsertsTotalsRow() throws Exception {
+        UUID batchId = UUID.randomUUID();
+        UUID childId = UUID.randomUUID();
+
+        when(connection.prepareStatement(anyString()))
+                .thenReturn(selectChildStatement, existsStatement, seedStatement, deleteStatement, insertStatement,
+                        totalsStatement, totalsInsertStatement);
+        when(totalsStatement.executeUpdate()).thenReturn(0);
+
+        adapter.writeRecap(batchId, childId, Map.of("processed", 3L));
+
+        verify(totalsInsertStatement).setString(1, batchId.toString());
+        verify(totalsInsertStatement).setString(2, "processed");
+        verify(totalsInsertStatement).setLong(3, 3L);
+        verify(totalsInsertStatement).executeUpdate();
+    }
+
+    @Test
+    @DisplayName("should upsert non-zero counters and add them to the totals without deleting the child rows")
+    void writeRecap_SupportedDatabase_UpsertsCountersAndTotals() throws Exception {
+        UUID batchId = UUID.randomUUID();
+        UUID childId = UUID.randomUUID();
+        when(databaseTypeHandler.getDatabaseType()).thenReturn(DatabaseTypeHandler.DatabaseType.POSTGRESQL);
+        when(existsResultSet.next()).thenReturn(true);
+        when(connection.prepareStatement(anyString())).thenReturn(selectChildStatement, existsStatement, upsertStatement, totalsStatement);
+
+        adapter.writeRecap(batchId, childId, Map.of("processed", 10L, "failed", 1L));
+
+        verify(connection).prepareStatement(contains("ON CONFLICT (\"BATCH_JOB_ID\", \"CHILD_JOB_ID\", \"COUNTER_NAME\")"));
+        verify(connection).prepareStatement(contains("\"JOBRUNR_CONTROL_BATCH_RECAP_TOTALS\".\"COUNTER_VALUE\" + EXCLUDED"));
+        verify(upsertStatement, times(2)).addBatch();
+        verify(upsertStatement).executeBatch();
+        verify(upsertStatement).setLong(4, 10L);
+        verify(totalsStatement).setLong(3, 10L);
+        verify(totalsStatement).setLong(3, 1L);
+        verify(totalsStatement, times(2)).addBatch();
+        verify(totalsStatement).executeBatch();
+        verify(connection, never()).prepareStatement(contains("DELETE"));
+    }
+
+    @Test
+    @DisplayName("should remove counters that dropped to zero and subtract them from the totals")
+    void writeRecap_ZeroCounter_DeletesCounterRowAndSubtractsTotal() throws Exception {
+        UUID batchId = UUID.randomUUID();
+        UUID childId = UUID.randomUUID();
+        Map<String, Long> recap = new HashMap<>();
+        recap.put("processed", 10L);
+        recap.put("failed", 0L);
+        recap.put("skipped", null);
+        when(databaseTypeHandler.getDatabaseType()).thenReturn(DatabaseTypeHandler.DatabaseType.H2);
+        when(childResultSet.next()).thenReturn(true, true, false);
+        when(childResultSet.getString("COUNTER_NAME")).thenReturn("processed", "failed");
+        when(childResultSet.getLong("COUNTER_VALUE")).thenReturn(4L, 2L);
+        when(existsResultSet.next()).thenReturn(true);
+        when(connection.prepareStatement(anyString()))
+                .thenReturn(selectChildStatement, existsStatement, upsertStatement, deleteStatement, totalsStatement, totalsUpdateStatement);
+
+        adapter.writeRecap(batchId, childId, recap);
+
+        verify(connection, times(2)).prepareStatement(contains("MERGE INTO"));
+        verify(upsertStatement).setLong(4, 10L);
+        verify(upsertStatement).addBatch();
+        verify(deleteStatement).setString(3, "failed");
+        verify(deleteStatement).addBatch();
+        verify(deleteStatement).executeBatch();
+        verify(totalsStatement).setLong(3, 6L);
+        verify(totalsStatement).setLong(3, -2L);
+        verify(totalsStatement, times(2)).executeUpdate();
+        verify(totalsUpdateStatement, never()).executeUpdate();
+        assertThat(recap).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("should seed the totals from the child rows before the first change of a batch without totals")
+    void writeRecap_BatchWithoutTotals_SeedsTotalsBeforeWritingChildRows() throws Exception {
+        UUID batchId = UUID.randomUUID();
+        UUID childId = UUID.randomUUID();
+        when(databaseTypeHandler.getDatabaseType()).thenReturn(DatabaseTypeHandler.DatabaseType.POSTGRESQL);
+        when(existsResultSet.next()).thenReturn(false);
+        when(connection.prepareStatement(anyString())).thenReturn(selectChildStatement, existsStatement, seedStatement, upsertStatement, totalsStatement);
+        when(seedStatement.executeUpdate()).thenReturn(2);
+
+        adapter.writeRecap(batchId, childId, Map.of("processed", 3L));
+
+        InOrder inOrder = inOrder(seedStatement, upsertStatement, totalsStatement);
+        inOrder.verify(seedStatement).setString(1, batchId.toString());
+        inOrder.verify(seedStatement).executeUpdate();
+        inOrder.verify(upsertStatement).executeBatch();
+        inOrder.verify(totalsStatement).executeBatch();
+        verify(connection).prepareStatement(contains("ON CONFLICT (\"BATCH_JOB_ID\", \"COUNTER_NAME\") DO NOTHING"));
     }
 
     @Test
-    @DisplayName("should aggregate requested counters by name for a batch")
-    void readRecap_FilteredCounters_ReturnsAggregatedValues() throws Exception {
+    @DisplayName("should keep writing when another child seeded the totals concurrently")
+    void writeRecap_ConcurrentSeed_IgnoresDuplicateKey() throws Exception {
+        UUID batchId = UUID.randomUUID();
+        UUID childId = UUID.randomUUID();
+        when(connection.prepareStatement(anyString()))
+                .thenReturn(selectChildStatement, existsStatement, seedStatement, deleteStatement, insertStatement,
+                        totalsStatement, totalsInsertStatement);
+        when(seedStatement.executeUpdate()).thenThrow(new SQLException("duplicate key", "23505"));
+        when(totalsStatement.executeUpdate()).thenReturn(1);
+
+        adapter.writeRecap(batchId, childId, Map.of("processed", 3L));
+
+        verify(insertStatement).executeBatch();
+        verify(totalsStatement).setLong(1, 3L);
+    }
+
+    @Test
+    @DisplayName("should add the delta to a totals row inserted concurrently by another child")
+    void writeRecap_ConcurrentTotalsInsert_RetriesAsUpdate() throws Exception {
+        UUID batchId = UUID.randomUUID();
+        UUID childId = UUID.randomUUID();
+        when(databaseTypeHandler.getDatabaseType()).thenReturn(DatabaseTypeHandler.DatabaseType.ORACLE);
+        when(existsResultSet.next()).thenReturn(true);
+        when(connection.prepareStatement(anyString()))
+                .thenReturn(selectChildStatement, existsStatement, upsertStatement, totalsStatement, totalsUpdateStatement);
+        when(totalsStatement.executeUpdate()).thenThrow(new SQLException("ORA-00001: unique constraint violated", "23000", 1));
+        when(totalsUpdateStatement.executeUpdate()).thenReturn(1);
+
+        adapter.writeRecap(batchId, childId, Map.of("processed", 3L));
+
+        verify(totalsUpdateStatement).setLong(1, 3L);
+        verify(totalsUpdateStatement).setString(2, batchId.toString());
+        verify(totalsUpdateStatement).setString(3, "processed");
+        verify(totalsUpdateStatement).executeUpdate();
+    }
+
+    @Test
+    @DisplayName("should add the delta to a totals row inserted concurrently on databases without upsert")
+    void writeRecap_GenericConcurrentTotalsInsert_RetriesAsUpdate() throws Exception {
+        UUID batchId = UUID.randomUUID();
+        UUID childId = UUID.randomUUID();
+        when(existsResultSet.next()).thenReturn(true);
+        when(connection.prepareStatement(anyString()))
+                .thenReturn(selectChildStatement, existsStatement, deleteStatement, insertStatement, totalsStatement, totalsInsertStatement);
+        when(totalsStatement.executeUpdate()).thenReturn(0, 1);
+        when(totalsInsertStatement.executeUpdate()).thenThrow(new SQLIntegrityConstraintViolationException("duplicate key"));
+
+        adapter.writeRecap(batchId, childId, Map.of("processed", 3L));
+
+        verify(totalsStatement, times(2)).executeUpdate();
+        verify(totalsInsertStatement).executeUpdate();
+    }
+
+    @Test
+    @DisplayName("should remove counters missing from the new recap and subtract them from the totals")
+    void writeRecap_CounterMissingFromRecap_DeletesCounterRowAndSubtractsTotal() throws Exception {
+        UUID batchId = UUID.randomUUID();
+        UUID childId = UUID.randomUUID();
+        when(databaseTypeHandler.getDatabaseType()).thenReturn(DatabaseTypeHandler.DatabaseType.POSTGRESQL);
+        when(existsResultSet.next()).thenReturn(true);
+        when(childResultSet.next()).thenReturn(true, true, false);
+        when(childResultSet.getString("COUNTER_NAME")).thenReturn("processed", "skipped");
+        when(childResultSet.getLong("COUNTER_VALUE")).thenReturn(4L, 3L);
+        when(connection.prepareStatement(anyString()))
+                .thenReturn(selectChildStatement, existsStatement, upsertStatement, deleteStatement, totalsStatement);
+
+        adapter.writeRecap(batchId, childId, Map.of("processed", 4L));
+
+        verify(upsertStatement, never()).executeBatch();
+        verify(deleteStatement).setString(3, "skipped");
+        verify(deleteStatement).executeBatch();
+        verify(totalsStatement).setString(2, "skipped");
+        verify(totalsStatement).setLong(3, -3L);
+        verify(totalsStatement).executeBatch();
+    }
+
+    @Test
+    @DisplayName("should not write anything when the child counters did not change")
+    void writeRecap_UnchangedCounters_OnlyReadsChildRows() throws Exception {
+        when(databaseTypeHandler.getDatabaseType()).thenReturn(DatabaseTypeHandler.DatabaseType.ORACLE);
+        when(childResultSet.next()).thenReturn(true, false);
+        when(childResultSet.getString("COUNTER_NAME")).thenReturn("processed");
+        when(childResultSet.getLong("COUNTER_VALUE")).thenReturn(5L);
+        when(connection.prepareStatement(anyString())).thenReturn(selectChildStatement);
+
+        adapter.writeRecap(UUID.randomUUID(), UUID.randomUUID(), Map.of("processed", 5L));
+
+        verify(connection, times(1)).prepareStatement(anyString());
+    }
+
+    @Test
+    @DisplayName("should read the recap of a batch from its totals rows")
+    void readRecap_TotalsAvailable_ReturnsTotals() throws Exception {
         UUID batchId = UUID.randomUUID();
 
         when(connection.prepareStatement(anyString())).thenReturn(readStatement);
         when(readStatement.executeQuery()).thenReturn(resultSet);
-        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.next()).thenReturn(true, true, true, false);
         when(resultSet.getString("COUNTER_NAME")).thenReturn("processed", "failed");
-        when(resultSet.getLong("total_counter_value")).thenReturn(14L, 2L);
+        when(resultSet.getLong("COUNTER_VALUE")).thenReturn(14L, 2L, 0L);
 
         Map<String, Long> recap = adapter.readRecap(batchId);
 
-        assertThat(recap).containsEntry("processed", 14L);
-        assertThat(recap).containsEntry("failed", 2L);
+        assertThat(recap).containsExactlyInAnyOrderEntriesOf(Map.of("processed", 14L, "failed", 2L));
         verify(readStatement).setString(1, batchId.toString());
+        verify(connection).prepareStatement(contains("JOBRUNR_CONTROL_BATCH_RECAP_TOTALS"));
+        verify(connection, never()).prepareStatement(contains("GROUP BY"));
     }
 
     @Test
-    @DisplayName("should return all available counters when no filter is provided")
-    void readRecap_NoFilter_ReturnsAllCounters() throws Exception {
+    @DisplayName("should aggregate the child rows when the batch has no totals rows")
+    void readRecap_NoTotals_AggregatesChildRows() throws Exception {
         UUID batchId = UUID.randomUUID();
 
-        when(connection.prepareStatement(anyString())).thenReturn(readStatement);
+        when(connection.prepareStatement(anyString())).thenReturn(readStatement, aggregateStatement);
         when(readStatement.executeQuery()).thenReturn(resultSet);
-        when(resultSet.next()).thenReturn(true, false);
-        when(resultSet.getString("COUNTER_NAME")).thenReturn("processed");
-        when(resultSet.getLong("total_counter_value")).thenReturn(5L);
+        when(resultSet.next()).thenReturn(false);
+        when(aggregateStatement.executeQuery()).thenReturn(aggregateResultSet);
+        when(aggregateResultSet.next()).thenReturn(true, false);
+        when(aggregateResultSet.getString("COUNTER_NAME")).thenReturn("processed");
+        when(aggregateResultSet.getLong("total_counter_value")).thenReturn(5L);
 
         Map<String, Long> recap = adapter.readRecap(batchId);
 
         assertThat(recap).containsExactlyInAnyOrderEntriesOf(Map.of("processed", 5L));
-        verify(readStatement).setString(1, batchId.toString());
+        verify(aggregateStatement).setString(1, batchId.toString());
     }
 
     @Test
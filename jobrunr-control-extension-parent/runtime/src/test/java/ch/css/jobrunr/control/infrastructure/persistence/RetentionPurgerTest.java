@@ -0,0 +1,294 @@
+package ch.css.jobrunr.control.infrastructure.persistence;
+
+import ch.css.jobrunr.control.infrastructure.config.JobMessageSearchConfiguration;
+import ch.css.jobrunr.control.infrastructure.config.RetentionConfiguration;
+import io.agroal.api.AgroalDataSource;
+import org.jobrunr.jobs.Job;
+import org.jobrunr.jobs.states.StateName;
+import org.jobrunr.scheduling.JobRequestScheduler;
+import org.jobrunr.storage.JobNotFoundException;
+import org.jobrunr.storage.StorageProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RetentionPurger")
+class RetentionPurgerTest {
+
+    private static final String SELECT_COUNTER_BATCHES = "SELECT DISTINCT \"BATCH_JOB_ID\" FROM \"JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS\"";
+    private static final String SELECT_RECAP_BATCHES = "SELECT DISTINCT \"BATCH_JOB_ID\" FROM \"JOBRUNR_CONTROL_BATCH_RECAP_TOTALS\"";
+    private static final String SELECT_BATCHES = "SELECT DISTINCT";
+
+    @Mock
+    private AgroalDataSource dataSource;
+
+    @Mock
+    private DatabaseTypeHandler databaseTypeHandler;
+
+    @Mock
+    private StorageProvider storageProvider;
+
+    @Mock
+    private JobMessageCounterStore counterStore;
+
+    @Mock
+    private StackTraceStore stackTraceStore;
+
+    @Mock
+    private RetentionConfiguration configuration;
+
+    @Mock
+    private JobMessageSearchConfiguration searchConfiguration;
+
+    @Mock
+    private JobRequestScheduler jobRequestScheduler;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement deleteStatement;
+
+    @Mock
+    private PreparedStatement counterBatchesStatement;
+
+    @Mock
+    private PreparedStatement recapBatchesStatement;
+
+    @Mock
+    private PreparedStatement otherBatchesStatement;
+
+    @Mock
+    private ResultSet counterBatches;
+
+    @Mock
+    private ResultSet recapBatches;
+
+    @Mock
+    private ResultSet otherBatches;
+
+    @Mock
+    private Job job;
+
+    private RetentionPurger purger;
+
+    private final UUID batchJobId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        lenient().when(configuration.enabled()).thenReturn(true);
+        lenient().when(configuration.chunkSize()).thenReturn(2);
+        lenient().when(configuration.maxAge()).thenReturn(Optional.empty());
+        lenient().when(databaseTypeHandler.getDatabaseType()).thenReturn(DatabaseTypeHandler.DatabaseType.POSTGRESQL);
+        lenient().when(counterStore.isEnabled()).thenReturn(true);
+        lenient().when(counterStore.hasCountersTable()).thenReturn(true);
+        lenient().when(dataSource.getConnection()).thenReturn(connection);
+        lenient().when(connection.getAutoCommit()).thenReturn(true);
+        lenient().when(connection.prepareStatement(anyString())).thenReturn(deleteStatement);
+        lenient().when(connection.prepareStatement(startsWith(SELECT_BATCHES))).thenReturn(otherBatchesStatement);
+        lenient().when(otherBatchesStatement.executeQuery()).thenReturn(otherBatches);
+        lenient().when(connection.prepareStatement(startsWith(SELECT_COUNTER_BATCHES))).thenReturn(counterBatchesStatement);
+        lenient().when(connection.prepareStatement(startsWith(SELECT_RECAP_BATCHES))).thenReturn(recapBatchesStatement);
+        lenient().when(counterBatchesStatement.executeQuery()).thenReturn(counterBatches);
+        lenient().when(recapBatchesStatement.executeQuery()).thenReturn(recapBatches);
+        lenient().when(counterBatches.next()).thenReturn(true, false);
+        lenient().when(counterBatches.getString("BATCH_JOB_ID")).thenReturn(batchJobId.toString());
+        purger = new RetentionPurger(dataSource, databaseTypeHandler, storageProvider, counterStore, stackTraceStore,
+                configuration, searchConfiguration, jobRequestScheduler);
+    }
+
+    @Test
+    @DisplayName("should delete the rows of a batch whose job no longer exists in chunks")
+    void purge_JobNotFound_DeletesRowsInChunks() throws Exception {
+        // Given
+        when(storageProvider.getJobById(batchJobId)).thenThrow(new JobNotFoundException(batchJobId));
+        // Messages: a full chunk and a partial one; recap: nothing; totals and counters
+        when(deleteStatement.executeUpdate()).thenReturn(2, 1, 0, 3, 4);
+
+        // When
+        purger.purge();
+
+        // Then
+        verify(connection).prepareStatement(contains("WHERE \"ID\" IN (SELECT \"ID\" FROM \"JOBRUNR_CONTROL_BATCH_MESSAGES\""));
+        verify(connection).prepareStatement(contains("DELETE FROM \"JOBRUNR_CONTROL_BATCH_RECAP_TOTALS\""));
+        verify(connection).prepareStatement(contains("DELETE FROM \"JOBRUNR_CONTROL_BATCH_MESSAGE_COUNTERS\""));
+        verify(deleteStatement, times(3)).setInt(2, 2);
+        RetentionPurger.Statistics statistics = purger.statistics();
+        assertThat(statistics.batchesPurged()).isEqualTo(1);
+        assertThat(statistics.rowsReclaimed()).isEqualTo(10);
+        assertThat(statistics.batchesChecked()).isEqualTo(statistics.batchesTotal()).isEqualTo(1);
+        assertThat(statistics.lastRunFailed()).isFalse();
+        assertThat(statistics.running()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should keep the rows of a batch that is still running")
+    void purge_JobRunning_KeepsRows() throws Exception {
+        // Given
+        when(configuration.maxAge()).thenReturn(Optional.of(Duration.ofDays(1)));
+        when(storageProvider.getJobById(batchJobId)).thenReturn(job);
+        when(job.getState()).thenReturn(StateName.PROCESSING);
+
+        // When
+        purger.purge();
+
+        // Then
+        verify(connection, never()).prepareStatement(startsWith("DELETE"));
+        assertThat(purger.statistics().batchesPurged()).isZero();
+        assertThat(purger.statistics().batchesChecked()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should delete all rows of a batch at once without a dialect specific row limit")
+    void purge_GenericDatabase_DeletesWithoutChunks() throws Exception {
+        // Given
+        when(databaseTypeHandler.getDatabaseType()).thenReturn(DatabaseTypeHandler.DatabaseType.GENERIC);
+        when(storageProvider.getJobById(batchJobId)).thenReturn(null);
+        when(deleteStatement.executeUpdate()).thenReturn(5000, 10, 1, 4);
+
+        // When
+        purger.purge();
+
+        // Then
+        verify(deleteStatement, never()).setInt(anyInt(), anyInt());
+        assertThat(purger.statistics().rowsReclaimed()).isEqualTo(5015);
+    }
+
+    @Test
+    @DisplayName("should remove unreferenced stack traces not written within the grace period after purging")
+    void purge_StackTracesStored_DeletesUnreferencedTraces() throws Exception {
+        // Given
+        when(stackTraceStore.isEnabled()).thenReturn(true);
+        when(storageProvider.getJobById(batchJobId)).thenThrow(new JobNotFoundException(batchJobId));
+        Instant before = Instant.now();
+
+        // When
+        purger.purge();
+
+        // Then
+        verify(connection).prepareStatement(contains("DELETE FROM \"JOBRUNR_CONTROL_STACK_TRACES\""));
+        ArgumentCaptor<Timestamp> writtenBefore = ArgumentCaptor.forClass(Timestamp.class);
+        verify(deleteStatement).setTimestamp(eq(1), writtenBefore.capture());
+        assertThat(writtenBefore.getValue().toInstant())
+                .isBeforeOrEqualTo(Instant.now().minus(StackTraceStore.PURGE_GRACE_PERIOD))
+                .isAfterOrEqualTo(before.minus(StackTraceStore.PURGE_GRACE_PERIOD));
+    }
+
+    @Test
+    @DisplayName("should find batches that only have rows in the recap or messages table")
+    void purge_BatchWithoutCountersOrTotals_IsPurged() throws Exception {
+        // Given
+        UUID legacyBatchJobId = UUID.randomUUID();
+        when(counterBatches.next()).thenReturn(false);
+        when(otherBatches.next()).thenReturn(true, false, true, false);
+        when(otherBatches.getString("BATCH_JOB_ID")).thenReturn(legacyBatchJobId.toString());
+        when(storageProvider.getJobById(legacyBatchJobId)).thenThrow(new JobNotFoundException(legacyBatchJobId));
+
+        // When
+        purger.purge();
+
+        // Then
+        verify(connection).prepareStatement(startsWith("SELECT DISTINCT \"BATCH_JOB_ID\" FROM \"JOBRUNR_CONTROL_BATCH_MESSAGES\""));
+        verify(connection).prepareStatement(startsWith("SELECT DISTINCT \"BATCH_JOB_ID\" FROM \"JOBRUNR_CONTROL_BATCH_RECAP\"\n"));
+        assertThat(purger.statistics().batchesTotal()).isEqualTo(1);
+        assertThat(purger.statistics().batchesPurged()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should register the purge as a recurring job when enabled")
+    void onStart_Enabled_SchedulesRecurringJob() {
+        // Given
+        when(configuration.purgeInterval()).thenReturn(Duration.ofHours(1));
+
+        // When
+        purger.onStart(null);
+
+        // Then
+        verify(jobRequestScheduler).scheduleRecurrently(eq(RetentionPurger.RECURRING_JOB_ID), eq(Duration.ofHours(1)),
+                any(RetentionPurgeJobRequest.class));
+    }
+
+    @Test
+    @DisplayName("should remove the recurring job when disabled")
+    void onStart_Disabled_DeletesRecurringJob() {
+        // Given
+        when(configuration.enabled()).thenReturn(false);
+
+        // When
+        purger.onStart(null);
+
+        // Then
+        verify(jobRequestScheduler).deleteRecurringJob(RetentionPurger.RECURRING_JOB_ID);
+        verifyNoMoreInteractions(jobRequestScheduler);
+    }
+
+    @Test
+    @DisplayName("should report a failed run and keep the statistics")
+    void purge_ConnectionFails_ReportsFailedRun() throws Exception {
+        // Given
+        when(dataSource.getConnection()).thenThrow(new SQLException("DB error"));
+
+        // When
+        purger.purge();
+
+        // Then
+        RetentionPurger.Statistics statistics = purger.statistics();
+        assertThat(statistics.lastRunFailed()).isTrue();
+        assertThat(statistics.running()).isFalse();
+        assertThat(statistics.lastRunFinishedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("should expire finished batches older than the cutoff only")
+    void isExpired_FinishedJob_ComparesWithCutoff() {
+        // Given
+        Instant cutoff = Instant.now().minus(Duration.ofDays(1));
+        when(storageProvider.getJobById(batchJobId)).thenReturn(job);
+        when(job.getState()).thenReturn(StateName.SUCCEEDED);
+        when(job.getUpdatedAt()).thenReturn(cutoff.minusSeconds(60), cutoff.plusSeconds(60));
+
+        // When / Then
+        assertThat(purger.isExpired(batchJobId, cutoff)).isTrue();
+        assertThat(purger.isExpired(batchJobId, cutoff)).isFalse();
+        assertThat(purger.isExpired(batchJobId, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should parse the upper bound of PostgreSQL and Oracle range partitions")
+    void upperBound_RangePartitions_ParsesBound() {
+        // Given
+        Instant expected = Timestamp.valueOf(LocalDateTime.parse("2026-02-01T00:00:00")).toInstant();
+
+        // When / Then
+        assertThat(RetentionPurger.upperBound("FOR VALUES FROM ('2026-01-01 00:00:00') TO ('2026-02-01 00:00:00')",
+                DatabaseTypeHandler.DatabaseType.POSTGRESQL)).isEqualTo(expected);
+        assertThat(RetentionPurger.upperBound("TIMESTAMP' 2026-02-01 00:00:00'",
+                DatabaseTypeHandler.DatabaseType.ORACLE)).isEqualTo(expected);
+        assertThat(RetentionPurger.upperBound("DEFAULT", DatabaseTypeHandler.DatabaseType.POSTGRESQL)).isNull();
+        assertThat(RetentionPurger.upperBound("FOR VALUES FROM ('2026-01-01 00:00:00') TO (MAXVALUE)",
+                DatabaseTypeHandler.DatabaseType.POSTGRESQL)).isNull();
+    }
+}
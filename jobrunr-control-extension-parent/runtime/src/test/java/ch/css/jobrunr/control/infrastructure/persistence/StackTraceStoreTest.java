@@ -0,0 +1,335 @@
+package ch.css.jobrunr.control.infrastructure.persistence;
+
+import ch.css.jobrunr.control.infrastructure.config.StackTraceStorageConfiguration;
+import io.agroal.api.AgroalDataSource;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StackTraceStore")
+class StackTraceStoreTest {
+
+    private static final String TRACE = "java.io.IOException: timeout\r\n\tat A.b(A.java:1)   \r\n\tat C.d(C.java:2)\r\n";
+
+    @Mock
+    private AgroalDataSource dataSource;
+
+    @Mock
+    private DatabaseTypeHandler databaseTypeHandler;
+
+    @Mock
+    private StackTraceStorageConfiguration configuration;
+
+    @Mock
+    private TransactionSynchronizationRegistry transactionRegistry;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private StackTraceStore store;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(configuration.deduplicate()).thenReturn(true);
+        lenient().when(configuration.cacheSize()).thenReturn(10);
+        lenient().when(databaseTypeHandler.getDatabaseType()).thenReturn(DatabaseTypeHandler.DatabaseType.POSTGRESQL);
+        lenient().when(transactionRegistry.getTransactionStatus()).thenReturn(Status.STATUS_NO_TRANSACTION);
+        store = new StackTraceStore(dataSource, databaseTypeHandler, configuration, transactionRegistry);
+    }
+
+    @Test
+    @DisplayName("should reference equal traces with different line endings by the same hash")
+    void reference_DifferentLineEndings_SameHashAndSearchKey() {
+        // When
+        StackTraceStore.StackTraceReference windows = store.reference(TRACE);
+        StackTraceStore.StackTraceReference unix = store.reference(TRACE.replace("\r\n", "\n"));
+
+        // Then
+        assertThat(windows.hash()).isEqualTo(unix.hash()).hasSize(64);
+        assertThat(windows.searchKey()).isEqualTo("java.io.IOException: timeout");
+        assertThat(windows.normalizedTrace()).isEqualTo("java.io.IOException: timeout\n\tat A.b(A.java:1)\n\tat C.d(C.java:2)");
+    }
+
+    @Test
+    @DisplayName("should keep only the top exception line and the causes in the search key")
+    void searchKey_NestedCause_KeepsExceptionAndCauseLines() {
+        // Given
+        String trace = """
+                java.lang.IllegalStateException: Import failed
+                	at com.example.Importer.run(Importer.java:10)
+                	at com.example.Importer.run(Importer.java:12)
+                	Suppressed: java.io.IOException: close failed
+                		at com.example.Importer.close(Importer.java:20)
+                Caused by: java.sql.SQLException: ORA-00001
+                	at oracle.jdbc.Driver.execute(Driver.java:99)
+                	at com.example.Importer.run(Importer.java:10)
+                	... 3 more""";
+
+        // When
+        String searchKey = StackTraceStore.searchKey(StackTraceStore.normalize(trace));
+
+        // Then
+        assertThat(searchKey).isEqualTo("""
+                java.lang.IllegalStateException: Import failed
+                Caused by: java.sql.SQLException: ORA-00001""");
+    }
+
+    @Test
+    @DisplayName("should truncate long exception lines and bound the search key")
+    void searchKey_LongLinesAndManyCauses_IsBounded() {
+        // Given
+        StringBuilder trace = new StringBuilder("java.lang.IllegalStateException: " + "x".repeat(500));
+        for (int i = 0; i < 20; i++) {
+            trace.append("\nCaused by: java.lang.RuntimeException: cause ").append(i).append(' ').append("y".repeat(300))
+                    .append("\n\tat A.b(A.java:").append(i).append(')');
+        }
+
+        // When
+        String searchKey = StackTraceStore.searchKey(StackTraceStore.normalize(trace.toString()));
+
+        // Then
+        assertThat(searchKey).hasSize(StackTraceStore.MAX_SEARCH_KEY_LENGTH);
+        assertThat(searchKey.lines()).allSatisfy(line -> assertThat(line).hasSizeLessThanOrEqualTo(StackTraceStore.MAX_SEARCH_KEY_LINE_LENGTH));
+        assertThat(searchKey).startsWith("java.lang.IllegalStateException: xxx").contains("Caused by: java.lang.RuntimeException: cause 0");
+    }
+
+    @Test
+    @DisplayName("should not reference traces when the messages table has no hash column")
+    void detectHashColumn_ColumnMissing_DisablesDeduplication() throws Exception {
+        // Given
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenThrow(new SQLException("column \"STACK_TRACE_HASH\" does not exist", "42703"));
+
+        // When
+        store.detectHashColumn();
+
+        // Then
+        assertThat(store.hasHashColumn()).isFalse();
+        assertThat(store.isEnabled()).isFalse();
+        assertThat(store.reference(TRACE)).isNull();
+    }
+
+    @Test
+    @DisplayName("should not reference traces when deduplication is disabled")
+    void reference_Disabled_ReturnsNull() {
+        // Given
+        when(configuration.deduplicate()).thenReturn(false);
+
+        // When / Then
+        assertThat(store.reference(TRACE)).isNull();
+        assertThat(store.reference("  ")).isNull();
+    }
+
+    @Test
+    @DisplayName("should restore the trace from the compressed payload")
+    void compress_Trace_RoundTrips() {
+        // Given
+        String trace = "x".repeat(8_000);
+
+        // When
+        byte[] payload = StackTraceStore.compress(trace);
+
+        // Then
+        assertThat(payload.length).isLessThan(trace.length() / 10);
+        assertThat(StackTraceStore.decompress(payload)).isEqualTo(trace);
+    }
+
+    @Test
+    @DisplayName("should write a trace once and skip it for further messages")
+    void store_SameTraceTwice_WritesOnce() throws Exception {
+        // Given
+        StackTraceStore.StackTraceReference reference = store.reference(TRACE);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+
+        // When
+        store.store(connection, List.of(reference, reference));
+        store.store(connection, List.of(reference));
+
+        // Then
+        verify(connection).prepareStatement(contains("ON CONFLICT (\"TRACE_HASH\") DO UPDATE SET \"CREATED_AT\""));
+        verify(statement).setString(1, reference.hash());
+        verify(statement, times(1)).executeUpdate();
+    }
+
+    @Test
+    @DisplayName("should write a forgotten trace again")
+    void store_ForgottenTrace_WritesAgain() throws Exception {
+        // Given
+        StackTraceStore.StackTraceReference reference = store.reference(TRACE);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        store.store(connection, List.of(reference));
+
+        // When
+        store.forget(List.of(reference));
+        store.store(connection, List.of(reference));
+
+        // Then
+        verify(statement, times(2)).executeUpdate();
+    }
+
+    @Test
+    @DisplayName("should refresh the write time of a trace written concurrently by another node")
+    void store_ConcurrentInsert_IgnoresIntegrityViolation() throws Exception {
+        // Given
+        when(databaseTypeHandler.getDatabaseType()).thenReturn(DatabaseTypeHandler.DatabaseType.ORACLE);
+        StackTraceStore.StackTraceReference reference = store.reference(TRACE);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeUpdate()).thenThrow(new SQLException("unique constraint violated", "23000")).thenReturn(1);
+
+        // When
+        store.store(connection, List.of(reference));
+
+        // Then
+        verify(connection).prepareStatement(contains("WHEN MATCHED THEN UPDATE SET target.\"CREATED_AT\" = ?"));
+        verify(connection).prepareStatement(startsWith("UPDATE \"JOBRUNR_CONTROL_STACK_TRACES\" SET \"CREATED_AT\""));
+        // MERGE binds the write time of an existing trace before the payload
+        verify(statement).setBytes(eq(3), any(byte[].class));
+    }
+
+    @Test
+    @DisplayName("should write a known trace again once its write time has expired")
+    void store_KnownHashExpired_RefreshesWriteTime() throws Exception {
+        // Given
+        MutableClock clock = new MutableClock();
+        store = new StackTraceStore(dataSource, databaseTypeHandler, configuration, transactionRegistry, clock);
+        StackTraceStore.StackTraceReference reference = store.reference(TRACE);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        store.store(connection, List.of(reference));
+
+        // When
+        clock.advance(StackTraceStore.KNOWN_HASH_TTL.minusSeconds(1));
+        store.store(connection, List.of(reference));
+        clock.advance(Duration.ofSeconds(2));
+        store.store(connection, List.of(reference));
+
+        // Then
+        verify(statement, times(2)).executeUpdate();
+        assertThat(StackTraceStore.KNOWN_HASH_TTL).isLessThan(StackTraceStore.PURGE_GRACE_PERIOD.dividedBy(2));
+    }
+
+    @Test
+    @DisplayName("should remember a trace written in a transaction only once the transaction commits")
+    void store_InTransaction_RemembersAfterCommit() throws Exception {
+        // Given
+        when(transactionRegistry.getTransactionStatus()).thenReturn(Status.STATUS_ACTIVE);
+        StackTraceStore.StackTraceReference reference = store.reference(TRACE);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        ArgumentCaptor<Synchronization> synchronizations = ArgumentCaptor.forClass(Synchronization.class);
+
+        // When
+        store.store(connection, List.of(reference));
+        store.store(connection, List.of(reference));
+        verify(transactionRegistry, times(2)).registerInterposedSynchronization(synchronizations.capture());
+        synchronizations.getAllValues().getFirst().afterCompletion(Status.STATUS_ROLLEDBACK);
+        store.store(connection, List.of(reference));
+        synchronizations.getAllValues().getLast().afterCompletion(Status.STATUS_COMMITTED);
+        store.store(connection, List.of(reference));
+
+        // Then
+        verify(statement, times(3)).executeUpdate();
+    }
+
+    @Test
+    @DisplayName("should update an existing trace and insert a missing one without upsert support")
+    void store_GenericDatabase_TouchesBeforeInsert() throws Exception {
+        // Given
+        when(databaseTypeHandler.getDatabaseType()).thenReturn(DatabaseTypeHandler.DatabaseType.GENERIC);
+        StackTraceStore.StackTraceReference reference = store.reference(TRACE);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeUpdate()).thenReturn(0, 1);
+
+        // When
+        store.store(connection, List.of(reference));
+
+        // Then
+        verify(connection).prepareStatement(startsWith("UPDATE \"JOBRUNR_CONTROL_STACK_TRACES\""));
+        verify(connection).prepareStatement(startsWith("INSERT INTO \"JOBRUNR_CONTROL_STACK_TRACES\""));
+    }
+
+    @Test
+    @DisplayName("should read traces once and serve them from the cache")
+    void resolve_SameHashTwice_ReadsOnce() throws Exception {
+        // Given
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString("TRACE_HASH")).thenReturn("abc123");
+        when(resultSet.getBytes("PAYLOAD")).thenReturn(StackTraceStore.compress("full trace"));
+
+        // When
+        Map<String, String> first = store.resolve(List.of("abc123"));
+        Map<String, String> second = store.resolve(List.of("abc123"));
+
+        // Then
+        assertThat(first).containsEntry("abc123", "full trace");
+        assertThat(second).isEqualTo(first);
+        verify(dataSource, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("should return the readable traces when reading fails")
+    void resolve_SqlException_ReturnsEmpty() throws Exception {
+        // Given
+        when(dataSource.getConnection()).thenThrow(new SQLException("DB error"));
+
+        // When / Then
+        assertThat(store.resolve(List.of("abc123"))).isEmpty();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-05-28T12:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}